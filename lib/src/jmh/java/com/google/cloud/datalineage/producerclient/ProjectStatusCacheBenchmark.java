@@ -0,0 +1,86 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures ProjectStatusCache lookups, alone and alongside threads that keep disabling projects.
+ *
+ * <p>Half of the projects are disabled, so both outcomes of a lookup are exercised. The readWrite
+ * group pairs a reading thread with a writing thread, and the thread count of the run sets how many
+ * pairs there are.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectStatusCacheBenchmark {
+
+  @Param({"100"})
+  public int projectCount;
+
+  private ProjectStatusCache cache;
+  private String[] projects;
+
+  @Setup
+  public void setUp() {
+    cache = new ProjectStatusCache(CacheOptions.getDefaultInstance(), "benchmark");
+    projects = new String[projectCount];
+    for (int i = 0; i < projectCount; i++) {
+      projects[i] = "projects/project-" + i + "/locations/us-central1";
+      if (i % 2 == 0) {
+        cache.markProjectAsDisabled(projects[i], Duration.ofDays(1));
+      }
+    }
+  }
+
+  @Benchmark
+  public boolean isProjectDisabled() {
+    return cache.isProjectDisabled(randomProject());
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  public boolean readWrite_isProjectDisabled() {
+    return cache.isProjectDisabled(randomProject());
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  public void readWrite_markProjectAsDisabled() {
+    cache.markProjectAsDisabled(randomProject(), Duration.ofDays(1));
+  }
+
+  private String randomProject() {
+    return projects[ThreadLocalRandom.current().nextInt(projectCount)];
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.helpers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares NamesHelper with the regular expression it used to be based on.
+ *
+ * <p>Run with {@code ./gradlew jmh -PjmhIncludes=NamesHelperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamesHelperBenchmark {
+
+  private static final Pattern RESOURCE_PATTERN =
+      Pattern.compile("^(?<projectNameAndLocation>projects/[^/]+/locations/[^/]+).*$");
+
+  @Param({
+    "projects/my-project/locations/us-central1",
+    "projects/my-project/locations/us-central1/processes/process/runs/run/lineageEvents/event"
+  })
+  public String resourceName;
+
+  @Benchmark
+  public String regex() {
+    Matcher matcher = RESOURCE_PATTERN.matcher(resourceName);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Name of the resource is not valid");
+    }
+    return matcher.group("projectNameAndLocation");
+  }
+
+  @Benchmark
+  public String namesHelper() {
+    return NamesHelper.getProjectNameWithLocationFromResourceName(resourceName);
+  }
+}
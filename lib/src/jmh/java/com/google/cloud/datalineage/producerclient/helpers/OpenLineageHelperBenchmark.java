@@ -0,0 +1,118 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.helpers;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Struct;
+import com.google.protobuf.util.JsonFormat;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures conversion of OpenLineage run events from JSON to Struct.
+ *
+ * <p>The event mirrors what Spark and Airflow integrations send: run and job facets, and a
+ * configurable number of input and output datasets with schema facets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenLineageHelperBenchmark {
+
+  @Param({"1", "20", "500"})
+  public int datasetCount;
+
+  private String json;
+  private byte[] jsonBytes;
+
+  @Setup
+  public void setUp() {
+    json = runEvent(datasetCount);
+    jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /** Baseline: the tree-based JsonFormat parser that jsonToStruct used to delegate to. */
+  @Benchmark
+  public Struct jsonFormat() throws InvalidProtocolBufferException {
+    Struct.Builder message = Struct.newBuilder();
+    JsonFormat.parser().ignoringUnknownFields().merge(json, message);
+    return message.build();
+  }
+
+  @Benchmark
+  public Struct jsonToStruct() throws InvalidProtocolBufferException {
+    return OpenLineageHelper.jsonToStruct(json);
+  }
+
+  @Benchmark
+  public Struct jsonToStructFromBytes() throws InvalidProtocolBufferException {
+    return OpenLineageHelper.jsonToStruct(jsonBytes);
+  }
+
+  public static String runEvent(int datasetCount) {
+    StringBuilder event = new StringBuilder();
+    event
+        .append("{\"eventType\":\"COMPLETE\",\"eventTime\":\"2024-05-01T10:15:30.123Z\",")
+        .append("\"producer\":\"https://github.com/OpenLineage/OpenLineage/tree/1.12.0/")
+        .append("integration/spark\",\"schemaURL\":\"https://openlineage.io/spec/2-0-2/")
+        .append("OpenLineage.json#/$defs/RunEvent\",")
+        .append("\"run\":{\"runId\":\"0190f2a4-54c1-7c1e-9d53-3c8b2e6a4f10\",\"facets\":{")
+        .append("\"parent\":{\"run\":{\"runId\":\"0190f2a4-54c1-7c1e-9d53-3c8b2e6a4f11\"},")
+        .append("\"job\":{\"namespace\":\"airflow\",\"name\":\"daily_etl.transform\"}},")
+        .append("\"spark_version\":{\"spark-version\":\"3.5.1\"}}},")
+        .append("\"job\":{\"namespace\":\"spark\",\"name\":\"daily_etl.transform_orders\",")
+        .append("\"facets\":{\"jobType\":{\"processingType\":\"BATCH\",")
+        .append("\"integration\":\"SPARK\",\"jobType\":\"JOB\"}}},");
+    appendDatasets(event, "inputs", datasetCount);
+    event.append(',');
+    appendDatasets(event, "outputs", datasetCount);
+    return event.append('}').toString();
+  }
+
+  private static void appendDatasets(StringBuilder event, String kind, int count) {
+    event.append('"').append(kind).append("\":[");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        event.append(',');
+      }
+      event
+          .append("{\"namespace\":\"bigquery\",\"name\":\"project.dataset.")
+          .append(kind)
+          .append('_')
+          .append(i)
+          .append("\",\"facets\":{\"schema\":{\"fields\":[")
+          .append("{\"name\":\"order_id\",\"type\":\"INTEGER\"},")
+          .append("{\"name\":\"customer_id\",\"type\":\"STRING\"},")
+          .append("{\"name\":\"amount\",\"type\":\"NUMERIC\"},")
+          .append("{\"name\":\"created_at\",\"type\":\"TIMESTAMP\"}]},")
+          .append("\"dataSource\":{\"name\":\"bigquery\",\"uri\":\"bigquery\"}}}");
+    }
+    event.append(']');
+  }
+}
@@ -0,0 +1,157 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteRunRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetLineageEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetRunRequest;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListLineageEventsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListProcessesPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListRunsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageEvent;
+import com.google.cloud.datacatalog.lineage.v1.ListLineageEventsRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListProcessesRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListRunsRequest;
+import com.google.cloud.datacatalog.lineage.v1.OperationMetadata;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.longrunning.GetOperationRequest;
+import com.google.longrunning.Operation;
+import com.google.protobuf.Empty;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BasicLineageClient that answers processOpenLineageRunEvent immediately, without any transport.
+ *
+ * <p>Lets benchmarks measure the overhead added by the library on top of the generated client.
+ */
+final class FakeLineageClient implements OperationLineageClient {
+
+  private static final ApiFuture<ProcessOpenLineageRunEventResponse> RESPONSE =
+      ApiFutures.immediateFuture(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+
+  private final UnaryCallable<ProcessOpenLineageRunEventRequest, ProcessOpenLineageRunEventResponse>
+      processOpenLineageRunEventCallable =
+          new UnaryCallable<>() {
+            @Override
+            public ApiFuture<ProcessOpenLineageRunEventResponse> futureCall(
+                ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+              return RESPONSE;
+            }
+          };
+
+  @Override
+  public UnaryCallable<ProcessOpenLineageRunEventRequest, ProcessOpenLineageRunEventResponse>
+      processOpenLineageRunEventCallable() {
+    return processOpenLineageRunEventCallable;
+  }
+
+  @Override
+  public UnaryCallable<DeleteLineageEventRequest, Empty> deleteLineageEventCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public OperationFuture<Empty, OperationMetadata> deleteProcessAsync(
+      DeleteProcessRequest request) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public OperationFuture<Empty, OperationMetadata> deleteRunAsync(DeleteRunRequest request) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<DeleteProcessRequest, Operation> deleteProcessCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<DeleteRunRequest, Operation> deleteRunCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<GetOperationRequest, Operation> getOperationCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<GetLineageEventRequest, LineageEvent> getEventCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<GetProcessRequest, Process> getProcessCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<GetRunRequest, Run> getRunCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<ListLineageEventsRequest, ListLineageEventsPagedResponse>
+      listLineageEventsPagedCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<ListProcessesRequest, ListProcessesPagedResponse>
+      listProcessesPagedCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public UnaryCallable<ListRunsRequest, ListRunsPagedResponse> listRunsPagedCallable() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void shutdown() {}
+
+  @Override
+  public boolean isShutdown() {
+    return false;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return false;
+  }
+
+  @Override
+  public void shutdownNow() {}
+
+  @Override
+  public boolean awaitTermination(long duration, TimeUnit unit) {
+    return true;
+  }
+
+  @Override
+  public void close() {}
+}
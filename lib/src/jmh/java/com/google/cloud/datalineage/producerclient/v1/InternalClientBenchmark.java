@@ -0,0 +1,67 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of InternalClient call handling: name parsing, enablement cache checks and
+ * the failure callback, against a client that completes calls immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternalClientBenchmark {
+
+  private InternalClient client;
+  private ProcessOpenLineageRunEventRequest request;
+
+  @Setup
+  public void setUp() throws IOException {
+    client = InternalClient.create(new FakeLineageClient());
+    request =
+        ProcessOpenLineageRunEventRequest.newBuilder()
+            .setParent("projects/benchmark-project/locations/us-central1")
+            .setOpenLineage(
+                Struct.newBuilder()
+                    .putFields("eventType", Value.newBuilder().setStringValue("COMPLETE").build())
+                    .build())
+            .build();
+  }
+
+  @Benchmark
+  public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent() {
+    return client.processOpenLineageRunEvent(request);
+  }
+}
@@ -0,0 +1,65 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.cloud.datalineage.producerclient.helpers.OpenLineageHelperBenchmark;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares serializing a request built from a Struct with transcoding the JSON straight to the wire
+ * format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenLineageJsonTranscoderBenchmark {
+
+  private static final String PARENT = "projects/benchmark-project/locations/us-central1";
+
+  @Param({"1", "20", "500"})
+  public int datasetCount;
+
+  private byte[] json;
+
+  @Setup
+  public void setUp() {
+    json = OpenLineageHelperBenchmark.runEvent(datasetCount).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public byte[] viaStruct() {
+    return OpenLineageJsonTranscoder.toRequest(PARENT, json).toByteArray();
+  }
+
+  @Benchmark
+  public byte[] transcoded() {
+    return OpenLineageJsonTranscoder.toSerializedRequest(PARENT, json);
+  }
+}
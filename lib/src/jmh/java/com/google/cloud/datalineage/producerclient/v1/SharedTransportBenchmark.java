@@ -0,0 +1,97 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of creating many clients for the same endpoint, with and without a shared
+ * transport. Besides the time to create and close the clients, every run reports the threads and
+ * the heap retained by the open clients as auxiliary counters. Channels connect lazily, so no
+ * server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SharedTransportBenchmark {
+
+  @Param({"false", "true"})
+  public boolean sharedTransport;
+
+  @Param({"100"})
+  public int clientCount;
+
+  private SyncLineageProducerClientSettings settings;
+
+  /** Resources held by the open clients, reported per run. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Retained {
+    public long threads;
+    public long heapBytes;
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    settings =
+        SyncLineageProducerClientSettings.newBuilder()
+            .setEndpoint("localhost:1")
+            .setCredentialsProvider(NoCredentialsProvider.create())
+            .setSharedTransportEnabled(sharedTransport)
+            .build();
+  }
+
+  @Benchmark
+  public void createAndCloseClients(Retained retained) throws Exception {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    System.gc();
+    long threadsBefore = threads.getThreadCount();
+    long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+    List<SyncLineageProducerClient> clients = new ArrayList<>(clientCount);
+    for (int i = 0; i < clientCount; i++) {
+      clients.add(SyncLineageProducerClient.create(settings));
+    }
+    System.gc();
+    retained.threads = threads.getThreadCount() - threadsBefore;
+    retained.heapBytes = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+
+    for (SyncLineageProducerClient client : clients) {
+      client.close();
+    }
+  }
+}
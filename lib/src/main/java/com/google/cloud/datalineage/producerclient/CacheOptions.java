@@ -24,15 +24,18 @@ import java.time.Duration;
 public class CacheOptions {
 
   protected static final Duration DEFAULT_DISABLED_TIME = Duration.ofMinutes(5);
+  protected static final Duration DEFAULT_MAX_DISABLED_TIME = Duration.ofHours(1);
   protected static final int DEFAULT_SIZE = 1000;
   protected static final Clock DEFAULT_CLOCK = Clock.systemDefaultZone();
 
   private final Duration defaultCacheDisabledStatusTime;
+  private final Duration maxCacheDisabledStatusTime;
   private final int cacheSize;
   private final Clock clock;
 
   protected CacheOptions(CacheOptions.Builder settingsBuilder) {
     defaultCacheDisabledStatusTime = settingsBuilder.defaultCacheDisabledStatusTime;
+    maxCacheDisabledStatusTime = settingsBuilder.maxCacheDisabledStatusTime;
     cacheSize = settingsBuilder.cacheSize;
     clock = settingsBuilder.clock;
   }
@@ -49,6 +52,16 @@ public class CacheOptions {
     return defaultCacheDisabledStatusTime;
   }
 
+  /**
+   * Upper bound for the disabled status time of a project that keeps being disabled. Each time a
+   * project is disabled again shortly after its previous disabled status expired, the time is
+   * doubled, starting from the default one. Durations provided explicitly are not bounded, but the
+   * clients bound the retry delay suggested by the server with it.
+   */
+  public Duration getMaxCacheDisabledStatusTime() {
+    return maxCacheDisabledStatusTime;
+  }
+
   public int getCacheSize() {
     return cacheSize;
   }
@@ -75,29 +88,34 @@ public class CacheOptions {
     CacheOptions that = (CacheOptions) obj;
     return this.cacheSize == that.cacheSize
         && this.defaultCacheDisabledStatusTime.equals(that.defaultCacheDisabledStatusTime)
+        && this.maxCacheDisabledStatusTime.equals(that.maxCacheDisabledStatusTime)
         && this.clock.equals(that.clock);
   }
 
   /**
    * * Builder for CacheSettings.
    *
-   * <p>Lets setting `markServiceAsDisabledTime`, `cacheSize`, and `clock`. Can be created by
-   * CacheOptions.newBuilder method. To create settings object, use build method.
+   * <p>Lets setting `markServiceAsDisabledTime`, `maxCacheDisabledStatusTime`, `cacheSize`, and
+   * `clock`. Can be created by CacheOptions.newBuilder method. To create settings object, use build
+   * method.
    */
   public static class Builder {
 
     protected Duration defaultCacheDisabledStatusTime;
+    protected Duration maxCacheDisabledStatusTime;
     protected int cacheSize;
     protected Clock clock;
 
     protected Builder(CacheOptions settings) {
       defaultCacheDisabledStatusTime = settings.defaultCacheDisabledStatusTime;
+      maxCacheDisabledStatusTime = settings.maxCacheDisabledStatusTime;
       cacheSize = settings.cacheSize;
       clock = settings.clock;
     }
 
     protected Builder(Duration defaultCacheDisabledStatusTime, int cacheSize, Clock clock) {
       this.defaultCacheDisabledStatusTime = defaultCacheDisabledStatusTime;
+      this.maxCacheDisabledStatusTime = DEFAULT_MAX_DISABLED_TIME;
       this.cacheSize = cacheSize;
       this.clock = clock;
     }
@@ -115,6 +133,15 @@ public class CacheOptions {
       return this;
     }
 
+    public CacheOptions.Builder setMaxCacheDisabledStatusTime(
+        Duration maxCacheDisabledStatusTime) {
+      if (maxCacheDisabledStatusTime.isNegative()) {
+        throw new IllegalArgumentException("Duration cannot be negative");
+      }
+      this.maxCacheDisabledStatusTime = maxCacheDisabledStatusTime;
+      return this;
+    }
+
     public CacheOptions.Builder setCacheSize(int cacheSize) {
       if (cacheSize < 0) {
         throw new IllegalArgumentException("Limit cannot be negative");
@@ -14,24 +14,38 @@
 
 package com.google.cloud.datalineage.producerclient;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.math.LongMath;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Generic cache to indicate whether a feature is disabled for a given project.
  *
- * <p>This class is thread-safe. There is no eviction guaranteed in case of cache overload.
+ * <p>This class is thread-safe. Disabled-until deadlines are kept as epoch milliseconds in a
+ * concurrent map, so checking a project neither locks nor allocates. When the cache overflows,
+ * expired entries are evicted first, followed by the entries that expire the soonest.
+ *
+ * <p>A project marked as disabled without an explicit duration is disabled for the default
+ * duration. If it is marked again within one disabled period after the previous one expired, the
+ * duration is doubled, up to the maximum duration.
  */
 @Slf4j
 public class ProjectStatusCache {
 
-  private final Cache<String, LocalDateTime> projectToLockEndTime;
+  private static final Class<?> SYSTEM_CLOCK_CLASS = Clock.systemUTC().getClass();
+
+  private final ConcurrentHashMap<String, Lock> projectToLock;
   private final Duration defaultCacheDisabledStatusTime;
+  private final Duration maxCacheDisabledStatusTime;
+  private final int cacheSize;
   private final Clock clock;
+  private final LongSupplier currentTimeMillis;
   private final String cacheName;
 
   public ProjectStatusCache(CacheOptions options, String cacheName) {
@@ -41,42 +55,131 @@ public class ProjectStatusCache {
         options.getCacheSize(),
         options.getDefaultCacheDisabledStatusTime());
     this.defaultCacheDisabledStatusTime = options.getDefaultCacheDisabledStatusTime();
+    this.maxCacheDisabledStatusTime = options.getMaxCacheDisabledStatusTime();
+    this.cacheSize = options.getCacheSize();
     this.clock = options.getClock();
-    this.projectToLockEndTime =
-        CacheBuilder.newBuilder().maximumSize(options.getCacheSize()).build();
+    // System clocks read the time without creating an Instant, other clocks are asked for one.
+    this.currentTimeMillis =
+        clock.getClass() == SYSTEM_CLOCK_CLASS
+            ? System::currentTimeMillis
+            : () -> clock.instant().toEpochMilli();
+    this.projectToLock = new ConcurrentHashMap<>();
     this.cacheName = cacheName;
   }
 
-  public synchronized void markProjectAsDisabled(String project) {
-    markProjectAsDisabled(project, defaultCacheDisabledStatusTime);
+  /**
+   * Marks the project as disabled for the default duration, or for twice the previous duration if
+   * the project was disabled recently.
+   */
+  public void markProjectAsDisabled(String projectName) {
+    long now = currentTimeMillis.getAsLong();
+    Lock lock = projectToLock.compute(projectName, (project, previous) -> nextLock(now, previous));
+    log.warn(
+        "Marking project '{}' as disabled in cache '{}' for duration: {}",
+        projectName,
+        cacheName,
+        lock.duration);
+    if (projectToLock.size() > cacheSize) {
+      evict(now);
+    }
   }
 
-  public synchronized void markProjectAsDisabled(String projectName, Duration duration) {
+  public void markProjectAsDisabled(String projectName, Duration duration) {
     log.warn(
         "Marking project '{}' as disabled in cache '{}' for duration: {}",
         projectName,
         cacheName,
         duration);
-    projectToLockEndTime.put(projectName, LocalDateTime.now(clock).plus(duration));
+    long now = currentTimeMillis.getAsLong();
+    projectToLock.put(projectName, new Lock(now, duration));
+    if (projectToLock.size() > cacheSize) {
+      evict(now);
+    }
   }
 
-  public synchronized boolean isProjectDisabled(String projectName) {
-    LocalDateTime maybeTime = projectToLockEndTime.getIfPresent(projectName);
-    if (maybeTime == null) {
-      log.debug("No cache entry found for project '{}' in cache '{}'", projectName, cacheName);
+  public boolean isProjectDisabled(String projectName) {
+    Lock lock = projectToLock.get(projectName);
+    if (lock == null) {
+      if (log.isDebugEnabled()) {
+        log.debug("No cache entry found for project '{}' in cache '{}'", projectName, cacheName);
+      }
       return false;
     }
-    boolean isDisabled = !maybeTime.isBefore(LocalDateTime.now(clock));
-    if (isDisabled) {
-      log.debug(
-          "Project '{}' is marked as disabled in cache '{}' until {}",
-          projectName,
-          cacheName,
-          maybeTime);
-    } else {
-      log.debug(
-          "Project disability has expired for project '{}' in cache '{}'", projectName, cacheName);
+    long lockEndMillis = lock.endMillis;
+    boolean isDisabled = currentTimeMillis.getAsLong() <= lockEndMillis;
+    if (log.isDebugEnabled()) {
+      if (isDisabled) {
+        log.debug(
+            "Project '{}' is marked as disabled in cache '{}' until {}",
+            projectName,
+            cacheName,
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(lockEndMillis), clock.getZone()));
+      } else {
+        log.debug(
+            "Project disability has expired for project '{}' in cache '{}'",
+            projectName,
+            cacheName);
+      }
     }
     return isDisabled;
   }
+
+  /**
+   * Returns the lock for a project marked as disabled without an explicit duration. Projects that
+   * are still disabled keep their lock, so that concurrent failures do not escalate the backoff.
+   */
+  private Lock nextLock(long now, Lock previous) {
+    if (previous == null
+        || now > LongMath.saturatedAdd(previous.endMillis, toMillis(previous.duration))) {
+      return new Lock(now, defaultCacheDisabledStatusTime);
+    }
+    if (now <= previous.endMillis) {
+      return previous;
+    }
+    Duration next =
+        previous.duration.compareTo(maxCacheDisabledStatusTime.dividedBy(2)) >= 0
+            ? maxCacheDisabledStatusTime
+            : previous.duration.multipliedBy(2);
+    return new Lock(
+        now,
+        next.compareTo(defaultCacheDisabledStatusTime) < 0 ? defaultCacheDisabledStatusTime : next);
+  }
+
+  private static long toMillis(Duration duration) {
+    try {
+      return duration.toMillis();
+    } catch (ArithmeticException e) {
+      // Duration too long to be expressed in milliseconds.
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /** Drops expired entries, then the ones that expire the soonest, until the size limit is met. */
+  private void evict(long now) {
+    projectToLock.values().removeIf(lock -> lock.endMillis < now);
+    while (projectToLock.size() > cacheSize) {
+      Map.Entry<String, Lock> soonest = null;
+      for (Map.Entry<String, Lock> entry : projectToLock.entrySet()) {
+        if (soonest == null || entry.getValue().endMillis < soonest.getValue().endMillis) {
+          soonest = entry;
+        }
+      }
+      if (soonest == null) {
+        return;
+      }
+      log.debug("Evicting project '{}' from cache '{}'", soonest.getKey(), cacheName);
+      projectToLock.remove(soonest.getKey(), soonest.getValue());
+    }
+  }
+
+  /** Disabled-until deadline of a project and the duration it was disabled for. */
+  private static final class Lock {
+    private final long endMillis;
+    private final Duration duration;
+
+    private Lock(long now, Duration duration) {
+      this.endMillis = LongMath.saturatedAdd(now, toMillis(duration));
+      this.duration = duration;
+    }
+  }
 }
@@ -16,11 +16,19 @@ package com.google.cloud.datalineage.producerclient.helpers;
 
 import com.google.api.gax.rpc.StatusCode;
 import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Any;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
 import com.google.rpc.ErrorInfo;
+import com.google.rpc.RetryInfo;
 import com.google.rpc.Status;
 import io.grpc.protobuf.StatusProto;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 
 /** Set of helpers for Grpc handling. */
@@ -30,6 +38,25 @@ public class GrpcHelper {
   /** Make this helper class non-instantiable */
   private GrpcHelper() {}
 
+  private static Status getStatus(Throwable grpcException) {
+    Status statusProto = StatusProto.fromThrowable(grpcException);
+    if (statusProto == null) {
+      log.error(
+          "Provided throwable is not a gRPC exception: {}", grpcException.getClass().getName());
+      throw new IllegalArgumentException("Provided throwable is not a gRPC exception");
+    }
+    return statusProto;
+  }
+
+  private static <T extends Message> T unpack(Any detail, Class<T> type) {
+    try {
+      return detail.unpack(type);
+    } catch (InvalidProtocolBufferException e) {
+      log.error("Invalid protocol buffer message while extracting {}", type.getSimpleName(), e);
+      throw new IllegalArgumentException("Invalid protocol buffer message", e);
+    }
+  }
+
   /**
    * Returns a set of error reasons from <code>com.google.rpc.Status</code> of a gRPC Exception.
    *
@@ -38,12 +65,7 @@ public class GrpcHelper {
    */
   public static ImmutableSet<String> getErrorReasons(Throwable grpcException) {
     log.debug("Extracting reasons from gRPC exception: {}", grpcException.getMessage());
-    Status statusProto = StatusProto.fromThrowable(grpcException);
-    if (statusProto == null) {
-      log.error(
-          "Provided throwable is not a gRPC exception: {}", grpcException.getClass().getName());
-      throw new IllegalArgumentException("Provided throwable is not a gRPC exception");
-    }
+    Status statusProto = getStatus(grpcException);
     /* Status is a standard way to represent API error.
      * This model consists of code, message and details.
      * ErrorInfo is a type of details that contains reason field.
@@ -56,18 +78,50 @@ public class GrpcHelper {
         .filter((detail) -> detail.is(ErrorInfo.class))
         .map(
             (errorInfo) -> {
-              try {
-                String reason = errorInfo.unpack(ErrorInfo.class).getReason();
-                log.debug("Successfully extracted reason from ErrorInfo: {}", reason);
-                return reason;
-              } catch (InvalidProtocolBufferException e) {
-                log.error("Invalid protocol buffer message while extracting ErrorInfo", e);
-                throw new IllegalArgumentException("Invalid protocol buffer message", e);
-              }
+              String reason = unpack(errorInfo, ErrorInfo.class).getReason();
+              log.debug("Successfully extracted reason from ErrorInfo: {}", reason);
+              return reason;
             })
         .collect(ImmutableSet.toImmutableSet());
   }
 
+  /**
+   * Returns the retry delay suggested by the server in <code>com.google.rpc.RetryInfo</code> of a
+   * gRPC Exception.
+   *
+   * @param grpcException - error returned form grpc call
+   * @return retry delay, or empty if the status has no RetryInfo
+   */
+  public static Optional<Duration> getRetryDelay(Throwable grpcException) {
+    return getStatus(grpcException).getDetailsList().stream()
+        .filter((detail) -> detail.is(RetryInfo.class))
+        .findFirst()
+        .map(
+            (retryInfo) -> {
+              com.google.protobuf.Duration delay =
+                  unpack(retryInfo, RetryInfo.class).getRetryDelay();
+              log.debug("Successfully extracted retry delay from RetryInfo: {}", delay);
+              return Duration.ofSeconds(delay.getSeconds(), delay.getNanos());
+            });
+  }
+
+  /**
+   * Returns metadata of all <code>com.google.rpc.ErrorInfo</code> details of a gRPC Exception. When
+   * several details have the same key, the first value is kept.
+   *
+   * @param grpcException - error returned form grpc call
+   * @return metadata extracted from ErrorInfo details if any
+   */
+  public static ImmutableMap<String, String> getErrorInfoMetadata(Throwable grpcException) {
+    Map<String, String> metadata = new LinkedHashMap<>();
+    getStatus(grpcException).getDetailsList().stream()
+        .filter((detail) -> detail.is(ErrorInfo.class))
+        .forEach(
+            (errorInfo) ->
+                unpack(errorInfo, ErrorInfo.class).getMetadataMap().forEach(metadata::putIfAbsent));
+    return ImmutableMap.copyOf(metadata);
+  }
+
   /**
    * Creates StatusCode based on StatusCode.Code enum.
    *
@@ -14,24 +14,87 @@
 
 package com.google.cloud.datalineage.producerclient.helpers;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /** Helper class created for handling resources names */
 public class NamesHelper {
-  private static final String PROJECT_NAME_AND_LOCATION_GROUP_NAME = "projectNameAndLocation";
-  private static final Pattern RESOURCE_PATTERN =
-      Pattern.compile(
-          "^(?<" + PROJECT_NAME_AND_LOCATION_GROUP_NAME + ">projects/[^/]+/locations/[^/]+).*$");
+  private static final String PROJECTS_PREFIX = "projects/";
+  private static final String LOCATIONS_SEGMENT = "/locations/";
+  // Power of two, so that a hash can be turned into a slot with a mask.
+  private static final int CACHE_SLOTS = 256;
+
+  /**
+   * Recently extracted `projects/x/locations/y` names, indexed by the hash of the name. Strings are
+   * immutable, so slots can be read and overwritten by multiple threads without synchronization.
+   */
+  private static final String[] PROJECT_NAMES_WITH_LOCATION = new String[CACHE_SLOTS];
 
   /** Make this helper class non-instantiable */
   private NamesHelper() {}
 
+  /**
+   * Extracts the `projects/x/locations/y` prefix of a resource name.
+   *
+   * <p>Names are parsed in a single pass without regular expressions. The extracted prefix is
+   * interned and cached, so repeated calls for the same parent return the same instance and do not
+   * allocate.
+   *
+   * @param resourceName name of the resource, e.g. `projects/x/locations/y/processes/z`
+   * @return project name with location
+   * @throws IllegalArgumentException if the name does not start with `projects/x/locations/y`
+   */
   public static String getProjectNameWithLocationFromResourceName(String resourceName) {
-    Matcher matcher = RESOURCE_PATTERN.matcher(resourceName);
-    if (!matcher.matches()) {
+    int end = projectNameWithLocationEnd(resourceName);
+    if (end < 0) {
       throw new IllegalArgumentException("Name of the resource is not valid");
     }
-    return matcher.group(PROJECT_NAME_AND_LOCATION_GROUP_NAME);
+    int hash = 0;
+    for (int i = 0; i < end; i++) {
+      hash = 31 * hash + resourceName.charAt(i);
+    }
+    int slot = (hash ^ (hash >>> 16)) & (CACHE_SLOTS - 1);
+    String cached = PROJECT_NAMES_WITH_LOCATION[slot];
+    if (cached != null && cached.length() == end && resourceName.regionMatches(0, cached, 0, end)) {
+      return cached;
+    }
+    String projectNameWithLocation = resourceName.substring(0, end).intern();
+    PROJECT_NAMES_WITH_LOCATION[slot] = projectNameWithLocation;
+    return projectNameWithLocation;
+  }
+
+  /**
+   * Extracts the location of a resource name.
+   *
+   * @param resourceName name of the resource, e.g. `projects/x/locations/y/processes/z`
+   * @return location, e.g. `y`
+   * @throws IllegalArgumentException if the name does not start with `projects/x/locations/y`
+   */
+  public static String getLocationFromResourceName(String resourceName) {
+    int end = projectNameWithLocationEnd(resourceName);
+    if (end < 0) {
+      throw new IllegalArgumentException("Name of the resource is not valid");
+    }
+    int locationStart =
+        resourceName.indexOf('/', PROJECTS_PREFIX.length()) + LOCATIONS_SEGMENT.length();
+    return resourceName.substring(locationStart, end);
+  }
+
+  /**
+   * Returns the index right after the location segment, or -1 if the name does not start with
+   * `projects/x/locations/y`.
+   */
+  private static int projectNameWithLocationEnd(String resourceName) {
+    if (!resourceName.startsWith(PROJECTS_PREFIX)) {
+      return -1;
+    }
+    int projectEnd = resourceName.indexOf('/', PROJECTS_PREFIX.length());
+    if (projectEnd <= PROJECTS_PREFIX.length()
+        || !resourceName.startsWith(LOCATIONS_SEGMENT, projectEnd)) {
+      return -1;
+    }
+    int locationStart = projectEnd + LOCATIONS_SEGMENT.length();
+    int locationEnd = resourceName.indexOf('/', locationStart);
+    if (locationEnd < 0) {
+      locationEnd = resourceName.length();
+    }
+    return locationEnd > locationStart ? locationEnd : -1;
   }
 }
@@ -14,13 +14,37 @@
 
 package com.google.cloud.datalineage.producerclient.helpers;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.NullValue;
 import com.google.protobuf.Struct;
-import com.google.protobuf.util.JsonFormat;
+import com.google.protobuf.Value;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
-/** Helper class for working with OpenLineage messages */
+/**
+ * Helper class for working with OpenLineage messages
+ *
+ * <p>JSON is read token by token straight into a Struct.Builder, without building an intermediate
+ * tree. The result and the accepted input are the same as with {@code
+ * JsonFormat.parser().ignoringUnknownFields()}: all numbers become doubles, nulls become {@code
+ * NULL_VALUE}, and the last of duplicated keys wins.
+ */
 public class OpenLineageHelper {
 
+  /** Same nesting limit as the one applied by JsonFormat. */
+  private static final int RECURSION_LIMIT = 100;
+
   /**
    * Converts a JSON string to a protobuf Struct ignoring unknown fields.
    *
@@ -29,8 +53,135 @@ public class OpenLineageHelper {
    * @throws InvalidProtocolBufferException If the input JSON is invalid or cannot be parsed
    */
   public static Struct jsonToStruct(String json) throws InvalidProtocolBufferException {
-    Struct.Builder message = Struct.newBuilder();
-    JsonFormat.parser().ignoringUnknownFields().merge(json, message);
-    return message.build();
+    return parseInMemory(new StringReader(json));
+  }
+
+  /**
+   * Converts UTF-8 encoded JSON to a protobuf Struct.
+   *
+   * @param json The UTF-8 encoded JSON to be converted
+   * @return A Struct object representing the input JSON
+   * @throws InvalidProtocolBufferException If the input JSON is invalid or cannot be parsed
+   */
+  public static Struct jsonToStruct(byte[] json) throws InvalidProtocolBufferException {
+    return parseInMemory(
+        new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Converts UTF-8 encoded JSON between the position and the limit of a buffer to a protobuf
+   * Struct. The position of the buffer is not changed.
+   *
+   * @param json The UTF-8 encoded JSON to be converted
+   * @return A Struct object representing the input JSON
+   * @throws InvalidProtocolBufferException If the input JSON is invalid or cannot be parsed
+   */
+  public static Struct jsonToStruct(ByteBuffer json) throws InvalidProtocolBufferException {
+    if (json.hasArray()) {
+      return parseInMemory(
+          new InputStreamReader(
+              new ByteArrayInputStream(
+                  json.array(), json.arrayOffset() + json.position(), json.remaining()),
+              StandardCharsets.UTF_8));
+    }
+    byte[] bytes = new byte[json.remaining()];
+    json.duplicate().get(bytes);
+    return jsonToStruct(bytes);
+  }
+
+  /**
+   * Converts UTF-8 encoded JSON read from a stream to a protobuf Struct. The stream is not closed.
+   *
+   * @param json The stream of UTF-8 encoded JSON to be converted
+   * @return A Struct object representing the input JSON
+   * @throws InvalidProtocolBufferException If the input JSON is invalid or cannot be parsed
+   * @throws IOException If the stream cannot be read
+   */
+  public static Struct jsonToStruct(InputStream json) throws IOException {
+    return parse(new InputStreamReader(json, StandardCharsets.UTF_8));
+  }
+
+  private static Struct parseInMemory(Reader json) throws InvalidProtocolBufferException {
+    try {
+      return parse(json);
+    } catch (InvalidProtocolBufferException e) {
+      throw e;
+    } catch (IOException e) {
+      // In-memory readers do not fail on their own.
+      throw invalidJson(e);
+    }
+  }
+
+  private static Struct parse(Reader json) throws IOException {
+    JsonReader reader = new JsonReader(json);
+    // JsonFormat parses through a Gson tree, which reads leniently.
+    reader.setLenient(true);
+    try {
+      JsonToken token = reader.peek();
+      if (token != JsonToken.BEGIN_OBJECT) {
+        throw new InvalidProtocolBufferException("Expect a map object but found: " + token);
+      }
+      return readStruct(reader, 1);
+    } catch (MalformedJsonException | EOFException | NumberFormatException e) {
+      throw invalidJson(e);
+    }
+  }
+
+  private static Struct readStruct(JsonReader reader, int depth) throws IOException {
+    Struct.Builder struct = Struct.newBuilder();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      struct.putFields(name, readValue(reader, depth));
+    }
+    reader.endObject();
+    return struct.build();
+  }
+
+  private static Value readValue(JsonReader reader, int depth) throws IOException {
+    JsonToken token = reader.peek();
+    switch (token) {
+      case BEGIN_OBJECT:
+        checkDepth(depth);
+        return Value.newBuilder().setStructValue(readStruct(reader, depth + 1)).build();
+      case BEGIN_ARRAY:
+        checkDepth(depth);
+        ListValue.Builder list = ListValue.newBuilder();
+        reader.beginArray();
+        while (reader.hasNext()) {
+          list.addValues(readValue(reader, depth + 1));
+        }
+        reader.endArray();
+        return Value.newBuilder().setListValue(list).build();
+      case STRING:
+        return Value.newBuilder().setStringValue(reader.nextString()).build();
+      case NUMBER:
+        String number = reader.nextString();
+        double value = Double.parseDouble(number);
+        if (Double.isInfinite(value)) {
+          throw new InvalidProtocolBufferException("Out of range double value: " + number);
+        }
+        return Value.newBuilder().setNumberValue(value).build();
+      case BOOLEAN:
+        return Value.newBuilder().setBoolValue(reader.nextBoolean()).build();
+      case NULL:
+        reader.nextNull();
+        return Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+      default:
+        throw new InvalidProtocolBufferException("Unexpected JSON token: " + token);
+    }
+  }
+
+  private static void checkDepth(int depth) throws InvalidProtocolBufferException {
+    if (depth >= RECURSION_LIMIT) {
+      throw new InvalidProtocolBufferException("Hit recursion limit.");
+    }
+  }
+
+  private static InvalidProtocolBufferException invalidJson(Exception cause) {
+    InvalidProtocolBufferException exception =
+        new InvalidProtocolBufferException("Failed to parse JSON: " + cause.getMessage());
+    exception.initCause(cause);
+    return exception;
   }
 }
@@ -0,0 +1,269 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limits the number of calls in flight with a limit that adapts to the observed latency.
+ *
+ * <p>The limit follows additive increase, multiplicative decrease. Every successful call that
+ * completes while at least half of the limit is in use adds {@code 1 / limit}, so the limit grows
+ * by one per limit's worth of calls. A call slower than {@code rttTolerance} times the lowest
+ * latency observed, or a call failed with RESOURCE_EXHAUSTED or DEADLINE_EXCEEDED, multiplies the
+ * limit by {@code backoffRatio}, at most once per lowest latency so that a burst of slow calls
+ * counts as one signal. The lowest latency is sampled again every {@value #MIN_RTT_RESET_SAMPLES}
+ * calls, so that the limiter follows a baseline that moves.
+ *
+ * <p>Calls over the limit wait in a queue and are started, in order, as calls complete. This class
+ * is thread-safe.
+ */
+@Slf4j
+final class AdaptiveConcurrencyLimiter {
+
+  static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final double rttTolerance;
+  private final int maxQueueSize;
+  private final LongSupplier nanoTime;
+  private final ArrayDeque<Pending<?>> queue = new ArrayDeque<>();
+  private double limit;
+  private int inFlight;
+  private long minRttNanos = Long.MAX_VALUE;
+  private long samples;
+  private boolean decreased;
+  private long lastDecreaseNanos;
+  private boolean draining;
+
+  AdaptiveConcurrencyLimiter(AdaptiveConcurrencyOptions options) {
+    this(options, System::nanoTime);
+  }
+
+  AdaptiveConcurrencyLimiter(AdaptiveConcurrencyOptions options, LongSupplier nanoTime) {
+    log.debug(
+        "Initializing adaptive concurrency limit with initial limit: {}, min limit: {}, "
+            + "max limit: {}, max queue size: {}",
+        options.getInitialLimit(),
+        options.getMinLimit(),
+        options.getMaxLimit(),
+        options.getMaxQueueSize());
+    this.minLimit = options.getMinLimit();
+    this.maxLimit = options.getMaxLimit();
+    this.backoffRatio = options.getBackoffRatio();
+    this.rttTolerance = options.getRttTolerance();
+    this.maxQueueSize = options.getMaxQueueSize();
+    this.nanoTime = nanoTime;
+    this.limit = options.getInitialLimit();
+  }
+
+  /**
+   * Makes a call once it fits within the limit.
+   *
+   * @param call supplier that makes the call
+   * @return future of the call, or of its place in the queue
+   * @throws ApiException with RESOURCE_EXHAUSTED status code if the queue is full
+   */
+  <T> ApiFuture<T> run(Supplier<ApiFuture<T>> call) {
+    synchronized (this) {
+      if (inFlight >= (int) limit || !queue.isEmpty()) {
+        if (queue.size() >= maxQueueSize) {
+          throw ApiExceptionFactory.createException(
+              "Concurrency limit exceeded: "
+                  + inFlight
+                  + " calls in flight, "
+                  + queue.size()
+                  + " calls queued",
+              null,
+              GrpcHelper.getStatusCodeFromCode(Code.RESOURCE_EXHAUSTED),
+              false);
+        }
+        Pending<T> pending = new Pending<>(call);
+        queue.add(pending);
+        return pending.result;
+      }
+      inFlight++;
+    }
+    return start(call);
+  }
+
+  /**
+   * Makes a call right away, even over the limit. Used for calls whose future cannot be created
+   * ahead of the call, which still count towards the limit and feed it with their latency.
+   */
+  <F extends ApiFuture<?>> F runNow(Supplier<F> call) {
+    synchronized (this) {
+      inFlight++;
+    }
+    return start(call);
+  }
+
+  synchronized ConcurrencyLimitStats getStats() {
+    return new ConcurrencyLimitStats((int) limit, inFlight, queue.size());
+  }
+
+  private <F extends ApiFuture<?>> F start(Supplier<F> call) {
+    long startNanos = nanoTime.getAsLong();
+    F result;
+    try {
+      result = call.get();
+    } catch (RuntimeException e) {
+      complete(startNanos, e);
+      throw e;
+    }
+    ApiFutures.addCallback(
+        result,
+        new ApiFutureCallback<Object>() {
+          @Override
+          public void onFailure(Throwable t) {
+            complete(startNanos, t);
+          }
+
+          @Override
+          public void onSuccess(Object response) {
+            complete(startNanos, null);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return result;
+  }
+
+  private void complete(long startNanos, Throwable error) {
+    long now = nanoTime.getAsLong();
+    synchronized (this) {
+      if (error == null) {
+        onSuccess(now - startNanos, now);
+      } else if (isOverloaded(error)) {
+        decrease(now);
+      }
+      inFlight--;
+      if (draining) {
+        // The thread that drains the queue picks up the room made by this call.
+        return;
+      }
+      draining = true;
+    }
+    drain();
+  }
+
+  private void drain() {
+    while (true) {
+      Pending<?> next;
+      synchronized (this) {
+        next = queue.peek();
+        while (next != null && next.result.isCancelled()) {
+          queue.poll();
+          next = queue.peek();
+        }
+        if (next == null || inFlight >= (int) limit) {
+          draining = false;
+          return;
+        }
+        queue.poll();
+        inFlight++;
+      }
+      next.start();
+    }
+  }
+
+  private void onSuccess(long rttNanos, long now) {
+    if (samples++ % MIN_RTT_RESET_SAMPLES == 0) {
+      minRttNanos = rttNanos;
+    } else {
+      minRttNanos = Math.min(minRttNanos, rttNanos);
+    }
+    if (rttNanos > minRttNanos * rttTolerance) {
+      decrease(now);
+    } else if (inFlight * 2 >= limit) {
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+  }
+
+  private void decrease(long now) {
+    if (decreased && minRttNanos != Long.MAX_VALUE && now - lastDecreaseNanos < minRttNanos) {
+      return;
+    }
+    double previous = limit;
+    limit = Math.max(minLimit, limit * backoffRatio);
+    decreased = true;
+    lastDecreaseNanos = now;
+    if (log.isDebugEnabled() && (int) previous != (int) limit) {
+      log.debug("Decreasing concurrency limit from {} to {}", (int) previous, (int) limit);
+    }
+  }
+
+  private static boolean isOverloaded(Throwable error) {
+    if (!(error instanceof ApiException)) {
+      return false;
+    }
+    Code code = ((ApiException) error).getStatusCode().getCode();
+    return code == Code.RESOURCE_EXHAUSTED || code == Code.DEADLINE_EXCEEDED;
+  }
+
+  /** Call waiting in the queue, with the future handed out to its caller. */
+  private final class Pending<T> {
+    private final Supplier<ApiFuture<T>> call;
+    private final SettableApiFuture<T> result = SettableApiFuture.create();
+
+    private Pending(Supplier<ApiFuture<T>> call) {
+      this.call = call;
+    }
+
+    private void start() {
+      ApiFuture<T> started;
+      try {
+        started = AdaptiveConcurrencyLimiter.this.start(call);
+      } catch (RuntimeException e) {
+        result.setException(e);
+        return;
+      }
+      result.addListener(
+          () -> {
+            if (result.isCancelled()) {
+              started.cancel(true);
+            }
+          },
+          MoreExecutors.directExecutor());
+      ApiFutures.addCallback(
+          started,
+          new ApiFutureCallback<T>() {
+            @Override
+            public void onFailure(Throwable t) {
+              result.setException(t);
+            }
+
+            @Override
+            public void onSuccess(T response) {
+              result.set(response);
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+  }
+}
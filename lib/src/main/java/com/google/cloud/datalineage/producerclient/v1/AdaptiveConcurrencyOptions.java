@@ -0,0 +1,187 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+/**
+ * Provides an immutable object for configuring the adaptive limit of concurrent calls.
+ * AdaptiveConcurrencyOptions object can be created via Builder.
+ *
+ * <p>The limit grows by one for every limit's worth of successful calls while their latency stays
+ * within `rttTolerance` times the lowest latency observed. It is multiplied by `backoffRatio` when
+ * latency rises above that, or when calls fail with RESOURCE_EXHAUSTED or DEADLINE_EXCEEDED.
+ */
+public final class AdaptiveConcurrencyOptions {
+
+  static final int DEFAULT_INITIAL_LIMIT = 20;
+  static final int DEFAULT_MIN_LIMIT = 1;
+  static final int DEFAULT_MAX_LIMIT = 500;
+  static final double DEFAULT_BACKOFF_RATIO = 0.9;
+  static final double DEFAULT_RTT_TOLERANCE = 2.0;
+  static final int DEFAULT_MAX_QUEUE_SIZE = 10_000;
+
+  /**
+   * Disables the adaptive concurrency limit.
+   *
+   * @return The requested adaptive concurrency options.
+   */
+  public static AdaptiveConcurrencyOptions getDisabledInstance() {
+    return new AdaptiveConcurrencyOptions(false, newBuilder());
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final double rttTolerance;
+  private final int maxQueueSize;
+
+  private AdaptiveConcurrencyOptions(boolean enabled, Builder builder) {
+    this.enabled = enabled;
+    this.initialLimit = builder.initialLimit;
+    this.minLimit = builder.minLimit;
+    this.maxLimit = builder.maxLimit;
+    this.backoffRatio = builder.backoffRatio;
+    this.rttTolerance = builder.rttTolerance;
+    this.maxQueueSize = builder.maxQueueSize;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public double getBackoffRatio() {
+    return backoffRatio;
+  }
+
+  public double getRttTolerance() {
+    return rttTolerance;
+  }
+
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for AdaptiveConcurrencyOptions.
+   *
+   * <p>Lets setting `initialLimit`, `minLimit`, `maxLimit`, `backoffRatio`, `rttTolerance` and
+   * `maxQueueSize`. Options built with this builder have the adaptive limit enabled. Calls over the
+   * limit wait in a queue of at most `maxQueueSize` calls, and fail with RESOURCE_EXHAUSTED when it
+   * is full.
+   */
+  public static final class Builder {
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private double rttTolerance = DEFAULT_RTT_TOLERANCE;
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+    private Builder() {}
+
+    private Builder(AdaptiveConcurrencyOptions options) {
+      initialLimit = options.initialLimit;
+      minLimit = options.minLimit;
+      maxLimit = options.maxLimit;
+      backoffRatio = options.backoffRatio;
+      rttTolerance = options.rttTolerance;
+      maxQueueSize = options.maxQueueSize;
+    }
+
+    public Builder setInitialLimit(int initialLimit) {
+      if (initialLimit <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.initialLimit = initialLimit;
+      return this;
+    }
+
+    public Builder setMinLimit(int minLimit) {
+      if (minLimit <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    public Builder setMaxLimit(int maxLimit) {
+      if (maxLimit <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxLimit = maxLimit;
+      return this;
+    }
+
+    public Builder setBackoffRatio(double backoffRatio) {
+      if (!(backoffRatio > 0 && backoffRatio < 1)) {
+        throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+      }
+      this.backoffRatio = backoffRatio;
+      return this;
+    }
+
+    public Builder setRttTolerance(double rttTolerance) {
+      if (!(rttTolerance >= 1)) {
+        throw new IllegalArgumentException("RTT tolerance must be at least 1");
+      }
+      this.rttTolerance = rttTolerance;
+      return this;
+    }
+
+    public Builder setMaxQueueSize(int maxQueueSize) {
+      if (maxQueueSize < 0) {
+        throw new IllegalArgumentException("Limit cannot be negative");
+      }
+      this.maxQueueSize = maxQueueSize;
+      return this;
+    }
+
+    /**
+     * Builds the options.
+     *
+     * @throws IllegalArgumentException if the initial limit is not between the minimum and the
+     *     maximum limit
+     */
+    public AdaptiveConcurrencyOptions build() {
+      if (minLimit > initialLimit || initialLimit > maxLimit) {
+        throw new IllegalArgumentException(
+            "Initial limit must be between the minimum and the maximum limit");
+      }
+      return new AdaptiveConcurrencyOptions(true, this);
+    }
+  }
+}
@@ -17,6 +17,7 @@ package com.google.cloud.datalineage.producerclient.v1;
 import com.google.api.core.ApiFuture;
 import com.google.api.gax.core.BackgroundResource;
 import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ApiCallContext;
 import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
 import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
 import com.google.cloud.datacatalog.lineage.v1.DeleteRunRequest;
@@ -243,4 +244,62 @@ public interface AsyncLineageClient extends BackgroundResource {
    */
   ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
       ProcessOpenLineageRunEventRequest request);
+
+  /**
+   * Processes OpenLineage message with the given call context.
+   *
+   * <p>Values set in the context, such as credentials, take precedence over the ones of the client
+   * for this call only, so one client and its channels can write lineage on behalf of many service
+   * accounts. The default implementation ignores the context and makes the call with the default
+   * context of the client.
+   *
+   * <p>Sample code:
+   *
+   * <pre>{@code
+   * try (AsyncLineageClient lineageClient = AsyncLineageProducerClient.create()) {
+   *   ProcessOpenLineageRunEventRequest request = ProcessOpenLineageRunEventRequest.newBuilder()
+   *       .setParent(parent).setOpenLineage(message).build();
+   *   ApiCallContext context = GrpcCallContext.createDefault().withCredentials(tenantCredentials);
+   *   lineageClient.processOpenLineageRunEvent(request, context).get();
+   * }
+   * }</pre>
+   *
+   * @param request Required. The request object that will be used to execute API call.
+   * @param context Required. The call context merged into the default context of the client.
+   * @return ApiFuture that represents the asynchronous operation.
+   * @throws com.google.api.gax.rpc.ApiException if the remote call fails
+   */
+  default ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+    return processOpenLineageRunEvent(request);
+  }
+
+  /**
+   * Processes OpenLineage message that is already serialized as JSON.
+   *
+   * <p>Lets callers that have OpenLineage events as JSON skip building a Struct. Implementations
+   * may transcode the JSON straight to the wire format of the request; the default implementation
+   * converts it to a request message.
+   *
+   * <p>Sample code:
+   *
+   * <pre>{@code
+   * try (AsyncLineageClient lineageClient = AsyncLineageProducerClient.create()) {
+   *   LocationName parent = LocationName.of("[PROJECT]", "[LOCATION]");
+   *   byte[] event = "{\"eventType\": \"START\", ...}".getBytes(StandardCharsets.UTF_8);
+   *   lineageClient.processOpenLineageRunEvent(parent.toString(), event).get();
+   * }
+   * }</pre>
+   *
+   * @param parent Required. The name of the project and its location that should own the process,
+   *     run, and lineage event.
+   * @param openLineageJson Required. UTF-8 encoded OpenLineage run event JSON.
+   * @return ApiFuture that represents the asynchronous operation.
+   * @throws com.google.api.gax.rpc.ApiException with INVALID_ARGUMENT status code if the JSON
+   *     cannot be parsed, or if the remote call fails
+   */
+  default ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      String parent, byte[] openLineageJson) {
+    return processOpenLineageRunEvent(OpenLineageJsonTranscoder.toRequest(parent, openLineageJson));
+  }
 }
@@ -15,8 +15,13 @@
 package com.google.cloud.datalineage.producerclient.v1;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.api.gax.core.BackgroundResource;
 import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode.Code;
 import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
 import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
 import com.google.cloud.datacatalog.lineage.v1.DeleteRunRequest;
@@ -35,10 +40,19 @@ import com.google.cloud.datacatalog.lineage.v1.Process;
 import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
 import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
 import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.cloud.datalineage.producerclient.helpers.FunctionWithException;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.AbstractMessage;
 import com.google.protobuf.Empty;
+import com.google.protobuf.InvalidProtocolBufferException;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
@@ -76,100 +90,414 @@ public final class AsyncLineageProducerClient implements BackgroundResource, Asy
     return new AsyncLineageProducerClient(basicClient, settings);
   }
 
+  @VisibleForTesting
+  static AsyncLineageProducerClient create(
+      FunctionWithException<LineageBaseSettings, BasicLineageClient, IOException> clientFactory,
+      AsyncLineageProducerClientSettings settings)
+      throws IOException {
+    return new AsyncLineageProducerClient(InternalClient.create(settings, clientFactory), settings);
+  }
+
+  /** Errors after which a spooled event is kept, so it is sent again by the next client. */
+  private static final ImmutableSet<Code> TRANSIENT_CODES =
+      ImmutableSet.of(
+          Code.UNAVAILABLE, Code.DEADLINE_EXCEEDED, Code.RESOURCE_EXHAUSTED, Code.ABORTED);
+
   private final InternalClient client;
   private final Duration gracefulShutdownDuration;
+  @Nullable private final FairQueueScheduler scheduler;
+  @Nullable private final OutstandingRequestLimiter limiter;
+  @Nullable private final OpenLineageEventSpool spool;
 
   private AsyncLineageProducerClient(AsyncLineageProducerClientSettings settings)
       throws IOException {
-    client = InternalClient.create(settings);
-    this.gracefulShutdownDuration = settings.getGracefulShutdownDuration();
+    this(InternalClient.create(settings), settings);
   }
 
   private AsyncLineageProducerClient(
       BasicLineageClient basicClient, AsyncLineageProducerClientSettings settings)
       throws IOException {
-    client = InternalClient.create(basicClient);
+    this(InternalClient.create(settings, basicClient), settings);
+  }
+
+  private AsyncLineageProducerClient(
+      InternalClient client, AsyncLineageProducerClientSettings settings) throws IOException {
+    this.client = client;
     this.gracefulShutdownDuration = settings.getGracefulShutdownDuration();
+    this.scheduler =
+        settings.getFairQueueOptions().getEnabled()
+            ? new FairQueueScheduler(
+                settings.getFairQueueOptions(), client::processOpenLineageRunEvent)
+            : null;
+    this.limiter =
+        settings.getFlowControlOptions().getEnabled()
+            ? new OutstandingRequestLimiter(
+                settings.getFlowControlOptions(),
+                scheduler != null ? scheduler : OutstandingRequestLimiter.UnsentRequests.NONE)
+            : null;
+    this.spool =
+        settings.getSpoolOptions().getEnabled()
+            ? OpenLineageEventSpool.open(settings.getSpoolOptions())
+            : null;
+    if (spool != null) {
+      replaySpool();
+    }
   }
 
   @Override
   public ApiFuture<Empty> deleteLineageEvent(DeleteLineageEventRequest request) {
     log.debug("Deleting lineage event: {}", request.getName());
-    return client.deleteLineageEvent(request);
+    return withFlowControl(request, () -> client.deleteLineageEvent(request));
   }
 
   @Override
   public OperationFuture<Empty, OperationMetadata> deleteProcess(DeleteProcessRequest request) {
     log.debug("Deleting process: {}", request.getName());
-    return client.deleteProcess(request);
+    return withFlowControl(request, () -> client.deleteProcess(request));
   }
 
   @Override
   public OperationFuture<Empty, OperationMetadata> deleteRun(DeleteRunRequest request) {
     log.debug("Deleting run: {}", request.getName());
-    return client.deleteRun(request);
+    return withFlowControl(request, () -> client.deleteRun(request));
+  }
+
+  /**
+   * Deletes many processes. Up to `maxConcurrentOperations` deletes run at a time, and their
+   * long-running operations are polled together instead of one timer per operation.
+   *
+   * @param names names of the processes to delete
+   * @param options concurrency, poll delays and timeout of the operations
+   * @return future with the status of every name, failed only if the client shuts down meanwhile
+   */
+  public ApiFuture<BulkDeleteResult> deleteProcesses(
+      Collection<String> names, BulkDeleteOptions options) {
+    log.debug("Deleting {} processes", names.size());
+    return client.deleteProcesses(names, options);
+  }
+
+  /**
+   * Deletes many runs. Up to `maxConcurrentOperations` deletes run at a time, and their
+   * long-running operations are polled together instead of one timer per operation.
+   *
+   * @param names names of the runs to delete
+   * @param options concurrency, poll delays and timeout of the operations
+   * @return future with the status of every name, failed only if the client shuts down meanwhile
+   */
+  public ApiFuture<BulkDeleteResult> deleteRuns(
+      Collection<String> names, BulkDeleteOptions options) {
+    log.debug("Deleting {} runs", names.size());
+    return client.deleteRuns(names, options);
   }
 
   @Override
   public ApiFuture<LineageEvent> getLineageEvent(GetLineageEventRequest request) {
     log.debug("Getting lineage event: {}", request.getName());
-    return client.getLineageEvent(request);
+    return withFlowControl(request, () -> client.getLineageEvent(request));
   }
 
   @Override
   public ApiFuture<Process> getProcess(GetProcessRequest request) {
     log.debug("Getting process: {}", request.getName());
-    return client.getProcess(request);
+    return withFlowControl(request, () -> client.getProcess(request));
   }
 
   @Override
   public ApiFuture<Run> getRun(GetRunRequest request) {
     log.debug("Getting run: {}", request.getName());
-    return client.getRun(request);
+    return withFlowControl(request, () -> client.getRun(request));
   }
 
   @Override
   public ApiFuture<ListLineageEventsPagedResponse> listLineageEvents(
       ListLineageEventsRequest request) {
     log.debug("Listing lineage events for parent: {}", request.getParent());
-    return client.listLineageEvents(request);
+    return withFlowControl(request, () -> client.listLineageEvents(request));
   }
 
   @Override
   public ApiFuture<ListProcessesPagedResponse> listProcesses(ListProcessesRequest request) {
     log.debug("Listing processes for parent: {}", request.getParent());
-    return client.listProcesses(request);
+    return withFlowControl(request, () -> client.listProcesses(request));
   }
 
   @Override
   public ApiFuture<ListRunsPagedResponse> listRuns(ListRunsRequest request) {
     log.debug("Listing runs for parent: {}", request.getParent());
-    return client.listRuns(request);
+    return withFlowControl(request, () -> client.listRuns(request));
+  }
+
+  /**
+   * Iterates over all processes of the request, fetching pages ahead of the iteration.
+   *
+   * @param request list request, its page token and page size are used for the first page
+   * @param options prefetch depth and page sizes
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public PrefetchingPageIterator<Process> iterateProcesses(
+      ListProcessesRequest request, PrefetchOptions options) {
+    log.debug("Iterating processes for parent: {}", request.getParent());
+    return PrefetchingPageIterator.forProcesses(request, options, this::fetchProcesses);
+  }
+
+  /**
+   * Iterates over all runs of the request, fetching pages ahead of the iteration.
+   *
+   * @param request list request, its page token and page size are used for the first page
+   * @param options prefetch depth and page sizes
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public PrefetchingPageIterator<Run> iterateRuns(
+      ListRunsRequest request, PrefetchOptions options) {
+    log.debug("Iterating runs for parent: {}", request.getParent());
+    return PrefetchingPageIterator.forRuns(request, options, this::fetchRuns);
+  }
+
+  /**
+   * Iterates over all lineage events of the request, fetching pages ahead of the iteration.
+   *
+   * @param request list request, its page token and page size are used for the first page
+   * @param options prefetch depth and page sizes
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public PrefetchingPageIterator<LineageEvent> iterateLineageEvents(
+      ListLineageEventsRequest request, PrefetchOptions options) {
+    log.debug("Iterating lineage events for parent: {}", request.getParent());
+    return PrefetchingPageIterator.forLineageEvents(request, options, this::fetchLineageEvents);
+  }
+
+  /**
+   * Iterates over the processes of many parents, listing several parents in parallel.
+   *
+   * <p>Parents in projects known to be disabled are skipped without a call.
+   *
+   * @param parents locations to list processes in
+   * @param concurrency number of parents listed at a time
+   * @param options prefetch depth per parent and page size
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public FanOutPageIterator<Process> iterateProcesses(
+      Collection<String> parents, int concurrency, PrefetchOptions options) {
+    log.debug("Iterating processes of {} parents", parents.size());
+    return FanOutPageIterator.forProcesses(
+        parents, concurrency, options, this::fetchProcesses, client::isProjectMarkedAsDisabled);
+  }
+
+  /**
+   * Iterates over the runs of many processes, listing several processes in parallel.
+   *
+   * <p>Processes in projects known to be disabled are skipped without a call.
+   *
+   * @param parents processes to list runs of
+   * @param concurrency number of processes listed at a time
+   * @param options prefetch depth per process and page size
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public FanOutPageIterator<Run> iterateRuns(
+      Collection<String> parents, int concurrency, PrefetchOptions options) {
+    log.debug("Iterating runs of {} parents", parents.size());
+    return FanOutPageIterator.forRuns(
+        parents, concurrency, options, this::fetchRuns, client::isProjectMarkedAsDisabled);
+  }
+
+  /**
+   * Iterates over the lineage events of many runs, listing several runs in parallel.
+   *
+   * <p>Runs in projects known to be disabled are skipped without a call.
+   *
+   * @param parents runs to list lineage events of
+   * @param concurrency number of runs listed at a time
+   * @param options prefetch depth per run and page size
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public FanOutPageIterator<LineageEvent> iterateLineageEvents(
+      Collection<String> parents, int concurrency, PrefetchOptions options) {
+    log.debug("Iterating lineage events of {} parents", parents.size());
+    return FanOutPageIterator.forLineageEvents(
+        parents,
+        concurrency,
+        options,
+        this::fetchLineageEvents,
+        client::isProjectMarkedAsDisabled);
+  }
+
+  /**
+   * Publishes all processes of the request, fetching pages as subscribers request processes.
+   *
+   * @param request list request, its page token and page size are used for every subscriber
+   * @return cold publisher that lists processes again for every subscriber
+   */
+  public Flow.Publisher<Process> publishProcesses(ListProcessesRequest request) {
+    return new ListPublisher<>(
+        PageFetcher.forProcesses(request, this::fetchProcesses),
+        request.getPageToken(),
+        request.getPageSize());
+  }
+
+  /**
+   * Publishes all runs of the request, fetching pages as subscribers request runs.
+   *
+   * @param request list request, its page token and page size are used for every subscriber
+   * @return cold publisher that lists runs again for every subscriber
+   */
+  public Flow.Publisher<Run> publishRuns(ListRunsRequest request) {
+    return new ListPublisher<>(
+        PageFetcher.forRuns(request, this::fetchRuns),
+        request.getPageToken(),
+        request.getPageSize());
+  }
+
+  /**
+   * Publishes all lineage events of the request, fetching pages as subscribers request events.
+   *
+   * @param request list request, its page token and page size are used for every subscriber
+   * @return cold publisher that lists lineage events again for every subscriber
+   */
+  public Flow.Publisher<LineageEvent> publishLineageEvents(ListLineageEventsRequest request) {
+    return new ListPublisher<>(
+        PageFetcher.forLineageEvents(request, this::fetchLineageEvents),
+        request.getPageToken(),
+        request.getPageSize());
   }
 
   @Override
   public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
       ProcessOpenLineageRunEventRequest request) {
     log.debug("Processing OpenLineage run event: {}", request.getOpenLineage());
-    return client.processOpenLineageRunEvent(request);
+    // Stamped before spooling, so that a replayed event keeps the ID of its first attempt.
+    ProcessOpenLineageRunEventRequest stamped = client.withRequestId(request);
+    return withFlowControl(stamped, () -> spool != null ? spoolAndSend(stamped) : send(stamped));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This overload bypasses the spool and the fair queue, which only hold requests and cannot
+   * keep the context, such as its credentials. The event is sent right away, ahead of events
+   * waiting in the fair queue, and it is not written to the spool, so it is not sent again by the
+   * next client if the process stops before its call completes. Flow control still applies.
+   */
+  @Override
+  public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+    log.debug("Processing OpenLineage run event with call context: {}", request.getOpenLineage());
+    ProcessOpenLineageRunEventRequest stamped = client.withRequestId(request);
+    return withFlowControl(stamped, () -> client.processOpenLineageRunEvent(stamped, context));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The JSON is transcoded straight to the wire format of the request when the client talks to
+   * the API over gRPC. With spooling or fair queuing enabled, it is converted to a request message,
+   * which is what those features hold on to.
+   */
+  @Override
+  public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      String parent, byte[] openLineageJson) {
+    log.debug("Processing OpenLineage run event JSON for parent: {}", parent);
+    if (spool != null || scheduler != null) {
+      return processOpenLineageRunEvent(
+          OpenLineageJsonTranscoder.toRequest(parent, openLineageJson));
+    }
+    return withFlowControl(
+        openLineageJson.length, () -> client.processOpenLineageRunEvent(parent, openLineageJson));
+  }
+
+  /**
+   * Creates a subscriber that sends the OpenLineage run events it receives through this client.
+   *
+   * @param maxInFlight number of events requested from the publisher before their calls complete
+   * @return subscriber that can be subscribed to one publisher
+   */
+  public OpenLineageEventSubscriber newOpenLineageEventSubscriber(int maxInFlight) {
+    return new OpenLineageEventSubscriber(this::dispatchEvent, maxInFlight);
+  }
+
+  /**
+   * Returns a snapshot of outstanding requests tracked by flow control.
+   *
+   * @return flow control state, with all values set to zero if flow control is disabled
+   */
+  public FlowControlStats getFlowControlStats() {
+    return limiter != null ? limiter.getStats() : FlowControlStats.EMPTY;
+  }
+
+  /**
+   * Returns a snapshot of the queues of OpenLineage run events.
+   *
+   * @return events in flight and queued per parent, with all values set to zero if fair queuing is
+   *     disabled
+   */
+  public FairQueueStats getFairQueueStats() {
+    return scheduler != null ? scheduler.getStats() : FairQueueStats.EMPTY;
+  }
+
+  /**
+   * Returns a snapshot of the adaptive concurrency limit.
+   *
+   * @return current limit, calls in flight and queued calls, with all values set to zero if the
+   *     adaptive concurrency limit is disabled
+   */
+  public ConcurrencyLimitStats getConcurrencyLimitStats() {
+    return client.getConcurrencyLimitStats();
+  }
+
+  /**
+   * Returns a snapshot of hedged reads.
+   *
+   * @return reads, second attempts sent, reads won by the second attempt and second attempts
+   *     skipped for lack of budget, with all values set to zero if hedging is disabled
+   */
+  public HedgingStats getHedgingStats() {
+    return client.getHedgingStats();
+  }
+
+  /**
+   * Returns a snapshot of the response cache.
+   *
+   * @return hits, misses, cached responses and their size, with all values set to zero if the
+   *     response cache is disabled
+   */
+  public ResponseCacheStats getResponseCacheStats() {
+    return client.getResponseCacheStats();
+  }
+
+  /**
+   * Returns a snapshot of processOpenLineageRunEvent attempts made by this client.
+   *
+   * @return attempt counts, with all values set to zero if ingestion retries are disabled
+   */
+  public IngestionAttemptStats getIngestionAttemptStats() {
+    return client.getIngestionAttemptStats();
   }
 
   @Override
   public void close() throws Exception {
     Instant start = Instant.now();
+    drainScheduler(start);
+    closeScheduler();
     client.close();
     gracefulShutdown(start);
+    closeSpool();
   }
 
   @Override
   public void shutdown() {
     Instant start = Instant.now();
+    try {
+      drainScheduler(start);
+    } catch (InterruptedException e) {
+      log.warn("Interrupted while sending queued events", e);
+    }
+    closeScheduler();
     client.shutdown();
     try {
       gracefulShutdown(start);
     } catch (InterruptedException e) {
       log.warn("Interrupted during shutdown", e);
     }
+    closeSpool();
   }
 
   @Override
@@ -184,7 +512,9 @@ public final class AsyncLineageProducerClient implements BackgroundResource, Asy
 
   @Override
   public void shutdownNow() {
+    closeScheduler();
     client.shutdownNow();
+    closeSpool();
   }
 
   @Override
@@ -192,6 +522,136 @@ public final class AsyncLineageProducerClient implements BackgroundResource, Asy
     return client.awaitTermination(duration, unit);
   }
 
+  private ApiFuture<ProcessOpenLineageRunEventResponse> send(
+      ProcessOpenLineageRunEventRequest request) {
+    return scheduler != null ? scheduler.send(request) : client.processOpenLineageRunEvent(request);
+  }
+
+  private ApiFuture<ProcessOpenLineageRunEventResponse> spoolAndSend(
+      ProcessOpenLineageRunEventRequest request) {
+    OpenLineageEventSpool.Record record;
+    try {
+      record = spool.append(request.toByteArray());
+    } catch (IOException e) {
+      log.warn("Failed to spool OpenLineage run event, sending it without spooling", e);
+      return send(request);
+    }
+    return sendSpooled(request, record);
+  }
+
+  /**
+   * Sends a spooled event and acknowledges its record once the event is delivered or rejected for
+   * good. Records of events that failed with a transient error stay in the spool for replay.
+   */
+  private ApiFuture<ProcessOpenLineageRunEventResponse> sendSpooled(
+      ProcessOpenLineageRunEventRequest request, OpenLineageEventSpool.Record record) {
+    ApiFuture<ProcessOpenLineageRunEventResponse> result;
+    try {
+      result = send(request);
+    } catch (RuntimeException e) {
+      acknowledgeUnlessTransient(record, e);
+      throw e;
+    }
+    ApiFutures.addCallback(
+        result,
+        new ApiFutureCallback<ProcessOpenLineageRunEventResponse>() {
+          @Override
+          public void onFailure(Throwable t) {
+            acknowledgeUnlessTransient(record, t);
+          }
+
+          @Override
+          public void onSuccess(ProcessOpenLineageRunEventResponse response) {
+            spool.acknowledge(record);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return result;
+  }
+
+  private void acknowledgeUnlessTransient(OpenLineageEventSpool.Record record, Throwable t) {
+    if (t instanceof ApiException
+        && TRANSIENT_CODES.contains(((ApiException) t).getStatusCode().getCode())) {
+      log.debug("Keeping spooled OpenLineage run event for replay after transient error", t);
+      return;
+    }
+    spool.acknowledge(record);
+  }
+
+  /**
+   * Sends events that a previous client left in the spool, under the same flow control as new
+   * events. Events that flow control rejects stay in the spool for the next client.
+   */
+  private void replaySpool() {
+    for (OpenLineageEventSpool.Record record : spool.takeRecoveredRecords()) {
+      try {
+        ProcessOpenLineageRunEventRequest request =
+            ProcessOpenLineageRunEventRequest.parseFrom(record.getPayload());
+        withFlowControl(request, () -> sendSpooled(request, record));
+      } catch (InvalidProtocolBufferException e) {
+        log.warn("Discarding spooled OpenLineage run event that cannot be parsed", e);
+        spool.acknowledge(record);
+      } catch (RuntimeException e) {
+        log.warn("Failed to replay spooled OpenLineage run event", e);
+      }
+    }
+  }
+
+  private void closeSpool() {
+    if (spool != null) {
+      spool.close();
+    }
+  }
+
+  // Iterators and publishers fetch pages from callbacks of the previous ones, and subscribers get
+  // events from callbacks of the calls that completed, so their calls are made on client threads.
+
+  private ApiFuture<ListProcessesPagedResponse> fetchProcesses(ListProcessesRequest request) {
+    return client.dispatch(() -> listProcesses(request));
+  }
+
+  private ApiFuture<ListRunsPagedResponse> fetchRuns(ListRunsRequest request) {
+    return client.dispatch(() -> listRuns(request));
+  }
+
+  private ApiFuture<ListLineageEventsPagedResponse> fetchLineageEvents(
+      ListLineageEventsRequest request) {
+    return client.dispatch(() -> listLineageEvents(request));
+  }
+
+  private ApiFuture<ProcessOpenLineageRunEventResponse> dispatchEvent(
+      ProcessOpenLineageRunEventRequest request) {
+    return client.dispatch(() -> processOpenLineageRunEvent(request));
+  }
+
+  private <F extends ApiFuture<?>> F withFlowControl(AbstractMessage request, Supplier<F> call) {
+    // Serialized size is computed only when it is needed.
+    return withFlowControl(limiter != null ? request.getSerializedSize() : 0, call);
+  }
+
+  private <F extends ApiFuture<?>> F withFlowControl(long requestBytes, Supplier<F> call) {
+    if (limiter == null) {
+      return call.get();
+    }
+    return limiter.run(requestBytes, call);
+  }
+
+  /** Waits for events that are still queued per parent to be handed to the transport. */
+  private void drainScheduler(Instant shutdownStartedAt) throws InterruptedException {
+    if (scheduler == null) {
+      return;
+    }
+    Duration remaining =
+        gracefulShutdownDuration.minus(Duration.between(shutdownStartedAt, Instant.now()));
+    scheduler.awaitQueued(remaining.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private void closeScheduler() {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
   private void gracefulShutdown(Instant shutdownStartedAt) throws InterruptedException {
     if (gracefulShutdownDuration.isZero()) {
       log.warn(
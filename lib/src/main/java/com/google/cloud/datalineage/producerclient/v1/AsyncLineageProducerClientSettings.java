@@ -23,6 +23,7 @@ import com.google.api.gax.rpc.TransportChannelProvider;
 import com.google.api.gax.rpc.WatchdogProvider;
 import com.google.cloud.datacatalog.lineage.v1.stub.LineageStubSettings;
 import com.google.cloud.datalineage.producerclient.CacheSettings;
+import com.google.cloud.datalineage.producerclient.v1.FlowControlOptions.LimitExceededBehavior;
 import java.io.IOException;
 import javax.annotation.Nullable;
 import org.threeten.bp.Duration;
@@ -34,7 +35,11 @@ import org.threeten.bp.Duration;
 public final class AsyncLineageProducerClientSettings extends LineageBaseSettings {
 
   public static final Duration DEFAULT_GRACEFUL_SHUTDOWN_DURATION = Duration.ofSeconds(30);
+
   private final Duration gracefulShutdownDuration;
+  private final FlowControlOptions flowControlOptions;
+  private final SpoolOptions spoolOptions;
+  private final FairQueueOptions fairQueueOptions;
 
   public static Builder newBuilder() {
     return Builder.createDefault();
@@ -50,13 +55,35 @@ public final class AsyncLineageProducerClientSettings extends LineageBaseSetting
 
   private AsyncLineageProducerClientSettings(Builder settingsBuilder) throws IOException {
     super(settingsBuilder);
+    FlowControlOptions flowControl = settingsBuilder.flowControlOptions;
+    // Only events waiting in fair queues can be dropped, without them the mode drops nothing.
+    if (flowControl.getEnabled()
+        && flowControl.getLimitExceededBehavior() == LimitExceededBehavior.DROP_OLDEST
+        && !settingsBuilder.fairQueueOptions.getEnabled()) {
+      throw new IllegalArgumentException("Dropping the oldest requests requires fair queuing");
+    }
     this.gracefulShutdownDuration = settingsBuilder.gracefulShutdownDuration;
+    this.flowControlOptions = settingsBuilder.flowControlOptions;
+    this.spoolOptions = settingsBuilder.spoolOptions;
+    this.fairQueueOptions = settingsBuilder.fairQueueOptions;
   }
 
   public Duration getGracefulShutdownDuration() {
     return gracefulShutdownDuration;
   }
 
+  public FlowControlOptions getFlowControlOptions() {
+    return flowControlOptions;
+  }
+
+  public SpoolOptions getSpoolOptions() {
+    return spoolOptions;
+  }
+
+  public FairQueueOptions getFairQueueOptions() {
+    return fairQueueOptions;
+  }
+
   /**
    * * Builder for AsyncLineageProducerClientSettings.
    *
@@ -66,6 +93,9 @@ public final class AsyncLineageProducerClientSettings extends LineageBaseSetting
    */
   public static final class Builder extends LineageBaseSettings.Builder {
     private Duration gracefulShutdownDuration = DEFAULT_GRACEFUL_SHUTDOWN_DURATION;
+    private FlowControlOptions flowControlOptions = FlowControlOptions.getDisabledInstance();
+    private SpoolOptions spoolOptions = SpoolOptions.getDisabledInstance();
+    private FairQueueOptions fairQueueOptions = FairQueueOptions.getDisabledInstance();
 
     private static Builder createDefault() {
       return new Builder(LineageStubSettings.newBuilder());
@@ -78,6 +108,9 @@ public final class AsyncLineageProducerClientSettings extends LineageBaseSetting
     Builder(AsyncLineageProducerClientSettings settings) {
       super(settings);
       this.gracefulShutdownDuration = settings.gracefulShutdownDuration;
+      this.flowControlOptions = settings.flowControlOptions;
+      this.spoolOptions = settings.spoolOptions;
+      this.fairQueueOptions = settings.fairQueueOptions;
     }
 
     Builder(LineageStubSettings.Builder stubSettings) {
@@ -94,6 +127,56 @@ public final class AsyncLineageProducerClientSettings extends LineageBaseSetting
       return (Builder) super.setApiEnablementCacheSettings(settings);
     }
 
+    @Override
+    public Builder setEnablementProbingEnabled(boolean enablementProbingEnabled) {
+      return (Builder) super.setEnablementProbingEnabled(enablementProbingEnabled);
+    }
+
+    @Override
+    public Builder setIngestionRetriesEnabled(boolean ingestionRetriesEnabled) {
+      return (Builder) super.setIngestionRetriesEnabled(ingestionRetriesEnabled);
+    }
+
+    @Override
+    public Builder setAdaptiveConcurrencyOptions(AdaptiveConcurrencyOptions options) {
+      return (Builder) super.setAdaptiveConcurrencyOptions(options);
+    }
+
+    @Override
+    public Builder setRateLimitOptions(RateLimitOptions options) {
+      return (Builder) super.setRateLimitOptions(options);
+    }
+
+    @Override
+    public Builder setSharedTransportEnabled(boolean sharedTransportEnabled) {
+      return (Builder) super.setSharedTransportEnabled(sharedTransportEnabled);
+    }
+
+    @Override
+    public Builder setLocationRoutingEnabled(boolean locationRoutingEnabled) {
+      return (Builder) super.setLocationRoutingEnabled(locationRoutingEnabled);
+    }
+
+    @Override
+    public Builder setRegionalEndpointTemplate(String regionalEndpointTemplate) {
+      return (Builder) super.setRegionalEndpointTemplate(regionalEndpointTemplate);
+    }
+
+    @Override
+    public Builder setFailoverOptions(FailoverOptions options) {
+      return (Builder) super.setFailoverOptions(options);
+    }
+
+    @Override
+    public Builder setHedgingOptions(HedgingOptions options) {
+      return (Builder) super.setHedgingOptions(options);
+    }
+
+    @Override
+    public Builder setResponseCacheOptions(ResponseCacheOptions options) {
+      return (Builder) super.setResponseCacheOptions(options);
+    }
+
     @Override
     public Builder setLineageEnablementCacheSettings(CacheSettings settings) {
       return (Builder) super.setLineageEnablementCacheSettings(settings);
@@ -108,6 +191,66 @@ public final class AsyncLineageProducerClientSettings extends LineageBaseSetting
       return gracefulShutdownDuration;
     }
 
+    /**
+     * Sets flow control of outstanding requests. Limits apply to all calls made by the client, and
+     * are counted from the moment a call is accepted until its future completes. Dropping the
+     * oldest requests requires fair queuing, otherwise building the settings fails.
+     *
+     * @param flowControlOptions flow control options, disabled by default
+     * @return this builder
+     */
+    public Builder setFlowControlOptions(FlowControlOptions flowControlOptions) {
+      if (flowControlOptions == null) {
+        throw new IllegalArgumentException("Flow control options cannot be null");
+      }
+      this.flowControlOptions = flowControlOptions;
+      return this;
+    }
+
+    public FlowControlOptions getFlowControlOptions() {
+      return flowControlOptions;
+    }
+
+    /**
+     * Sets the local spool of {@code processOpenLineageRunEvent} calls. Spooled events are written
+     * to disk before they are sent and are sent again by the next client created with the same
+     * spool directory, unless they were delivered or rejected with a non-transient error.
+     *
+     * @param spoolOptions spool options, disabled by default
+     * @return this builder
+     */
+    public Builder setSpoolOptions(SpoolOptions spoolOptions) {
+      if (spoolOptions == null) {
+        throw new IllegalArgumentException("Spool options cannot be null");
+      }
+      this.spoolOptions = spoolOptions;
+      return this;
+    }
+
+    public SpoolOptions getSpoolOptions() {
+      return spoolOptions;
+    }
+
+    /**
+     * Sets fair queuing of {@code processOpenLineageRunEvent} calls. Events are queued per parent
+     * and sent in weighted round-robin order, so that a parent sending many events does not delay
+     * the events of other parents.
+     *
+     * @param fairQueueOptions fair queuing options, disabled by default
+     * @return this builder
+     */
+    public Builder setFairQueueOptions(FairQueueOptions fairQueueOptions) {
+      if (fairQueueOptions == null) {
+        throw new IllegalArgumentException("Fair queue options cannot be null");
+      }
+      this.fairQueueOptions = fairQueueOptions;
+      return this;
+    }
+
+    public FairQueueOptions getFairQueueOptions() {
+      return fairQueueOptions;
+    }
+
     @Override
     public Builder setEndpoint(String endpoint) {
       return (Builder) super.setEndpoint(endpoint);
@@ -14,6 +14,7 @@
 
 package com.google.cloud.datalineage.producerclient.v1;
 
+import com.google.api.core.ApiFuture;
 import com.google.api.gax.core.BackgroundResource;
 import com.google.api.gax.longrunning.OperationFuture;
 import com.google.api.gax.rpc.UnaryCallable;
@@ -65,4 +66,14 @@ public interface BasicLineageClient extends BackgroundResource {
 
   UnaryCallable<ProcessOpenLineageRunEventRequest, ProcessOpenLineageRunEventResponse>
       processOpenLineageRunEventCallable();
+
+  /**
+   * Sends OpenLineage run event JSON. Converts it to a request message by default, clients that
+   * control the transport can send it without building the message.
+   */
+  default ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      String parent, byte[] openLineageJson) {
+    return processOpenLineageRunEventCallable()
+        .futureCall(OpenLineageJsonTranscoder.toRequest(parent, openLineageJson));
+  }
 }
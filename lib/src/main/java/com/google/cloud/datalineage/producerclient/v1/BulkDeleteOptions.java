@@ -0,0 +1,140 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import org.threeten.bp.Duration;
+
+/**
+ * Provides an immutable object for configuring bulk deletes. BulkDeleteOptions object can be
+ * created via Builder.
+ *
+ * <p>Up to `maxConcurrentOperations` deletes are started and polled at a time. The first poll of an
+ * operation happens after `initialPollDelay`, or after the time operations of the same bulk delete
+ * were seen to take once some completed. Later polls back off up to `maxPollDelay`. Operations not
+ * done within `totalTimeout` of their start fail with DEADLINE_EXCEEDED status code. The defaults
+ * match the polling settings of single deletes.
+ */
+public final class BulkDeleteOptions {
+
+  static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 100;
+  static final Duration DEFAULT_INITIAL_POLL_DELAY = Duration.ofSeconds(5);
+  static final Duration DEFAULT_MAX_POLL_DELAY = Duration.ofSeconds(45);
+  static final Duration DEFAULT_TOTAL_TIMEOUT = Duration.ofMinutes(5);
+
+  public static BulkDeleteOptions getDefaultInstance() {
+    return newBuilder().build();
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final int maxConcurrentOperations;
+  private final Duration initialPollDelay;
+  private final Duration maxPollDelay;
+  private final Duration totalTimeout;
+
+  private BulkDeleteOptions(Builder builder) {
+    this.maxConcurrentOperations = builder.maxConcurrentOperations;
+    this.initialPollDelay = builder.initialPollDelay;
+    this.maxPollDelay = builder.maxPollDelay;
+    this.totalTimeout = builder.totalTimeout;
+  }
+
+  public int getMaxConcurrentOperations() {
+    return maxConcurrentOperations;
+  }
+
+  public Duration getInitialPollDelay() {
+    return initialPollDelay;
+  }
+
+  public Duration getMaxPollDelay() {
+    return maxPollDelay;
+  }
+
+  public Duration getTotalTimeout() {
+    return totalTimeout;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for BulkDeleteOptions.
+   *
+   * <p>Lets setting `maxConcurrentOperations`, `initialPollDelay`, `maxPollDelay` and
+   * `totalTimeout`.
+   */
+  public static final class Builder {
+
+    private int maxConcurrentOperations = DEFAULT_MAX_CONCURRENT_OPERATIONS;
+    private Duration initialPollDelay = DEFAULT_INITIAL_POLL_DELAY;
+    private Duration maxPollDelay = DEFAULT_MAX_POLL_DELAY;
+    private Duration totalTimeout = DEFAULT_TOTAL_TIMEOUT;
+
+    private Builder() {}
+
+    private Builder(BulkDeleteOptions options) {
+      maxConcurrentOperations = options.maxConcurrentOperations;
+      initialPollDelay = options.initialPollDelay;
+      maxPollDelay = options.maxPollDelay;
+      totalTimeout = options.totalTimeout;
+    }
+
+    public Builder setMaxConcurrentOperations(int maxConcurrentOperations) {
+      if (maxConcurrentOperations <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxConcurrentOperations = maxConcurrentOperations;
+      return this;
+    }
+
+    public Builder setInitialPollDelay(Duration initialPollDelay) {
+      this.initialPollDelay = checkPositive(initialPollDelay);
+      return this;
+    }
+
+    public Builder setMaxPollDelay(Duration maxPollDelay) {
+      this.maxPollDelay = checkPositive(maxPollDelay);
+      return this;
+    }
+
+    public Builder setTotalTimeout(Duration totalTimeout) {
+      this.totalTimeout = checkPositive(totalTimeout);
+      return this;
+    }
+
+    /**
+     * Builds the options.
+     *
+     * @throws IllegalArgumentException if the initial poll delay is longer than the maximum one
+     */
+    public BulkDeleteOptions build() {
+      if (initialPollDelay.compareTo(maxPollDelay) > 0) {
+        throw new IllegalArgumentException("Initial poll delay cannot be longer than the maximum");
+      }
+      return new BulkDeleteOptions(this);
+    }
+
+    private static Duration checkPositive(Duration duration) {
+      if (duration == null || duration.isNegative() || duration.isZero()) {
+        throw new IllegalArgumentException("Duration must be positive");
+      }
+      return duration;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.gax.rpc.StatusCode.Code;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk delete, with the status of every deleted name.
+ *
+ * <p>Names whose operation completed successfully have the OK status code. Other names have the
+ * status code of their failure, and the failure itself in {@link #getErrors()}.
+ */
+public final class BulkDeleteResult {
+
+  private final Map<String, Code> statusCodes;
+  private final Map<String, Throwable> errors;
+
+  BulkDeleteResult(Map<String, Code> statusCodes, Map<String, Throwable> errors) {
+    this.statusCodes = Collections.unmodifiableMap(statusCodes);
+    this.errors = Collections.unmodifiableMap(errors);
+  }
+
+  /** Status code of every name, in the order the names were given. */
+  public Map<String, Code> getStatusCodes() {
+    return statusCodes;
+  }
+
+  /** Failure of every name that was not deleted. */
+  public Map<String, Throwable> getErrors() {
+    return errors;
+  }
+
+  /** Number of names deleted successfully. */
+  public int getDeletedCount() {
+    return statusCodes.size() - errors.size();
+  }
+
+  /** Number of names that were not deleted. */
+  public int getFailedCount() {
+    return errors.size();
+  }
+
+  @Override
+  public String toString() {
+    return "BulkDeleteResult{deletedCount="
+        + getDeletedCount()
+        + ", failedCount="
+        + getFailedCount()
+        + "}";
+  }
+}
@@ -0,0 +1,381 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.longrunning.Operation;
+import io.grpc.Status;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes many resources whose deletes are long-running operations, polling all operations from one
+ * scheduler thread.
+ *
+ * <p>Single deletes return an OperationFuture that polls its operation with its own timer. A bulk
+ * delete instead keeps one timer per bulk delete, firing when the earliest of its operations is
+ * due, and polls every operation due by then at once. The first poll of an operation is delayed by
+ * the time operations of the same bulk delete were estimated to take, so that quick deletes are not
+ * polled late and slow ones are not polled in vain. Deletes that wait for room are started from the
+ * scheduler thread as well, not from the callbacks of completed calls. This class is thread-safe.
+ */
+@Slf4j
+final class BulkDeleter implements AutoCloseable {
+
+  private static final double POLL_DELAY_MULTIPLIER = 1.5;
+  private static final long MIN_POLL_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final ScheduledExecutorService executor;
+  private final LongSupplier nanoTime;
+
+  BulkDeleter() {
+    this(
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("lineage-bulk-deleter-%d")
+                .setDaemon(true)
+                .build()),
+        System::nanoTime);
+  }
+
+  BulkDeleter(ScheduledExecutorService executor, LongSupplier nanoTime) {
+    this.executor = executor;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Deletes all names, starting and polling up to the configured number of operations at a time.
+   *
+   * @param names names to delete, duplicates are deleted once
+   * @param options concurrency, poll delays and timeout
+   * @param start starts the delete of a name and returns its operation
+   * @param poll gets an operation by its name
+   * @return future that completes with the status of every name once all of them are done, it is
+   *     never failed by the deletes themselves
+   */
+  ApiFuture<BulkDeleteResult> delete(
+      Collection<String> names,
+      BulkDeleteOptions options,
+      Function<String, ApiFuture<Operation>> start,
+      Function<String, ApiFuture<Operation>> poll) {
+    Job job = new Job(names, options, start, poll);
+    job.startMore();
+    return job.result;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static ApiException operationError(Operation operation) {
+    Code code;
+    try {
+      code = Code.valueOf(Status.fromCodeValue(operation.getError().getCode()).getCode().name());
+    } catch (IllegalArgumentException e) {
+      code = Code.UNKNOWN;
+    }
+    return ApiExceptionFactory.createException(
+        operation.getError().getMessage(), null, GrpcHelper.getStatusCodeFromCode(code), false);
+  }
+
+  private static Code statusCode(Throwable t) {
+    return t instanceof ApiException ? ((ApiException) t).getStatusCode().getCode() : Code.UNKNOWN;
+  }
+
+  /** Operation of one name, between polls. */
+  private static final class Pending {
+    private final String name;
+    private final long startedAt;
+    private String operation;
+    // When the operation was last seen not done.
+    private long seenRunningAt;
+    private long delay;
+    private long pollAt;
+
+    private Pending(String name, long startedAt) {
+      this.name = name;
+      this.startedAt = startedAt;
+      this.seenRunningAt = startedAt;
+    }
+  }
+
+  private final class Job {
+    private final List<String> names;
+    private final ArrayDeque<String> toStart;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final long totalTimeout;
+    private final int maxConcurrentOperations;
+    private final Function<String, ApiFuture<Operation>> startCall;
+    private final Function<String, ApiFuture<Operation>> pollCall;
+    private final SettableApiFuture<BulkDeleteResult> result = SettableApiFuture.create();
+    private final Map<String, Code> statusCodes = new HashMap<>();
+    private final Map<String, Throwable> errors = new HashMap<>();
+    private final List<Pending> waiting = new ArrayList<>();
+    private int active;
+    // Estimated durations of operations that completed after being polled.
+    private long completedNanos;
+    private int completedCount;
+    private ScheduledFuture<?> timer;
+    private long timerAt;
+
+    private Job(
+        Collection<String> names,
+        BulkDeleteOptions options,
+        Function<String, ApiFuture<Operation>> start,
+        Function<String, ApiFuture<Operation>> poll) {
+      this.names = new ArrayList<>(new LinkedHashSet<>(names));
+      this.toStart = new ArrayDeque<>(this.names);
+      this.initialDelay = options.getInitialPollDelay().toNanos();
+      this.maxDelay = options.getMaxPollDelay().toNanos();
+      this.totalTimeout = options.getTotalTimeout().toNanos();
+      this.maxConcurrentOperations = options.getMaxConcurrentOperations();
+      this.startCall = start;
+      this.pollCall = poll;
+      result.addListener(this::stopIfCancelled, MoreExecutors.directExecutor());
+    }
+
+    /** Starts deletes while there is room, and completes the result once everything is done. */
+    private void startMore() {
+      List<String> starting = new ArrayList<>();
+      synchronized (this) {
+        while (active < maxConcurrentOperations && !toStart.isEmpty() && !result.isDone()) {
+          starting.add(toStart.poll());
+          active++;
+        }
+        if (active == 0 && toStart.isEmpty()) {
+          Map<String, Code> ordered = new LinkedHashMap<>();
+          names.forEach(name -> ordered.put(name, statusCodes.get(name)));
+          result.set(new BulkDeleteResult(ordered, errors));
+          return;
+        }
+      }
+      starting.forEach(this::start);
+    }
+
+    private void start(String name) {
+      Pending pending = new Pending(name, nanoTime.getAsLong());
+      ApiFuture<Operation> call;
+      try {
+        call = startCall.apply(name);
+      } catch (RuntimeException e) {
+        call = ApiFutures.immediateFailedFuture(e);
+      }
+      watch(pending, call, true);
+    }
+
+    private void watch(Pending pending, ApiFuture<Operation> call, boolean starting) {
+      ApiFutures.addCallback(
+          call,
+          new ApiFutureCallback<Operation>() {
+            @Override
+            public void onFailure(Throwable t) {
+              if (!starting
+                  && t instanceof ApiException
+                  && ((ApiException) t).isRetryable()
+                  && !isOverdue(pending, nanoTime.getAsLong())) {
+                // The operation goes on, only this poll failed.
+                backOff(pending, nanoTime.getAsLong());
+                return;
+              }
+              finish(pending.name, t);
+            }
+
+            @Override
+            public void onSuccess(Operation operation) {
+              onOperation(pending, operation, starting);
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+
+    private void onOperation(Pending pending, Operation operation, boolean starting) {
+      long now = nanoTime.getAsLong();
+      if (!operation.getDone()) {
+        if (isOverdue(pending, now)) {
+          finish(
+              pending.name,
+              ApiExceptionFactory.createException(
+                  "Operation " + operation.getName() + " did not complete within the timeout",
+                  null,
+                  GrpcHelper.getStatusCodeFromCode(Code.DEADLINE_EXCEEDED),
+                  false));
+          return;
+        }
+        pending.operation = operation.getName();
+        if (starting) {
+          pending.delay = firstDelay();
+          schedule(pending, now);
+        } else {
+          pending.seenRunningAt = now;
+          backOff(pending, now);
+        }
+        return;
+      }
+      if (!starting) {
+        synchronized (this) {
+          // Done somewhere between the last two looks at the operation.
+          completedNanos +=
+              pending.seenRunningAt + (now - pending.seenRunningAt) / 2 - pending.startedAt;
+          completedCount++;
+        }
+      }
+      finish(pending.name, operation.hasError() ? operationError(operation) : null);
+    }
+
+    private synchronized long firstDelay() {
+      if (completedCount == 0) {
+        return initialDelay;
+      }
+      return Math.max(MIN_POLL_DELAY_NANOS, Math.min(maxDelay, completedNanos / completedCount));
+    }
+
+    private boolean isOverdue(Pending pending, long now) {
+      return now - pending.startedAt >= totalTimeout;
+    }
+
+    private void backOff(Pending pending, long now) {
+      pending.delay = Math.min(maxDelay, (long) (pending.delay * POLL_DELAY_MULTIPLIER));
+      schedule(pending, now);
+    }
+
+    private void schedule(Pending pending, long now) {
+      // Never polls after the deadline, the last poll decides.
+      pending.pollAt = Math.min(now + pending.delay, pending.startedAt + totalTimeout);
+      synchronized (this) {
+        waiting.add(pending);
+        if (timer == null || pending.pollAt < timerAt) {
+          arm(now);
+        }
+      }
+    }
+
+    /** Sets the timer to the earliest poll, must be called holding the lock. */
+    private void arm(long now) {
+      if (timer != null) {
+        timer.cancel(false);
+        timer = null;
+      }
+      if (waiting.isEmpty() || result.isDone()) {
+        return;
+      }
+      long earliest = Long.MAX_VALUE;
+      for (Pending pending : waiting) {
+        earliest = Math.min(earliest, pending.pollAt);
+      }
+      try {
+        timer = executor.schedule(this::pollDue, earliest - now, TimeUnit.NANOSECONDS);
+        timerAt = earliest;
+      } catch (RejectedExecutionException e) {
+        stopByShutdown(e);
+      }
+    }
+
+    /** Fails the result when the client is closing, the operations go on but are not watched. */
+    private void stopByShutdown(RejectedExecutionException e) {
+      result.setException(
+          ApiExceptionFactory.createException(
+              "Bulk delete stopped by client shutdown",
+              e,
+              GrpcHelper.getStatusCodeFromCode(Code.CANCELLED),
+              false));
+    }
+
+    /** Polls every operation that is due, including those due within the next few milliseconds. */
+    private void pollDue() {
+      List<Pending> due = new ArrayList<>();
+      synchronized (this) {
+        timer = null;
+        // Coalesces polls that would otherwise fire one after another.
+        long horizon = nanoTime.getAsLong() + MIN_POLL_DELAY_NANOS;
+        Iterator<Pending> iterator = waiting.iterator();
+        while (iterator.hasNext()) {
+          Pending pending = iterator.next();
+          if (pending.pollAt <= horizon) {
+            iterator.remove();
+            due.add(pending);
+          }
+        }
+        arm(nanoTime.getAsLong());
+      }
+      if (log.isDebugEnabled()) {
+        log.debug("Polling {} delete operations", due.size());
+      }
+      for (Pending pending : due) {
+        ApiFuture<Operation> call;
+        try {
+          call = pollCall.apply(pending.operation);
+        } catch (RuntimeException e) {
+          call = ApiFutures.immediateFailedFuture(e);
+        }
+        watch(pending, call, false);
+      }
+    }
+
+    private void finish(String name, Throwable error) {
+      synchronized (this) {
+        active--;
+        if (error == null) {
+          statusCodes.put(name, Code.OK);
+        } else {
+          statusCodes.put(name, statusCode(error));
+          errors.put(name, error);
+        }
+      }
+      // Called from the callbacks of calls, whose threads should not be used to make more calls.
+      try {
+        executor.execute(this::startMore);
+      } catch (RejectedExecutionException e) {
+        stopByShutdown(e);
+      }
+    }
+
+    private void stopIfCancelled() {
+      if (!result.isCancelled()) {
+        return;
+      }
+      synchronized (this) {
+        toStart.clear();
+        waiting.clear();
+        arm(nanoTime.getAsLong());
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+/**
+ * Point-in-time snapshot of the adaptive concurrency limit of a client.
+ *
+ * <p>All values are zero when the adaptive concurrency limit is disabled.
+ */
+public final class ConcurrencyLimitStats {
+
+  static final ConcurrencyLimitStats EMPTY = new ConcurrencyLimitStats(0, 0, 0);
+
+  private final int limit;
+  private final int inFlightCount;
+  private final int queueDepth;
+
+  ConcurrencyLimitStats(int limit, int inFlightCount, int queueDepth) {
+    this.limit = limit;
+    this.inFlightCount = inFlightCount;
+    this.queueDepth = queueDepth;
+  }
+
+  /** Number of calls currently allowed to be in flight. */
+  public int getLimit() {
+    return limit;
+  }
+
+  /** Number of calls that were sent and have not completed yet. */
+  public int getInFlightCount() {
+    return inFlightCount;
+  }
+
+  /** Number of calls waiting for the in-flight count to drop below the limit. */
+  public int getQueueDepth() {
+    return queueDepth;
+  }
+
+  @Override
+  public String toString() {
+    return "ConcurrencyLimitStats{limit="
+        + limit
+        + ", inFlightCount="
+        + inFlightCount
+        + ", queueDepth="
+        + queueDepth
+        + "}";
+  }
+}
@@ -0,0 +1,472 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.core.BackgroundResourceAggregation;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
+import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.api.gax.rpc.TransportChannelProvider;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteRunRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetLineageEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetRunRequest;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListLineageEventsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListProcessesPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListRunsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageEvent;
+import com.google.cloud.datacatalog.lineage.v1.ListLineageEventsRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListProcessesRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListRunsRequest;
+import com.google.cloud.datacatalog.lineage.v1.OperationMetadata;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.cloud.datalineage.producerclient.helpers.FunctionWithException;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.longrunning.GetOperationRequest;
+import com.google.longrunning.Operation;
+import com.google.protobuf.Empty;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.threeten.bp.Duration;
+
+/**
+ * Sends calls to the first healthy endpoint out of the configured endpoint and its alternates.
+ *
+ * <p>Every endpoint has a circuit breaker fed with the outcomes of its calls, see {@link
+ * FailoverOptions} for the thresholds. Only errors that point at the endpoint count as failures,
+ * cancelled calls are not counted at all. deleteProcess and deleteRun only count failures, as their
+ * futures include the time the operation runs. This class is thread-safe.
+ */
+@Slf4j
+final class FailoverLineageClient implements OperationLineageClient {
+
+  private static final ImmutableSet<Code> ENDPOINT_FAILURE_CODES =
+      ImmutableSet.of(Code.UNAVAILABLE, Code.DEADLINE_EXCEEDED, Code.INTERNAL, Code.UNKNOWN);
+
+  // Pings keep the idle connections of standby endpoints open, at the rate servers accept.
+  private static final Duration STANDBY_KEEP_ALIVE_TIME = Duration.ofMinutes(5);
+
+  private final List<Endpoint> endpoints = new ArrayList<>();
+  private final double errorRateThreshold;
+  private final long slowCallNanos;
+  private final double slowCallRateThreshold;
+  private final int minimumCalls;
+  private final long windowNanos;
+  private final long openNanos;
+  private final LongSupplier nanoTime;
+
+  private final UnaryCallable<DeleteLineageEventRequest, Empty> deleteLineageEventCallable =
+      monitor(BasicLineageClient::deleteLineageEventCallable);
+  private final UnaryCallable<DeleteProcessRequest, Operation> deleteProcessCallable =
+      monitor(client -> OperationLineageClient.of(client).deleteProcessCallable());
+  private final UnaryCallable<DeleteRunRequest, Operation> deleteRunCallable =
+      monitor(client -> OperationLineageClient.of(client).deleteRunCallable());
+  private final UnaryCallable<GetOperationRequest, Operation> getOperationCallable =
+      monitor(client -> OperationLineageClient.of(client).getOperationCallable());
+  private final UnaryCallable<GetLineageEventRequest, LineageEvent> getEventCallable =
+      monitor(BasicLineageClient::getEventCallable);
+  private final UnaryCallable<GetProcessRequest, Process> getProcessCallable =
+      monitor(BasicLineageClient::getProcessCallable);
+  private final UnaryCallable<GetRunRequest, Run> getRunCallable =
+      monitor(BasicLineageClient::getRunCallable);
+  private final UnaryCallable<ListLineageEventsRequest, ListLineageEventsPagedResponse>
+      listLineageEventsPagedCallable = monitor(BasicLineageClient::listLineageEventsPagedCallable);
+  private final UnaryCallable<ListProcessesRequest, ListProcessesPagedResponse>
+      listProcessesPagedCallable = monitor(BasicLineageClient::listProcessesPagedCallable);
+  private final UnaryCallable<ListRunsRequest, ListRunsPagedResponse> listRunsPagedCallable =
+      monitor(BasicLineageClient::listRunsPagedCallable);
+  private final UnaryCallable<ProcessOpenLineageRunEventRequest, ProcessOpenLineageRunEventResponse>
+      processOpenLineageRunEventCallable =
+          monitor(BasicLineageClient::processOpenLineageRunEventCallable);
+
+  /**
+   * Creates clients of the configured endpoint and of all alternate endpoints.
+   *
+   * @param settings settings of all created clients, with enabled failover options
+   * @param factory creates a client for settings with a single endpoint
+   */
+  FailoverLineageClient(
+      LineageBaseSettings settings,
+      FunctionWithException<LineageBaseSettings, BasicLineageClient, IOException> factory)
+      throws IOException {
+    this(settings, factory, System::nanoTime);
+  }
+
+  FailoverLineageClient(
+      LineageBaseSettings settings,
+      FunctionWithException<LineageBaseSettings, BasicLineageClient, IOException> factory,
+      LongSupplier nanoTime)
+      throws IOException {
+    FailoverOptions options = settings.getFailoverOptions();
+    log.debug(
+        "Initializing failover with alternate endpoints: {}, error rate threshold: {}, "
+            + "slow call duration: {}, slow call rate threshold: {}",
+        options.getAlternateEndpoints(),
+        options.getErrorRateThreshold(),
+        options.getSlowCallDuration(),
+        options.getSlowCallRateThreshold());
+    this.errorRateThreshold = options.getErrorRateThreshold();
+    this.slowCallNanos = options.getSlowCallDuration().toNanos();
+    this.slowCallRateThreshold = options.getSlowCallRateThreshold();
+    this.minimumCalls = options.getMinimumCalls();
+    this.windowNanos = options.getWindow().toNanos();
+    this.openNanos = options.getOpenDuration().toNanos();
+    this.nanoTime = nanoTime;
+    try {
+      endpoints.add(new Endpoint(settings.getEndpoint(), factory.apply(settings)));
+      for (String alternate : options.getAlternateEndpoints()) {
+        LineageBaseSettings.Builder alternateSettings = settings.toBuilder();
+        alternateSettings.setEndpoint(alternate);
+        keepWarm(alternateSettings);
+        endpoints.add(new Endpoint(alternate, factory.apply(alternateSettings.build())));
+      }
+    } catch (IOException | RuntimeException e) {
+      resources().shutdownNow();
+      throw e;
+    }
+  }
+
+  @Override
+  public UnaryCallable<DeleteLineageEventRequest, Empty> deleteLineageEventCallable() {
+    return deleteLineageEventCallable;
+  }
+
+  @Override
+  public OperationFuture<Empty, OperationMetadata> deleteProcessAsync(
+      DeleteProcessRequest request) {
+    return call(endpoint -> endpoint.client.deleteProcessAsync(request), false);
+  }
+
+  @Override
+  public OperationFuture<Empty, OperationMetadata> deleteRunAsync(DeleteRunRequest request) {
+    return call(endpoint -> endpoint.client.deleteRunAsync(request), false);
+  }
+
+  @Override
+  public UnaryCallable<DeleteProcessRequest, Operation> deleteProcessCallable() {
+    return deleteProcessCallable;
+  }
+
+  @Override
+  public UnaryCallable<DeleteRunRequest, Operation> deleteRunCallable() {
+    return deleteRunCallable;
+  }
+
+  @Override
+  public UnaryCallable<GetOperationRequest, Operation> getOperationCallable() {
+    return getOperationCallable;
+  }
+
+  @Override
+  public UnaryCallable<GetLineageEventRequest, LineageEvent> getEventCallable() {
+    return getEventCallable;
+  }
+
+  @Override
+  public UnaryCallable<GetProcessRequest, Process> getProcessCallable() {
+    return getProcessCallable;
+  }
+
+  @Override
+  public UnaryCallable<GetRunRequest, Run> getRunCallable() {
+    return getRunCallable;
+  }
+
+  @Override
+  public UnaryCallable<ListLineageEventsRequest, ListLineageEventsPagedResponse>
+      listLineageEventsPagedCallable() {
+    return listLineageEventsPagedCallable;
+  }
+
+  @Override
+  public UnaryCallable<ListProcessesRequest, ListProcessesPagedResponse>
+      listProcessesPagedCallable() {
+    return listProcessesPagedCallable;
+  }
+
+  @Override
+  public UnaryCallable<ListRunsRequest, ListRunsPagedResponse> listRunsPagedCallable() {
+    return listRunsPagedCallable;
+  }
+
+  @Override
+  public UnaryCallable<ProcessOpenLineageRunEventRequest, ProcessOpenLineageRunEventResponse>
+      processOpenLineageRunEventCallable() {
+    return processOpenLineageRunEventCallable;
+  }
+
+  @Override
+  public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      String parent, byte[] openLineageJson) {
+    return call(endpoint -> endpoint.client.processOpenLineageRunEvent(parent, openLineageJson));
+  }
+
+  @Override
+  public void shutdown() {
+    resources().shutdown();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return resources().isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return resources().isTerminated();
+  }
+
+  @Override
+  public void shutdownNow() {
+    resources().shutdownNow();
+  }
+
+  @Override
+  public boolean awaitTermination(long duration, TimeUnit unit) throws InterruptedException {
+    return resources().awaitTermination(duration, unit);
+  }
+
+  @Override
+  public void close() throws Exception {
+    resources().close();
+  }
+
+  /** Returns the endpoint that currently takes the calls which are not trial calls. */
+  String getActiveEndpoint() {
+    for (Endpoint endpoint : endpoints) {
+      if (endpoint.isHealthy()) {
+        return endpoint.name;
+      }
+    }
+    return endpoints.get(0).name;
+  }
+
+  private <RequestT, ResponseT> UnaryCallable<RequestT, ResponseT> monitor(
+      Function<BasicLineageClient, UnaryCallable<RequestT, ResponseT>> callable) {
+    return new UnaryCallable<RequestT, ResponseT>() {
+      @Override
+      public ApiFuture<ResponseT> futureCall(RequestT request, ApiCallContext context) {
+        return call(endpoint -> callable.apply(endpoint.client).futureCall(request, context));
+      }
+    };
+  }
+
+  private <F extends ApiFuture<?>> F call(Function<Endpoint, F> call) {
+    return call(call, true);
+  }
+
+  /**
+   * Makes a call on the selected endpoint and feeds its outcome to the circuit breaker.
+   *
+   * @param timed whether slow calls count against the endpoint
+   */
+  private <F extends ApiFuture<?>> F call(Function<Endpoint, F> call, boolean timed) {
+    long start = nanoTime.getAsLong();
+    Endpoint endpoint = endpoints.get(0);
+    Admission admission = Admission.REJECTED;
+    for (Endpoint candidate : endpoints) {
+      admission = candidate.admit(start);
+      if (admission != Admission.REJECTED) {
+        endpoint = candidate;
+        break;
+      }
+    }
+    // If every endpoint is unhealthy, the configured one is as good as any.
+    Endpoint selected = endpoint;
+    boolean trialCall = admission == Admission.TRIAL;
+    F result;
+    try {
+      result = call.apply(selected);
+    } catch (RuntimeException e) {
+      selected.ignore(trialCall);
+      throw e;
+    }
+    ApiFutures.addCallback(
+        result,
+        new ApiFutureCallback<Object>() {
+          @Override
+          public void onFailure(Throwable t) {
+            if (t instanceof CancellationException) {
+              selected.ignore(trialCall);
+            } else {
+              selected.record(trialCall, isEndpointFailure(t), false, nanoTime.getAsLong());
+            }
+          }
+
+          @Override
+          public void onSuccess(Object response) {
+            long now = nanoTime.getAsLong();
+            selected.record(trialCall, false, timed && now - start > slowCallNanos, now);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return result;
+  }
+
+  private static boolean isEndpointFailure(Throwable t) {
+    return t instanceof ApiException
+        && ENDPOINT_FAILURE_CODES.contains(((ApiException) t).getStatusCode().getCode());
+  }
+
+  /**
+   * Makes the gRPC channels of a standby endpoint connect when they are created and stay connected
+   * without calls. gRPC channels otherwise connect on their first call and go idle without calls.
+   * Transports other than the default gRPC one are left as they are.
+   */
+  private static void keepWarm(LineageBaseSettings.Builder settings) {
+    TransportChannelProvider provider = settings.getTransportChannelProvider();
+    if (provider instanceof InstantiatingGrpcChannelProvider) {
+      InstantiatingGrpcChannelProvider grpcProvider = (InstantiatingGrpcChannelProvider) provider;
+      settings.setTransportChannelProvider(
+          grpcProvider
+              .toBuilder()
+              .setKeepAliveTime(STANDBY_KEEP_ALIVE_TIME)
+              .setKeepAliveWithoutCalls(true)
+              .setChannelPrimer(FailoverLineageClient::keepConnected)
+              .build());
+    }
+  }
+
+  /** Requests a connection, and again whenever the channel goes idle, until it is shut down. */
+  private static void keepConnected(ManagedChannel channel) {
+    ConnectivityState state = channel.getState(true);
+    if (state != ConnectivityState.SHUTDOWN) {
+      channel.notifyWhenStateChanged(state, () -> keepConnected(channel));
+    }
+  }
+
+  private BackgroundResource resources() {
+    List<BackgroundResource> clients = new ArrayList<>();
+    endpoints.forEach(endpoint -> clients.add(endpoint.client));
+    return new BackgroundResourceAggregation(clients);
+  }
+
+  private enum Admission {
+    REGULAR,
+    TRIAL,
+    REJECTED
+  }
+
+  /** Circuit breaker of a single endpoint, counting outcomes in a tumbling window. */
+  private final class Endpoint {
+    private final String name;
+    private final BasicLineageClient client;
+    private boolean healthy = true;
+    private long windowStart;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    private Endpoint(String name, BasicLineageClient client) {
+      this.name = name;
+      this.client = client;
+      this.windowStart = nanoTime.getAsLong();
+    }
+
+    private synchronized boolean isHealthy() {
+      return healthy;
+    }
+
+    /** Admits a call, an unhealthy endpoint takes one trial call at a time once it is due. */
+    private synchronized Admission admit(long now) {
+      if (healthy) {
+        return Admission.REGULAR;
+      }
+      if (!trialInFlight && now - openedAt >= openNanos) {
+        trialInFlight = true;
+        return Admission.TRIAL;
+      }
+      return Admission.REJECTED;
+    }
+
+    private synchronized void record(boolean trial, boolean failed, boolean slow, long now) {
+      if (trial) {
+        trialInFlight = false;
+        if (failed || slow) {
+          log.warn("Trial call to endpoint {} failed, keeping traffic on alternates", name);
+          openedAt = now;
+        } else {
+          log.info("Endpoint {} recovered, shifting traffic back", name);
+          healthy = true;
+          resetWindow(now);
+        }
+        return;
+      }
+      if (!healthy) {
+        // Late outcome of a call made before the endpoint became unhealthy.
+        return;
+      }
+      if (now - windowStart >= windowNanos) {
+        resetWindow(now);
+      }
+      calls++;
+      if (failed) {
+        failures++;
+      }
+      if (slow) {
+        slowCalls++;
+      }
+      if (calls >= minimumCalls
+          && (failures >= errorRateThreshold * calls
+              || slowCalls >= slowCallRateThreshold * calls)) {
+        log.warn(
+            "Endpoint {} is unhealthy, {} of {} calls failed and {} were slow, shifting traffic",
+            name,
+            failures,
+            calls,
+            slowCalls);
+        healthy = false;
+        openedAt = now;
+      }
+    }
+
+    /** Releases the trial slot of a call whose outcome says nothing about the endpoint. */
+    private synchronized void ignore(boolean trial) {
+      if (trial) {
+        trialInFlight = false;
+      }
+    }
+
+    private void resetWindow(long now) {
+      windowStart = now;
+      calls = 0;
+      failures = 0;
+      slowCalls = 0;
+    }
+  }
+}
@@ -0,0 +1,212 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.threeten.bp.Duration;
+
+/**
+ * Provides an immutable object for configuring failover to alternate endpoints. FailoverOptions
+ * object can be created via Builder.
+ *
+ * <p>A client is created for the configured endpoint and for every alternate endpoint up front, and
+ * standby channels connect eagerly and are kept alive by pings, so they are ready when traffic
+ * shifts. Calls go to the first healthy endpoint in order. An endpoint becomes unhealthy when,
+ * among at least `minimumCalls` calls in a `window`, the share of calls failing with UNAVAILABLE,
+ * DEADLINE_EXCEEDED, INTERNAL or UNKNOWN reaches `errorRateThreshold`, or the share of calls slower
+ * than `slowCallDuration` reaches `slowCallRateThreshold`. After `openDuration` a single trial call
+ * is sent to it again, and its traffic comes back if the trial call succeeds in time.
+ */
+public final class FailoverOptions {
+
+  static final double DEFAULT_ERROR_RATE_THRESHOLD = 0.5;
+  static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(5);
+  static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.5;
+  static final int DEFAULT_MINIMUM_CALLS = 20;
+  static final Duration DEFAULT_WINDOW = Duration.ofSeconds(30);
+  static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+  /**
+   * Disables failover.
+   *
+   * @return The requested failover options.
+   */
+  public static FailoverOptions getDisabledInstance() {
+    return new FailoverOptions(false, newBuilder());
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final ImmutableList<String> alternateEndpoints;
+  private final double errorRateThreshold;
+  private final Duration slowCallDuration;
+  private final double slowCallRateThreshold;
+  private final int minimumCalls;
+  private final Duration window;
+  private final Duration openDuration;
+
+  private FailoverOptions(boolean enabled, Builder builder) {
+    this.enabled = enabled;
+    this.alternateEndpoints = builder.alternateEndpoints;
+    this.errorRateThreshold = builder.errorRateThreshold;
+    this.slowCallDuration = builder.slowCallDuration;
+    this.slowCallRateThreshold = builder.slowCallRateThreshold;
+    this.minimumCalls = builder.minimumCalls;
+    this.window = builder.window;
+    this.openDuration = builder.openDuration;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  /** Endpoints that take traffic while the configured endpoint is unhealthy, in order. */
+  public ImmutableList<String> getAlternateEndpoints() {
+    return alternateEndpoints;
+  }
+
+  public double getErrorRateThreshold() {
+    return errorRateThreshold;
+  }
+
+  /** Latency above which a successful call is counted as slow. */
+  public Duration getSlowCallDuration() {
+    return slowCallDuration;
+  }
+
+  public double getSlowCallRateThreshold() {
+    return slowCallRateThreshold;
+  }
+
+  /** Number of calls in a window below which an endpoint is not judged. */
+  public int getMinimumCalls() {
+    return minimumCalls;
+  }
+
+  public Duration getWindow() {
+    return window;
+  }
+
+  /** Time an unhealthy endpoint gets no traffic before a trial call is sent to it. */
+  public Duration getOpenDuration() {
+    return openDuration;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for FailoverOptions.
+   *
+   * <p>Lets setting `alternateEndpoints`, `errorRateThreshold`, `slowCallDuration`,
+   * `slowCallRateThreshold`, `minimumCalls`, `window` and `openDuration`. Options built with this
+   * builder have failover enabled, and need at least one alternate endpoint.
+   */
+  public static final class Builder {
+
+    private ImmutableList<String> alternateEndpoints = ImmutableList.of();
+    private double errorRateThreshold = DEFAULT_ERROR_RATE_THRESHOLD;
+    private Duration slowCallDuration = DEFAULT_SLOW_CALL_DURATION;
+    private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+    private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+    private Duration window = DEFAULT_WINDOW;
+    private Duration openDuration = DEFAULT_OPEN_DURATION;
+
+    private Builder() {}
+
+    private Builder(FailoverOptions options) {
+      alternateEndpoints = options.alternateEndpoints;
+      errorRateThreshold = options.errorRateThreshold;
+      slowCallDuration = options.slowCallDuration;
+      slowCallRateThreshold = options.slowCallRateThreshold;
+      minimumCalls = options.minimumCalls;
+      window = options.window;
+      openDuration = options.openDuration;
+    }
+
+    public Builder setAlternateEndpoints(List<String> alternateEndpoints) {
+      if (alternateEndpoints == null || alternateEndpoints.contains(null)) {
+        throw new IllegalArgumentException("Endpoints cannot be null");
+      }
+      this.alternateEndpoints = ImmutableList.copyOf(alternateEndpoints);
+      return this;
+    }
+
+    public Builder setErrorRateThreshold(double errorRateThreshold) {
+      if (!(errorRateThreshold > 0 && errorRateThreshold <= 1)) {
+        throw new IllegalArgumentException("Threshold must be between 0 and 1");
+      }
+      this.errorRateThreshold = errorRateThreshold;
+      return this;
+    }
+
+    public Builder setSlowCallDuration(Duration slowCallDuration) {
+      if (slowCallDuration == null || slowCallDuration.isNegative() || slowCallDuration.isZero()) {
+        throw new IllegalArgumentException("Duration must be positive");
+      }
+      this.slowCallDuration = slowCallDuration;
+      return this;
+    }
+
+    public Builder setSlowCallRateThreshold(double slowCallRateThreshold) {
+      if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+        throw new IllegalArgumentException("Threshold must be between 0 and 1");
+      }
+      this.slowCallRateThreshold = slowCallRateThreshold;
+      return this;
+    }
+
+    public Builder setMinimumCalls(int minimumCalls) {
+      if (minimumCalls <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.minimumCalls = minimumCalls;
+      return this;
+    }
+
+    public Builder setWindow(Duration window) {
+      if (window == null || window.isNegative() || window.isZero()) {
+        throw new IllegalArgumentException("Duration must be positive");
+      }
+      this.window = window;
+      return this;
+    }
+
+    public Builder setOpenDuration(Duration openDuration) {
+      if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+        throw new IllegalArgumentException("Duration must be positive");
+      }
+      this.openDuration = openDuration;
+      return this;
+    }
+
+    /**
+     * Builds the options.
+     *
+     * @throws IllegalArgumentException if no alternate endpoint is set
+     */
+    public FailoverOptions build() {
+      if (alternateEndpoints.isEmpty()) {
+        throw new IllegalArgumentException("At least one alternate endpoint is required");
+      }
+      return new FailoverOptions(true, this);
+    }
+  }
+}
@@ -0,0 +1,164 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides an immutable object for configuring fair queuing of OpenLineage run events across
+ * parents. FairQueueOptions object can be created via Builder.
+ *
+ * <p>Events are queued per parent, in the form of {@code projects/{project}/locations/{location}},
+ * and handed to the transport in weighted round-robin order, with at most `maxInFlight` calls
+ * started and not completed at a time. Events waiting for a rate limit token or a concurrency limit
+ * slot do not count. A parent with weight 3 gets three events sent per turn for every one of a
+ * parent with weight 1, whenever both have events waiting.
+ */
+public final class FairQueueOptions {
+
+  static final int DEFAULT_MAX_IN_FLIGHT = 100;
+  static final int DEFAULT_WEIGHT = 1;
+  static final int DEFAULT_MAX_QUEUE_SIZE = 10_000;
+
+  /**
+   * Disables fair queuing.
+   *
+   * @return The requested fair queuing options.
+   */
+  public static FairQueueOptions getDisabledInstance() {
+    return new FairQueueOptions(false, newBuilder());
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final int maxInFlight;
+  private final int defaultWeight;
+  private final ImmutableMap<String, Integer> weights;
+  private final int maxQueueSize;
+
+  private FairQueueOptions(boolean enabled, Builder builder) {
+    this.enabled = enabled;
+    this.maxInFlight = builder.maxInFlight;
+    this.defaultWeight = builder.defaultWeight;
+    this.weights = ImmutableMap.copyOf(builder.weights);
+    this.maxQueueSize = builder.maxQueueSize;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public int getDefaultWeight() {
+    return defaultWeight;
+  }
+
+  /** Weights of parents that do not use the default weight. */
+  public ImmutableMap<String, Integer> getWeights() {
+    return weights;
+  }
+
+  /** Returns the weight of a parent. */
+  public int getWeight(String parent) {
+    return weights.getOrDefault(parent, defaultWeight);
+  }
+
+  /** Largest number of events waiting for a single parent. */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for FairQueueOptions.
+   *
+   * <p>Lets setting `maxInFlight`, `defaultWeight`, `maxQueueSize` and weights of single parents.
+   * Options built with this builder have fair queuing enabled.
+   */
+  public static final class Builder {
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int defaultWeight = DEFAULT_WEIGHT;
+    private final Map<String, Integer> weights = new HashMap<>();
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+    private Builder() {}
+
+    private Builder(FairQueueOptions options) {
+      maxInFlight = options.maxInFlight;
+      defaultWeight = options.defaultWeight;
+      weights.putAll(options.weights);
+      maxQueueSize = options.maxQueueSize;
+    }
+
+    public Builder setMaxInFlight(int maxInFlight) {
+      if (maxInFlight <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxInFlight = maxInFlight;
+      return this;
+    }
+
+    public Builder setDefaultWeight(int defaultWeight) {
+      if (defaultWeight <= 0) {
+        throw new IllegalArgumentException("Weight must be positive");
+      }
+      this.defaultWeight = defaultWeight;
+      return this;
+    }
+
+    /**
+     * Sets the weight of a parent.
+     *
+     * @param parent parent of the events, in the form of {@code
+     *     projects/{project}/locations/{location}}
+     * @param weight number of events sent for the parent per turn
+     * @return this builder
+     */
+    public Builder setWeight(String parent, int weight) {
+      if (parent == null) {
+        throw new IllegalArgumentException("Parent cannot be null");
+      }
+      if (weight <= 0) {
+        throw new IllegalArgumentException("Weight must be positive");
+      }
+      weights.put(parent, weight);
+      return this;
+    }
+
+    public Builder setMaxQueueSize(int maxQueueSize) {
+      if (maxQueueSize < 0) {
+        throw new IllegalArgumentException("Size cannot be negative");
+      }
+      this.maxQueueSize = maxQueueSize;
+      return this;
+    }
+
+    public FairQueueOptions build() {
+      return new FairQueueOptions(true, this);
+    }
+  }
+}
@@ -0,0 +1,432 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.threeten.bp.Duration;
+
+/**
+ * Queues OpenLineage run events per parent and sends them in weighted round-robin order.
+ *
+ * <p>Up to `maxInFlight` events are sent right away. Further events wait in the queue of their
+ * parent, and every completed call lets the parent whose turn it is send its next event. A parent
+ * keeps its turn for as many events as its weight, so a parent that floods the client only delays
+ * its own events. Cancelling the future of a queued event drops it, and flow control can drop
+ * queued events through {@link OutstandingRequestLimiter.UnsentRequests}.
+ *
+ * <p>Only started calls count as in flight. An event that the sender defers, e.g. until its project
+ * gets a rate limit token, gives its place back until its call starts. Queued events are sent on
+ * the executor of the scheduler, never on the threads that complete calls.
+ *
+ * <p>This class is thread-safe.
+ */
+@Slf4j
+final class FairQueueScheduler
+    implements OpenLineageEventSender, OutstandingRequestLimiter.UnsentRequests {
+
+  private final FairQueueOptions options;
+  private final Sender sender;
+  private final Executor executor;
+  private final LongSupplier nanoTime;
+  private final Map<String, ParentQueue> queues = new HashMap<>();
+  // Parents with events waiting, in round-robin order. The first one has the turn.
+  private final ArrayDeque<ParentQueue> turns = new ArrayDeque<>();
+  // Queued events by the future handed out to their callers.
+  private final Map<ApiFuture<?>, Pending> pendingByResult = new IdentityHashMap<>();
+  private int inFlight;
+  private int queued;
+  private boolean draining;
+
+  FairQueueScheduler(FairQueueOptions options, Sender sender) {
+    this(
+        options,
+        sender,
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("lineage-fair-queue-%d")
+                .setDaemon(true)
+                .build()),
+        System::nanoTime);
+  }
+
+  FairQueueScheduler(
+      FairQueueOptions options, Sender sender, Executor executor, LongSupplier nanoTime) {
+    log.debug(
+        "Initializing fair queuing with max in flight: {}, default weight: {}, weights: {}, "
+            + "max queue size: {}",
+        options.getMaxInFlight(),
+        options.getDefaultWeight(),
+        options.getWeights(),
+        options.getMaxQueueSize());
+    this.options = options;
+    this.sender = sender;
+    this.executor = executor;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Sends an event once it has room and the turn.
+   *
+   * @return future of the call, or of its place in the queue
+   * @throws ApiException with RESOURCE_EXHAUSTED status code if the queue of the parent is full
+   */
+  @Override
+  public ApiFuture<ProcessOpenLineageRunEventResponse> send(
+      ProcessOpenLineageRunEventRequest request) {
+    Pending pending;
+    synchronized (this) {
+      if (!turns.isEmpty() || inFlight >= options.getMaxInFlight()) {
+        ParentQueue queue = queues.get(request.getParent());
+        int queueDepth = queue != null ? queue.pending.size() : 0;
+        if (queueDepth >= options.getMaxQueueSize()) {
+          throw ApiExceptionFactory.createException(
+              "Fair queue limit exceeded: "
+                  + queueDepth
+                  + " events queued for parent "
+                  + request.getParent(),
+              null,
+              GrpcHelper.getStatusCodeFromCode(Code.RESOURCE_EXHAUSTED),
+              false);
+        }
+        if (queue == null) {
+          queue = new ParentQueue(request.getParent());
+          queues.put(queue.parent, queue);
+          turns.add(queue);
+        }
+        pending = new Pending(queue, request, nanoTime.getAsLong());
+        queue.pending.add(pending);
+        pendingByResult.put(pending.result, pending);
+        queued++;
+      } else {
+        inFlight++;
+        pending = null;
+      }
+    }
+    if (pending == null) {
+      return start(request);
+    }
+    // A cancelled event leaves the queue right away, so it no longer takes a place in it.
+    pending.result.addListener(
+        () -> {
+          if (pending.result.isCancelled()) {
+            drop(pending.result);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return pending.result;
+  }
+
+  @Override
+  public synchronized boolean isUnsent(ApiFuture<?> future) {
+    return pendingByResult.containsKey(future);
+  }
+
+  @Override
+  public synchronized boolean drop(ApiFuture<?> future) {
+    Pending pending = pendingByResult.remove(future);
+    if (pending == null) {
+      return false;
+    }
+    ParentQueue queue = pending.queue;
+    queue.pending.remove(pending);
+    queued--;
+    if (queue.pending.isEmpty()) {
+      turns.remove(queue);
+      queues.remove(queue.parent);
+    }
+    if (queued == 0) {
+      notifyAll();
+    }
+    return true;
+  }
+
+  synchronized FairQueueStats getStats() {
+    long now = nanoTime.getAsLong();
+    ImmutableMap.Builder<String, FairQueueStats.QueueStats> queueStats = ImmutableMap.builder();
+    for (ParentQueue queue : turns) {
+      queueStats.put(
+          queue.parent,
+          new FairQueueStats.QueueStats(
+              queue.pending.size(),
+              Duration.ofNanos(now - queue.pending.peek().enqueuedNanos),
+              Duration.ofNanos(queue.sentCount == 0 ? 0 : queue.waitNanos / queue.sentCount),
+              queue.sentCount));
+    }
+    return new FairQueueStats(inFlight, queued, queueStats.build());
+  }
+
+  /**
+   * Waits until all queued events are handed to the transport.
+   *
+   * @return {@code true} if no events are queued anymore, {@code false} if the timeout elapsed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  synchronized boolean awaitQueued(long timeout, TimeUnit unit) throws InterruptedException {
+    long startNanos = System.nanoTime();
+    long timeoutNanos = unit.toNanos(timeout);
+    while (queued > 0) {
+      long remainingNanos = timeoutNanos - (System.nanoTime() - startNanos);
+      if (remainingNanos <= 0) {
+        log.warn("Fair queue did not send {} queued events within {} {}", queued, timeout, unit);
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+    }
+    return true;
+  }
+
+  /** Stops sending queued events and fails them with CANCELLED. */
+  void close() {
+    if (executor instanceof ExecutorService) {
+      ((ExecutorService) executor).shutdownNow();
+    }
+    List<Pending> cancelled;
+    synchronized (this) {
+      cancelled = new ArrayList<>(pendingByResult.values());
+      pendingByResult.clear();
+      queues.clear();
+      turns.clear();
+      queued = 0;
+      notifyAll();
+    }
+    for (Pending pending : cancelled) {
+      pending.result.setException(
+          ApiExceptionFactory.createException(
+              "Client was shut down before the event was sent",
+              null,
+              GrpcHelper.getStatusCodeFromCode(Code.CANCELLED),
+              false));
+    }
+  }
+
+  /** Hands an event to the sender, with a place in flight already taken for it. */
+  private ApiFuture<ProcessOpenLineageRunEventResponse> start(
+      ProcessOpenLineageRunEventRequest request) {
+    Slot slot = new Slot();
+    ApiFuture<ProcessOpenLineageRunEventResponse> result;
+    try {
+      result = sender.send(request, slot::onStart);
+    } catch (RuntimeException e) {
+      slot.release();
+      throw e;
+    }
+    slot.onHandedOff();
+    result.addListener(slot::release, MoreExecutors.directExecutor());
+    return result;
+  }
+
+  /** Sends queued events on the executor, unless it is already doing so. */
+  private void scheduleDrain() {
+    synchronized (this) {
+      if (draining || turns.isEmpty()) {
+        // The thread that drains the queues picks up the room made meanwhile.
+        return;
+      }
+      draining = true;
+    }
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      // The scheduler is closed, queued events were cancelled.
+      synchronized (this) {
+        draining = false;
+      }
+    }
+  }
+
+  private void drain() {
+    while (true) {
+      Pending next;
+      synchronized (this) {
+        next = inFlight < options.getMaxInFlight() ? poll(nanoTime.getAsLong()) : null;
+        if (next == null) {
+          draining = false;
+          return;
+        }
+        inFlight++;
+      }
+      next.start();
+    }
+  }
+
+  /** Takes the next event of the parent that has the turn, skipping cancelled ones. */
+  private Pending poll(long now) {
+    while (!turns.isEmpty()) {
+      ParentQueue queue = turns.peek();
+      Pending next = queue.pending.poll();
+      pendingByResult.remove(next.result);
+      queued--;
+      boolean cancelled = next.result.isCancelled();
+      if (!cancelled) {
+        queue.credit--;
+        queue.sentCount++;
+        queue.waitNanos += now - next.enqueuedNanos;
+      }
+      if (queue.pending.isEmpty()) {
+        turns.poll();
+        queues.remove(queue.parent);
+      } else if (queue.credit == 0) {
+        queue.credit = queue.weight;
+        turns.add(turns.poll());
+      }
+      if (queued == 0) {
+        notifyAll();
+      }
+      if (!cancelled) {
+        return next;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Place of an event in flight. It is taken when the event is handed to the sender, given back
+   * while the sender holds the event before starting its call, and taken again once the call
+   * starts.
+   */
+  private final class Slot {
+    private boolean held = true;
+    private boolean started;
+    private boolean released;
+
+    private void onStart() {
+      synchronized (FairQueueScheduler.this) {
+        started = true;
+        if (!held && !released) {
+          held = true;
+          inFlight++;
+        }
+      }
+    }
+
+    private void onHandedOff() {
+      synchronized (FairQueueScheduler.this) {
+        if (started || !held) {
+          return;
+        }
+        held = false;
+        inFlight--;
+      }
+      scheduleDrain();
+    }
+
+    private void release() {
+      synchronized (FairQueueScheduler.this) {
+        released = true;
+        if (!held) {
+          return;
+        }
+        held = false;
+        inFlight--;
+      }
+      scheduleDrain();
+    }
+  }
+
+  private final class ParentQueue {
+    private final String parent;
+    private final int weight;
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+    // Events the parent can still send in its current turn.
+    private int credit;
+    private long sentCount;
+    private long waitNanos;
+
+    private ParentQueue(String parent) {
+      this.parent = parent;
+      this.weight = options.getWeight(parent);
+      this.credit = weight;
+    }
+  }
+
+  /** Event waiting in a queue, with the future handed out to its caller. */
+  private final class Pending {
+    private final ParentQueue queue;
+    private final ProcessOpenLineageRunEventRequest request;
+    private final long enqueuedNanos;
+    private final SettableApiFuture<ProcessOpenLineageRunEventResponse> result =
+        SettableApiFuture.create();
+
+    private Pending(
+        ParentQueue queue, ProcessOpenLineageRunEventRequest request, long enqueuedNanos) {
+      this.queue = queue;
+      this.request = request;
+      this.enqueuedNanos = enqueuedNanos;
+    }
+
+    private void start() {
+      ApiFuture<ProcessOpenLineageRunEventResponse> started;
+      try {
+        started = FairQueueScheduler.this.start(request);
+      } catch (RuntimeException e) {
+        result.setException(e);
+        return;
+      }
+      result.addListener(
+          () -> {
+            if (result.isCancelled()) {
+              started.cancel(true);
+            }
+          },
+          MoreExecutors.directExecutor());
+      ApiFutures.addCallback(
+          started,
+          new ApiFutureCallback<ProcessOpenLineageRunEventResponse>() {
+            @Override
+            public void onFailure(Throwable t) {
+              result.setException(t);
+            }
+
+            @Override
+            public void onSuccess(ProcessOpenLineageRunEventResponse response) {
+              result.set(response);
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+  }
+
+  /** Sends an event, and runs {@code onStart} when its call is started. */
+  @FunctionalInterface
+  interface Sender {
+    ApiFuture<ProcessOpenLineageRunEventResponse> send(
+        ProcessOpenLineageRunEventRequest request, Runnable onStart);
+  }
+}
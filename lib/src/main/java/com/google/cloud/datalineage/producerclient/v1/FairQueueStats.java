@@ -0,0 +1,113 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.common.collect.ImmutableMap;
+import org.threeten.bp.Duration;
+
+/**
+ * Point-in-time snapshot of the fair queuing state of a client.
+ *
+ * <p>All values are zero and there are no queues when fair queuing is disabled.
+ */
+public final class FairQueueStats {
+
+  static final FairQueueStats EMPTY = new FairQueueStats(0, 0, ImmutableMap.of());
+
+  private final int inFlightCount;
+  private final int queuedCount;
+  private final ImmutableMap<String, QueueStats> queues;
+
+  FairQueueStats(int inFlightCount, int queuedCount, ImmutableMap<String, QueueStats> queues) {
+    this.inFlightCount = inFlightCount;
+    this.queuedCount = queuedCount;
+    this.queues = queues;
+  }
+
+  /** Number of events whose calls were started and have not completed yet. */
+  public int getInFlightCount() {
+    return inFlightCount;
+  }
+
+  /** Number of events waiting in all queues. */
+  public int getQueuedCount() {
+    return queuedCount;
+  }
+
+  /** Queues of parents with events waiting, keyed by parent, in the order of their next turn. */
+  public ImmutableMap<String, QueueStats> getQueues() {
+    return queues;
+  }
+
+  @Override
+  public String toString() {
+    return "FairQueueStats{inFlightCount="
+        + inFlightCount
+        + ", queuedCount="
+        + queuedCount
+        + ", queues="
+        + queues
+        + "}";
+  }
+
+  /** Snapshot of the queue of a single parent. */
+  public static final class QueueStats {
+
+    private final int queueDepth;
+    private final Duration oldestWaitTime;
+    private final Duration averageWaitTime;
+    private final long sentCount;
+
+    QueueStats(int queueDepth, Duration oldestWaitTime, Duration averageWaitTime, long sentCount) {
+      this.queueDepth = queueDepth;
+      this.oldestWaitTime = oldestWaitTime;
+      this.averageWaitTime = averageWaitTime;
+      this.sentCount = sentCount;
+    }
+
+    /** Number of events waiting for the parent. */
+    public int getQueueDepth() {
+      return queueDepth;
+    }
+
+    /** Time the first event in the queue has been waiting for. */
+    public Duration getOldestWaitTime() {
+      return oldestWaitTime;
+    }
+
+    /** Average time spent in the queue by events sent since the queue was last empty. */
+    public Duration getAverageWaitTime() {
+      return averageWaitTime;
+    }
+
+    /** Number of events sent from the queue since it was last empty. */
+    public long getSentCount() {
+      return sentCount;
+    }
+
+    @Override
+    public String toString() {
+      return "QueueStats{queueDepth="
+          + queueDepth
+          + ", oldestWaitTime="
+          + oldestWaitTime
+          + ", averageWaitTime="
+          + averageWaitTime
+          + ", sentCount="
+          + sentCount
+          + "}";
+    }
+  }
+}
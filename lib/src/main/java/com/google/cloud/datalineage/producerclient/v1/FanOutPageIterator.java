@@ -0,0 +1,374 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.paging.Page;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.ApiExceptions;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListLineageEventsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListProcessesPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListRunsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageEvent;
+import com.google.cloud.datacatalog.lineage.v1.ListLineageEventsRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListProcessesRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListRunsRequest;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Iterates over the resources listed under many parents, listing up to `concurrency` parents at a
+ * time and merging their pages in the order they arrive.
+ *
+ * <p>Every parent is listed from its first page. Each parent requests its next page as soon as the
+ * previous one arrives, until `concurrency * prefetchDepth` pages wait to be consumed. Parents in
+ * projects known to have the API or lineage ingestion disabled are skipped without a call, as are
+ * parents whose list call fails because their project turns out to be disabled. Any other failure
+ * cancels the remaining calls and is thrown as an {@link com.google.api.gax.rpc.ApiException} from
+ * {@link #hasNext()} once the pages fetched before it are consumed.
+ *
+ * <p>Iteration must happen on one thread at a time, pages are fetched in the background. Closing
+ * the iterator cancels the calls in flight.
+ *
+ * @param <ResourceT> type of the listed resources
+ */
+@Slf4j
+public final class FanOutPageIterator<ResourceT> implements Iterator<ResourceT>, AutoCloseable {
+
+  static FanOutPageIterator<Process> forProcesses(
+      Collection<String> parents,
+      int concurrency,
+      PrefetchOptions options,
+      Function<ListProcessesRequest, ApiFuture<ListProcessesPagedResponse>> list,
+      Predicate<String> disabled) {
+    return new FanOutPageIterator<>(
+        parents,
+        parent ->
+            PageFetcher.forProcesses(
+                ListProcessesRequest.newBuilder().setParent(parent).build(), list),
+        disabled,
+        concurrency,
+        options);
+  }
+
+  static FanOutPageIterator<Run> forRuns(
+      Collection<String> parents,
+      int concurrency,
+      PrefetchOptions options,
+      Function<ListRunsRequest, ApiFuture<ListRunsPagedResponse>> list,
+      Predicate<String> disabled) {
+    return new FanOutPageIterator<>(
+        parents,
+        parent -> PageFetcher.forRuns(ListRunsRequest.newBuilder().setParent(parent).build(), list),
+        disabled,
+        concurrency,
+        options);
+  }
+
+  static FanOutPageIterator<LineageEvent> forLineageEvents(
+      Collection<String> parents,
+      int concurrency,
+      PrefetchOptions options,
+      Function<ListLineageEventsRequest, ApiFuture<ListLineageEventsPagedResponse>> list,
+      Predicate<String> disabled) {
+    return new FanOutPageIterator<>(
+        parents,
+        parent ->
+            PageFetcher.forLineageEvents(
+                ListLineageEventsRequest.newBuilder().setParent(parent).build(), list),
+        disabled,
+        concurrency,
+        options);
+  }
+
+  private final Function<String, PageFetcher<ResourceT>> fetchers;
+  private final Predicate<String> disabled;
+  private final int concurrency;
+  private final int pageSize;
+  private final int maxBufferedPages;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final ArrayDeque<String> pendingParents;
+  private final ArrayDeque<Iterable<ResourceT>> pages = new ArrayDeque<>();
+  // Next page requests of parents that wait for the consumer to make room.
+  private final ArrayDeque<Runnable> stalled = new ArrayDeque<>();
+  private final Set<ApiFuture<?>> inFlight = new HashSet<>();
+  private int activeParents;
+  private int skippedParents;
+  @Nullable private ApiFuture<?> failure;
+  private boolean closed;
+  private Iterator<ResourceT> current = Collections.emptyIterator();
+
+  /**
+   * Starts listing the first parents.
+   *
+   * @param parents parents to list, duplicates are listed once
+   * @param fetchers creates the page fetcher of a parent
+   * @param disabled tells whether a parent belongs to a project known to be disabled
+   * @param concurrency number of parents listed at a time
+   * @param options prefetch depth per parent, pages are requested with the maximum page size
+   * @throws IllegalArgumentException if the concurrency is not positive
+   */
+  FanOutPageIterator(
+      Collection<String> parents,
+      Function<String, PageFetcher<ResourceT>> fetchers,
+      Predicate<String> disabled,
+      int concurrency,
+      PrefetchOptions options) {
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("Concurrency must be positive");
+    }
+    this.fetchers = fetchers;
+    this.disabled = disabled;
+    this.concurrency = concurrency;
+    this.pageSize = options.getMaxPageSize();
+    this.maxBufferedPages = concurrency * options.getPrefetchDepth();
+    this.pendingParents = new ArrayDeque<>(new LinkedHashSet<>(parents));
+    List<Runnable> fetches = new ArrayList<>();
+    lock.lock();
+    try {
+      startParents(fetches);
+    } finally {
+      lock.unlock();
+    }
+    fetches.forEach(Runnable::run);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext()) {
+      Iterable<ResourceT> values;
+      Runnable resumed;
+      lock.lock();
+      try {
+        awaitPage();
+        if (pages.isEmpty()) {
+          if (failure != null) {
+            ApiExceptions.callAndTranslateApiException(failure);
+          }
+          return false;
+        }
+        values = pages.poll();
+        resumed = stalled.poll();
+      } finally {
+        lock.unlock();
+      }
+      if (resumed != null) {
+        resumed.run();
+      }
+      current = values.iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public ResourceT next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /** Stops listing and cancels the calls in flight. */
+  @Override
+  public void close() {
+    List<ApiFuture<?>> toCancel;
+    lock.lock();
+    try {
+      closed = true;
+      pendingParents.clear();
+      stalled.clear();
+      pages.clear();
+      toCancel = new ArrayList<>(inFlight);
+      inFlight.clear();
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    toCancel.forEach(call -> call.cancel(true));
+  }
+
+  /** Returns the number of parents skipped so far because their project is disabled. */
+  public int getSkippedParentCount() {
+    lock.lock();
+    try {
+      return skippedParents;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void awaitPage() {
+    try {
+      while (pages.isEmpty()
+          && failure == null
+          && !closed
+          && (activeParents > 0 || !pendingParents.isEmpty())) {
+        changed.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw ApiExceptionFactory.createException(
+          "Interrupted while waiting for list results",
+          e,
+          GrpcHelper.getStatusCodeFromCode(Code.CANCELLED),
+          false);
+    }
+  }
+
+  private boolean isDisabled(String parent) {
+    try {
+      return disabled.test(parent);
+    } catch (IllegalArgumentException e) {
+      // Not a valid resource name, the list call fails with a proper error.
+      return false;
+    }
+  }
+
+  /** Picks parents to list while there is room, the fetches are run after the lock is released. */
+  private void startParents(List<Runnable> fetches) {
+    while (activeParents < concurrency && failure == null && !closed) {
+      String parent = pendingParents.poll();
+      if (parent == null) {
+        return;
+      }
+      if (isDisabled(parent)) {
+        log.debug("Skipping parent {} of a project with Data Lineage disabled", parent);
+        skippedParents++;
+        continue;
+      }
+      activeParents++;
+      PageFetcher<ResourceT> fetcher = fetchers.apply(parent);
+      fetches.add(() -> fetch(parent, fetcher, ""));
+    }
+  }
+
+  private void fetch(String parent, PageFetcher<ResourceT> fetcher, String pageToken) {
+    ApiFuture<Page<ResourceT>> page;
+    try {
+      page = fetcher.fetch(pageToken, pageSize);
+    } catch (RuntimeException e) {
+      page = ApiFutures.immediateFailedFuture(e);
+    }
+    lock.lock();
+    try {
+      if (closed) {
+        page.cancel(true);
+        return;
+      }
+      inFlight.add(page);
+    } finally {
+      lock.unlock();
+    }
+    ApiFuture<Page<ResourceT>> call = page;
+    ApiFutures.addCallback(
+        page,
+        new ApiFutureCallback<Page<ResourceT>>() {
+          @Override
+          public void onFailure(Throwable t) {
+            onPageFailed(parent, call);
+          }
+
+          @Override
+          public void onSuccess(Page<ResourceT> fetched) {
+            onPage(parent, fetcher, call, fetched);
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private void onPage(
+      String parent,
+      PageFetcher<ResourceT> fetcher,
+      ApiFuture<Page<ResourceT>> call,
+      Page<ResourceT> fetched) {
+    List<Runnable> fetches = new ArrayList<>();
+    lock.lock();
+    try {
+      if (!inFlight.remove(call)) {
+        return;
+      }
+      if (fetched.getValues().iterator().hasNext()) {
+        pages.add(fetched.getValues());
+      }
+      if (fetched.hasNextPage()) {
+        String pageToken = fetched.getNextPageToken();
+        Runnable next = () -> fetch(parent, fetcher, pageToken);
+        if (pages.size() < maxBufferedPages) {
+          fetches.add(next);
+        } else {
+          stalled.add(next);
+        }
+      } else {
+        activeParents--;
+        startParents(fetches);
+      }
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    fetches.forEach(Runnable::run);
+  }
+
+  private void onPageFailed(String parent, ApiFuture<Page<ResourceT>> call) {
+    List<Runnable> fetches = new ArrayList<>();
+    List<ApiFuture<?>> toCancel = new ArrayList<>();
+    lock.lock();
+    try {
+      if (!inFlight.remove(call)) {
+        return;
+      }
+      activeParents--;
+      if (isDisabled(parent)) {
+        // The call found out that the project is disabled and marked it so.
+        log.debug("Skipping parent {} of a project with Data Lineage disabled", parent);
+        skippedParents++;
+        startParents(fetches);
+      } else if (failure == null) {
+        failure = call;
+        pendingParents.clear();
+        stalled.clear();
+        toCancel.addAll(inFlight);
+        inFlight.clear();
+      }
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    toCancel.forEach(pending -> pending.cancel(true));
+    fetches.forEach(Runnable::run);
+  }
+}
@@ -0,0 +1,153 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+/**
+ * Provides an immutable object for configuring flow control of outstanding requests.
+ * FlowControlOptions object can be created via Builder.
+ */
+public final class FlowControlOptions {
+
+  /** Describes what happens to a request that would exceed the flow control limits. */
+  public enum LimitExceededBehavior {
+    /**
+     * The calling thread waits until enough outstanding requests complete. Calls that the client
+     * makes on its own, such as page prefetches and events sent by subscribers, wait on threads of
+     * the client. Calls made from callbacks that run on transport threads, such as listeners of
+     * client futures added with a direct executor, block those threads, and the calls they wait for
+     * may need them to complete. Make such calls from an executor of the application, or use
+     * another behavior.
+     */
+    BLOCK,
+    /** The call throws an ApiException with RESOURCE_EXHAUSTED status code. */
+    FAIL_FAST,
+    /**
+     * The oldest requests that are not sent yet are dropped to make room for the new one, and their
+     * futures are cancelled. Only OpenLineage run events waiting in fair queues are not sent yet.
+     * Requests already sent are never dropped, because the server would still handle them. If
+     * dropping does not make enough room, the new request is rejected as with FAIL_FAST. Requires
+     * fair queuing, settings of a client without it are rejected.
+     */
+    DROP_OLDEST
+  }
+
+  static final long DEFAULT_MAX_OUTSTANDING_REQUEST_COUNT = 1000;
+  static final long DEFAULT_MAX_OUTSTANDING_REQUEST_BYTES = 100L * 1024L * 1024L;
+  static final LimitExceededBehavior DEFAULT_LIMIT_EXCEEDED_BEHAVIOR = LimitExceededBehavior.BLOCK;
+
+  /**
+   * Disables flow control.
+   *
+   * @return The requested flow control options.
+   */
+  public static FlowControlOptions getDisabledInstance() {
+    return new FlowControlOptions(
+        false,
+        DEFAULT_MAX_OUTSTANDING_REQUEST_COUNT,
+        DEFAULT_MAX_OUTSTANDING_REQUEST_BYTES,
+        DEFAULT_LIMIT_EXCEEDED_BEHAVIOR);
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final long maxOutstandingRequestCount;
+  private final long maxOutstandingRequestBytes;
+  private final LimitExceededBehavior limitExceededBehavior;
+
+  private FlowControlOptions(
+      boolean enabled,
+      long maxOutstandingRequestCount,
+      long maxOutstandingRequestBytes,
+      LimitExceededBehavior limitExceededBehavior) {
+    this.enabled = enabled;
+    this.maxOutstandingRequestCount = maxOutstandingRequestCount;
+    this.maxOutstandingRequestBytes = maxOutstandingRequestBytes;
+    this.limitExceededBehavior = limitExceededBehavior;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  public long getMaxOutstandingRequestCount() {
+    return maxOutstandingRequestCount;
+  }
+
+  public long getMaxOutstandingRequestBytes() {
+    return maxOutstandingRequestBytes;
+  }
+
+  public LimitExceededBehavior getLimitExceededBehavior() {
+    return limitExceededBehavior;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for FlowControlOptions.
+   *
+   * <p>Lets setting `maxOutstandingRequestCount`, `maxOutstandingRequestBytes` and
+   * `limitExceededBehavior`. Options built with this builder have flow control enabled. A single
+   * request larger than `maxOutstandingRequestBytes` is admitted when nothing else is outstanding.
+   */
+  public static final class Builder {
+
+    private long maxOutstandingRequestCount = DEFAULT_MAX_OUTSTANDING_REQUEST_COUNT;
+    private long maxOutstandingRequestBytes = DEFAULT_MAX_OUTSTANDING_REQUEST_BYTES;
+    private LimitExceededBehavior limitExceededBehavior = DEFAULT_LIMIT_EXCEEDED_BEHAVIOR;
+
+    private Builder() {}
+
+    private Builder(FlowControlOptions options) {
+      maxOutstandingRequestCount = options.maxOutstandingRequestCount;
+      maxOutstandingRequestBytes = options.maxOutstandingRequestBytes;
+      limitExceededBehavior = options.limitExceededBehavior;
+    }
+
+    public Builder setMaxOutstandingRequestCount(long maxOutstandingRequestCount) {
+      if (maxOutstandingRequestCount <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxOutstandingRequestCount = maxOutstandingRequestCount;
+      return this;
+    }
+
+    public Builder setMaxOutstandingRequestBytes(long maxOutstandingRequestBytes) {
+      if (maxOutstandingRequestBytes <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxOutstandingRequestBytes = maxOutstandingRequestBytes;
+      return this;
+    }
+
+    public Builder setLimitExceededBehavior(LimitExceededBehavior limitExceededBehavior) {
+      if (limitExceededBehavior == null) {
+        throw new IllegalArgumentException("Behavior cannot be null");
+      }
+      this.limitExceededBehavior = limitExceededBehavior;
+      return this;
+    }
+
+    public FlowControlOptions build() {
+      return new FlowControlOptions(
+          true, maxOutstandingRequestCount, maxOutstandingRequestBytes, limitExceededBehavior);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+/**
+ * Point-in-time snapshot of the flow control state of a client.
+ *
+ * <p>All values are zero when flow control is disabled.
+ */
+public final class FlowControlStats {
+
+  static final FlowControlStats EMPTY = new FlowControlStats(0, 0, 0, 0);
+
+  private final long outstandingRequestCount;
+  private final long outstandingRequestBytes;
+  private final long limitExceededCount;
+  private final long droppedRequestCount;
+
+  FlowControlStats(
+      long outstandingRequestCount,
+      long outstandingRequestBytes,
+      long limitExceededCount,
+      long droppedRequestCount) {
+    this.outstandingRequestCount = outstandingRequestCount;
+    this.outstandingRequestBytes = outstandingRequestBytes;
+    this.limitExceededCount = limitExceededCount;
+    this.droppedRequestCount = droppedRequestCount;
+  }
+
+  /** Number of requests that were sent and have not completed yet. */
+  public long getOutstandingRequestCount() {
+    return outstandingRequestCount;
+  }
+
+  /** Serialized size of requests that were sent and have not completed yet. */
+  public long getOutstandingRequestBytes() {
+    return outstandingRequestBytes;
+  }
+
+  /** Number of requests that hit the limit, whatever the configured behavior. */
+  public long getLimitExceededCount() {
+    return limitExceededCount;
+  }
+
+  /** Number of requests dropped before they were sent, to make room for newer ones. */
+  public long getDroppedRequestCount() {
+    return droppedRequestCount;
+  }
+
+  @Override
+  public String toString() {
+    return "FlowControlStats{outstandingRequestCount="
+        + outstandingRequestCount
+        + ", outstandingRequestBytes="
+        + outstandingRequestBytes
+        + ", limitExceededCount="
+        + limitExceededCount
+        + ", droppedRequestCount="
+        + droppedRequestCount
+        + "}";
+  }
+}
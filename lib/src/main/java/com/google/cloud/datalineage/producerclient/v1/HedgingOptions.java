@@ -0,0 +1,131 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import org.threeten.bp.Duration;
+
+/**
+ * Provides an immutable object for configuring hedging of getProcess, getRun and getLineageEvent.
+ * HedgingOptions object can be created via Builder.
+ *
+ * <p>When a read has not completed after the `percentile` latency of recent reads, and never
+ * earlier than `minDelay`, a second attempt is sent. The first attempt to succeed wins and the
+ * other one is cancelled. Every read adds `budgetRatio` of a token to the hedging budget, and a
+ * second attempt is only sent when a whole token is available, so hedging adds at most that share
+ * of reads.
+ */
+public final class HedgingOptions {
+
+  static final double DEFAULT_PERCENTILE = 95;
+  static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10);
+  static final double DEFAULT_BUDGET_RATIO = 0.05;
+
+  /**
+   * Disables hedging.
+   *
+   * @return The requested hedging options.
+   */
+  public static HedgingOptions getDisabledInstance() {
+    return new HedgingOptions(false, newBuilder());
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final double percentile;
+  private final Duration minDelay;
+  private final double budgetRatio;
+
+  private HedgingOptions(boolean enabled, Builder builder) {
+    this.enabled = enabled;
+    this.percentile = builder.percentile;
+    this.minDelay = builder.minDelay;
+    this.budgetRatio = builder.budgetRatio;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  /** Percentile of recent read latencies after which a second attempt is sent. */
+  public double getPercentile() {
+    return percentile;
+  }
+
+  /** Shortest time a read waits before a second attempt is sent. */
+  public Duration getMinDelay() {
+    return minDelay;
+  }
+
+  /** Share of reads that may get a second attempt. */
+  public double getBudgetRatio() {
+    return budgetRatio;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for HedgingOptions.
+   *
+   * <p>Lets setting `percentile`, `minDelay` and `budgetRatio`. Options built with this builder
+   * have hedging enabled.
+   */
+  public static final class Builder {
+
+    private double percentile = DEFAULT_PERCENTILE;
+    private Duration minDelay = DEFAULT_MIN_DELAY;
+    private double budgetRatio = DEFAULT_BUDGET_RATIO;
+
+    private Builder() {}
+
+    private Builder(HedgingOptions options) {
+      percentile = options.percentile;
+      minDelay = options.minDelay;
+      budgetRatio = options.budgetRatio;
+    }
+
+    public Builder setPercentile(double percentile) {
+      if (!(percentile > 0 && percentile < 100)) {
+        throw new IllegalArgumentException("Percentile must be between 0 and 100");
+      }
+      this.percentile = percentile;
+      return this;
+    }
+
+    public Builder setMinDelay(Duration minDelay) {
+      if (minDelay == null || minDelay.isNegative()) {
+        throw new IllegalArgumentException("Duration cannot be negative");
+      }
+      this.minDelay = minDelay;
+      return this;
+    }
+
+    public Builder setBudgetRatio(double budgetRatio) {
+      if (!(budgetRatio > 0 && budgetRatio <= 1)) {
+        throw new IllegalArgumentException("Budget ratio must be between 0 and 1");
+      }
+      this.budgetRatio = budgetRatio;
+      return this;
+    }
+
+    public HedgingOptions build() {
+      return new HedgingOptions(true, this);
+    }
+  }
+}
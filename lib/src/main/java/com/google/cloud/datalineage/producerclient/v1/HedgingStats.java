@@ -0,0 +1,70 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+/**
+ * Point-in-time snapshot of hedged reads of a client.
+ *
+ * <p>All values are zero when hedging is disabled.
+ */
+public final class HedgingStats {
+
+  static final HedgingStats EMPTY = new HedgingStats(0, 0, 0, 0);
+
+  private final long callCount;
+  private final long hedgeCount;
+  private final long hedgeWinCount;
+  private final long budgetExhaustedCount;
+
+  HedgingStats(long callCount, long hedgeCount, long hedgeWinCount, long budgetExhaustedCount) {
+    this.callCount = callCount;
+    this.hedgeCount = hedgeCount;
+    this.hedgeWinCount = hedgeWinCount;
+    this.budgetExhaustedCount = budgetExhaustedCount;
+  }
+
+  /** Number of reads made with hedging. */
+  public long getCallCount() {
+    return callCount;
+  }
+
+  /** Number of second attempts sent. */
+  public long getHedgeCount() {
+    return hedgeCount;
+  }
+
+  /** Number of reads completed by their second attempt. */
+  public long getHedgeWinCount() {
+    return hedgeWinCount;
+  }
+
+  /** Number of second attempts not sent because the hedging budget was used up. */
+  public long getBudgetExhaustedCount() {
+    return budgetExhaustedCount;
+  }
+
+  @Override
+  public String toString() {
+    return "HedgingStats{callCount="
+        + callCount
+        + ", hedgeCount="
+        + hedgeCount
+        + ", hedgeWinCount="
+        + hedgeWinCount
+        + ", budgetExhaustedCount="
+        + budgetExhaustedCount
+        + "}";
+  }
+}
@@ -0,0 +1,96 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import org.threeten.bp.Duration;
+
+/**
+ * Point-in-time snapshot of attempts made to send OpenLineage run events.
+ *
+ * <p>All values are zero when ingestion retries are disabled.
+ */
+public final class IngestionAttemptStats {
+
+  static final IngestionAttemptStats EMPTY = new IngestionAttemptStats(0, 0, 0, 0, 0, 0);
+
+  private final long attemptCount;
+  private final long retryCount;
+  private final long failedAttemptCount;
+  private final long retriesExhaustedCount;
+  private final long permanentFailureCount;
+  private final long totalAttemptLatencyNanos;
+
+  IngestionAttemptStats(
+      long attemptCount,
+      long retryCount,
+      long failedAttemptCount,
+      long retriesExhaustedCount,
+      long permanentFailureCount,
+      long totalAttemptLatencyNanos) {
+    this.attemptCount = attemptCount;
+    this.retryCount = retryCount;
+    this.failedAttemptCount = failedAttemptCount;
+    this.retriesExhaustedCount = retriesExhaustedCount;
+    this.permanentFailureCount = permanentFailureCount;
+    this.totalAttemptLatencyNanos = totalAttemptLatencyNanos;
+  }
+
+  /** Number of attempts started, including the first attempt of every call. */
+  public long getAttemptCount() {
+    return attemptCount;
+  }
+
+  /** Number of attempts started after a failed attempt of the same call. */
+  public long getRetryCount() {
+    return retryCount;
+  }
+
+  /** Number of attempts that failed, whether they were retried or not. */
+  public long getFailedAttemptCount() {
+    return failedAttemptCount;
+  }
+
+  /** Number of calls that failed because the retry settings did not allow another attempt. */
+  public long getRetriesExhaustedCount() {
+    return retriesExhaustedCount;
+  }
+
+  /** Number of calls that failed with an error that is not retryable. */
+  public long getPermanentFailureCount() {
+    return permanentFailureCount;
+  }
+
+  /** Time spent in completed attempts, excluding delays between them. */
+  public Duration getTotalAttemptLatency() {
+    return Duration.ofNanos(totalAttemptLatencyNanos);
+  }
+
+  @Override
+  public String toString() {
+    return "IngestionAttemptStats{attemptCount="
+        + attemptCount
+        + ", retryCount="
+        + retryCount
+        + ", failedAttemptCount="
+        + failedAttemptCount
+        + ", retriesExhaustedCount="
+        + retriesExhaustedCount
+        + ", permanentFailureCount="
+        + permanentFailureCount
+        + ", totalAttemptLatency="
+        + getTotalAttemptLatency()
+        + "}";
+  }
+}
@@ -0,0 +1,185 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.gax.tracing.ApiTracer;
+import com.google.api.gax.tracing.ApiTracerFactory;
+import com.google.api.gax.tracing.BaseApiTracer;
+import com.google.api.gax.tracing.SpanName;
+import java.util.concurrent.atomic.LongAdder;
+import org.threeten.bp.Duration;
+
+/**
+ * Counts attempts of processOpenLineageRunEvent calls.
+ *
+ * <p>Tracers of other methods are created by the wrapped factory only, and tracers of
+ * processOpenLineageRunEvent forward every event to a tracer of the wrapped factory. This class is
+ * thread-safe.
+ */
+final class IngestionAttemptTracerFactory implements ApiTracerFactory {
+
+  static final String METHOD_NAME = "ProcessOpenLineageRunEvent";
+
+  private final ApiTracerFactory delegate;
+  private final LongAdder attempts = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder failedAttempts = new LongAdder();
+  private final LongAdder retriesExhausted = new LongAdder();
+  private final LongAdder permanentFailures = new LongAdder();
+  private final LongAdder attemptLatencyNanos = new LongAdder();
+
+  IngestionAttemptTracerFactory(ApiTracerFactory delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public ApiTracer newTracer(ApiTracer parent, SpanName spanName, OperationType operationType) {
+    ApiTracer tracer = delegate.newTracer(parent, spanName, operationType);
+    if (!METHOD_NAME.equals(spanName.getMethodName())) {
+      return tracer;
+    }
+    return new AttemptTracer(tracer);
+  }
+
+  IngestionAttemptStats getStats() {
+    return new IngestionAttemptStats(
+        attempts.sum(),
+        retries.sum(),
+        failedAttempts.sum(),
+        retriesExhausted.sum(),
+        permanentFailures.sum(),
+        attemptLatencyNanos.sum());
+  }
+
+  /** Tracer of a single call, so its attempts never overlap. */
+  private final class AttemptTracer extends BaseApiTracer {
+    private final ApiTracer delegate;
+    private long attemptStartNanos;
+
+    private AttemptTracer(ApiTracer delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Scope inScope() {
+      return delegate.inScope();
+    }
+
+    @Override
+    public void operationSucceeded() {
+      delegate.operationSucceeded();
+    }
+
+    @Override
+    public void operationCancelled() {
+      delegate.operationCancelled();
+    }
+
+    @Override
+    public void operationFailed(Throwable error) {
+      delegate.operationFailed(error);
+    }
+
+    @Override
+    public void connectionSelected(String id) {
+      delegate.connectionSelected(id);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void attemptStarted(int attemptNumber) {
+      startAttempt(attemptNumber);
+      delegate.attemptStarted(attemptNumber);
+    }
+
+    @Override
+    public void attemptStarted(Object request, int attemptNumber) {
+      startAttempt(attemptNumber);
+      delegate.attemptStarted(request, attemptNumber);
+    }
+
+    @Override
+    public void attemptSucceeded() {
+      endAttempt();
+      delegate.attemptSucceeded();
+    }
+
+    @Override
+    public void attemptCancelled() {
+      endAttempt();
+      delegate.attemptCancelled();
+    }
+
+    @Override
+    public void attemptFailed(Throwable error, Duration delay) {
+      endAttempt();
+      failedAttempts.increment();
+      delegate.attemptFailed(error, delay);
+    }
+
+    @Override
+    public void attemptFailedRetriesExhausted(Throwable error) {
+      endAttempt();
+      failedAttempts.increment();
+      retriesExhausted.increment();
+      delegate.attemptFailedRetriesExhausted(error);
+    }
+
+    @Override
+    public void attemptPermanentFailure(Throwable error) {
+      endAttempt();
+      failedAttempts.increment();
+      permanentFailures.increment();
+      delegate.attemptPermanentFailure(error);
+    }
+
+    @Override
+    public void lroStartFailed(Throwable error) {
+      delegate.lroStartFailed(error);
+    }
+
+    @Override
+    public void lroStartSucceeded() {
+      delegate.lroStartSucceeded();
+    }
+
+    @Override
+    public void responseReceived() {
+      delegate.responseReceived();
+    }
+
+    @Override
+    public void requestSent() {
+      delegate.requestSent();
+    }
+
+    @Override
+    public void batchRequestSent(long elementCount, long requestSize) {
+      delegate.batchRequestSent(elementCount, requestSize);
+    }
+
+    private void startAttempt(int attemptNumber) {
+      attempts.increment();
+      if (attemptNumber > 0) {
+        retries.increment();
+      }
+      attemptStartNanos = System.nanoTime();
+    }
+
+    private void endAttempt() {
+      attemptLatencyNanos.add(System.nanoTime() - attemptStartNanos);
+    }
+  }
+}
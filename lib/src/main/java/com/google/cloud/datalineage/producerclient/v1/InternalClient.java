@@ -17,7 +17,9 @@ package com.google.cloud.datalineage.producerclient.v1;
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
 import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ApiCallContext;
 import com.google.api.gax.rpc.ApiExceptionFactory;
 import com.google.api.gax.rpc.PermissionDeniedException;
 import com.google.api.gax.rpc.StatusCode.Code;
@@ -43,14 +45,33 @@ import com.google.cloud.datalineage.producerclient.ApiEnablementCache;
 import com.google.cloud.datalineage.producerclient.ApiEnablementCacheFactory;
 import com.google.cloud.datalineage.producerclient.LineageEnablementCache;
 import com.google.cloud.datalineage.producerclient.LineageEnablementCacheFactory;
+import com.google.cloud.datalineage.producerclient.helpers.FunctionWithException;
 import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
 import com.google.cloud.datalineage.producerclient.helpers.NamesHelper;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.longrunning.GetOperationRequest;
+import com.google.longrunning.Operation;
 import com.google.protobuf.Empty;
+import com.google.protobuf.Message;
+import io.grpc.Status;
+import io.grpc.protobuf.StatusProto;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,87 +80,338 @@ final class InternalClient implements AsyncLineageClient {
 
   private static final Logger logger = LoggerFactory.getLogger(AsyncLineageProducerClient.class);
 
+  /**
+   * Status codes only returned by a server that handled the call. Transport failures and failures
+   * raised locally, e.g. by the rate limit, leave the enablement state of the project unknown.
+   */
+  private static final ImmutableSet<Status.Code> SERVER_RESPONSE_CODES =
+      ImmutableSet.of(
+          Status.Code.INVALID_ARGUMENT,
+          Status.Code.NOT_FOUND,
+          Status.Code.ALREADY_EXISTS,
+          Status.Code.PERMISSION_DENIED,
+          Status.Code.FAILED_PRECONDITION,
+          Status.Code.OUT_OF_RANGE,
+          Status.Code.UNIMPLEMENTED);
+
   static InternalClient create() throws IOException {
     return create(LineageBaseSettings.defaultInstance());
   }
 
   static InternalClient create(LineageBaseSettings settings) throws IOException {
-    return new InternalClient(settings, BasicLineageClientFactory.get(settings));
+    return create(settings, BasicLineageClientFactory::get);
+  }
+
+  /** Creates the clients of endpoints with the given factory, routing or failing over as set. */
+  static InternalClient create(
+      LineageBaseSettings settings,
+      FunctionWithException<LineageBaseSettings, BasicLineageClient, IOException> factory)
+      throws IOException {
+    // Every client gets its own tracer, so that it reports the attempts of its own calls only.
+    IngestionAttemptTracerFactory attemptTracerFactory = null;
+    LineageBaseSettings clientSettings = settings;
+    if (settings.getIngestionRetriesEnabled()) {
+      attemptTracerFactory =
+          new IngestionAttemptTracerFactory(settings.getStubSettings().getTracerFactory());
+      LineageBaseSettings.Builder builder = settings.toBuilder();
+      builder.getStubSettingsBuilder().setTracerFactory(attemptTracerFactory);
+      clientSettings = builder.build();
+    }
+    BasicLineageClient client;
+    if (settings.getFailoverOptions().getEnabled()) {
+      client = new FailoverLineageClient(clientSettings, factory);
+    } else if (settings.getLocationRoutingEnabled()) {
+      client = new LocationRoutingLineageClient(clientSettings, factory);
+    } else {
+      client = factory.apply(clientSettings);
+    }
+    return new InternalClient(settings, client, attemptTracerFactory);
   }
 
   static InternalClient create(BasicLineageClient client) throws IOException {
-    return new InternalClient(LineageBaseSettings.defaultInstance(), client);
+    return new InternalClient(LineageBaseSettings.defaultInstance(), client, null);
+  }
+
+  static InternalClient create(LineageBaseSettings settings, BasicLineageClient client) {
+    return new InternalClient(settings, client, null);
   }
 
   private final BasicLineageClient client;
   private final ApiEnablementCache apiEnablementCache;
   private final LineageEnablementCache lineageEnablementCache;
+  // Bounds for the disabled status time the server asks for.
+  private final Duration maxApiDisabledTime;
+  private final Duration maxLineageDisabledTime;
+  // Both are null when enablement probing is disabled.
+  @Nullable private final Map<String, SettableApiFuture<Void>> probes;
+  @Nullable private final Set<String> enabledProjects;
+  private final int maxEnabledProjects;
+  // Requests get an ID when they may be retried, so that the server can deduplicate attempts.
+  private final boolean stampRequestIds;
+  @Nullable private final IngestionAttemptTracerFactory attemptTracerFactory;
+  @Nullable private final AdaptiveConcurrencyLimiter limiter;
+  @Nullable private final ProjectRateLimiter rateLimiter;
+  @Nullable private final RequestHedger hedger;
+  @Nullable private final ResponseCache responseCache;
+  // Makes the calls that the client issues from callbacks, its threads end once idle.
+  private final ExecutorService callbackExecutor =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setNameFormat("lineage-callback-%d").setDaemon(true).build());
+  // Created on the first bulk delete, so that clients which never make one have no extra thread.
+  @Nullable private BulkDeleter bulkDeleter;
+  private boolean executorsClosed;
 
-  private InternalClient(LineageBaseSettings settings, BasicLineageClient basicLineageClient) {
+  private InternalClient(
+      LineageBaseSettings settings,
+      BasicLineageClient basicLineageClient,
+      @Nullable IngestionAttemptTracerFactory attemptTracerFactory) {
     apiEnablementCache = ApiEnablementCacheFactory.get(settings.getApiEnablementCacheSettings());
     lineageEnablementCache =
         LineageEnablementCacheFactory.get(settings.getLineageEnablementCacheSettings());
+    maxApiDisabledTime =
+        settings.getApiEnablementCacheSettings().getOptions().getMaxCacheDisabledStatusTime();
+    maxLineageDisabledTime =
+        settings.getLineageEnablementCacheSettings().getOptions().getMaxCacheDisabledStatusTime();
     client = basicLineageClient;
+    if (settings.getEnablementProbingEnabled()) {
+      probes = new ConcurrentHashMap<>();
+      enabledProjects = ConcurrentHashMap.newKeySet();
+    } else {
+      probes = null;
+      enabledProjects = null;
+    }
+    maxEnabledProjects = settings.getApiEnablementCacheSettings().getOptions().getCacheSize();
+    stampRequestIds = !settings.processOpenLineageRunEventSettings().getRetryableCodes().isEmpty();
+    this.attemptTracerFactory = attemptTracerFactory;
+    limiter =
+        settings.getAdaptiveConcurrencyOptions().getEnabled()
+            ? new AdaptiveConcurrencyLimiter(settings.getAdaptiveConcurrencyOptions())
+            : null;
+    rateLimiter =
+        settings.getRateLimitOptions().getEnabled()
+            ? new ProjectRateLimiter(settings.getRateLimitOptions())
+            : null;
+    hedger =
+        settings.getHedgingOptions().getEnabled()
+            ? new RequestHedger(settings.getHedgingOptions())
+            : null;
+    responseCache =
+        settings.getResponseCacheOptions().getEnabled()
+            ? new ResponseCache(settings.getResponseCacheOptions())
+            : null;
   }
 
   @Override
   public OperationFuture<Empty, OperationMetadata> deleteProcess(DeleteProcessRequest request) {
-    return handleCall(() -> client.deleteProcessAsync(request), request.getName());
+    return invalidating(
+        request.getName(),
+        () -> handleCall(() -> client.deleteProcessAsync(request), request.getName()));
   }
 
   @Override
   public OperationFuture<Empty, OperationMetadata> deleteRun(DeleteRunRequest request) {
-    return handleCall(() -> client.deleteRunAsync(request), request.getName());
+    return invalidating(
+        request.getName(),
+        () -> handleCall(() -> client.deleteRunAsync(request), request.getName()));
   }
 
   @Override
   public ApiFuture<Empty> deleteLineageEvent(DeleteLineageEventRequest request) {
-    return handleCall(
-        () -> client.deleteLineageEventCallable().futureCall(request), request.getName());
+    return invalidating(
+        request.getName(),
+        () ->
+            handleProbedCall(
+                () -> client.deleteLineageEventCallable().futureCall(request),
+                request.getName()));
   }
 
   @Override
   public ApiFuture<Process> getProcess(GetProcessRequest request) {
-    return handleCall(() -> client.getProcessCallable().futureCall(request), request.getName());
+    return cached(
+        request.getName(),
+        () ->
+            handleHedgedCall(
+                () -> client.getProcessCallable().futureCall(request), request.getName()));
   }
 
   @Override
   public ApiFuture<Run> getRun(GetRunRequest request) {
-    return handleCall(() -> client.getRunCallable().futureCall(request), request.getName());
+    return cached(
+        request.getName(),
+        () ->
+            handleHedgedCall(() -> client.getRunCallable().futureCall(request), request.getName()));
   }
 
   @Override
   public ApiFuture<LineageEvent> getLineageEvent(GetLineageEventRequest request) {
-    return handleCall(() -> client.getEventCallable().futureCall(request), request.getName());
+    return cached(
+        request.getName(),
+        () ->
+            handleHedgedCall(
+                () -> client.getEventCallable().futureCall(request), request.getName()));
   }
 
   @Override
   public ApiFuture<ListProcessesPagedResponse> listProcesses(ListProcessesRequest request) {
-    return handleCall(
+    return handleProbedCall(
         () -> client.listProcessesPagedCallable().futureCall(request), request.getParent());
   }
 
   @Override
   public ApiFuture<ListRunsPagedResponse> listRuns(ListRunsRequest request) {
-    return handleCall(
+    return handleProbedCall(
         () -> client.listRunsPagedCallable().futureCall(request), request.getParent());
   }
 
   @Override
   public ApiFuture<ListLineageEventsPagedResponse> listLineageEvents(
       ListLineageEventsRequest request) {
-    return handleCall(
+    return handleProbedCall(
         () -> client.listLineageEventsPagedCallable().futureCall(request), request.getParent());
   }
 
   @Override
   public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
       ProcessOpenLineageRunEventRequest request) {
-    return handleCall(
-        () -> client.processOpenLineageRunEventCallable().futureCall(request), request.getParent());
+    ProcessOpenLineageRunEventRequest stamped = withRequestId(request);
+    return handleProbedCall(
+        () -> client.processOpenLineageRunEventCallable().futureCall(stamped), stamped.getParent());
+  }
+
+  /**
+   * Same as {@link #processOpenLineageRunEvent(ProcessOpenLineageRunEventRequest)}, but runs {@code
+   * onStart} when the call is started, which can be after the limits deferred it.
+   */
+  ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      ProcessOpenLineageRunEventRequest request, Runnable onStart) {
+    ProcessOpenLineageRunEventRequest stamped = withRequestId(request);
+    return handleProbedCall(
+        () -> {
+          onStart.run();
+          return client.processOpenLineageRunEventCallable().futureCall(stamped);
+        },
+        stamped.getParent());
+  }
+
+  @Override
+  public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+    ProcessOpenLineageRunEventRequest stamped = withRequestId(request);
+    return handleProbedCall(
+        () -> client.processOpenLineageRunEventCallable().futureCall(stamped, context),
+        stamped.getParent());
+  }
+
+  @Override
+  public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      String parent, byte[] openLineageJson) {
+    return handleProbedCall(
+        () -> client.processOpenLineageRunEvent(parent, openLineageJson), parent);
+  }
+
+  /**
+   * Returns the request with a random request ID if it has none and processOpenLineageRunEvent is
+   * retryable, so that retries of it are idempotent.
+   */
+  ProcessOpenLineageRunEventRequest withRequestId(ProcessOpenLineageRunEventRequest request) {
+    if (!stampRequestIds || !request.getRequestId().isEmpty()) {
+      return request;
+    }
+    return request.toBuilder().setRequestId(UUID.randomUUID().toString()).build();
+  }
+
+  ConcurrencyLimitStats getConcurrencyLimitStats() {
+    return limiter != null ? limiter.getStats() : ConcurrencyLimitStats.EMPTY;
+  }
+
+  HedgingStats getHedgingStats() {
+    return hedger != null ? hedger.getStats() : HedgingStats.EMPTY;
+  }
+
+  /**
+   * Deletes processes, polling their operations together. Clients that are not an {@link
+   * OperationLineageClient} wait for each operation on its own.
+   *
+   * @return future with the status of every process, see {@link BulkDeleter}
+   */
+  ApiFuture<BulkDeleteResult> deleteProcesses(Collection<String> names, BulkDeleteOptions options) {
+    if (!(client instanceof OperationLineageClient)) {
+      return bulkDelete(
+          names,
+          options,
+          name ->
+              awaited(
+                  client.deleteProcessAsync(
+                      DeleteProcessRequest.newBuilder().setName(name).build())));
+    }
+    OperationLineageClient operationClient = (OperationLineageClient) client;
+    return bulkDelete(
+        names,
+        options,
+        name ->
+            operationClient
+                .deleteProcessCallable()
+                .futureCall(DeleteProcessRequest.newBuilder().setName(name).build()));
+  }
+
+  /**
+   * Deletes runs, polling their operations together. Clients that are not an {@link
+   * OperationLineageClient} wait for each operation on its own.
+   *
+   * @return future with the status of every run, see {@link BulkDeleter}
+   */
+  ApiFuture<BulkDeleteResult> deleteRuns(Collection<String> names, BulkDeleteOptions options) {
+    if (!(client instanceof OperationLineageClient)) {
+      return bulkDelete(
+          names,
+          options,
+          name ->
+              awaited(client.deleteRunAsync(DeleteRunRequest.newBuilder().setName(name).build())));
+    }
+    OperationLineageClient operationClient = (OperationLineageClient) client;
+    return bulkDelete(
+        names,
+        options,
+        name ->
+            operationClient
+                .deleteRunCallable()
+                .futureCall(DeleteRunRequest.newBuilder().setName(name).build()));
+  }
+
+  /**
+   * Makes a call on a thread of the client. Used for calls that the client issues from callbacks of
+   * other calls, such as page prefetches and events requested by subscribers, so that limits in
+   * blocking mode never wait on the threads that complete calls.
+   */
+  <T> ApiFuture<T> dispatch(Supplier<ApiFuture<T>> call) {
+    ApiFuture<T> result =
+        ApiFutures.transformAsync(
+            ApiFutures.immediateFuture(null), ignored -> call.get(), callbackExecutor);
+    return ApiFutures.catchingAsync(
+        result,
+        RejectedExecutionException.class,
+        e ->
+            ApiFutures.immediateFailedFuture(
+                ApiExceptionFactory.createException(
+                    "Call stopped by client shutdown",
+                    e,
+                    GrpcHelper.getStatusCodeFromCode(Code.CANCELLED),
+                    false)),
+        MoreExecutors.directExecutor());
+  }
+
+  ResponseCacheStats getResponseCacheStats() {
+    return responseCache != null ? responseCache.getStats() : ResponseCacheStats.EMPTY;
+  }
+
+  IngestionAttemptStats getIngestionAttemptStats() {
+    return attemptTracerFactory != null
+        ? attemptTracerFactory.getStats()
+        : IngestionAttemptStats.EMPTY;
   }
 
   public void shutdown() {
+    closeExecutors();
     client.shutdown();
   }
 
@@ -155,6 +427,7 @@ final class InternalClient implements AsyncLineageClient {
 
   @Override
   public void shutdownNow() {
+    closeExecutors();
     client.shutdownNow();
   }
 
@@ -165,9 +438,93 @@ final class InternalClient implements AsyncLineageClient {
 
   @Override
   public void close() throws Exception {
+    closeExecutors();
     client.close();
   }
 
+  private void closeExecutors() {
+    callbackExecutor.shutdown();
+    if (rateLimiter != null) {
+      rateLimiter.close();
+    }
+    if (hedger != null) {
+      hedger.close();
+    }
+    synchronized (this) {
+      executorsClosed = true;
+      if (bulkDeleter != null) {
+        bulkDeleter.close();
+      }
+    }
+  }
+
+  private synchronized BulkDeleter bulkDeleter() {
+    if (executorsClosed) {
+      throw new IllegalStateException("Client is shut down");
+    }
+    if (bulkDeleter == null) {
+      bulkDeleter = new BulkDeleter();
+    }
+    return bulkDeleter;
+  }
+
+  /**
+   * Starts deletes through the same checks as single deletes, and polls their operations with the
+   * bulk deleter.
+   */
+  private ApiFuture<BulkDeleteResult> bulkDelete(
+      Collection<String> names,
+      BulkDeleteOptions options,
+      Function<String, ApiFuture<Operation>> delete) {
+    ApiFuture<BulkDeleteResult> result =
+        bulkDeleter()
+            .delete(
+                names,
+                options,
+                name -> invalidating(name, () -> handleCall(() -> delete.apply(name), name)),
+                // Only operations started by an operation client are polled, others are done.
+                operation ->
+                    handleCall(
+                        () ->
+                            OperationLineageClient.of(client)
+                                .getOperationCallable()
+                                .futureCall(
+                                    GetOperationRequest.newBuilder().setName(operation).build()),
+                        operation));
+    if (responseCache != null) {
+      // Reads made while the operations ran may have cached the deleted resources again.
+      result.addListener(() -> responseCache.invalidateAll(names), MoreExecutors.directExecutor());
+    }
+    return result;
+  }
+
+  /** Reports a delete that waits for its own operation as an operation done once it completes. */
+  private static ApiFuture<Operation> awaited(OperationFuture<Empty, OperationMetadata> delete) {
+    return ApiFutures.transform(
+        delete,
+        response -> Operation.newBuilder().setDone(true).build(),
+        MoreExecutors.directExecutor());
+  }
+
+  /** Answers a read from the response cache when it is enabled. */
+  private <T extends Message> ApiFuture<T> cached(String name, Supplier<ApiFuture<T>> call) {
+    return responseCache != null ? responseCache.get(name, call) : call.get();
+  }
+
+  /**
+   * Makes a delete call, dropping cached responses for the resource and its children both before
+   * the call and once it completes, so that reads made meanwhile are not kept either.
+   */
+  private <F extends ApiFuture<?>> F invalidating(String name, Supplier<F> call) {
+    if (responseCache == null) {
+      return call.get();
+    }
+    responseCache.invalidate(name);
+    F result = call.get();
+    result.addListener(() -> responseCache.invalidate(name), MoreExecutors.directExecutor());
+    return result;
+  }
+
   /**
    * Wraps an API call with ConnectionCache logic to prevent unnecessary API calls.
    *
@@ -177,6 +534,140 @@ final class InternalClient implements AsyncLineageClient {
    */
   private <F extends ApiFuture<T>, T> F handleCall(Supplier<F> call, String resourceName) {
     String projectName = NamesHelper.getProjectNameWithLocationFromResourceName(resourceName);
+    checkProjectEnabled(projectName);
+    Supplier<F> limitedCall = limiter != null ? () -> limiter.runNow(call) : call;
+    if (rateLimiter != null) {
+      Supplier<F> concurrencyLimitedCall = limitedCall;
+      limitedCall = () -> rateLimiter.runNow(projectName, concurrencyLimitedCall);
+    }
+    return callAndObserve(limitedCall, resourceName, projectName, null);
+  }
+
+  /**
+   * Same as {@link #handleCall}, but the call can be deferred. It waits for a token of the rate
+   * limit of its project, then in the queue of the adaptive concurrency limit when the limit is
+   * reached. When enablement probing is on, only one call per project is sent while the enablement
+   * state of the project is unknown. Other calls wait for it and are either sent or failed with
+   * PERMISSION_DENIED depending on its outcome.
+   *
+   * <p>Calls returning an {@link OperationFuture} cannot be deferred and go through {@link
+   * #handleCall}.
+   */
+  private <T> ApiFuture<T> handleProbedCall(Supplier<ApiFuture<T>> call, String resourceName) {
+    String projectName = NamesHelper.getProjectNameWithLocationFromResourceName(resourceName);
+    return probedCall(
+        limited(call, projectName, false),
+        limited(call, projectName, true),
+        resourceName,
+        projectName);
+  }
+
+  /**
+   * Same as {@link #handleProbedCall}, but sends a second attempt of an idempotent read when
+   * hedging is enabled. Every attempt waits for the limits on its own, so that second attempts are
+   * counted by them as well.
+   */
+  private <T> ApiFuture<T> handleHedgedCall(Supplier<ApiFuture<T>> call, String resourceName) {
+    if (hedger == null) {
+      return handleProbedCall(call, resourceName);
+    }
+    String projectName = NamesHelper.getProjectNameWithLocationFromResourceName(resourceName);
+    Supplier<ApiFuture<T>> limitedCall = limited(call, projectName, false);
+    Supplier<ApiFuture<T>> callbackCall = limited(call, projectName, true);
+    return probedCall(
+        () -> hedger.run(limitedCall, callbackCall),
+        () -> hedger.run(callbackCall),
+        resourceName,
+        projectName);
+  }
+
+  /**
+   * Defers a call until the rate limit of its project and the adaptive concurrency limit allow.
+   *
+   * @param fromCallback whether the call is made from a callback of another call or from a timer,
+   *     whose thread must not wait for the rate limit even in blocking mode
+   */
+  private <T> Supplier<ApiFuture<T>> limited(
+      Supplier<ApiFuture<T>> call, String projectName, boolean fromCallback) {
+    Supplier<ApiFuture<T>> limitedCall = limiter != null ? () -> limiter.run(call) : call;
+    if (rateLimiter != null) {
+      Supplier<ApiFuture<T>> concurrencyLimitedCall = limitedCall;
+      limitedCall =
+          fromCallback
+              ? () -> rateLimiter.defer(projectName, concurrencyLimitedCall)
+              : () -> rateLimiter.run(projectName, concurrencyLimitedCall);
+    }
+    return limitedCall;
+  }
+
+  /**
+   * Makes a probed call.
+   *
+   * @param callbackCall makes the call from the callback of the probe it waited for
+   */
+  private <T> ApiFuture<T> probedCall(
+      Supplier<ApiFuture<T>> call,
+      Supplier<ApiFuture<T>> callbackCall,
+      String resourceName,
+      String projectName) {
+    if (probes == null) {
+      checkProjectEnabled(projectName);
+      return callAndObserve(call, resourceName, projectName, null);
+    }
+    return probeOrCall(call, callbackCall, resourceName, projectName);
+  }
+
+  private <T> ApiFuture<T> probeOrCall(
+      Supplier<ApiFuture<T>> call,
+      Supplier<ApiFuture<T>> callbackCall,
+      String resourceName,
+      String projectName) {
+    checkProjectEnabled(projectName);
+    if (enabledProjects.contains(projectName)) {
+      return callAndObserve(call, resourceName, projectName, null);
+    }
+
+    SettableApiFuture<Void> probe = SettableApiFuture.create();
+    SettableApiFuture<Void> inFlight = probes.putIfAbsent(projectName, probe);
+    if (inFlight != null) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Waiting for the enablement probe of project {}", projectName);
+      }
+      // Once the probe completes the state is either known, or a new probe is elected. Both happen
+      // on the thread that completed the probe.
+      return ApiFutures.transformAsync(
+          inFlight,
+          ignored -> probeOrCall(callbackCall, callbackCall, resourceName, projectName),
+          MoreExecutors.directExecutor());
+    }
+
+    logger.debug("Probing enablement state of project {}", projectName);
+    Runnable releaseProbe =
+        () -> {
+          probes.remove(projectName, probe);
+          probe.set(null);
+        };
+    try {
+      return callAndObserve(call, resourceName, projectName, releaseProbe);
+    } catch (RuntimeException e) {
+      releaseProbe.run();
+      throw e;
+    }
+  }
+
+  /**
+   * Tells whether calls for the resource fail without an RPC, because its project is known to have
+   * the API or lineage ingestion disabled.
+   *
+   * @throws IllegalArgumentException if the resource name is not valid
+   */
+  boolean isProjectMarkedAsDisabled(String resourceName) {
+    String projectName = NamesHelper.getProjectNameWithLocationFromResourceName(resourceName);
+    return apiEnablementCache.isServiceMarkedAsDisabled(projectName)
+        || lineageEnablementCache.isLineageMarkedAsDisabled(projectName);
+  }
+
+  private void checkProjectEnabled(String projectName) {
     if (apiEnablementCache.isServiceMarkedAsDisabled(projectName)) {
       throw ApiExceptionFactory.createException(
           "Data Lineage API is disabled in project "
@@ -196,23 +687,58 @@ final class InternalClient implements AsyncLineageClient {
           GrpcHelper.getStatusCodeFromCode(Code.PERMISSION_DENIED),
           false);
     }
+  }
 
+  /**
+   * Makes the call and updates the enablement state of the project once it completes.
+   *
+   * @param onComplete - runs after the enablement state is updated, may be null
+   */
+  private <F extends ApiFuture<T>, T> F callAndObserve(
+      Supplier<F> call, String resourceName, String projectName, @Nullable Runnable onComplete) {
     F result = call.get();
     ApiFutures.addCallback(
         result,
         new ApiFutureCallback<>() {
           @Override
           public void onFailure(Throwable exception) {
-            logger.error(
-                "Failed to call API for resource {}: {}",
-                resourceName,
-                exception.getMessage(),
-                exception);
-            ImmutableSet<String> reasons = GrpcHelper.getErrorReasons(exception);
-            if (reasons.contains("SERVICE_DISABLED")) {
-              apiEnablementCache.markServiceAsDisabled(projectName);
-            } else if (reasons.contains("LINEAGE_INGESTION_DISABLED")) {
-              lineageEnablementCache.markLineageAsDisabled(projectName);
+            try {
+              logger.error(
+                  "Failed to call API for resource {}: {}",
+                  resourceName,
+                  exception.getMessage(),
+                  exception);
+              // Failures raised locally, e.g. by the rate limit in FAIL mode, carry no status.
+              ImmutableSet<String> reasons =
+                  StatusProto.fromThrowable(exception) != null
+                      ? GrpcHelper.getErrorReasons(exception)
+                      : ImmutableSet.of();
+              if (reasons.contains("SERVICE_DISABLED")) {
+                markDisabled(projectName);
+                Optional<Duration> retryDelay =
+                    getRetryDelay(projectName, exception, maxApiDisabledTime);
+                if (retryDelay.isPresent()) {
+                  apiEnablementCache.markServiceAsDisabled(projectName, retryDelay.get());
+                } else {
+                  apiEnablementCache.markServiceAsDisabled(projectName);
+                }
+              } else if (reasons.contains("LINEAGE_INGESTION_DISABLED")) {
+                markDisabled(projectName);
+                Optional<Duration> retryDelay =
+                    getRetryDelay(projectName, exception, maxLineageDisabledTime);
+                if (retryDelay.isPresent()) {
+                  lineageEnablementCache.markLineageAsDisabled(projectName, retryDelay.get());
+                } else {
+                  lineageEnablementCache.markLineageAsDisabled(projectName);
+                }
+              } else if (isServerResponse(exception)) {
+                // Any other answer of the server means that the API is enabled in the project.
+                markEnabled(projectName);
+              }
+            } finally {
+              if (onComplete != null) {
+                onComplete.run();
+              }
             }
           }
 
@@ -221,10 +747,51 @@ final class InternalClient implements AsyncLineageClient {
             if (logger.isDebugEnabled()) {
               logger.debug("Successfully called API for resource: {}", resourceName);
             }
+            markEnabled(projectName);
+            if (onComplete != null) {
+              onComplete.run();
+            }
           }
         },
         MoreExecutors.directExecutor());
 
     return result;
   }
+
+  private static boolean isServerResponse(Throwable exception) {
+    return SERVER_RESPONSE_CODES.contains(Status.fromThrowable(exception).getCode());
+  }
+
+  /**
+   * Returns how long the server asks not to call the project again, bounded by the maximum disabled
+   * status time of the cache. Without it, the caches back off exponentially on their own.
+   */
+  private static Optional<Duration> getRetryDelay(
+      String projectName, Throwable exception, Duration maxDelay) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "Project {} is disabled, error metadata: {}",
+          projectName,
+          GrpcHelper.getErrorInfoMetadata(exception));
+    }
+    return GrpcHelper.getRetryDelay(exception)
+        .map(delay -> delay.compareTo(maxDelay) > 0 ? maxDelay : delay);
+  }
+
+  private void markEnabled(String projectName) {
+    if (enabledProjects == null || enabledProjects.contains(projectName)) {
+      return;
+    }
+    if (enabledProjects.size() >= maxEnabledProjects) {
+      // Forgetting projects only costs another probe, so there is no need for an eviction order.
+      enabledProjects.clear();
+    }
+    enabledProjects.add(projectName);
+  }
+
+  private void markDisabled(String projectName) {
+    if (enabledProjects != null) {
+      enabledProjects.remove(projectName);
+    }
+  }
 }
@@ -22,6 +22,7 @@ import com.google.cloud.datacatalog.lineage.v1.stub.LineageStubSettings;
 import com.google.cloud.datalineage.producerclient.CacheSettings;
 import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
+import javax.annotation.Nullable;
 import org.threeten.bp.Duration;
 
 /**
@@ -44,11 +45,39 @@ public class LineageBaseSettings extends LineageSettings {
 
   private final CacheSettings apiEnablementCacheSettings;
   private final CacheSettings lineageEnablementCacheSettings;
+  private final boolean enablementProbingEnabled;
+  private final boolean ingestionRetriesEnabled;
+  // Retry policy of processOpenLineageRunEvent replaced by ingestion retries, null when disabled.
+  @Nullable private final RetrySettings replacedRetrySettings;
+  @Nullable private final ImmutableSet<Code> replacedRetryableCodes;
+  private final AdaptiveConcurrencyOptions adaptiveConcurrencyOptions;
+  private final RateLimitOptions rateLimitOptions;
+  private final boolean sharedTransportEnabled;
+  private final boolean locationRoutingEnabled;
+  private final String regionalEndpointTemplate;
+  private final FailoverOptions failoverOptions;
+  private final HedgingOptions hedgingOptions;
+  private final ResponseCacheOptions responseCacheOptions;
 
   protected LineageBaseSettings(Builder settingsBuilder) throws IOException {
     super(settingsBuilder);
+    if (settingsBuilder.locationRoutingEnabled && settingsBuilder.failoverOptions.getEnabled()) {
+      throw new IllegalArgumentException("Failover cannot be combined with location routing");
+    }
     this.apiEnablementCacheSettings = settingsBuilder.apiEnablementCacheSettings;
     this.lineageEnablementCacheSettings = settingsBuilder.lineageEnablementCacheSettings;
+    this.enablementProbingEnabled = settingsBuilder.enablementProbingEnabled;
+    this.ingestionRetriesEnabled = settingsBuilder.ingestionRetriesEnabled;
+    this.replacedRetrySettings = settingsBuilder.replacedRetrySettings;
+    this.replacedRetryableCodes = settingsBuilder.replacedRetryableCodes;
+    this.adaptiveConcurrencyOptions = settingsBuilder.adaptiveConcurrencyOptions;
+    this.rateLimitOptions = settingsBuilder.rateLimitOptions;
+    this.sharedTransportEnabled = settingsBuilder.sharedTransportEnabled;
+    this.locationRoutingEnabled = settingsBuilder.locationRoutingEnabled;
+    this.regionalEndpointTemplate = settingsBuilder.regionalEndpointTemplate;
+    this.failoverOptions = settingsBuilder.failoverOptions;
+    this.hedgingOptions = settingsBuilder.hedgingOptions;
+    this.responseCacheOptions = settingsBuilder.responseCacheOptions;
   }
 
   public CacheSettings getApiEnablementCacheSettings() {
@@ -59,6 +88,46 @@ public class LineageBaseSettings extends LineageSettings {
     return lineageEnablementCacheSettings;
   }
 
+  public boolean getEnablementProbingEnabled() {
+    return enablementProbingEnabled;
+  }
+
+  public boolean getIngestionRetriesEnabled() {
+    return ingestionRetriesEnabled;
+  }
+
+  public AdaptiveConcurrencyOptions getAdaptiveConcurrencyOptions() {
+    return adaptiveConcurrencyOptions;
+  }
+
+  public RateLimitOptions getRateLimitOptions() {
+    return rateLimitOptions;
+  }
+
+  public boolean getSharedTransportEnabled() {
+    return sharedTransportEnabled;
+  }
+
+  public boolean getLocationRoutingEnabled() {
+    return locationRoutingEnabled;
+  }
+
+  public String getRegionalEndpointTemplate() {
+    return regionalEndpointTemplate;
+  }
+
+  public FailoverOptions getFailoverOptions() {
+    return failoverOptions;
+  }
+
+  public HedgingOptions getHedgingOptions() {
+    return hedgingOptions;
+  }
+
+  public ResponseCacheOptions getResponseCacheOptions() {
+    return responseCacheOptions;
+  }
+
   @Override
   public Builder toBuilder() {
     return new Builder(this);
@@ -88,12 +157,40 @@ public class LineageBaseSettings extends LineageSettings {
     private static final ImmutableSet<Code> DEFAULT_RETRY_CODES =
         ImmutableSet.of(Code.UNAVAILABLE, Code.DEADLINE_EXCEEDED);
 
+    // Short delays and a per-attempt timeout cut the tail of slow attempts, a total timeout bounds
+    // how long an event is retried.
+    private static final RetrySettings INGESTION_RETRY_SETTINGS =
+        RetrySettings.newBuilder()
+            .setMaxAttempts(5)
+            .setTotalTimeout(Duration.ofSeconds(60))
+            .setInitialRetryDelay(Duration.ofMillis(100))
+            .setRetryDelayMultiplier(2)
+            .setMaxRetryDelay(Duration.ofSeconds(5))
+            .setInitialRpcTimeout(Duration.ofSeconds(15))
+            .setRpcTimeoutMultiplier(1)
+            .setMaxRpcTimeout(Duration.ofSeconds(15))
+            .build();
+
     private static Builder createDefault() {
       return new Builder(LineageStubSettings.newBuilder());
     }
 
     private CacheSettings apiEnablementCacheSettings;
     private CacheSettings lineageEnablementCacheSettings;
+    private boolean enablementProbingEnabled;
+    private boolean ingestionRetriesEnabled;
+    @Nullable private RetrySettings replacedRetrySettings;
+    @Nullable private ImmutableSet<Code> replacedRetryableCodes;
+    private AdaptiveConcurrencyOptions adaptiveConcurrencyOptions =
+        AdaptiveConcurrencyOptions.getDisabledInstance();
+    private RateLimitOptions rateLimitOptions = RateLimitOptions.getDisabledInstance();
+    private boolean sharedTransportEnabled;
+    private boolean locationRoutingEnabled;
+    private String regionalEndpointTemplate =
+        LocationRoutingLineageClient.DEFAULT_REGIONAL_ENDPOINT_TEMPLATE;
+    private FailoverOptions failoverOptions = FailoverOptions.getDisabledInstance();
+    private HedgingOptions hedgingOptions = HedgingOptions.getDisabledInstance();
+    private ResponseCacheOptions responseCacheOptions = ResponseCacheOptions.getDisabledInstance();
 
     protected Builder() throws IOException {
       super();
@@ -113,6 +210,18 @@ public class LineageBaseSettings extends LineageSettings {
       super(settings);
       this.apiEnablementCacheSettings = settings.apiEnablementCacheSettings;
       this.lineageEnablementCacheSettings = settings.lineageEnablementCacheSettings;
+      this.enablementProbingEnabled = settings.enablementProbingEnabled;
+      this.ingestionRetriesEnabled = settings.ingestionRetriesEnabled;
+      this.replacedRetrySettings = settings.replacedRetrySettings;
+      this.replacedRetryableCodes = settings.replacedRetryableCodes;
+      this.adaptiveConcurrencyOptions = settings.adaptiveConcurrencyOptions;
+      this.rateLimitOptions = settings.rateLimitOptions;
+      this.sharedTransportEnabled = settings.sharedTransportEnabled;
+      this.locationRoutingEnabled = settings.locationRoutingEnabled;
+      this.regionalEndpointTemplate = settings.regionalEndpointTemplate;
+      this.failoverOptions = settings.failoverOptions;
+      this.hedgingOptions = settings.hedgingOptions;
+      this.responseCacheOptions = settings.responseCacheOptions;
     }
 
     protected Builder(LineageStubSettings.Builder stubSettings) {
@@ -132,6 +241,153 @@ public class LineageBaseSettings extends LineageSettings {
       return this;
     }
 
+    /**
+     * Enables probing of projects with unknown enablement state.
+     *
+     * <p>While it is not known whether the API and lineage ingestion are enabled in a project,
+     * either because the project was not called yet or because its disabled status has expired,
+     * only one call is sent to it. The other calls wait for its result and either follow it or fail
+     * with PERMISSION_DENIED, so a disabled project gets one failed call instead of one per queued
+     * request. Disabled by default.
+     */
+    public Builder setEnablementProbingEnabled(boolean enablementProbingEnabled) {
+      this.enablementProbingEnabled = enablementProbingEnabled;
+      return this;
+    }
+
+    /**
+     * Enables retries of processOpenLineageRunEvent on UNAVAILABLE and DEADLINE_EXCEEDED.
+     *
+     * <p>Every request without a request ID gets a random one before its first attempt, so the
+     * server processes an event once however many attempts reach it. Each client counts its
+     * attempts with a tracer installed on top of the configured tracer factory, and reports them by
+     * {@code getIngestionAttemptStats()}. Disabling the option restores the retry settings it
+     * replaced. Disabled by default.
+     */
+    public Builder setIngestionRetriesEnabled(boolean ingestionRetriesEnabled) {
+      if (ingestionRetriesEnabled && !this.ingestionRetriesEnabled) {
+        replacedRetrySettings = processOpenLineageRunEventSettings().getRetrySettings();
+        replacedRetryableCodes =
+            ImmutableSet.copyOf(processOpenLineageRunEventSettings().getRetryableCodes());
+        processOpenLineageRunEventSettings()
+            .setRetrySettings(INGESTION_RETRY_SETTINGS)
+            .setRetryableCodes(DEFAULT_RETRY_CODES);
+      } else if (!ingestionRetriesEnabled && this.ingestionRetriesEnabled) {
+        processOpenLineageRunEventSettings()
+            .setRetrySettings(replacedRetrySettings)
+            .setRetryableCodes(replacedRetryableCodes);
+        replacedRetrySettings = null;
+        replacedRetryableCodes = null;
+      }
+      this.ingestionRetriesEnabled = ingestionRetriesEnabled;
+      return this;
+    }
+
+    /**
+     * Sets the adaptive limit of concurrent calls. Calls over the limit wait in a queue, except
+     * deleteProcess and deleteRun, which are counted but never held back. Disabled by default.
+     */
+    public Builder setAdaptiveConcurrencyOptions(AdaptiveConcurrencyOptions options) {
+      if (options == null) {
+        throw new IllegalArgumentException("Options cannot be null");
+      }
+      adaptiveConcurrencyOptions = options;
+      return this;
+    }
+
+    /**
+     * Sets the rate limit applied to every project and location separately. Calls that find no
+     * token wait, fail or are queued depending on the options, except deleteProcess and deleteRun,
+     * which can only wait or fail. Disabled by default.
+     */
+    public Builder setRateLimitOptions(RateLimitOptions options) {
+      if (options == null) {
+        throw new IllegalArgumentException("Options cannot be null");
+      }
+      rateLimitOptions = options;
+      return this;
+    }
+
+    /**
+     * Enables sharing of the gRPC channel pool and executor between clients.
+     *
+     * <p>Clients with this option that call the same endpoint with equal credentials, quota project
+     * and headers share one client context, held in a JVM-wide registry. The context is created
+     * with the channel and executor settings of the first of these clients and shut down when the
+     * last of them is closed. Retry settings and tracers stay per client. Disabled by default.
+     */
+    public Builder setSharedTransportEnabled(boolean sharedTransportEnabled) {
+      this.sharedTransportEnabled = sharedTransportEnabled;
+      return this;
+    }
+
+    /**
+     * Enables routing of calls to the regional endpoint of the location in their parent or name.
+     *
+     * <p>A client for a regional endpoint is created with these settings on the first call to its
+     * location and reused afterwards. Calls to the `global` location, and calls whose names do not
+     * contain a location, go to the configured endpoint. The endpoint is only replaced when the
+     * transport channel provider takes it from the settings. Cannot be combined with failover.
+     * Disabled by default.
+     */
+    public Builder setLocationRoutingEnabled(boolean locationRoutingEnabled) {
+      this.locationRoutingEnabled = locationRoutingEnabled;
+      return this;
+    }
+
+    /**
+     * Sets the template of regional endpoints used by location routing. `{location}` is replaced
+     * with the location of a call. Defaults to `{location}-datalineage.googleapis.com:443`.
+     */
+    public Builder setRegionalEndpointTemplate(String regionalEndpointTemplate) {
+      if (regionalEndpointTemplate == null
+          || !regionalEndpointTemplate.contains(
+              LocationRoutingLineageClient.LOCATION_PLACEHOLDER)) {
+        throw new IllegalArgumentException("Template must contain {location}");
+      }
+      this.regionalEndpointTemplate = regionalEndpointTemplate;
+      return this;
+    }
+
+    /**
+     * Sets failover from the configured endpoint to alternate endpoints. Clients of all endpoints
+     * are created up front, and calls shift between them based on their error rate and latency.
+     * Standby channels connect up front and are kept alive. Cannot be combined with location
+     * routing. Disabled by default.
+     */
+    public Builder setFailoverOptions(FailoverOptions options) {
+      if (options == null) {
+        throw new IllegalArgumentException("Options cannot be null");
+      }
+      failoverOptions = options;
+      return this;
+    }
+
+    /**
+     * Sets hedging of getProcess, getRun and getLineageEvent. A read still in flight after the
+     * hedging delay gets a second attempt, within a budget of extra reads. Disabled by default.
+     */
+    public Builder setHedgingOptions(HedgingOptions options) {
+      if (options == null) {
+        throw new IllegalArgumentException("Options cannot be null");
+      }
+      hedgingOptions = options;
+      return this;
+    }
+
+    /**
+     * Sets the cache of getProcess, getRun and getLineageEvent responses. deleteProcess, deleteRun
+     * and deleteLineageEvent made through the same client drop the cached responses for the deleted
+     * resource and its children. Disabled by default.
+     */
+    public Builder setResponseCacheOptions(ResponseCacheOptions options) {
+      if (options == null) {
+        throw new IllegalArgumentException("Options cannot be null");
+      }
+      responseCacheOptions = options;
+      return this;
+    }
+
     @Override
     public LineageBaseSettings build() throws IOException {
       return new LineageBaseSettings(this);
@@ -0,0 +1,214 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.paging.Page;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+import javax.annotation.Nullable;
+
+/**
+ * Publishes all resources of a list call, fetching pages as subscribers request resources.
+ *
+ * <p>Every subscriber gets its own pass over the list, starting from the page token of the request.
+ * A page is requested only when the demand of the subscriber exceeds the resources fetched so far,
+ * and at most one page is in flight per subscription. Without a page size in the request, pages are
+ * sized to the outstanding demand within {@link PrefetchOptions#DEFAULT_INITIAL_PAGE_SIZE} and
+ * {@link PrefetchOptions#DEFAULT_MAX_PAGE_SIZE}. Cancelling the subscription cancels the page in
+ * flight.
+ *
+ * @param <ResourceT> type of the listed resources
+ */
+final class ListPublisher<ResourceT> implements Flow.Publisher<ResourceT> {
+
+  private final PageFetcher<ResourceT> fetcher;
+  private final String pageToken;
+  private final int pageSize;
+
+  /**
+   * Creates a publisher.
+   *
+   * @param pageToken token of the first page, empty for the first page of the list
+   * @param pageSize page size of the list request, or 0 to size pages to the demand
+   */
+  ListPublisher(PageFetcher<ResourceT> fetcher, String pageToken, int pageSize) {
+    this.fetcher = fetcher;
+    this.pageToken = pageToken;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ResourceT> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber cannot be null");
+    }
+    ListSubscription subscription = new ListSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+  }
+
+  private final class ListSubscription implements Flow.Subscription {
+    private final Flow.Subscriber<? super ResourceT> subscriber;
+    private final ArrayDeque<ResourceT> buffer = new ArrayDeque<>();
+    // Token of the next page to request, null once the last page arrived.
+    @Nullable private String nextPageToken = pageToken;
+    @Nullable private ApiFuture<Page<ResourceT>> inFlight;
+    @Nullable private Throwable error;
+    private long demand;
+    private boolean emitting;
+    private boolean done;
+
+    private ListSubscription(Flow.Subscriber<? super ResourceT> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        if (n <= 0) {
+          error = new IllegalArgumentException("Requested count must be positive, was " + n);
+          buffer.clear();
+          nextPageToken = null;
+        } else {
+          // Saturates at Long.MAX_VALUE, which means unbounded demand.
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      ApiFuture<Page<ResourceT>> toCancel;
+      synchronized (this) {
+        done = true;
+        buffer.clear();
+        toCancel = inFlight;
+        inFlight = null;
+      }
+      if (toCancel != null) {
+        toCancel.cancel(true);
+      }
+    }
+
+    /** Delivers buffered resources and terminal signals, one thread at a time. */
+    private void drain() {
+      synchronized (this) {
+        if (emitting) {
+          return;
+        }
+        emitting = true;
+      }
+      while (true) {
+        ResourceT next = null;
+        Throwable failure = null;
+        boolean complete = false;
+        int fetchSize = 0;
+        String fetchToken = null;
+        synchronized (this) {
+          if (done) {
+            emitting = false;
+            return;
+          }
+          if (demand > 0 && !buffer.isEmpty()) {
+            next = buffer.poll();
+            if (demand != Long.MAX_VALUE) {
+              demand--;
+            }
+          } else if (buffer.isEmpty() && error != null) {
+            failure = error;
+            done = true;
+          } else if (buffer.isEmpty() && nextPageToken == null && inFlight == null) {
+            complete = true;
+            done = true;
+          } else if (demand > buffer.size() && nextPageToken != null && inFlight == null) {
+            fetchToken = nextPageToken;
+            fetchSize = nextPageSize();
+          } else {
+            emitting = false;
+            return;
+          }
+        }
+        if (next != null) {
+          subscriber.onNext(next);
+        } else if (failure != null) {
+          subscriber.onError(failure);
+        } else if (complete) {
+          subscriber.onComplete();
+        } else {
+          fetch(fetchToken, fetchSize);
+        }
+      }
+    }
+
+    private int nextPageSize() {
+      if (pageSize > 0) {
+        return pageSize;
+      }
+      long wanted = demand - buffer.size();
+      return (int)
+          Math.max(
+              PrefetchOptions.DEFAULT_INITIAL_PAGE_SIZE,
+              Math.min(PrefetchOptions.DEFAULT_MAX_PAGE_SIZE, wanted));
+    }
+
+    private void fetch(String token, int size) {
+      ApiFuture<Page<ResourceT>> page;
+      try {
+        page = fetcher.fetch(token, size);
+      } catch (RuntimeException e) {
+        page = ApiFutures.immediateFailedFuture(e);
+      }
+      synchronized (this) {
+        nextPageToken = null;
+        if (!done) {
+          inFlight = page;
+        }
+      }
+      ApiFutures.addCallback(
+          page,
+          new ApiFutureCallback<Page<ResourceT>>() {
+            @Override
+            public void onFailure(Throwable t) {
+              synchronized (ListSubscription.this) {
+                inFlight = null;
+                error = t;
+              }
+              drain();
+            }
+
+            @Override
+            public void onSuccess(Page<ResourceT> fetched) {
+              synchronized (ListSubscription.this) {
+                inFlight = null;
+                if (done) {
+                  return;
+                }
+                fetched.getValues().forEach(buffer::add);
+                nextPageToken = fetched.hasNextPage() ? fetched.getNextPageToken() : null;
+              }
+              drain();
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+  }
+}
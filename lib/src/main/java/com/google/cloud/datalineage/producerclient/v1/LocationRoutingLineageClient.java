@@ -0,0 +1,329 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.core.BackgroundResourceAggregation;
+import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteRunRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetLineageEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetRunRequest;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListLineageEventsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListProcessesPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListRunsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageEvent;
+import com.google.cloud.datacatalog.lineage.v1.ListLineageEventsRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListProcessesRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListRunsRequest;
+import com.google.cloud.datacatalog.lineage.v1.OperationMetadata;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.cloud.datalineage.producerclient.helpers.FunctionWithException;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.cloud.datalineage.producerclient.helpers.NamesHelper;
+import com.google.longrunning.GetOperationRequest;
+import com.google.longrunning.Operation;
+import com.google.protobuf.Empty;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes every call to a client of the regional endpoint of the location in its parent or name.
+ *
+ * <p>Regional clients are created lazily with the settings of this client and the endpoint
+ * replaced, and cached for the lifetime of this client. Calls to the `global` location, and calls
+ * whose names do not contain a valid location, go to the client of the configured endpoint, which
+ * then reports invalid names as before. This class is thread-safe.
+ */
+@Slf4j
+final class LocationRoutingLineageClient implements OperationLineageClient {
+
+  static final String LOCATION_PLACEHOLDER = "{location}";
+  static final String DEFAULT_REGIONAL_ENDPOINT_TEMPLATE =
+      LOCATION_PLACEHOLDER + "-datalineage.googleapis.com:443";
+
+  private static final String GLOBAL_LOCATION = "global";
+  // Locations become part of a host name, anything else is left to the configured endpoint.
+  private static final Pattern LOCATION_PATTERN = Pattern.compile("[a-z0-9][a-z0-9-]*");
+
+  private final LineageBaseSettings settings;
+  private final FunctionWithException<LineageBaseSettings, BasicLineageClient, IOException>
+      factory;
+  private final BasicLineageClient defaultClient;
+  private final Map<String, BasicLineageClient> regionalClients = new ConcurrentHashMap<>();
+  private boolean shutdown;
+
+  private final UnaryCallable<DeleteLineageEventRequest, Empty> deleteLineageEventCallable =
+      route(DeleteLineageEventRequest::getName, BasicLineageClient::deleteLineageEventCallable);
+  private final UnaryCallable<DeleteProcessRequest, Operation> deleteProcessCallable =
+      route(
+          DeleteProcessRequest::getName,
+          client -> OperationLineageClient.of(client).deleteProcessCallable());
+  private final UnaryCallable<DeleteRunRequest, Operation> deleteRunCallable =
+      route(
+          DeleteRunRequest::getName,
+          client -> OperationLineageClient.of(client).deleteRunCallable());
+  // Operation names contain the location of the operation.
+  private final UnaryCallable<GetOperationRequest, Operation> getOperationCallable =
+      route(
+          GetOperationRequest::getName,
+          client -> OperationLineageClient.of(client).getOperationCallable());
+  private final UnaryCallable<GetLineageEventRequest, LineageEvent> getEventCallable =
+      route(GetLineageEventRequest::getName, BasicLineageClient::getEventCallable);
+  private final UnaryCallable<GetProcessRequest, Process> getProcessCallable =
+      route(GetProcessRequest::getName, BasicLineageClient::getProcessCallable);
+  private final UnaryCallable<GetRunRequest, Run> getRunCallable =
+      route(GetRunRequest::getName, BasicLineageClient::getRunCallable);
+  private final UnaryCallable<ListLineageEventsRequest, ListLineageEventsPagedResponse>
+      listLineageEventsPagedCallable =
+          route(
+              ListLineageEventsRequest::getParent,
+              BasicLineageClient::listLineageEventsPagedCallable);
+  private final UnaryCallable<ListProcessesRequest, ListProcessesPagedResponse>
+      listProcessesPagedCallable =
+          route(ListProcessesRequest::getParent, BasicLineageClient::listProcessesPagedCallable);
+  private final UnaryCallable<ListRunsRequest, ListRunsPagedResponse> listRunsPagedCallable =
+      route(ListRunsRequest::getParent, BasicLineageClient::listRunsPagedCallable);
+  private final UnaryCallable<ProcessOpenLineageRunEventRequest, ProcessOpenLineageRunEventResponse>
+      processOpenLineageRunEventCallable =
+          route(
+              ProcessOpenLineageRunEventRequest::getParent,
+              BasicLineageClient::processOpenLineageRunEventCallable);
+
+  /**
+   * Creates the client of the configured endpoint right away, regional clients on first use.
+   *
+   * @param settings settings of all created clients
+   * @param factory creates a client for settings with a single endpoint
+   */
+  LocationRoutingLineageClient(
+      LineageBaseSettings settings,
+      FunctionWithException<LineageBaseSettings, BasicLineageClient, IOException> factory)
+      throws IOException {
+    log.debug(
+        "Initializing location routing with regional endpoint template: {}",
+        settings.getRegionalEndpointTemplate());
+    this.settings = settings;
+    this.factory = factory;
+    this.defaultClient = factory.apply(settings);
+  }
+
+  @Override
+  public UnaryCallable<DeleteLineageEventRequest, Empty> deleteLineageEventCallable() {
+    return deleteLineageEventCallable;
+  }
+
+  @Override
+  public OperationFuture<Empty, OperationMetadata> deleteProcessAsync(
+      DeleteProcessRequest request) {
+    return clientFor(request.getName()).deleteProcessAsync(request);
+  }
+
+  @Override
+  public OperationFuture<Empty, OperationMetadata> deleteRunAsync(DeleteRunRequest request) {
+    return clientFor(request.getName()).deleteRunAsync(request);
+  }
+
+  @Override
+  public UnaryCallable<DeleteProcessRequest, Operation> deleteProcessCallable() {
+    return deleteProcessCallable;
+  }
+
+  @Override
+  public UnaryCallable<DeleteRunRequest, Operation> deleteRunCallable() {
+    return deleteRunCallable;
+  }
+
+  @Override
+  public UnaryCallable<GetOperationRequest, Operation> getOperationCallable() {
+    return getOperationCallable;
+  }
+
+  @Override
+  public UnaryCallable<GetLineageEventRequest, LineageEvent> getEventCallable() {
+    return getEventCallable;
+  }
+
+  @Override
+  public UnaryCallable<GetProcessRequest, Process> getProcessCallable() {
+    return getProcessCallable;
+  }
+
+  @Override
+  public UnaryCallable<GetRunRequest, Run> getRunCallable() {
+    return getRunCallable;
+  }
+
+  @Override
+  public UnaryCallable<ListLineageEventsRequest, ListLineageEventsPagedResponse>
+      listLineageEventsPagedCallable() {
+    return listLineageEventsPagedCallable;
+  }
+
+  @Override
+  public UnaryCallable<ListProcessesRequest, ListProcessesPagedResponse>
+      listProcessesPagedCallable() {
+    return listProcessesPagedCallable;
+  }
+
+  @Override
+  public UnaryCallable<ListRunsRequest, ListRunsPagedResponse> listRunsPagedCallable() {
+    return listRunsPagedCallable;
+  }
+
+  @Override
+  public UnaryCallable<ProcessOpenLineageRunEventRequest, ProcessOpenLineageRunEventResponse>
+      processOpenLineageRunEventCallable() {
+    return processOpenLineageRunEventCallable;
+  }
+
+  @Override
+  public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      String parent, byte[] openLineageJson) {
+    return clientFor(parent).processOpenLineageRunEvent(parent, openLineageJson);
+  }
+
+  @Override
+  public void shutdown() {
+    resources(true).shutdown();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return resources(false).isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return resources(false).isTerminated();
+  }
+
+  @Override
+  public void shutdownNow() {
+    resources(true).shutdownNow();
+  }
+
+  @Override
+  public boolean awaitTermination(long duration, TimeUnit unit) throws InterruptedException {
+    return resources(false).awaitTermination(duration, unit);
+  }
+
+  @Override
+  public void close() throws Exception {
+    resources(true).close();
+  }
+
+  /** Returns the number of regional clients created so far. */
+  int getRegionalClientCount() {
+    return regionalClients.size();
+  }
+
+  private <RequestT, ResponseT> UnaryCallable<RequestT, ResponseT> route(
+      Function<RequestT, String> name,
+      Function<BasicLineageClient, UnaryCallable<RequestT, ResponseT>> callable) {
+    return new UnaryCallable<RequestT, ResponseT>() {
+      @Override
+      public ApiFuture<ResponseT> futureCall(RequestT request, ApiCallContext context) {
+        return callable.apply(clientFor(name.apply(request))).futureCall(request, context);
+      }
+    };
+  }
+
+  private BasicLineageClient clientFor(String name) {
+    String location;
+    try {
+      location = NamesHelper.getLocationFromResourceName(name);
+    } catch (IllegalArgumentException e) {
+      return defaultClient;
+    }
+    if (GLOBAL_LOCATION.equals(location) || !LOCATION_PATTERN.matcher(location).matches()) {
+      return defaultClient;
+    }
+    BasicLineageClient client = regionalClients.get(location);
+    return client != null ? client : createRegionalClient(location);
+  }
+
+  /**
+   * Creates the client of a location. Creation is serialized, so a client is never created twice or
+   * after shutdown.
+   *
+   * @throws com.google.api.gax.rpc.ApiException with UNAVAILABLE status code if the client cannot
+   *     be created
+   */
+  private synchronized BasicLineageClient createRegionalClient(String location) {
+    BasicLineageClient client = regionalClients.get(location);
+    if (client != null) {
+      return client;
+    }
+    if (shutdown) {
+      // The default client is shut down as well, so calls fail the same way.
+      return defaultClient;
+    }
+    String endpoint =
+        settings.getRegionalEndpointTemplate().replace(LOCATION_PLACEHOLDER, location);
+    if (endpoint.equals(settings.getEndpoint())) {
+      client = defaultClient;
+    } else {
+      log.debug("Creating client for location {} with endpoint {}", location, endpoint);
+      try {
+        LineageBaseSettings.Builder regionalSettings = settings.toBuilder();
+        regionalSettings.setEndpoint(endpoint);
+        client = factory.apply(regionalSettings.build());
+      } catch (IOException e) {
+        throw ApiExceptionFactory.createException(
+            "Failed to create client for endpoint " + endpoint,
+            e,
+            GrpcHelper.getStatusCodeFromCode(Code.UNAVAILABLE),
+            false);
+      }
+    }
+    regionalClients.put(location, client);
+    return client;
+  }
+
+  /**
+   * Returns all distinct clients created so far as one resource.
+   *
+   * @param shuttingDown whether no regional clients can be created from now on
+   */
+  private synchronized BackgroundResource resources(boolean shuttingDown) {
+    shutdown |= shuttingDown;
+    List<BackgroundResource> clients = new ArrayList<>();
+    clients.add(defaultClient);
+    for (BasicLineageClient client : regionalClients.values()) {
+      if (client != defaultClient) {
+        clients.add(client);
+      }
+    }
+    return new BackgroundResourceAggregation(clients);
+  }
+}
@@ -0,0 +1,318 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only write-ahead log of OpenLineage events, stored in rotating memory-mapped segments.
+ *
+ * <p>Every record is laid out as {@code [int length][int crc32][byte state][payload]}. The length
+ * is written last, so a record is visible only after its payload is in place, and the checksum
+ * discards records torn by a crash. Acknowledging a record flips its state byte in place. A segment
+ * is deleted once it is no longer written to and all of its records are acknowledged.
+ *
+ * <p>Records that were not acknowledged before the spool was closed are returned by {@link
+ * #takeRecoveredRecords()} when it is opened again. Writes land in the page cache, so they survive
+ * a crash of the process, but not a crash or power loss of the host; segments are forced to disk
+ * only when they are rotated or the spool is closed. The directory is locked while the spool is
+ * open, so that it is used by one spool at a time across processes. This class is thread-safe.
+ */
+@Slf4j
+final class OpenLineageEventSpool implements AutoCloseable {
+
+  static final int HEADER_BYTES = 9;
+  private static final byte PENDING = 1;
+  private static final byte ACKNOWLEDGED = 2;
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".spool";
+  private static final String LOCK_FILE = "spool.lock";
+
+  /**
+   * Opens the spool in the directory of the options, creating it if needed, and recovers records
+   * left by a previous instance.
+   *
+   * @param options spool options
+   * @return opened spool
+   * @throws IOException if the directory is locked by another spool, or segments cannot be read or
+   *     created
+   */
+  static OpenLineageEventSpool open(SpoolOptions options) throws IOException {
+    log.debug(
+        "Opening OpenLineage event spool in {} with segment size: {}",
+        options.getDirectory(),
+        options.getSegmentSizeBytes());
+    Files.createDirectories(options.getDirectory());
+    FileLock lock = lock(options.getDirectory());
+    OpenLineageEventSpool spool =
+        new OpenLineageEventSpool(options.getDirectory(), options.getSegmentSizeBytes(), lock);
+    try {
+      spool.recover();
+    } catch (IOException | RuntimeException e) {
+      spool.close();
+      throw e;
+    }
+    return spool;
+  }
+
+  private final Path directory;
+  private final int segmentSizeBytes;
+  private final FileLock lock;
+  private List<Record> recovered = new ArrayList<>();
+  private long nextSequence;
+  private Segment active;
+  private boolean closed;
+
+  private OpenLineageEventSpool(Path directory, int segmentSizeBytes, FileLock lock) {
+    this.directory = directory;
+    this.segmentSizeBytes = segmentSizeBytes;
+    this.lock = lock;
+  }
+
+  /**
+   * Returns the records that were left unacknowledged by a previous instance, in append order. The
+   * spool does not keep them, so they are returned only once and their payloads are held by the
+   * caller only.
+   */
+  synchronized List<Record> takeRecoveredRecords() {
+    List<Record> records = recovered;
+    recovered = Collections.emptyList();
+    return records;
+  }
+
+  /**
+   * Appends a pending record.
+   *
+   * @param payload serialized event
+   * @return handle used to acknowledge the record
+   * @throws IOException if a new segment cannot be created
+   * @throws IllegalStateException if the spool has been closed
+   */
+  synchronized Record append(byte[] payload) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("Cannot append to a closed spool");
+    }
+    int recordBytes = HEADER_BYTES + payload.length;
+    if (active == null || active.buffer.capacity() - active.position < recordBytes) {
+      rotate(recordBytes);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(payload, 0, payload.length);
+    MappedByteBuffer buffer = active.buffer;
+    int position = active.position;
+    buffer.putInt(position + 4, (int) crc.getValue());
+    buffer.put(position + 8, PENDING);
+    ByteBuffer view = buffer.duplicate();
+    view.position(position + HEADER_BYTES);
+    view.put(payload);
+    buffer.putInt(position, payload.length);
+    active.position += recordBytes;
+    active.pending++;
+    return new Record(active, position, payload);
+  }
+
+  /**
+   * Marks a record as delivered, so it is not recovered again. Acknowledging a record twice has no
+   * effect. Records acknowledged after the spool is closed are recovered again, since another spool
+   * may already own their segments.
+   *
+   * @param record record returned by {@link #append(byte[])} or {@link #takeRecoveredRecords()}
+   */
+  synchronized void acknowledge(Record record) {
+    if (closed) {
+      return;
+    }
+    Segment segment = record.segment;
+    if (segment.buffer.get(record.position + 8) != PENDING) {
+      return;
+    }
+    segment.buffer.put(record.position + 8, ACKNOWLEDGED);
+    segment.pending--;
+    if (segment.pending == 0 && segment != active) {
+      delete(segment);
+    }
+  }
+
+  /**
+   * Forces the active segment to disk, rejects further appends, ignores further acknowledgements
+   * and unlocks the directory.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (active != null) {
+      active.buffer.force();
+    }
+    try {
+      lock.channel().close();
+    } catch (IOException e) {
+      log.warn("Failed to unlock spool directory {}", directory, e);
+    }
+  }
+
+  /**
+   * Locks the spool directory, so that two spools never append to or delete the same segments.
+   *
+   * @throws IOException if the directory is locked by another spool, in this or another process
+   */
+  private static FileLock lock(Path directory) throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    FileLock lock = null;
+    try {
+      lock = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // Held by another spool of this process.
+    } finally {
+      if (lock == null) {
+        channel.close();
+      }
+    }
+    if (lock == null) {
+      throw new IOException("Spool directory " + directory + " is used by another client");
+    }
+    return lock;
+  }
+
+  private void recover() throws IOException {
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream =
+        Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      stream.forEach(files::add);
+    }
+    // Sequence numbers are zero-padded, so the lexical order is the append order.
+    Collections.sort(files);
+    for (Path file : files) {
+      String name = file.getFileName().toString();
+      long sequence =
+          Long.parseLong(
+              name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+      nextSequence = Math.max(nextSequence, sequence + 1);
+      Segment segment = new Segment(file, map(file, Files.size(file)));
+      scan(segment);
+      if (segment.pending == 0) {
+        delete(segment);
+      }
+    }
+    if (!recovered.isEmpty()) {
+      log.info("Recovered {} unsent OpenLineage events from {}", recovered.size(), directory);
+    }
+  }
+
+  private void scan(Segment segment) {
+    MappedByteBuffer buffer = segment.buffer;
+    int position = 0;
+    while (position + HEADER_BYTES <= buffer.capacity()) {
+      int length = buffer.getInt(position);
+      if (length <= 0 || length > buffer.capacity() - position - HEADER_BYTES) {
+        break;
+      }
+      byte[] payload = new byte[length];
+      ByteBuffer view = buffer.duplicate();
+      view.position(position + HEADER_BYTES);
+      view.get(payload);
+      CRC32 crc = new CRC32();
+      crc.update(payload, 0, length);
+      if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+        log.warn("Discarding torn record at offset {} of {}", position, segment.file);
+        break;
+      }
+      if (buffer.get(position + 8) == PENDING) {
+        segment.pending++;
+        recovered.add(new Record(segment, position, payload));
+      }
+      position += HEADER_BYTES + length;
+    }
+  }
+
+  private void rotate(int recordBytes) throws IOException {
+    if (active != null) {
+      active.buffer.force();
+      if (active.pending == 0) {
+        delete(active);
+      }
+    }
+    Path file =
+        directory.resolve(
+            String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence++, SEGMENT_SUFFIX));
+    active = new Segment(file, map(file, Math.max(segmentSizeBytes, recordBytes)));
+    log.debug("Rotated OpenLineage event spool to {}", file);
+  }
+
+  private static MappedByteBuffer map(Path file, long size) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // The mapping stays valid after the channel is closed.
+      return channel.map(MapMode.READ_WRITE, 0, size);
+    }
+  }
+
+  private static void delete(Segment segment) {
+    try {
+      Files.deleteIfExists(segment.file);
+    } catch (IOException e) {
+      log.warn("Failed to delete fully acknowledged spool segment {}", segment.file, e);
+    }
+  }
+
+  private static final class Segment {
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private int position;
+    private int pending;
+
+    private Segment(Path file, MappedByteBuffer buffer) {
+      this.file = file;
+      this.buffer = buffer;
+    }
+  }
+
+  /** Handle of a record appended to the spool. */
+  static final class Record {
+    private final Segment segment;
+    private final int position;
+    private final byte[] payload;
+
+    private Record(Segment segment, int position, byte[] payload) {
+      this.segment = segment;
+      this.position = position;
+      this.payload = payload;
+    }
+
+    byte[] getPayload() {
+      return payload;
+    }
+  }
+}
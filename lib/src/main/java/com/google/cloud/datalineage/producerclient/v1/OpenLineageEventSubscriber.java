@@ -0,0 +1,178 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.Flow;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends OpenLineage run events published upstream, requesting more events only as calls complete.
+ *
+ * <p>At most `maxInFlight` events are requested before their calls complete, so a slow transport
+ * slows down the publisher instead of filling a buffer. The subscriber can be subscribed once.
+ * {@link #getCompletion()} completes once the publisher completed and all calls finished. It fails
+ * with the first failed call, which also cancels the subscription, or with the error of the
+ * publisher.
+ */
+@Slf4j
+public final class OpenLineageEventSubscriber
+    implements Flow.Subscriber<ProcessOpenLineageRunEventRequest> {
+
+  private final OpenLineageEventSender sender;
+  private final int maxInFlight;
+  private final SettableApiFuture<Void> completion = SettableApiFuture.create();
+  private Flow.Subscription subscription;
+  private int inFlight;
+  private long sentCount;
+  private boolean upstreamDone;
+  // Events to request from the subscription. Only the thread draining them calls request, so that
+  // completed calls never call it concurrently or from within it.
+  private long pendingRequests;
+  private boolean draining;
+
+  OpenLineageEventSubscriber(OpenLineageEventSender sender, int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("Limit must be positive");
+    }
+    this.sender = sender;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Returns the outcome of the stream.
+   *
+   * @return future that completes when all events are sent, or fails with the first error
+   */
+  public ApiFuture<Void> getCompletion() {
+    return completion;
+  }
+
+  /** Returns the number of events whose calls completed successfully. */
+  public synchronized long getSentCount() {
+    return sentCount;
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    synchronized (this) {
+      if (this.subscription != null || completion.isDone()) {
+        log.warn("OpenLineageEventSubscriber is already subscribed, cancelling new subscription");
+        subscription.cancel();
+        return;
+      }
+      this.subscription = subscription;
+    }
+    request(maxInFlight);
+  }
+
+  @Override
+  public void onNext(ProcessOpenLineageRunEventRequest request) {
+    synchronized (this) {
+      if (completion.isDone()) {
+        return;
+      }
+      inFlight++;
+    }
+    ApiFuture<ProcessOpenLineageRunEventResponse> call;
+    try {
+      call = sender.send(request);
+    } catch (RuntimeException e) {
+      call = ApiFutures.immediateFailedFuture(e);
+    }
+    ApiFutures.addCallback(
+        call,
+        new ApiFutureCallback<ProcessOpenLineageRunEventResponse>() {
+          @Override
+          public void onFailure(Throwable t) {
+            Flow.Subscription toCancel;
+            synchronized (OpenLineageEventSubscriber.this) {
+              inFlight--;
+              toCancel = subscription;
+            }
+            if (completion.setException(t)) {
+              log.warn("Failed to send OpenLineage event, cancelling subscription", t);
+              toCancel.cancel();
+            }
+          }
+
+          @Override
+          public void onSuccess(ProcessOpenLineageRunEventResponse response) {
+            boolean finished;
+            synchronized (OpenLineageEventSubscriber.this) {
+              inFlight--;
+              sentCount++;
+              finished = upstreamDone && inFlight == 0;
+            }
+            if (finished) {
+              completion.set(null);
+            } else {
+              // One completed call makes room for one more event.
+              request(1);
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Adds events to request from the subscription, and requests them unless another thread is
+   * already doing so. That thread requests them once its own request returns.
+   */
+  private void request(long count) {
+    synchronized (this) {
+      pendingRequests += count;
+      if (draining) {
+        return;
+      }
+      draining = true;
+    }
+    while (true) {
+      long toRequest;
+      synchronized (this) {
+        toRequest = pendingRequests;
+        pendingRequests = 0;
+        if (toRequest == 0 || completion.isDone()) {
+          draining = false;
+          return;
+        }
+      }
+      subscription.request(toRequest);
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    completion.setException(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    boolean finished;
+    synchronized (this) {
+      upstreamDone = true;
+      finished = inFlight == 0;
+    }
+    if (finished) {
+      completion.set(null);
+    }
+  }
+}
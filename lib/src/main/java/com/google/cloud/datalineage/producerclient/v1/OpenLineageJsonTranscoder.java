@@ -0,0 +1,329 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.cloud.datalineage.producerclient.helpers.OpenLineageHelper;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+
+/**
+ * Turns OpenLineage JSON into a serialized ProcessOpenLineageRunEventRequest.
+ *
+ * <p>JSON tokens are written straight in the protobuf wire format, without building Struct and
+ * Value messages. Every length-delimited field gets a one byte length placeholder that is patched
+ * when the field ends, and the field is shifted in the rare case its length needs a longer varint.
+ * The result parses to the same request as the one built with {@link
+ * OpenLineageHelper#jsonToStruct(byte[])}.
+ */
+final class OpenLineageJsonTranscoder {
+
+  private static final int RECURSION_LIMIT = 100;
+
+  // Field tags (field number << 3 | wire type) of the messages written by this class.
+  private static final int REQUEST_PARENT = 0x0A;
+  private static final int REQUEST_OPEN_LINEAGE = 0x12;
+  private static final int REQUEST_REQUEST_ID = 0x1A;
+  private static final int STRUCT_FIELDS = 0x0A;
+  private static final int FIELDS_ENTRY_KEY = 0x0A;
+  private static final int FIELDS_ENTRY_VALUE = 0x12;
+  private static final int VALUE_NULL = 0x08;
+  private static final int VALUE_NUMBER = 0x11;
+  private static final int VALUE_STRING = 0x1A;
+  private static final int VALUE_BOOL = 0x20;
+  private static final int VALUE_STRUCT = 0x2A;
+  private static final int VALUE_LIST = 0x32;
+  private static final int LIST_VALUES = 0x0A;
+
+  private OpenLineageJsonTranscoder() {}
+
+  /**
+   * Converts OpenLineage JSON to a request message.
+   *
+   * @throws ApiException with INVALID_ARGUMENT status code if the JSON cannot be parsed
+   */
+  static ProcessOpenLineageRunEventRequest toRequest(String parent, byte[] openLineageJson) {
+    try {
+      return ProcessOpenLineageRunEventRequest.newBuilder()
+          .setParent(parent)
+          .setOpenLineage(OpenLineageHelper.jsonToStruct(openLineageJson))
+          .build();
+    } catch (InvalidProtocolBufferException e) {
+      throw invalidArgument(e);
+    }
+  }
+
+  /**
+   * Converts OpenLineage JSON to a serialized request message.
+   *
+   * @throws ApiException with INVALID_ARGUMENT status code if the JSON cannot be parsed
+   */
+  static byte[] toSerializedRequest(String parent, byte[] openLineageJson) {
+    return toSerializedRequest(parent, openLineageJson, null);
+  }
+
+  /**
+   * Converts OpenLineage JSON to a serialized request message with the given request ID.
+   *
+   * @param requestId ID that makes retries of the request idempotent, not set if {@code null}
+   * @throws ApiException with INVALID_ARGUMENT status code if the JSON cannot be parsed
+   */
+  static byte[] toSerializedRequest(
+      String parent, byte[] openLineageJson, @Nullable String requestId) {
+    JsonReader reader =
+        new JsonReader(
+            new InputStreamReader(
+                new ByteArrayInputStream(openLineageJson), StandardCharsets.UTF_8));
+    // Same leniency as OpenLineageHelper.
+    reader.setLenient(true);
+    WireWriter writer = new WireWriter(openLineageJson.length + parent.length() + 16);
+    try {
+      writer.writeString(REQUEST_PARENT, parent);
+      JsonToken token = reader.peek();
+      if (token != JsonToken.BEGIN_OBJECT) {
+        throw new InvalidProtocolBufferException("Expect a map object but found: " + token);
+      }
+      writer.begin(REQUEST_OPEN_LINEAGE);
+      writeStruct(reader, writer, 1);
+      writer.end();
+      if (requestId != null) {
+        writer.writeString(REQUEST_REQUEST_ID, requestId);
+      }
+    } catch (IOException | NumberFormatException e) {
+      // In-memory readers do not fail on their own, so this is malformed or unsupported JSON.
+      throw invalidArgument(e);
+    }
+    return writer.toByteArray();
+  }
+
+  private static void writeStruct(JsonReader reader, WireWriter writer, int depth)
+      throws IOException {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      writer.begin(STRUCT_FIELDS);
+      writer.writeString(FIELDS_ENTRY_KEY, reader.nextName());
+      writer.begin(FIELDS_ENTRY_VALUE);
+      writeValue(reader, writer, depth);
+      writer.end();
+      writer.end();
+    }
+    reader.endObject();
+  }
+
+  private static void writeValue(JsonReader reader, WireWriter writer, int depth)
+      throws IOException {
+    JsonToken token = reader.peek();
+    switch (token) {
+      case BEGIN_OBJECT:
+        checkDepth(depth);
+        writer.begin(VALUE_STRUCT);
+        writeStruct(reader, writer, depth + 1);
+        writer.end();
+        break;
+      case BEGIN_ARRAY:
+        checkDepth(depth);
+        writer.begin(VALUE_LIST);
+        reader.beginArray();
+        while (reader.hasNext()) {
+          writer.begin(LIST_VALUES);
+          writeValue(reader, writer, depth + 1);
+          writer.end();
+        }
+        reader.endArray();
+        writer.end();
+        break;
+      case STRING:
+        writer.writeString(VALUE_STRING, reader.nextString());
+        break;
+      case NUMBER:
+        String number = reader.nextString();
+        double value = Double.parseDouble(number);
+        if (Double.isInfinite(value)) {
+          throw new InvalidProtocolBufferException("Out of range double value: " + number);
+        }
+        writer.writeDouble(VALUE_NUMBER, value);
+        break;
+      case BOOLEAN:
+        writer.writeVarint(VALUE_BOOL, reader.nextBoolean() ? 1 : 0);
+        break;
+      case NULL:
+        reader.nextNull();
+        // NullValue.NULL_VALUE, written because it is a member of a oneof.
+        writer.writeVarint(VALUE_NULL, 0);
+        break;
+      default:
+        throw new InvalidProtocolBufferException("Unexpected JSON token: " + token);
+    }
+  }
+
+  private static void checkDepth(int depth) throws InvalidProtocolBufferException {
+    if (depth >= RECURSION_LIMIT) {
+      throw new InvalidProtocolBufferException("Hit recursion limit.");
+    }
+  }
+
+  private static ApiException invalidArgument(Exception cause) {
+    return ApiExceptionFactory.createException(
+        "Failed to parse OpenLineage JSON: " + cause.getMessage(),
+        cause,
+        GrpcHelper.getStatusCodeFromCode(Code.INVALID_ARGUMENT),
+        false);
+  }
+
+  /** Growable buffer that writes protobuf fields and backpatches lengths of nested ones. */
+  private static final class WireWriter {
+    private byte[] buffer;
+    private int position;
+    private int[] starts = new int[16];
+    private int depth;
+
+    private WireWriter(int initialCapacity) {
+      buffer = new byte[initialCapacity];
+    }
+
+    /** Starts a length-delimited field, its length is written by the matching {@link #end()}. */
+    private void begin(int tag) {
+      ensureCapacity(2);
+      buffer[position++] = (byte) tag;
+      if (depth == starts.length) {
+        starts = Arrays.copyOf(starts, depth * 2);
+      }
+      starts[depth++] = position;
+      // Placeholder for a length below 128, the most common case.
+      position++;
+    }
+
+    private void end() {
+      int start = starts[--depth];
+      int length = position - start - 1;
+      int lengthSize = varintSize(length);
+      if (lengthSize > 1) {
+        ensureCapacity(lengthSize - 1);
+        System.arraycopy(buffer, start + 1, buffer, start + lengthSize, length);
+        position += lengthSize - 1;
+      }
+      putVarint(start, length);
+    }
+
+    private void writeVarint(int tag, int value) {
+      ensureCapacity(6);
+      buffer[position++] = (byte) tag;
+      position = putVarint(position, value);
+    }
+
+    private void writeDouble(int tag, double value) {
+      ensureCapacity(9);
+      buffer[position++] = (byte) tag;
+      long bits = Double.doubleToRawLongBits(value);
+      for (int i = 0; i < 8; i++) {
+        buffer[position++] = (byte) (bits >>> (8 * i));
+      }
+    }
+
+    private void writeString(int tag, String value) {
+      int length = utf8Length(value);
+      ensureCapacity(6 + length);
+      buffer[position++] = (byte) tag;
+      position = putVarint(position, length);
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+          buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+          buffer[position++] = (byte) (0xC0 | (c >>> 6));
+          buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (isSurrogatePair(value, i)) {
+          int codePoint = Character.toCodePoint(c, value.charAt(++i));
+          buffer[position++] = (byte) (0xF0 | (codePoint >>> 18));
+          buffer[position++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+          buffer[position++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+          buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+          // Unpaired surrogates are replaced, as String.getBytes does.
+          buffer[position++] = (byte) '?';
+        } else {
+          buffer[position++] = (byte) (0xE0 | (c >>> 12));
+          buffer[position++] = (byte) (0x80 | ((c >>> 6) & 0x3F));
+          buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+      }
+    }
+
+    private byte[] toByteArray() {
+      return Arrays.copyOf(buffer, position);
+    }
+
+    private int putVarint(int offset, int value) {
+      while ((value & ~0x7F) != 0) {
+        buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      buffer[offset++] = (byte) value;
+      return offset;
+    }
+
+    private void ensureCapacity(int bytes) {
+      if (position + bytes > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+      }
+    }
+
+    private static int varintSize(int value) {
+      int size = 1;
+      while ((value & ~0x7F) != 0) {
+        value >>>= 7;
+        size++;
+      }
+      return size;
+    }
+
+    private static int utf8Length(String value) {
+      int length = 0;
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+          length += 1;
+        } else if (c < 0x800) {
+          length += 2;
+        } else if (isSurrogatePair(value, i)) {
+          length += 4;
+          i++;
+        } else if (Character.isSurrogate(c)) {
+          length += 1;
+        } else {
+          length += 3;
+        }
+      }
+      return length;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+      return Character.isHighSurrogate(value.charAt(index))
+          && index + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+  }
+}
@@ -0,0 +1,53 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteRunRequest;
+import com.google.longrunning.GetOperationRequest;
+import com.google.longrunning.Operation;
+
+/**
+ * Lineage client that can start long-running deletes without waiting for them, so that their
+ * operations can be polled together.
+ *
+ * <p>Kept apart from {@link BasicLineageClient} so that custom clients do not have to implement it,
+ * bulk deletes through other clients wait for each operation on its own.
+ */
+interface OperationLineageClient extends BasicLineageClient {
+
+  /** Starts deleting a process, leaving the operation to be polled by the caller. */
+  UnaryCallable<DeleteProcessRequest, Operation> deleteProcessCallable();
+
+  /** Starts deleting a run, leaving the operation to be polled by the caller. */
+  UnaryCallable<DeleteRunRequest, Operation> deleteRunCallable();
+
+  UnaryCallable<GetOperationRequest, Operation> getOperationCallable();
+
+  /**
+   * Returns the client as an operation client, for wrappers whose clients are created by the
+   * standard factory.
+   *
+   * @throws UnsupportedOperationException if the client cannot start deletes without waiting
+   */
+  static OperationLineageClient of(BasicLineageClient client) {
+    if (!(client instanceof OperationLineageClient)) {
+      throw new UnsupportedOperationException(
+          client.getClass().getName() + " cannot start deletes without waiting for them");
+    }
+    return (OperationLineageClient) client;
+  }
+}
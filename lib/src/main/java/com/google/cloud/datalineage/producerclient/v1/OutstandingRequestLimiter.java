@@ -0,0 +1,265 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.cloud.datalineage.producerclient.v1.FlowControlOptions.LimitExceededBehavior;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limits the number and the serialized size of requests that are sent but not completed yet.
+ *
+ * <p>Permits are taken before a call is made and returned when its future completes, so the limit
+ * bounds the work queued in the transport. Requests that were sent are never dropped, because
+ * cancelling them does not stop the server from handling them. This class is thread-safe.
+ */
+@Slf4j
+final class OutstandingRequestLimiter {
+
+  private final long maxCount;
+  private final long maxBytes;
+  private final LimitExceededBehavior behavior;
+  private final UnsentRequests unsentRequests;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+  // Insertion ordered, so the first element is the oldest outstanding request.
+  private final LinkedHashSet<Permit> outstanding = new LinkedHashSet<>();
+  private long count;
+  private long bytes;
+  private long limitExceededCount;
+  private long droppedCount;
+
+  OutstandingRequestLimiter(FlowControlOptions options) {
+    this(options, UnsentRequests.NONE);
+  }
+
+  /**
+   * Creates a limiter whose drop-oldest mode drops requests of {@code unsentRequests}, the only
+   * requests that can be dropped without the server handling them anyway.
+   */
+  OutstandingRequestLimiter(FlowControlOptions options, UnsentRequests unsentRequests) {
+    log.debug(
+        "Initializing flow control with max outstanding requests: {}, max outstanding bytes: {}, "
+            + "behavior: {}",
+        options.getMaxOutstandingRequestCount(),
+        options.getMaxOutstandingRequestBytes(),
+        options.getLimitExceededBehavior());
+    this.maxCount = options.getMaxOutstandingRequestCount();
+    this.maxBytes = options.getMaxOutstandingRequestBytes();
+    this.behavior = options.getLimitExceededBehavior();
+    this.unsentRequests = unsentRequests;
+  }
+
+  /**
+   * Makes a call once it fits within the limits.
+   *
+   * @param requestBytes serialized size of the request
+   * @param call supplier that makes the call
+   * @return future returned by the call
+   * @throws ApiException with RESOURCE_EXHAUSTED status code if the limit is exceeded in fail-fast
+   *     mode, or in drop-oldest mode without enough unsent requests to drop, or with CANCELLED
+   *     status code if interrupted while blocked
+   */
+  <F extends ApiFuture<?>> F run(long requestBytes, Supplier<F> call) {
+    Permit permit = acquire(requestBytes);
+    F result;
+    try {
+      result = call.get();
+    } catch (RuntimeException e) {
+      release(permit);
+      throw e;
+    }
+    lock.lock();
+    try {
+      permit.future = result;
+    } finally {
+      lock.unlock();
+    }
+    result.addListener(() -> release(permit), MoreExecutors.directExecutor());
+    return result;
+  }
+
+  FlowControlStats getStats() {
+    lock.lock();
+    try {
+      return new FlowControlStats(count, bytes, limitExceededCount, droppedCount);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Permit acquire(long requestBytes) {
+    Permit permit = new Permit(requestBytes);
+    List<ApiFuture<?>> toCancel = new ArrayList<>();
+    lock.lock();
+    try {
+      if (!fits(requestBytes)) {
+        limitExceededCount++;
+        switch (behavior) {
+          case FAIL_FAST:
+            throw limitExceeded();
+          case DROP_OLDEST:
+            dropOldest(requestBytes, toCancel);
+            break;
+          case BLOCK:
+          default:
+            awaitRoom(requestBytes);
+        }
+      }
+      outstanding.add(permit);
+      count++;
+      bytes += requestBytes;
+    } finally {
+      lock.unlock();
+    }
+    // Cancelled futures complete their listeners on this thread, so cancel outside of the lock.
+    toCancel.forEach(future -> future.cancel(true));
+    return permit;
+  }
+
+  private boolean fits(long requestBytes) {
+    return fits(requestBytes, 0, 0);
+  }
+
+  private boolean fits(long requestBytes, long freedCount, long freedBytes) {
+    long remainingCount = count - freedCount;
+    return remainingCount < maxCount
+        && (remainingCount == 0 || bytes - freedBytes + requestBytes <= maxBytes);
+  }
+
+  private ApiException limitExceeded() {
+    return ApiExceptionFactory.createException(
+        "Flow control limit exceeded: "
+            + count
+            + " outstanding requests, "
+            + bytes
+            + " outstanding bytes",
+        null,
+        GrpcHelper.getStatusCodeFromCode(Code.RESOURCE_EXHAUSTED),
+        false);
+  }
+
+  private void awaitRoom(long requestBytes) {
+    try {
+      while (!fits(requestBytes)) {
+        released.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw ApiExceptionFactory.createException(
+          "Interrupted while waiting for flow control",
+          e,
+          GrpcHelper.getStatusCodeFromCode(Code.CANCELLED),
+          false);
+    }
+  }
+
+  /**
+   * Drops the oldest requests that are not sent yet, or rejects the new request if dropping all of
+   * them would not make enough room.
+   */
+  private void dropOldest(long requestBytes, List<ApiFuture<?>> toCancel) {
+    List<Permit> unsent = new ArrayList<>();
+    long freedCount = 0;
+    long freedBytes = 0;
+    for (Permit permit : outstanding) {
+      if (fits(requestBytes, freedCount, freedBytes)) {
+        break;
+      }
+      // A null future means that the call is still being made.
+      if (permit.future != null && unsentRequests.isUnsent(permit.future)) {
+        unsent.add(permit);
+        freedCount++;
+        freedBytes += permit.bytes;
+      }
+    }
+    if (!fits(requestBytes, freedCount, freedBytes)) {
+      throw limitExceeded();
+    }
+    for (Permit permit : unsent) {
+      // A request sent since it was picked is kept, and the new one is admitted over the limit.
+      if (unsentRequests.drop(permit.future)) {
+        outstanding.remove(permit);
+        count--;
+        bytes -= permit.bytes;
+        droppedCount++;
+        toCancel.add(permit.future);
+      }
+    }
+    if (!toCancel.isEmpty()) {
+      log.warn("Flow control limit exceeded, dropping {} oldest requests", toCancel.size());
+    }
+  }
+
+  private void release(Permit permit) {
+    lock.lock();
+    try {
+      if (outstanding.remove(permit)) {
+        count--;
+        bytes -= permit.bytes;
+        released.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Requests that were accepted by the client but are not sent yet. */
+  interface UnsentRequests {
+
+    UnsentRequests NONE =
+        new UnsentRequests() {
+          @Override
+          public boolean isUnsent(ApiFuture<?> future) {
+            return false;
+          }
+
+          @Override
+          public boolean drop(ApiFuture<?> future) {
+            return false;
+          }
+        };
+
+    boolean isUnsent(ApiFuture<?> future);
+
+    /**
+     * Makes sure that the request of the future is never sent. The future is cancelled by the
+     * caller afterwards.
+     *
+     * @return {@code false} if the request was already sent
+     */
+    boolean drop(ApiFuture<?> future);
+  }
+
+  private static final class Permit {
+    private final long bytes;
+    private ApiFuture<?> future;
+
+    private Permit(long bytes) {
+      this.bytes = bytes;
+    }
+  }
+}
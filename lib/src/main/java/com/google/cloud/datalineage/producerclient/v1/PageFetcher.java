@@ -0,0 +1,65 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.paging.Page;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListLineageEventsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListProcessesPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListRunsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageEvent;
+import com.google.cloud.datacatalog.lineage.v1.ListLineageEventsRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListProcessesRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListRunsRequest;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.function.Function;
+
+/** Requests one page of a list call. */
+@FunctionalInterface
+interface PageFetcher<ResourceT> {
+  ApiFuture<Page<ResourceT>> fetch(String pageToken, int pageSize);
+
+  static PageFetcher<Process> forProcesses(
+      ListProcessesRequest request,
+      Function<ListProcessesRequest, ApiFuture<ListProcessesPagedResponse>> list) {
+    return (pageToken, pageSize) ->
+        ApiFutures.transform(
+            list.apply(request.toBuilder().setPageToken(pageToken).setPageSize(pageSize).build()),
+            ListProcessesPagedResponse::getPage,
+            MoreExecutors.directExecutor());
+  }
+
+  static PageFetcher<Run> forRuns(
+      ListRunsRequest request, Function<ListRunsRequest, ApiFuture<ListRunsPagedResponse>> list) {
+    return (pageToken, pageSize) ->
+        ApiFutures.transform(
+            list.apply(request.toBuilder().setPageToken(pageToken).setPageSize(pageSize).build()),
+            ListRunsPagedResponse::getPage,
+            MoreExecutors.directExecutor());
+  }
+
+  static PageFetcher<LineageEvent> forLineageEvents(
+      ListLineageEventsRequest request,
+      Function<ListLineageEventsRequest, ApiFuture<ListLineageEventsPagedResponse>> list) {
+    return (pageToken, pageSize) ->
+        ApiFutures.transform(
+            list.apply(request.toBuilder().setPageToken(pageToken).setPageSize(pageSize).build()),
+            ListLineageEventsPagedResponse::getPage,
+            MoreExecutors.directExecutor());
+  }
+}
@@ -0,0 +1,124 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+/**
+ * Provides an immutable object for configuring prefetching of list pages. PrefetchOptions object
+ * can be created via Builder.
+ *
+ * <p>Up to `prefetchDepth` pages are requested ahead of the page being consumed. Pages are
+ * requested with `initialPageSize`, or with the page size of the list request if it has one. While
+ * the consumer has to wait for pages, the page size is doubled up to `maxPageSize`. A page shorter
+ * than requested lowers that ceiling to its size, and each full page at the ceiling doubles it
+ * again, up to `maxPageSize`.
+ */
+public final class PrefetchOptions {
+
+  static final int DEFAULT_PREFETCH_DEPTH = 2;
+  static final int DEFAULT_INITIAL_PAGE_SIZE = 100;
+  static final int DEFAULT_MAX_PAGE_SIZE = 1000;
+
+  public static PrefetchOptions getDefaultInstance() {
+    return newBuilder().build();
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final int prefetchDepth;
+  private final int initialPageSize;
+  private final int maxPageSize;
+
+  private PrefetchOptions(Builder builder) {
+    this.prefetchDepth = builder.prefetchDepth;
+    this.initialPageSize = builder.initialPageSize;
+    this.maxPageSize = builder.maxPageSize;
+  }
+
+  /** Number of pages requested ahead of the page being consumed. */
+  public int getPrefetchDepth() {
+    return prefetchDepth;
+  }
+
+  public int getInitialPageSize() {
+    return initialPageSize;
+  }
+
+  public int getMaxPageSize() {
+    return maxPageSize;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for PrefetchOptions.
+   *
+   * <p>Lets setting `prefetchDepth`, `initialPageSize` and `maxPageSize`. Setting both page sizes
+   * to the same value turns off tuning of the page size.
+   */
+  public static final class Builder {
+
+    private int prefetchDepth = DEFAULT_PREFETCH_DEPTH;
+    private int initialPageSize = DEFAULT_INITIAL_PAGE_SIZE;
+    private int maxPageSize = DEFAULT_MAX_PAGE_SIZE;
+
+    private Builder() {}
+
+    private Builder(PrefetchOptions options) {
+      prefetchDepth = options.prefetchDepth;
+      initialPageSize = options.initialPageSize;
+      maxPageSize = options.maxPageSize;
+    }
+
+    public Builder setPrefetchDepth(int prefetchDepth) {
+      if (prefetchDepth <= 0) {
+        throw new IllegalArgumentException("Depth must be positive");
+      }
+      this.prefetchDepth = prefetchDepth;
+      return this;
+    }
+
+    public Builder setInitialPageSize(int initialPageSize) {
+      if (initialPageSize <= 0) {
+        throw new IllegalArgumentException("Page size must be positive");
+      }
+      this.initialPageSize = initialPageSize;
+      return this;
+    }
+
+    public Builder setMaxPageSize(int maxPageSize) {
+      if (maxPageSize <= 0) {
+        throw new IllegalArgumentException("Page size must be positive");
+      }
+      this.maxPageSize = maxPageSize;
+      return this;
+    }
+
+    /**
+     * Builds the options.
+     *
+     * @throws IllegalArgumentException if the initial page size is larger than the maximum one
+     */
+    public PrefetchOptions build() {
+      if (initialPageSize > maxPageSize) {
+        throw new IllegalArgumentException("Initial page size cannot be larger than the maximum");
+      }
+      return new PrefetchOptions(this);
+    }
+  }
+}
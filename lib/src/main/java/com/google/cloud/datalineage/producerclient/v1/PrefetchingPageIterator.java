@@ -0,0 +1,218 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.paging.Page;
+import com.google.api.gax.rpc.ApiExceptions;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListLineageEventsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListProcessesPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageClient.ListRunsPagedResponse;
+import com.google.cloud.datacatalog.lineage.v1.LineageEvent;
+import com.google.cloud.datacatalog.lineage.v1.ListLineageEventsRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListProcessesRequest;
+import com.google.cloud.datacatalog.lineage.v1.ListRunsRequest;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Iterates over all resources of a list call, requesting pages ahead of the consumer.
+ *
+ * <p>The next page is requested as soon as the previous one arrives, until {@link
+ * PrefetchOptions#getPrefetchDepth()} pages wait to be consumed. Pages depend on the token of the
+ * previous page, so at most one page is in flight at a time. The page size grows while the consumer
+ * waits for pages, see {@link PrefetchOptions}.
+ *
+ * <p>A failed page is thrown as an {@link com.google.api.gax.rpc.ApiException} from {@link
+ * #hasNext()} once the resources before it are consumed. Closing the iterator cancels pages that
+ * are in flight. Iteration must happen on one thread at a time, pages are fetched in the
+ * background.
+ *
+ * @param <ResourceT> type of the listed resources
+ */
+public final class PrefetchingPageIterator<ResourceT>
+    implements Iterator<ResourceT>, AutoCloseable {
+
+  static PrefetchingPageIterator<Process> forProcesses(
+      ListProcessesRequest request,
+      PrefetchOptions options,
+      Function<ListProcessesRequest, ApiFuture<ListProcessesPagedResponse>> list) {
+    return new PrefetchingPageIterator<>(
+        PageFetcher.forProcesses(request, list),
+        request.getPageToken(),
+        request.getPageSize(),
+        options);
+  }
+
+  static PrefetchingPageIterator<Run> forRuns(
+      ListRunsRequest request,
+      PrefetchOptions options,
+      Function<ListRunsRequest, ApiFuture<ListRunsPagedResponse>> list) {
+    return new PrefetchingPageIterator<>(
+        PageFetcher.forRuns(request, list), request.getPageToken(), request.getPageSize(), options);
+  }
+
+  static PrefetchingPageIterator<LineageEvent> forLineageEvents(
+      ListLineageEventsRequest request,
+      PrefetchOptions options,
+      Function<ListLineageEventsRequest, ApiFuture<ListLineageEventsPagedResponse>> list) {
+    return new PrefetchingPageIterator<>(
+        PageFetcher.forLineageEvents(request, list),
+        request.getPageToken(),
+        request.getPageSize(),
+        options);
+  }
+
+  private final PageFetcher<ResourceT> fetcher;
+  private final int prefetchDepth;
+  private final int maxPageSize;
+  // Pages in flight or waiting to be consumed, in order.
+  private final ArrayDeque<ApiFuture<Page<ResourceT>>> pages = new ArrayDeque<>();
+  private int pageSize;
+  // Estimate of the largest page the server returns, lowered by a short page and raised again by a
+  // full one, as pages can also be short for other reasons.
+  private int pageSizeCap;
+  // Token of the next page to request, null while the previous page is in flight or at the end.
+  @Nullable private String nextPageToken;
+  private boolean closed;
+  private Iterator<ResourceT> current = Collections.emptyIterator();
+
+  /**
+   * Starts fetching pages.
+   *
+   * @param pageToken token of the first page, empty for the first page of the list
+   * @param pageSize page size of the list request, or 0 to use the one from the options
+   */
+  PrefetchingPageIterator(
+      PageFetcher<ResourceT> fetcher, String pageToken, int pageSize, PrefetchOptions options) {
+    this.fetcher = fetcher;
+    this.prefetchDepth = options.getPrefetchDepth();
+    this.pageSize = pageSize > 0 ? pageSize : options.getInitialPageSize();
+    this.maxPageSize = Math.max(this.pageSize, options.getMaxPageSize());
+    this.pageSizeCap = maxPageSize;
+    this.nextPageToken = pageToken;
+    synchronized (this) {
+      fetchAhead();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext()) {
+      ApiFuture<Page<ResourceT>> head;
+      synchronized (this) {
+        head = pages.peek();
+        if (head == null) {
+          return false;
+        }
+        if (!head.isDone() && pageSize < pageSizeCap) {
+          // The consumer outpaces the pages, fewer and larger pages save round trips.
+          pageSize = (int) Math.min(pageSizeCap, 2L * pageSize);
+        }
+      }
+      Page<ResourceT> page = ApiExceptions.callAndTranslateApiException(head);
+      synchronized (this) {
+        pages.poll();
+        fetchAhead();
+      }
+      current = page.getValues().iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public ResourceT next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /** Stops fetching pages and cancels the ones in flight. */
+  @Override
+  public void close() {
+    ApiFuture<?>[] pending;
+    synchronized (this) {
+      closed = true;
+      nextPageToken = null;
+      pending = pages.toArray(new ApiFuture<?>[0]);
+      pages.clear();
+    }
+    for (ApiFuture<?> page : pending) {
+      page.cancel(true);
+    }
+  }
+
+  /** Returns the page size of the next request. */
+  synchronized int getPageSize() {
+    return pageSize;
+  }
+
+  /** Requests the next page if it is known and there is room ahead of the consumer. */
+  private void fetchAhead() {
+    if (closed || nextPageToken == null || pages.size() >= prefetchDepth) {
+      return;
+    }
+    String pageToken = nextPageToken;
+    int requestedSize = pageSize;
+    nextPageToken = null;
+    ApiFuture<Page<ResourceT>> page;
+    try {
+      page = fetcher.fetch(pageToken, requestedSize);
+    } catch (RuntimeException e) {
+      page = ApiFutures.immediateFailedFuture(e);
+    }
+    pages.add(page);
+    ApiFutures.addCallback(
+        page,
+        new ApiFutureCallback<Page<ResourceT>>() {
+          @Override
+          public void onFailure(Throwable t) {
+            // Iteration ends with this page, the consumer gets the failure.
+          }
+
+          @Override
+          public void onSuccess(Page<ResourceT> fetched) {
+            synchronized (PrefetchingPageIterator.this) {
+              if (!fetched.hasNextPage()) {
+                return;
+              }
+              int size = Iterables.size(fetched.getValues());
+              if (size > 0 && size < requestedSize) {
+                // The server may cap the page size, asking for more only costs bytes.
+                pageSizeCap = size;
+                pageSize = Math.min(pageSize, pageSizeCap);
+              } else if (size == requestedSize && size >= pageSizeCap) {
+                // A full page at the estimate, the server may return larger pages again.
+                pageSizeCap = (int) Math.min(maxPageSize, 2L * pageSizeCap);
+              }
+              nextPageToken = fetched.getNextPageToken();
+              fetchAhead();
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+}
@@ -0,0 +1,352 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.cloud.datalineage.producerclient.v1.RateLimitOptions.LimitExceededBehavior;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limits the rate of calls per project and location with a token bucket each.
+ *
+ * <p>Tokens are reserved ahead, so a call that finds the bucket empty knows right away how long it
+ * has to wait, and calls waiting for the same bucket are started in order. Buckets of projects that
+ * were not called for the idle expiration time are dropped, which also resets their rate. This
+ * class is thread-safe.
+ */
+@Slf4j
+final class ProjectRateLimiter implements AutoCloseable {
+
+  static final double RECOVERY_FRACTION = 0.01;
+  static final long MIN_BACKOFF_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final RateLimitOptions options;
+  private final LimitExceededBehavior behavior;
+  private final long maxWaitNanos;
+  private final LongSupplier nanoTime;
+  private final LoadingCache<String, TokenBucket> buckets;
+  @Nullable private final ScheduledExecutorService executor;
+
+  ProjectRateLimiter(RateLimitOptions options) {
+    this(options, System::nanoTime);
+  }
+
+  ProjectRateLimiter(RateLimitOptions options, LongSupplier nanoTime) {
+    log.debug(
+        "Initializing rate limit with permits per second: {}, burst size: {}, "
+            + "min permits per second: {}, behavior: {}",
+        options.getPermitsPerSecond(),
+        options.getBurstSize(),
+        options.getMinPermitsPerSecond(),
+        options.getLimitExceededBehavior());
+    this.options = options;
+    this.behavior = options.getLimitExceededBehavior();
+    this.maxWaitNanos =
+        behavior == LimitExceededBehavior.FAIL ? 0 : options.getMaxWait().toNanos();
+    this.nanoTime = nanoTime;
+    this.buckets =
+        CacheBuilder.newBuilder()
+            .expireAfterAccess(options.getIdleExpiration().toNanos(), TimeUnit.NANOSECONDS)
+            .ticker(
+                new Ticker() {
+                  @Override
+                  public long read() {
+                    return nanoTime.getAsLong();
+                  }
+                })
+            .build(
+                new CacheLoader<String, TokenBucket>() {
+                  @Override
+                  public TokenBucket load(String project) {
+                    return new TokenBucket(project, nanoTime.getAsLong());
+                  }
+                });
+    // Blocking limiters also defer the calls that are made from callbacks.
+    this.executor =
+        behavior != LimitExceededBehavior.FAIL
+            ? Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                    .setNameFormat("lineage-rate-limiter-%d")
+                    .setDaemon(true)
+                    .build())
+            : null;
+  }
+
+  /**
+   * Makes a call once a token of its project is available.
+   *
+   * @param project project and location the call is made for
+   * @param call supplier that makes the call
+   * @return future of the call, or of its place in the queue
+   * @throws ApiException with CANCELLED status code if interrupted while blocked
+   */
+  <T> ApiFuture<T> run(String project, Supplier<ApiFuture<T>> call) {
+    return run(project, call, behavior == LimitExceededBehavior.QUEUE);
+  }
+
+  /**
+   * Same as {@link #run}, but never waits on the calling thread, even in blocking mode. Used for
+   * calls made from callbacks of other calls, whose threads may be needed to complete calls.
+   */
+  <T> ApiFuture<T> defer(String project, Supplier<ApiFuture<T>> call) {
+    return run(project, call, true);
+  }
+
+  private <T> ApiFuture<T> run(String project, Supplier<ApiFuture<T>> call, boolean deferred) {
+    TokenBucket bucket = buckets.getUnchecked(project);
+    long waitNanos = bucket.reserve(nanoTime.getAsLong(), maxWaitNanos);
+    if (waitNanos < 0) {
+      return ApiFutures.immediateFailedFuture(limitExceeded(project));
+    }
+    if (waitNanos == 0 || !deferred || executor == null) {
+      sleep(waitNanos);
+      return observe(bucket, call.get());
+    }
+    SettableApiFuture<T> result = SettableApiFuture.create();
+    try {
+      executor.schedule(() -> start(bucket, call, result), waitNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      // The limiter was closed, wait on this thread instead.
+      sleep(waitNanos);
+      return observe(bucket, call.get());
+    }
+    return result;
+  }
+
+  /**
+   * Makes a call once a token of its project is available, waiting on the calling thread. Used for
+   * calls whose future cannot be created ahead of the call.
+   *
+   * @throws ApiException with RESOURCE_EXHAUSTED status code if no token is available in time, or
+   *     with CANCELLED status code if interrupted while blocked
+   */
+  <F extends ApiFuture<?>> F runNow(String project, Supplier<F> call) {
+    TokenBucket bucket = buckets.getUnchecked(project);
+    long waitNanos = bucket.reserve(nanoTime.getAsLong(), maxWaitNanos);
+    if (waitNanos < 0) {
+      throw limitExceeded(project);
+    }
+    sleep(waitNanos);
+    return observe(bucket, call.get());
+  }
+
+  /** Returns the current refill rate of a project, or the configured one if it has no bucket. */
+  double getPermitsPerSecond(String project) {
+    TokenBucket bucket = buckets.getIfPresent(project);
+    return bucket != null ? bucket.getPermitsPerSecond() : options.getPermitsPerSecond();
+  }
+
+  long getBucketCount() {
+    buckets.cleanUp();
+    return buckets.size();
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  private <T> void start(
+      TokenBucket bucket, Supplier<ApiFuture<T>> call, SettableApiFuture<T> result) {
+    if (result.isCancelled()) {
+      return;
+    }
+    ApiFuture<T> future;
+    try {
+      future = observe(bucket, call.get());
+    } catch (RuntimeException e) {
+      result.setException(e);
+      return;
+    }
+    result.addListener(
+        () -> {
+          if (result.isCancelled()) {
+            future.cancel(true);
+          }
+        },
+        MoreExecutors.directExecutor());
+    ApiFutures.addCallback(
+        future,
+        new ApiFutureCallback<T>() {
+          @Override
+          public void onFailure(Throwable t) {
+            result.setException(t);
+          }
+
+          @Override
+          public void onSuccess(T response) {
+            result.set(response);
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private <F extends ApiFuture<?>> F observe(TokenBucket bucket, F future) {
+    future.addListener(
+        () -> {
+          if (future.isCancelled()) {
+            return;
+          }
+          try {
+            future.get();
+            bucket.onSuccess();
+          } catch (Exception e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException
+                && ((ApiException) cause).getStatusCode().getCode() == Code.RESOURCE_EXHAUSTED) {
+              bucket.onResourceExhausted(nanoTime.getAsLong(), getRetryDelayNanos(cause));
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+    return future;
+  }
+
+  private static long getRetryDelayNanos(Throwable exception) {
+    try {
+      Optional<java.time.Duration> delay = GrpcHelper.getRetryDelay(exception);
+      return delay.map(java.time.Duration::toNanos).orElse(0L);
+    } catch (IllegalArgumentException e) {
+      // Not a gRPC exception, so there are no details to read.
+      return 0;
+    }
+  }
+
+  private static void sleep(long nanos) {
+    if (nanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw ApiExceptionFactory.createException(
+          "Interrupted while waiting for rate limit",
+          e,
+          GrpcHelper.getStatusCodeFromCode(Code.CANCELLED),
+          false);
+    }
+  }
+
+  private ApiException limitExceeded(String project) {
+    return ApiExceptionFactory.createException(
+        "Rate limit exceeded for project " + project,
+        null,
+        GrpcHelper.getStatusCodeFromCode(Code.RESOURCE_EXHAUSTED),
+        false);
+  }
+
+  /**
+   * Token bucket of a single project. Tokens are added lazily, when the bucket is next used, and a
+   * call that has to wait takes the token that is refilled next.
+   */
+  private final class TokenBucket {
+    private final String project;
+    private double permitsPerSecond = options.getPermitsPerSecond();
+    private double storedPermits = options.getBurstSize();
+    // Time up to which tokens have been added or reserved.
+    private long nextFreeNanos;
+    private long lastBackoffNanos;
+    private boolean backedOff;
+
+    private TokenBucket(String project, long nowNanos) {
+      this.project = project;
+      this.nextFreeNanos = nowNanos;
+    }
+
+    /**
+     * Reserves one token.
+     *
+     * @return nanoseconds to wait for the token, or -1 if that is longer than {@code maxWaitNanos}
+     *     and nothing was reserved
+     */
+    private synchronized long reserve(long nowNanos, long maxWaitNanos) {
+      double intervalNanos = intervalNanos();
+      if (nowNanos > nextFreeNanos) {
+        storedPermits =
+            Math.min(
+                options.getBurstSize(), storedPermits + (nowNanos - nextFreeNanos) / intervalNanos);
+        nextFreeNanos = nowNanos;
+      }
+      if (storedPermits >= 1) {
+        storedPermits -= 1;
+        return 0;
+      }
+      long tokenNanos = nextFreeNanos + (long) ((1 - storedPermits) * intervalNanos);
+      long waitNanos = tokenNanos - nowNanos;
+      if (waitNanos > maxWaitNanos) {
+        return -1;
+      }
+      storedPermits = 0;
+      nextFreeNanos = tokenNanos;
+      return waitNanos;
+    }
+
+    private synchronized void onSuccess() {
+      permitsPerSecond =
+          Math.min(
+              options.getPermitsPerSecond(),
+              permitsPerSecond + options.getPermitsPerSecond() * RECOVERY_FRACTION);
+    }
+
+    private synchronized void onResourceExhausted(long nowNanos, long retryDelayNanos) {
+      // Calls in flight fail together, count them as one signal.
+      if (!backedOff || nowNanos - lastBackoffNanos >= MIN_BACKOFF_INTERVAL_NANOS) {
+        permitsPerSecond =
+            Math.max(
+                options.getMinPermitsPerSecond(), permitsPerSecond * options.getBackoffRatio());
+        backedOff = true;
+        lastBackoffNanos = nowNanos;
+        log.debug(
+            "Quota exceeded for project {}, lowering rate to {} per second",
+            project,
+            permitsPerSecond);
+      }
+      storedPermits = 0;
+      nextFreeNanos = Math.max(nextFreeNanos, nowNanos + retryDelayNanos);
+    }
+
+    private synchronized double getPermitsPerSecond() {
+      return permitsPerSecond;
+    }
+
+    private double intervalNanos() {
+      return TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+    }
+  }
+}
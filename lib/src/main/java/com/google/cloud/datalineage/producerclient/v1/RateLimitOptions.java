@@ -0,0 +1,224 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import org.threeten.bp.Duration;
+
+/**
+ * Provides an immutable object for configuring per-project rate limits. RateLimitOptions object can
+ * be created via Builder.
+ *
+ * <p>Every project and location gets its own token bucket, refilled at `permitsPerSecond` and
+ * holding up to `burstSize` tokens. A RESOURCE_EXHAUSTED response multiplies the refill rate of its
+ * project by `backoffRatio`, at most once per second and not below `minPermitsPerSecond`, and the
+ * bucket stays empty for the retry delay suggested by the server, if any. Every successful call
+ * then restores 1% of the configured rate.
+ */
+public final class RateLimitOptions {
+
+  /** Describes what happens to a call that has no token available. */
+  public enum LimitExceededBehavior {
+    /**
+     * The calling thread waits for a token. Calls that the client makes from callbacks or timers,
+     * such as calls that waited for an enablement probe, second attempts of hedged reads and page
+     * prefetches, are deferred as with {@link #QUEUE} or made from a thread of the client instead.
+     */
+    BLOCK,
+    /** The call returns a future failed with RESOURCE_EXHAUSTED status code. */
+    FAIL,
+    /**
+     * The call returns right away and is made when a token is available. Calls returning an
+     * operation future cannot be deferred and wait as with {@link #BLOCK}.
+     */
+    QUEUE
+  }
+
+  static final double DEFAULT_PERMITS_PER_SECOND = 50;
+  static final int DEFAULT_BURST_SIZE = 50;
+  static final double DEFAULT_MIN_PERMITS_PER_SECOND = 1;
+  static final double DEFAULT_BACKOFF_RATIO = 0.5;
+  static final Duration DEFAULT_MAX_WAIT = Duration.ofMinutes(1);
+  static final Duration DEFAULT_IDLE_EXPIRATION = Duration.ofMinutes(10);
+  static final LimitExceededBehavior DEFAULT_LIMIT_EXCEEDED_BEHAVIOR = LimitExceededBehavior.QUEUE;
+
+  /**
+   * Disables rate limiting.
+   *
+   * @return The requested rate limit options.
+   */
+  public static RateLimitOptions getDisabledInstance() {
+    return new RateLimitOptions(false, newBuilder());
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final double permitsPerSecond;
+  private final int burstSize;
+  private final double minPermitsPerSecond;
+  private final double backoffRatio;
+  private final Duration maxWait;
+  private final Duration idleExpiration;
+  private final LimitExceededBehavior limitExceededBehavior;
+
+  private RateLimitOptions(boolean enabled, Builder builder) {
+    this.enabled = enabled;
+    this.permitsPerSecond = builder.permitsPerSecond;
+    this.burstSize = builder.burstSize;
+    this.minPermitsPerSecond = builder.minPermitsPerSecond;
+    this.backoffRatio = builder.backoffRatio;
+    this.maxWait = builder.maxWait;
+    this.idleExpiration = builder.idleExpiration;
+    this.limitExceededBehavior = builder.limitExceededBehavior;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  public double getPermitsPerSecond() {
+    return permitsPerSecond;
+  }
+
+  public int getBurstSize() {
+    return burstSize;
+  }
+
+  public double getMinPermitsPerSecond() {
+    return minPermitsPerSecond;
+  }
+
+  public double getBackoffRatio() {
+    return backoffRatio;
+  }
+
+  /** Longest time a call waits for a token before failing with RESOURCE_EXHAUSTED. */
+  public Duration getMaxWait() {
+    return maxWait;
+  }
+
+  /** Time after which the bucket of a project that was not called is dropped. */
+  public Duration getIdleExpiration() {
+    return idleExpiration;
+  }
+
+  public LimitExceededBehavior getLimitExceededBehavior() {
+    return limitExceededBehavior;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for RateLimitOptions.
+   *
+   * <p>Lets setting `permitsPerSecond`, `burstSize`, `minPermitsPerSecond`, `backoffRatio`,
+   * `maxWait`, `idleExpiration` and `limitExceededBehavior`. Options built with this builder have
+   * rate limiting enabled.
+   */
+  public static final class Builder {
+
+    private double permitsPerSecond = DEFAULT_PERMITS_PER_SECOND;
+    private int burstSize = DEFAULT_BURST_SIZE;
+    private double minPermitsPerSecond = DEFAULT_MIN_PERMITS_PER_SECOND;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private Duration maxWait = DEFAULT_MAX_WAIT;
+    private Duration idleExpiration = DEFAULT_IDLE_EXPIRATION;
+    private LimitExceededBehavior limitExceededBehavior = DEFAULT_LIMIT_EXCEEDED_BEHAVIOR;
+
+    private Builder() {}
+
+    private Builder(RateLimitOptions options) {
+      permitsPerSecond = options.permitsPerSecond;
+      burstSize = options.burstSize;
+      minPermitsPerSecond = options.minPermitsPerSecond;
+      backoffRatio = options.backoffRatio;
+      maxWait = options.maxWait;
+      idleExpiration = options.idleExpiration;
+      limitExceededBehavior = options.limitExceededBehavior;
+    }
+
+    public Builder setPermitsPerSecond(double permitsPerSecond) {
+      if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+        throw new IllegalArgumentException("Rate must be positive");
+      }
+      this.permitsPerSecond = permitsPerSecond;
+      return this;
+    }
+
+    public Builder setBurstSize(int burstSize) {
+      if (burstSize <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.burstSize = burstSize;
+      return this;
+    }
+
+    public Builder setMinPermitsPerSecond(double minPermitsPerSecond) {
+      if (!(minPermitsPerSecond > 0) || Double.isInfinite(minPermitsPerSecond)) {
+        throw new IllegalArgumentException("Rate must be positive");
+      }
+      this.minPermitsPerSecond = minPermitsPerSecond;
+      return this;
+    }
+
+    public Builder setBackoffRatio(double backoffRatio) {
+      if (!(backoffRatio > 0 && backoffRatio <= 1)) {
+        throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+      }
+      this.backoffRatio = backoffRatio;
+      return this;
+    }
+
+    public Builder setMaxWait(Duration maxWait) {
+      if (maxWait == null || maxWait.isNegative()) {
+        throw new IllegalArgumentException("Duration cannot be negative");
+      }
+      this.maxWait = maxWait;
+      return this;
+    }
+
+    public Builder setIdleExpiration(Duration idleExpiration) {
+      if (idleExpiration == null || idleExpiration.isNegative() || idleExpiration.isZero()) {
+        throw new IllegalArgumentException("Duration must be positive");
+      }
+      this.idleExpiration = idleExpiration;
+      return this;
+    }
+
+    public Builder setLimitExceededBehavior(LimitExceededBehavior limitExceededBehavior) {
+      if (limitExceededBehavior == null) {
+        throw new IllegalArgumentException("Behavior cannot be null");
+      }
+      this.limitExceededBehavior = limitExceededBehavior;
+      return this;
+    }
+
+    /**
+     * Builds the options.
+     *
+     * @throws IllegalArgumentException if the minimum rate is higher than the rate
+     */
+    public RateLimitOptions build() {
+      if (minPermitsPerSecond > permitsPerSecond) {
+        throw new IllegalArgumentException("Minimum rate cannot be higher than the rate");
+      }
+      return new RateLimitOptions(true, this);
+    }
+  }
+}
@@ -0,0 +1,302 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends a second attempt of a read that takes longer than most recent reads.
+ *
+ * <p>Latencies of the last {@value #SAMPLE_WINDOW} successful attempts are kept, and the hedging
+ * delay is their configured percentile, recomputed every {@value #DELAY_UPDATE_INTERVAL} samples.
+ * Reads are not hedged until {@value #MIN_SAMPLES} latencies are known. The first attempt to
+ * succeed completes the read and the other one is cancelled. A failed attempt only fails the read
+ * when no other attempt is in flight, and a read that fails before its delay is not hedged.
+ *
+ * <p>Second attempts are paid from a budget that every read adds to, capped at {@value #MAX_BUDGET}
+ * attempts so that a quiet period does not allow a burst. This class is thread-safe.
+ */
+@Slf4j
+final class RequestHedger implements AutoCloseable {
+
+  static final int SAMPLE_WINDOW = 1000;
+  static final int MIN_SAMPLES = 20;
+  static final int DELAY_UPDATE_INTERVAL = 50;
+  static final double MAX_BUDGET = 10;
+
+  private final double percentile;
+  private final long minDelayNanos;
+  private final double budgetRatio;
+  private final ScheduledExecutorService executor;
+  private final LongSupplier nanoTime;
+  private final long[] samples = new long[SAMPLE_WINDOW];
+  private long sampleCount;
+  private long delayNanos = -1;
+  private double budget;
+  private long callCount;
+  private long hedgeCount;
+  private long hedgeWinCount;
+  private long budgetExhaustedCount;
+
+  RequestHedger(HedgingOptions options) {
+    this(
+        options,
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("lineage-request-hedger-%d")
+                .setDaemon(true)
+                .build()),
+        System::nanoTime);
+  }
+
+  RequestHedger(
+      HedgingOptions options, ScheduledExecutorService executor, LongSupplier nanoTime) {
+    log.debug(
+        "Initializing request hedging with percentile: {}, min delay: {}, budget ratio: {}",
+        options.getPercentile(),
+        options.getMinDelay(),
+        options.getBudgetRatio());
+    this.percentile = options.getPercentile();
+    this.minDelayNanos = options.getMinDelay().toNanos();
+    this.budgetRatio = options.getBudgetRatio();
+    this.executor = executor;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Makes a call, and a second one if the first is still in flight after the hedging delay.
+   *
+   * @param call supplier that makes an idempotent call
+   * @return future completed by the first attempt that succeeds
+   * @throws RuntimeException thrown by the supplier when making the first attempt
+   */
+  <T> ApiFuture<T> run(Supplier<ApiFuture<T>> call) {
+    return run(call, call);
+  }
+
+  /**
+   * Same as {@link #run(Supplier)}, but makes the second attempt with its own supplier, which is
+   * called from the timer thread of the hedger.
+   */
+  <T> ApiFuture<T> run(Supplier<ApiFuture<T>> call, Supplier<ApiFuture<T>> hedgeCall) {
+    long delay;
+    synchronized (this) {
+      callCount++;
+      budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+      delay = delayNanos;
+    }
+    Hedge<T> hedge = new Hedge<>(call, hedgeCall);
+    hedge.start(false);
+    if (delay >= 0) {
+      hedge.schedule(delay);
+    }
+    return hedge.result;
+  }
+
+  HedgingStats getStats() {
+    synchronized (this) {
+      return new HedgingStats(callCount, hedgeCount, hedgeWinCount, budgetExhaustedCount);
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private synchronized boolean tryAcquireBudget() {
+    if (budget < 1) {
+      budgetExhaustedCount++;
+      return false;
+    }
+    budget--;
+    hedgeCount++;
+    return true;
+  }
+
+  private synchronized void recordWin() {
+    hedgeWinCount++;
+  }
+
+  private void recordLatency(long latencyNanos) {
+    long[] snapshot = null;
+    synchronized (this) {
+      samples[(int) (sampleCount % SAMPLE_WINDOW)] = latencyNanos;
+      sampleCount++;
+      if (sampleCount >= MIN_SAMPLES && (sampleCount - MIN_SAMPLES) % DELAY_UPDATE_INTERVAL == 0) {
+        snapshot = Arrays.copyOf(samples, (int) Math.min(sampleCount, SAMPLE_WINDOW));
+      }
+    }
+    if (snapshot == null) {
+      return;
+    }
+    // Sorted outside of the lock, a concurrent update only makes the delay slightly older.
+    Arrays.sort(snapshot);
+    int index = (int) Math.ceil(percentile / 100 * snapshot.length) - 1;
+    long delay = Math.max(minDelayNanos, snapshot[Math.max(0, index)]);
+    synchronized (this) {
+      delayNanos = delay;
+    }
+  }
+
+  /** Attempts of a single read. */
+  private final class Hedge<T> {
+    private final Supplier<ApiFuture<T>> call;
+    private final Supplier<ApiFuture<T>> hedgeCall;
+    private final SettableApiFuture<T> result = SettableApiFuture.create();
+    private final List<ApiFuture<T>> attempts = new ArrayList<>(2);
+    private int pending;
+    private boolean hedgeable = true;
+    private ScheduledFuture<?> timer;
+
+    private Hedge(Supplier<ApiFuture<T>> call, Supplier<ApiFuture<T>> hedgeCall) {
+      this.call = call;
+      this.hedgeCall = hedgeCall;
+      result.addListener(
+          () -> {
+            if (result.isCancelled()) {
+              cancelAll(null);
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+
+    private void schedule(long delay) {
+      synchronized (this) {
+        if (!hedgeable || result.isDone()) {
+          return;
+        }
+        try {
+          timer = executor.schedule(this::hedge, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+          // The hedger was closed, the read goes on with a single attempt.
+          hedgeable = false;
+        }
+      }
+    }
+
+    private void hedge() {
+      synchronized (this) {
+        if (!hedgeable || result.isDone()) {
+          return;
+        }
+        hedgeable = false;
+      }
+      if (tryAcquireBudget()) {
+        start(true);
+      }
+    }
+
+    private void start(boolean second) {
+      long start = nanoTime.getAsLong();
+      ApiFuture<T> attempt;
+      try {
+        attempt = second ? hedgeCall.get() : call.get();
+      } catch (RuntimeException e) {
+        if (second) {
+          // The first attempt is still in flight and decides the outcome.
+          return;
+        }
+        synchronized (this) {
+          hedgeable = false;
+        }
+        throw e;
+      }
+      synchronized (this) {
+        attempts.add(attempt);
+        pending++;
+      }
+      ApiFutures.addCallback(
+          attempt,
+          new ApiFutureCallback<T>() {
+            @Override
+            public void onFailure(Throwable t) {
+              boolean last;
+              synchronized (Hedge.this) {
+                last = --pending == 0;
+                if (last) {
+                  // A read that fails before its delay is not hedged.
+                  hedgeable = false;
+                }
+              }
+              if (last) {
+                cancelTimer();
+                result.setException(t);
+              }
+            }
+
+            @Override
+            public void onSuccess(T response) {
+              synchronized (Hedge.this) {
+                pending--;
+              }
+              recordLatency(nanoTime.getAsLong() - start);
+              if (result.set(response)) {
+                if (second) {
+                  recordWin();
+                }
+                cancelAll(attempt);
+              }
+            }
+          },
+          MoreExecutors.directExecutor());
+      if (result.isDone()) {
+        // The read completed or was cancelled while this attempt was being made.
+        cancelAll(null);
+      }
+    }
+
+    /** Cancels the timer and all attempts other than the winner. */
+    private void cancelAll(ApiFuture<T> winner) {
+      List<ApiFuture<T>> losers;
+      synchronized (this) {
+        hedgeable = false;
+        losers = new ArrayList<>(attempts);
+      }
+      cancelTimer();
+      for (ApiFuture<T> loser : losers) {
+        if (loser != winner) {
+          loser.cancel(true);
+        }
+      }
+    }
+
+    private void cancelTimer() {
+      ScheduledFuture<?> scheduled;
+      synchronized (this) {
+        scheduled = timer;
+      }
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+    }
+  }
+}
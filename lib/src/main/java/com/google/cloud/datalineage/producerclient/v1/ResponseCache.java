@@ -0,0 +1,236 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.Message;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through cache of responses keyed by resource name.
+ *
+ * <p>Entries are kept in access order, so the least recently used ones are evicted first when a
+ * limit is exceeded. Concurrent misses for the same name share one call, and every caller gets its
+ * own future, so cancelling one of them does not cancel the call. Failures are not cached.
+ *
+ * <p>Invalidating a name also drops its children, e.g. the runs of a deleted process, and discards
+ * the result of calls for them that are in flight. This class is thread-safe.
+ */
+@Slf4j
+final class ResponseCache {
+
+  private final long maxEntries;
+  private final long maxBytes;
+  private final long timeToLiveNanos;
+  private final LongSupplier nanoTime;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, ApiFuture<? extends Message>> loading = new HashMap<>();
+  private long bytes;
+  private long hitCount;
+  private long missCount;
+
+  ResponseCache(ResponseCacheOptions options) {
+    this(options, System::nanoTime);
+  }
+
+  ResponseCache(ResponseCacheOptions options, LongSupplier nanoTime) {
+    log.debug(
+        "Initializing response cache with max entries: {}, max bytes: {}, time to live: {}",
+        options.getMaxEntries(),
+        options.getMaxBytes(),
+        options.getTimeToLive());
+    this.maxEntries = options.getMaxEntries();
+    this.maxBytes = options.getMaxBytes();
+    this.timeToLiveNanos = options.getTimeToLive().toNanos();
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Returns the cached response for a name, joins a call in flight for it, or makes the call.
+   *
+   * @param name name of the resource
+   * @param call supplier that makes the call
+   * @return future of the response
+   */
+  <T extends Message> ApiFuture<T> get(String name, Supplier<ApiFuture<T>> call) {
+    SettableApiFuture<T> placeholder = SettableApiFuture.create();
+    synchronized (this) {
+      Entry entry = entries.get(name);
+      if (entry != null) {
+        if (nanoTime.getAsLong() - entry.createdNanos < timeToLiveNanos) {
+          hitCount++;
+          @SuppressWarnings("unchecked")
+          T response = (T) entry.response;
+          return ApiFutures.immediateFuture(response);
+        }
+        remove(name);
+      }
+      @SuppressWarnings("unchecked")
+      ApiFuture<T> inFlight = (ApiFuture<T>) loading.get(name);
+      if (inFlight != null) {
+        hitCount++;
+        return forward(inFlight);
+      }
+      missCount++;
+      // Concurrent misses wait for the placeholder instead of making their own call.
+      loading.put(name, placeholder);
+    }
+    ApiFuture<T> result;
+    try {
+      result = call.get();
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        loading.remove(name, placeholder);
+      }
+      placeholder.setException(e);
+      throw e;
+    }
+    placeholder.setFuture(result);
+    ApiFutures.addCallback(
+        result,
+        new ApiFutureCallback<T>() {
+          @Override
+          public void onFailure(Throwable t) {
+            synchronized (ResponseCache.this) {
+              loading.remove(name, placeholder);
+            }
+          }
+
+          @Override
+          public void onSuccess(T response) {
+            store(name, placeholder, response);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return forward(placeholder);
+  }
+
+  /** Drops the response for a name and the responses for its children. */
+  synchronized void invalidate(String name) {
+    String prefix = name + "/";
+    removeIf(key -> key.equals(name) || key.startsWith(prefix));
+  }
+
+  /**
+   * Drops the responses for many names and for their children, in one pass over the cache rather
+   * than one per name.
+   */
+  synchronized void invalidateAll(Collection<String> names) {
+    Set<String> invalidated = new HashSet<>(names);
+    removeIf(key -> isSelfOrChild(key, invalidated));
+  }
+
+  synchronized ResponseCacheStats getStats() {
+    return new ResponseCacheStats(hitCount, missCount, entries.size(), bytes);
+  }
+
+  private synchronized void store(
+      String name, ApiFuture<? extends Message> placeholder, Message response) {
+    if (!loading.remove(name, placeholder)) {
+      // Invalidated while in flight.
+      return;
+    }
+    int size = response.getSerializedSize();
+    if (size > maxBytes) {
+      return;
+    }
+    remove(name);
+    entries.put(name, new Entry(response, size, nanoTime.getAsLong()));
+    bytes += size;
+    Iterator<Entry> eldest = entries.values().iterator();
+    while (entries.size() > maxEntries || bytes > maxBytes) {
+      bytes -= eldest.next().bytes;
+      eldest.remove();
+    }
+  }
+
+  private void removeIf(Predicate<String> invalidated) {
+    loading.keySet().removeIf(invalidated);
+    Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, Entry> entry = iterator.next();
+      if (invalidated.test(entry.getKey())) {
+        bytes -= entry.getValue().bytes;
+        iterator.remove();
+      }
+    }
+  }
+
+  /** Returns whether a name or one of its parents is in a set, looking up each of its prefixes. */
+  private static boolean isSelfOrChild(String name, Set<String> names) {
+    if (names.contains(name)) {
+      return true;
+    }
+    for (int i = name.indexOf('/'); i >= 0; i = name.indexOf('/', i + 1)) {
+      if (names.contains(name.substring(0, i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void remove(String name) {
+    Entry removed = entries.remove(name);
+    if (removed != null) {
+      bytes -= removed.bytes;
+    }
+  }
+
+  /** Returns a future of the shared call that can be cancelled without cancelling the call. */
+  private static <T> ApiFuture<T> forward(ApiFuture<T> shared) {
+    SettableApiFuture<T> result = SettableApiFuture.create();
+    ApiFutures.addCallback(
+        shared,
+        new ApiFutureCallback<T>() {
+          @Override
+          public void onFailure(Throwable t) {
+            result.setException(t);
+          }
+
+          @Override
+          public void onSuccess(T response) {
+            result.set(response);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return result;
+  }
+
+  private static final class Entry {
+    private final Message response;
+    private final int bytes;
+    private final long createdNanos;
+
+    private Entry(Message response, int bytes, long createdNanos) {
+      this.response = response;
+      this.bytes = bytes;
+      this.createdNanos = createdNanos;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import org.threeten.bp.Duration;
+
+/**
+ * Provides an immutable object for configuring the cache of getProcess, getRun and getLineageEvent
+ * responses. ResponseCacheOptions object can be created via Builder.
+ *
+ * <p>Responses are kept for `timeToLive` after they were received. When the cache holds more than
+ * `maxEntries` responses or more than `maxBytes` serialized bytes, the least recently used ones are
+ * evicted.
+ */
+public final class ResponseCacheOptions {
+
+  static final long DEFAULT_MAX_ENTRIES = 1000;
+  static final long DEFAULT_MAX_BYTES = 16L * 1024L * 1024L;
+  static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+  /**
+   * Disables the response cache.
+   *
+   * @return The requested response cache options.
+   */
+  public static ResponseCacheOptions getDisabledInstance() {
+    return new ResponseCacheOptions(false, newBuilder());
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final long maxEntries;
+  private final long maxBytes;
+  private final Duration timeToLive;
+
+  private ResponseCacheOptions(boolean enabled, Builder builder) {
+    this.enabled = enabled;
+    this.maxEntries = builder.maxEntries;
+    this.maxBytes = builder.maxBytes;
+    this.timeToLive = builder.timeToLive;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  public long getMaxEntries() {
+    return maxEntries;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /** Time after which a cached response is fetched again. */
+  public Duration getTimeToLive() {
+    return timeToLive;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for ResponseCacheOptions.
+   *
+   * <p>Lets setting `maxEntries`, `maxBytes` and `timeToLive`. Options built with this builder have
+   * the response cache enabled.
+   */
+  public static final class Builder {
+
+    private long maxEntries = DEFAULT_MAX_ENTRIES;
+    private long maxBytes = DEFAULT_MAX_BYTES;
+    private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+    private Builder() {}
+
+    private Builder(ResponseCacheOptions options) {
+      maxEntries = options.maxEntries;
+      maxBytes = options.maxBytes;
+      timeToLive = options.timeToLive;
+    }
+
+    public Builder setMaxEntries(long maxEntries) {
+      if (maxEntries <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxEntries = maxEntries;
+      return this;
+    }
+
+    public Builder setMaxBytes(long maxBytes) {
+      if (maxBytes <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxBytes = maxBytes;
+      return this;
+    }
+
+    public Builder setTimeToLive(Duration timeToLive) {
+      if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+        throw new IllegalArgumentException("Duration must be positive");
+      }
+      this.timeToLive = timeToLive;
+      return this;
+    }
+
+    public ResponseCacheOptions build() {
+      return new ResponseCacheOptions(true, this);
+    }
+  }
+}
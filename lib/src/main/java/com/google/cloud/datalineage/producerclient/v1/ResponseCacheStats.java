@@ -0,0 +1,70 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+/**
+ * Point-in-time snapshot of the response cache of a client.
+ *
+ * <p>All values are zero when the response cache is disabled.
+ */
+public final class ResponseCacheStats {
+
+  static final ResponseCacheStats EMPTY = new ResponseCacheStats(0, 0, 0, 0);
+
+  private final long hitCount;
+  private final long missCount;
+  private final long entryCount;
+  private final long bytes;
+
+  ResponseCacheStats(long hitCount, long missCount, long entryCount, long bytes) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.entryCount = entryCount;
+    this.bytes = bytes;
+  }
+
+  /** Number of reads answered from the cache, including reads joining a call in flight. */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /** Number of reads that made a call. */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /** Number of cached responses. */
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  /** Serialized size of cached responses. */
+  public long getBytes() {
+    return bytes;
+  }
+
+  @Override
+  public String toString() {
+    return "ResponseCacheStats{hitCount="
+        + hitCount
+        + ", missCount="
+        + missCount
+        + ", entryCount="
+        + entryCount
+        + ", bytes="
+        + bytes
+        + "}";
+  }
+}
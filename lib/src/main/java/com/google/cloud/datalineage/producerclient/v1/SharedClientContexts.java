@@ -0,0 +1,243 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.core.BackgroundResourceAggregation;
+import com.google.api.gax.rpc.ClientContext;
+import com.google.api.gax.rpc.StubSettings;
+import com.google.auth.Credentials;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JVM-wide registry of client contexts, shared by clients that call the same endpoint with the same
+ * credentials.
+ *
+ * <p>A client context holds the channel pool, the executor and the other background resources of a
+ * client. Clients acquire a lease on the context of their settings, creating it if no client holds
+ * one yet, and the context is shut down when its last lease is released. Clients that acquire a
+ * context while another client creates it wait for that context. Channel and executor settings of
+ * the client that created a context apply to all clients that share it.
+ *
+ * <p>This class is thread-safe.
+ */
+@Slf4j
+final class SharedClientContexts {
+
+  private static final Map<Key, Entry> contexts = new HashMap<>();
+
+  private SharedClientContexts() {}
+
+  /**
+   * Acquires a lease on the client context of the settings.
+   *
+   * @throws IOException if a new context cannot be created
+   */
+  static Lease acquire(StubSettings<?> settings) throws IOException {
+    Key key = new Key(settings);
+    Entry entry;
+    boolean create;
+    synchronized (SharedClientContexts.class) {
+      entry = contexts.get(key);
+      create = entry == null;
+      if (create) {
+        entry = new Entry(key);
+        contexts.put(key, entry);
+      }
+      entry.references++;
+    }
+    if (create) {
+      // Created without holding the lock, so clients of other endpoints are not held up, and
+      // clients of this endpoint wait for the context instead of creating their own.
+      log.debug("Creating shared client context for endpoint {}", key.endpoint);
+      try {
+        entry.created(ClientContext.create(settings));
+      } catch (IOException | RuntimeException | Error e) {
+        entry.context.setException(e);
+      }
+    }
+    try {
+      return new Lease(entry, Uninterruptibles.getUninterruptibly(entry.context));
+    } catch (ExecutionException e) {
+      // Clients waiting for a context that failed to be created fail the same way.
+      synchronized (SharedClientContexts.class) {
+        entry.references--;
+        contexts.remove(key, entry);
+      }
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /** Returns the number of client contexts held by at least one lease. */
+  static synchronized int size() {
+    return contexts.size();
+  }
+
+  /**
+   * Lease on a shared client context. Shutting down the lease releases it, and shuts down the
+   * context if it was the last lease. Releasing a lease more than once has no effect.
+   */
+  static final class Lease implements BackgroundResource {
+    private final Entry entry;
+    private final ClientContext context;
+    private boolean released;
+    private boolean last;
+
+    private Lease(Entry entry, ClientContext context) {
+      this.entry = entry;
+      this.context = context;
+    }
+
+    ClientContext getClientContext() {
+      return context;
+    }
+
+    @Override
+    public void shutdown() {
+      if (release()) {
+        entry.resources.shutdown();
+      }
+    }
+
+    @Override
+    public void shutdownNow() {
+      if (release()) {
+        entry.resources.shutdownNow();
+      }
+    }
+
+    @Override
+    public boolean isShutdown() {
+      synchronized (SharedClientContexts.class) {
+        return released;
+      }
+    }
+
+    @Override
+    public boolean isTerminated() {
+      synchronized (SharedClientContexts.class) {
+        if (!released) {
+          return false;
+        }
+        if (!last) {
+          return true;
+        }
+      }
+      return entry.resources.isTerminated();
+    }
+
+    /**
+     * Waits for the context to terminate if this was its last lease. Returns right away otherwise,
+     * since the context is still used by other clients.
+     */
+    @Override
+    public boolean awaitTermination(long duration, TimeUnit unit) throws InterruptedException {
+      synchronized (SharedClientContexts.class) {
+        if (!released || !last) {
+          return released;
+        }
+      }
+      return entry.resources.awaitTermination(duration, unit);
+    }
+
+    @Override
+    public void close() {
+      shutdown();
+    }
+
+    /** Releases the lease, returns {@code true} if the context has to be shut down. */
+    private boolean release() {
+      synchronized (SharedClientContexts.class) {
+        if (released) {
+          return false;
+        }
+        released = true;
+        if (--entry.references == 0) {
+          contexts.remove(entry.key, entry);
+          last = true;
+          log.debug("Shutting down shared client context for endpoint {}", entry.key.endpoint);
+        }
+        return last;
+      }
+    }
+  }
+
+  private static final class Entry {
+    private final Key key;
+    // Completed by the client that created the entry, once it has created the context.
+    private final SettableApiFuture<ClientContext> context = SettableApiFuture.create();
+    // Set before the context is completed, so lease holders always see it.
+    private BackgroundResourceAggregation resources;
+    private int references;
+
+    private Entry(Key key) {
+      this.key = key;
+    }
+
+    private void created(ClientContext created) {
+      resources = new BackgroundResourceAggregation(created.getBackgroundResources());
+      context.set(created);
+    }
+  }
+
+  /** Settings that decide which contexts can be shared. */
+  private static final class Key {
+    private final String endpoint;
+    private final Credentials credentials;
+    private final String quotaProjectId;
+    private final Map<String, String> headers;
+    private final String transportName;
+
+    private Key(StubSettings<?> settings) throws IOException {
+      this.endpoint = settings.getEndpoint();
+      this.credentials = settings.getCredentialsProvider().getCredentials();
+      this.quotaProjectId = settings.getQuotaProjectId();
+      this.headers = settings.getHeaderProvider().getHeaders();
+      this.transportName = settings.getTransportChannelProvider().getTransportName();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return Objects.equals(endpoint, that.endpoint)
+          && Objects.equals(credentials, that.credentials)
+          && Objects.equals(quotaProjectId, that.quotaProjectId)
+          && Objects.equals(headers, that.headers)
+          && Objects.equals(transportName, that.transportName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(endpoint, credentials, quotaProjectId, headers, transportName);
+    }
+  }
+}
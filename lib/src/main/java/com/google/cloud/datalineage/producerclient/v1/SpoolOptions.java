@@ -0,0 +1,112 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import java.nio.file.Path;
+
+/**
+ * Provides an immutable object for configuring the local spool of OpenLineage events. SpoolOptions
+ * object can be created via Builder.
+ *
+ * <p>Spooled events survive a crash of the process only. Segments are written through memory
+ * mappings and forced to disk only when they are rotated or the spool is closed, so events appended
+ * since then may be lost if the host crashes or loses power.
+ */
+public final class SpoolOptions {
+
+  static final int DEFAULT_SEGMENT_SIZE_BYTES = 16 * 1024 * 1024;
+
+  /**
+   * Disables the spool.
+   *
+   * @return The requested spool options.
+   */
+  public static SpoolOptions getDisabledInstance() {
+    return new SpoolOptions(false, null, DEFAULT_SEGMENT_SIZE_BYTES);
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final Path directory;
+  private final int segmentSizeBytes;
+
+  private SpoolOptions(boolean enabled, Path directory, int segmentSizeBytes) {
+    this.enabled = enabled;
+    this.directory = directory;
+    this.segmentSizeBytes = segmentSizeBytes;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  /** Directory that holds segment files, {@code null} if the spool is disabled. */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  public int getSegmentSizeBytes() {
+    return segmentSizeBytes;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for SpoolOptions.
+   *
+   * <p>Lets setting `directory` and `segmentSizeBytes`. The directory is required and must not be
+   * shared with another client. Options built with this builder have the spool enabled.
+   */
+  public static final class Builder {
+
+    private Path directory;
+    private int segmentSizeBytes = DEFAULT_SEGMENT_SIZE_BYTES;
+
+    private Builder() {}
+
+    private Builder(SpoolOptions options) {
+      directory = options.directory;
+      segmentSizeBytes = options.segmentSizeBytes;
+    }
+
+    public Builder setDirectory(Path directory) {
+      if (directory == null) {
+        throw new IllegalArgumentException("Directory cannot be null");
+      }
+      this.directory = directory;
+      return this;
+    }
+
+    public Builder setSegmentSizeBytes(int segmentSizeBytes) {
+      if (segmentSizeBytes <= 0) {
+        throw new IllegalArgumentException("Segment size must be positive");
+      }
+      this.segmentSizeBytes = segmentSizeBytes;
+      return this;
+    }
+
+    public SpoolOptions build() {
+      if (directory == null) {
+        throw new IllegalArgumentException("Directory cannot be null");
+      }
+      return new SpoolOptions(true, directory, segmentSizeBytes);
+    }
+  }
+}
@@ -14,7 +14,14 @@
 
 package com.google.cloud.datalineage.producerclient.v1;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.grpc.GrpcCallSettings;
+import com.google.api.gax.grpc.GrpcCallableFactory;
+import com.google.api.gax.grpc.GrpcTransportChannel;
 import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ClientContext;
+import com.google.api.gax.rpc.UnaryCallSettings;
 import com.google.api.gax.rpc.UnaryCallable;
 import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
 import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
@@ -36,28 +43,110 @@ import com.google.cloud.datacatalog.lineage.v1.Process;
 import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
 import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
 import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.cloud.datacatalog.lineage.v1.stub.GrpcLineageStub;
+import com.google.cloud.datacatalog.lineage.v1.stub.LineageStubSettings;
+import com.google.common.collect.ImmutableMap;
+import com.google.longrunning.GetOperationRequest;
+import com.google.longrunning.Operation;
 import com.google.protobuf.Empty;
+import io.grpc.MethodDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /**
  * A wrapper for LineageClient from standard library. The main reason for introducing this wrapper
  * is to create a fake for testing purposes.
  */
-class StandardLineageClient implements BasicLineageClient {
+class StandardLineageClient implements OperationLineageClient {
 
   public static StandardLineageClient create() throws IOException {
     return create(LineageSettings.newBuilder().build());
   }
 
   public static StandardLineageClient create(LineageSettings settings) throws IOException {
-    return new StandardLineageClient(settings);
+    return new StandardLineageClient(
+        settings,
+        settings instanceof LineageBaseSettings
+            && ((LineageBaseSettings) settings).getSharedTransportEnabled());
   }
 
+  private static final MethodDescriptor<SerializedRequest, ProcessOpenLineageRunEventResponse>
+      PROCESS_OPEN_LINEAGE_RUN_EVENT_JSON_METHOD =
+          MethodDescriptor.<SerializedRequest, ProcessOpenLineageRunEventResponse>newBuilder()
+              .setType(MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(
+                  MethodDescriptor.generateFullMethodName(
+                      "google.cloud.datacatalog.lineage.v1.Lineage", "ProcessOpenLineageRunEvent"))
+              .setRequestMarshaller(new SerializedRequestMarshaller())
+              .setResponseMarshaller(
+                  ProtoUtils.marshaller(ProcessOpenLineageRunEventResponse.getDefaultInstance()))
+              .build();
+
   private final LineageClient client;
 
-  private StandardLineageClient(LineageSettings settings) throws IOException {
-    client = LineageClient.create(settings);
+  /** Whether the client uses the gRPC transport, rather than HTTP/JSON. */
+  private final boolean grpcTransport;
+
+  /** Lease on the shared client context, {@code null} if the client owns its context. */
+  @Nullable private final SharedClientContexts.Lease lease;
+
+  /** Sends requests transcoded from JSON, {@code null} if the transport is not gRPC. */
+  @Nullable
+  private final UnaryCallable<SerializedRequest, ProcessOpenLineageRunEventResponse>
+      openLineageJsonCallable;
+
+  /** Whether requests transcoded from JSON get a request ID, which makes their retries safe. */
+  private final boolean stampRequestIds;
+
+  private StandardLineageClient(LineageSettings settings, boolean sharedTransport)
+      throws IOException {
+    LineageStubSettings stubSettings = (LineageStubSettings) settings.getStubSettings();
+    grpcTransport =
+        GrpcTransportChannel.getGrpcTransportName()
+            .equals(stubSettings.getTransportChannelProvider().getTransportName());
+    if (!grpcTransport) {
+      client = LineageClient.create(settings);
+      lease = null;
+      openLineageJsonCallable = null;
+      stampRequestIds = false;
+      return;
+    }
+    ClientContext clientContext;
+    if (sharedTransport) {
+      lease = SharedClientContexts.acquire(stubSettings);
+      // Tracers are per client, they count attempts made with the settings of this client.
+      clientContext =
+          lease.getClientContext().toBuilder()
+              .setTracerFactory(stubSettings.getTracerFactory())
+              .build();
+    } else {
+      lease = null;
+      clientContext = ClientContext.create(stubSettings);
+    }
+    // Subclassing gives access to the constructor that shares the client context, so the
+    // generated stub and the JSON callable use the same channel.
+    client = LineageClient.create(new GrpcLineageStub(stubSettings, clientContext) {});
+    // Same retries as the generated processOpenLineageRunEvent callable.
+    UnaryCallSettings<?, ?> callSettings = stubSettings.processOpenLineageRunEventSettings();
+    UnaryCallSettings.Builder<SerializedRequest, ProcessOpenLineageRunEventResponse>
+        jsonCallSettings = UnaryCallSettings.newUnaryCallSettingsBuilder();
+    jsonCallSettings
+        .setRetrySettings(callSettings.getRetrySettings())
+        .setRetryableCodes(callSettings.getRetryableCodes());
+    stampRequestIds = !callSettings.getRetryableCodes().isEmpty();
+    openLineageJsonCallable =
+        GrpcCallableFactory.createUnaryCallable(
+            GrpcCallSettings.<SerializedRequest, ProcessOpenLineageRunEventResponse>newBuilder()
+                .setMethodDescriptor(PROCESS_OPEN_LINEAGE_RUN_EVENT_JSON_METHOD)
+                .setParamsExtractor(request -> ImmutableMap.of("parent", request.parent))
+                .build(),
+            jsonCallSettings.build(),
+            clientContext);
   }
 
   @Override
@@ -76,6 +165,24 @@ class StandardLineageClient implements BasicLineageClient {
     return client.deleteRunAsync(request);
   }
 
+  @Override
+  public UnaryCallable<DeleteProcessRequest, Operation> deleteProcessCallable() {
+    return client.deleteProcessCallable();
+  }
+
+  @Override
+  public UnaryCallable<DeleteRunRequest, Operation> deleteRunCallable() {
+    return client.deleteRunCallable();
+  }
+
+  @Override
+  public UnaryCallable<GetOperationRequest, Operation> getOperationCallable() {
+    // Operations are polled with the operations client of the transport in use.
+    return grpcTransport
+        ? client.getOperationsClient().getOperationCallable()
+        : client.getHttpJsonOperationsClient().getOperationCallable();
+  }
+
   @Override
   public UnaryCallable<GetLineageEventRequest, LineageEvent> getEventCallable() {
     return client.getLineageEventCallable();
@@ -114,33 +221,82 @@ class StandardLineageClient implements BasicLineageClient {
     return client.processOpenLineageRunEventCallable();
   }
 
+  @Override
+  public ApiFuture<ProcessOpenLineageRunEventResponse> processOpenLineageRunEvent(
+      String parent, byte[] openLineageJson) {
+    if (openLineageJsonCallable == null) {
+      return OperationLineageClient.super.processOpenLineageRunEvent(parent, openLineageJson);
+    }
+    String requestId = stampRequestIds ? UUID.randomUUID().toString() : null;
+    return openLineageJsonCallable.futureCall(
+        new SerializedRequest(
+            parent,
+            OpenLineageJsonTranscoder.toSerializedRequest(parent, openLineageJson, requestId)));
+  }
+
   @Override
   public void shutdown() {
-    client.shutdown();
+    resources().shutdown();
   }
 
   @Override
   public boolean isShutdown() {
-    return client.isShutdown();
+    return resources().isShutdown();
   }
 
   @Override
   public boolean isTerminated() {
-    return client.isTerminated();
+    return resources().isTerminated();
   }
 
   @Override
   public void shutdownNow() {
-    client.shutdownNow();
+    resources().shutdownNow();
   }
 
   @Override
   public boolean awaitTermination(long duration, TimeUnit unit) throws InterruptedException {
-    return client.awaitTermination(duration, unit);
+    return resources().awaitTermination(duration, unit);
   }
 
   @Override
   public void close() {
-    client.close();
+    if (lease != null) {
+      lease.close();
+    } else {
+      client.close();
+    }
+  }
+
+  /**
+   * Returns what has to be shut down with this client. Closing the generated client would shut down
+   * the shared context, so a shared context is only released.
+   */
+  private BackgroundResource resources() {
+    return lease != null ? lease : client;
+  }
+
+  /** ProcessOpenLineageRunEventRequest in the wire format, with its parent for request routing. */
+  private static final class SerializedRequest {
+    private final String parent;
+    private final byte[] bytes;
+
+    private SerializedRequest(String parent, byte[] bytes) {
+      this.parent = parent;
+      this.bytes = bytes;
+    }
+  }
+
+  private static final class SerializedRequestMarshaller
+      implements MethodDescriptor.Marshaller<SerializedRequest> {
+    @Override
+    public InputStream stream(SerializedRequest request) {
+      return new ByteArrayInputStream(request.bytes);
+    }
+
+    @Override
+    public SerializedRequest parse(InputStream stream) {
+      throw new UnsupportedOperationException("Serialized requests are only sent");
+    }
   }
 }
@@ -15,6 +15,7 @@
 package com.google.cloud.datalineage.producerclient.v1;
 
 import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.rpc.ApiCallContext;
 import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
 import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
 import com.google.cloud.datacatalog.lineage.v1.DeleteRunRequest;
@@ -241,4 +242,33 @@ public interface SyncLineageClient extends BackgroundResource {
    */
   ProcessOpenLineageRunEventResponse processOpenLineageRunEvent(
       ProcessOpenLineageRunEventRequest request);
+
+  /**
+   * Processes OpenLineage message with the given call context.
+   *
+   * <p>Values set in the context, such as credentials, take precedence over the ones of the client
+   * for this call only, so one client and its channels can write lineage on behalf of many service
+   * accounts. The default implementation ignores the context and makes the call with the default
+   * context of the client.
+   *
+   * <p>Sample code:
+   *
+   * <pre>{@code
+   * try (SyncLineageClient lineageClient = SyncLineageProducerClient.create()) {
+   *   ProcessOpenLineageRunEventRequest request = ProcessOpenLineageRunEventRequest.newBuilder()
+   *       .setParent(parent).setOpenLineage(message).build();
+   *   ApiCallContext context = GrpcCallContext.createDefault().withCredentials(tenantCredentials);
+   *   lineageClient.processOpenLineageRunEvent(request, context);
+   * }
+   * }</pre>
+   *
+   * @param request Required. The request object that will be used to execute API call.
+   * @param context Required. The call context merged into the default context of the client.
+   * @return The API call response with details about the processed event(s).
+   * @throws com.google.api.gax.rpc.ApiException if the remote call fails
+   */
+  default ProcessOpenLineageRunEventResponse processOpenLineageRunEvent(
+      ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+    return processOpenLineageRunEvent(request);
+  }
 }
@@ -14,6 +14,8 @@
 
 package com.google.cloud.datalineage.producerclient.v1;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.rpc.ApiCallContext;
 import com.google.api.gax.rpc.ApiExceptions;
 import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
 import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
@@ -33,9 +35,12 @@ import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest
 import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
 import com.google.cloud.datacatalog.lineage.v1.Run;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
+import org.threeten.bp.Duration;
 
 /**
  * * Sync lineage producer client.
@@ -59,14 +64,39 @@ public final class SyncLineageProducerClient implements SyncLineageClient {
     return new SyncLineageProducerClient(basicClient);
   }
 
+  static SyncLineageProducerClient create(
+      BasicLineageClient basicClient, SyncLineageProducerClientSettings settings) {
+    return new SyncLineageProducerClient(InternalClient.create(settings, basicClient), settings);
+  }
+
   private final InternalClient client;
+  @Nullable private final WriteBehindBuffer writeBehind;
+  private final Duration drainTimeout;
 
   private SyncLineageProducerClient(SyncLineageProducerClientSettings settings) throws IOException {
-    client = InternalClient.create(settings);
+    this(InternalClient.create(settings), settings);
   }
 
   private SyncLineageProducerClient(BasicLineageClient basicClient) throws IOException {
     client = InternalClient.create(basicClient);
+    writeBehind = null;
+    drainTimeout = Duration.ZERO;
+  }
+
+  private SyncLineageProducerClient(
+      InternalClient client, SyncLineageProducerClientSettings settings) {
+    this.client = client;
+    WriteBehindOptions writeBehindOptions = settings.getWriteBehindOptions();
+    this.writeBehind =
+        writeBehindOptions.getEnabled()
+            ? new WriteBehindBuffer(
+                writeBehindOptions,
+                (request, context) ->
+                    context != null
+                        ? client.processOpenLineageRunEvent(request, context)
+                        : client.processOpenLineageRunEvent(request))
+            : null;
+    this.drainTimeout = writeBehindOptions.getDrainTimeout();
   }
 
   @Override
@@ -88,6 +118,32 @@ public final class SyncLineageProducerClient implements SyncLineageClient {
     client.deleteRun(request).get();
   }
 
+  /**
+   * Deletes many processes. Up to `maxConcurrentOperations` deletes run at a time, and their
+   * long-running operations are polled together instead of one timer per operation.
+   *
+   * @param names names of the processes to delete
+   * @param options concurrency, poll delays and timeout of the operations
+   * @return status of every name
+   */
+  public BulkDeleteResult deleteProcesses(Collection<String> names, BulkDeleteOptions options) {
+    log.debug("Deleting {} processes", names.size());
+    return ApiExceptions.callAndTranslateApiException(client.deleteProcesses(names, options));
+  }
+
+  /**
+   * Deletes many runs. Up to `maxConcurrentOperations` deletes run at a time, and their
+   * long-running operations are polled together instead of one timer per operation.
+   *
+   * @param names names of the runs to delete
+   * @param options concurrency, poll delays and timeout of the operations
+   * @return status of every name
+   */
+  public BulkDeleteResult deleteRuns(Collection<String> names, BulkDeleteOptions options) {
+    log.debug("Deleting {} runs", names.size());
+    return ApiExceptions.callAndTranslateApiException(client.deleteRuns(names, options));
+  }
+
   @Override
   public LineageEvent getLineageEvent(GetLineageEventRequest request) {
     log.debug("Getting lineage event: {}", request.getName());
@@ -124,20 +180,212 @@ public final class SyncLineageProducerClient implements SyncLineageClient {
     return ApiExceptions.callAndTranslateApiException(client.listRuns(request));
   }
 
+  /**
+   * Iterates over all processes of the request, fetching pages ahead of the iteration.
+   *
+   * @param request list request, its page token and page size are used for the first page
+   * @param options prefetch depth and page sizes
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public PrefetchingPageIterator<Process> iterateProcesses(
+      ListProcessesRequest request, PrefetchOptions options) {
+    log.debug("Iterating processes for parent: {}", request.getParent());
+    return PrefetchingPageIterator.forProcesses(request, options, this::fetchProcesses);
+  }
+
+  /**
+   * Iterates over all runs of the request, fetching pages ahead of the iteration.
+   *
+   * @param request list request, its page token and page size are used for the first page
+   * @param options prefetch depth and page sizes
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public PrefetchingPageIterator<Run> iterateRuns(
+      ListRunsRequest request, PrefetchOptions options) {
+    log.debug("Iterating runs for parent: {}", request.getParent());
+    return PrefetchingPageIterator.forRuns(request, options, this::fetchRuns);
+  }
+
+  /**
+   * Iterates over all lineage events of the request, fetching pages ahead of the iteration.
+   *
+   * @param request list request, its page token and page size are used for the first page
+   * @param options prefetch depth and page sizes
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public PrefetchingPageIterator<LineageEvent> iterateLineageEvents(
+      ListLineageEventsRequest request, PrefetchOptions options) {
+    log.debug("Iterating lineage events for parent: {}", request.getParent());
+    return PrefetchingPageIterator.forLineageEvents(request, options, this::fetchLineageEvents);
+  }
+
+  /**
+   * Iterates over the processes of many parents, listing several parents in parallel.
+   *
+   * <p>Parents in projects known to be disabled are skipped without a call.
+   *
+   * @param parents locations to list processes in
+   * @param concurrency number of parents listed at a time
+   * @param options prefetch depth per parent and page size
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public FanOutPageIterator<Process> iterateProcesses(
+      Collection<String> parents, int concurrency, PrefetchOptions options) {
+    log.debug("Iterating processes of {} parents", parents.size());
+    return FanOutPageIterator.forProcesses(
+        parents, concurrency, options, this::fetchProcesses, client::isProjectMarkedAsDisabled);
+  }
+
+  /**
+   * Iterates over the runs of many processes, listing several processes in parallel.
+   *
+   * <p>Processes in projects known to be disabled are skipped without a call.
+   *
+   * @param parents processes to list runs of
+   * @param concurrency number of processes listed at a time
+   * @param options prefetch depth per process and page size
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public FanOutPageIterator<Run> iterateRuns(
+      Collection<String> parents, int concurrency, PrefetchOptions options) {
+    log.debug("Iterating runs of {} parents", parents.size());
+    return FanOutPageIterator.forRuns(
+        parents, concurrency, options, this::fetchRuns, client::isProjectMarkedAsDisabled);
+  }
+
+  /**
+   * Iterates over the lineage events of many runs, listing several runs in parallel.
+   *
+   * <p>Runs in projects known to be disabled are skipped without a call.
+   *
+   * @param parents runs to list lineage events of
+   * @param concurrency number of runs listed at a time
+   * @param options prefetch depth per run and page size
+   * @return iterator that should be closed if it is abandoned before the end
+   */
+  public FanOutPageIterator<LineageEvent> iterateLineageEvents(
+      Collection<String> parents, int concurrency, PrefetchOptions options) {
+    log.debug("Iterating lineage events of {} parents", parents.size());
+    return FanOutPageIterator.forLineageEvents(
+        parents,
+        concurrency,
+        options,
+        this::fetchLineageEvents,
+        client::isProjectMarkedAsDisabled);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>In write-behind mode the event is only buffered, and an empty response is returned. Events
+   * that are dropped or fail are passed to the failure handler of {@link WriteBehindOptions}.
+   */
   @Override
   public ProcessOpenLineageRunEventResponse processOpenLineageRunEvent(
       ProcessOpenLineageRunEventRequest request) {
     log.debug("Processing OpenLineage run event: {}", request.getOpenLineage());
+    if (writeBehind != null) {
+      writeBehind.add(request, null);
+      return ProcessOpenLineageRunEventResponse.getDefaultInstance();
+    }
     return ApiExceptions.callAndTranslateApiException(client.processOpenLineageRunEvent(request));
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>In write-behind mode the event is only buffered, and an empty response is returned. The
+   * context is used when the event is sent.
+   */
+  @Override
+  public ProcessOpenLineageRunEventResponse processOpenLineageRunEvent(
+      ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+    log.debug("Processing OpenLineage run event with call context: {}", request.getOpenLineage());
+    if (writeBehind != null) {
+      writeBehind.add(request, context);
+      return ProcessOpenLineageRunEventResponse.getDefaultInstance();
+    }
+    return ApiExceptions.callAndTranslateApiException(
+        client.processOpenLineageRunEvent(request, context));
+  }
+
+  /**
+   * Waits until all OpenLineage run events buffered in write-behind mode before this call are sent
+   * and their calls completed. Failed events are passed to the failure handler, not thrown. Does
+   * nothing if write-behind mode is disabled.
+   *
+   * <p>After {@link #shutdownNow()}, or a shutdown whose drain timeout expired, returns right away
+   * although calls that were already made may still be in flight.
+   */
+  public void flush() {
+    if (writeBehind != null) {
+      ApiExceptions.callAndTranslateApiException(writeBehind.flush());
+    }
+  }
+
+  /**
+   * Returns a snapshot of the write-behind buffer.
+   *
+   * @return buffered, in flight, sent, failed and dropped events, with all values set to zero if
+   *     write-behind mode is disabled
+   */
+  public WriteBehindStats getWriteBehindStats() {
+    return writeBehind != null ? writeBehind.getStats() : WriteBehindStats.EMPTY;
+  }
+
+  /**
+   * Returns a snapshot of the adaptive concurrency limit.
+   *
+   * @return current limit, calls in flight and queued calls, with all values set to zero if the
+   *     adaptive concurrency limit is disabled
+   */
+  public ConcurrencyLimitStats getConcurrencyLimitStats() {
+    return client.getConcurrencyLimitStats();
+  }
+
+  /**
+   * Returns a snapshot of hedged reads.
+   *
+   * @return reads, second attempts sent, reads won by the second attempt and second attempts
+   *     skipped for lack of budget, with all values set to zero if hedging is disabled
+   */
+  public HedgingStats getHedgingStats() {
+    return client.getHedgingStats();
+  }
+
+  /**
+   * Returns a snapshot of the response cache.
+   *
+   * @return hits, misses, cached responses and their size, with all values set to zero if the
+   *     response cache is disabled
+   */
+  public ResponseCacheStats getResponseCacheStats() {
+    return client.getResponseCacheStats();
+  }
+
+  /**
+   * Returns a snapshot of processOpenLineageRunEvent attempts made by this client.
+   *
+   * @return attempt counts, with all values set to zero if ingestion retries are disabled
+   */
+  public IngestionAttemptStats getIngestionAttemptStats() {
+    return client.getIngestionAttemptStats();
+  }
+
   @Override
   public void close() throws Exception {
+    drainWriteBehind();
     client.close();
   }
 
   @Override
   public void shutdown() {
+    try {
+      drainWriteBehind();
+    } catch (InterruptedException e) {
+      log.warn("Interrupted while sending buffered events", e);
+      Thread.currentThread().interrupt();
+    }
     client.shutdown();
   }
 
@@ -153,6 +401,9 @@ public final class SyncLineageProducerClient implements SyncLineageClient {
 
   @Override
   public void shutdownNow() {
+    if (writeBehind != null) {
+      writeBehind.shutdownNow();
+    }
     client.shutdownNow();
   }
 
@@ -160,4 +411,27 @@ public final class SyncLineageProducerClient implements SyncLineageClient {
   public boolean awaitTermination(long duration, TimeUnit unit) throws InterruptedException {
     return client.awaitTermination(duration, unit);
   }
+
+  // Iterators fetch pages from callbacks of the previous ones, so their calls are made on client
+  // threads.
+
+  private ApiFuture<ListProcessesPagedResponse> fetchProcesses(ListProcessesRequest request) {
+    return client.dispatch(() -> client.listProcesses(request));
+  }
+
+  private ApiFuture<ListRunsPagedResponse> fetchRuns(ListRunsRequest request) {
+    return client.dispatch(() -> client.listRuns(request));
+  }
+
+  private ApiFuture<ListLineageEventsPagedResponse> fetchLineageEvents(
+      ListLineageEventsRequest request) {
+    return client.dispatch(() -> client.listLineageEvents(request));
+  }
+
+  /** Waits for events buffered in write-behind mode to be sent, up to the drain timeout. */
+  private void drainWriteBehind() throws InterruptedException {
+    if (writeBehind != null) {
+      writeBehind.shutdown(drainTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
 }
@@ -33,6 +33,8 @@ import org.threeten.bp.Duration;
  */
 public final class SyncLineageProducerClientSettings extends LineageBaseSettings {
 
+  private final WriteBehindOptions writeBehindOptions;
+
   public static Builder newBuilder() {
     return Builder.createDefault();
   }
@@ -47,6 +49,11 @@ public final class SyncLineageProducerClientSettings extends LineageBaseSettings
 
   private SyncLineageProducerClientSettings(Builder settingsBuilder) throws IOException {
     super(settingsBuilder);
+    this.writeBehindOptions = settingsBuilder.writeBehindOptions;
+  }
+
+  public WriteBehindOptions getWriteBehindOptions() {
+    return writeBehindOptions;
   }
 
   /**
@@ -57,6 +64,7 @@ public final class SyncLineageProducerClientSettings extends LineageBaseSettings
    * method.
    */
   public static final class Builder extends LineageBaseSettings.Builder {
+    private WriteBehindOptions writeBehindOptions = WriteBehindOptions.getDisabledInstance();
 
     private static Builder createDefault() {
       return new Builder(LineageStubSettings.newBuilder());
@@ -68,6 +76,7 @@ public final class SyncLineageProducerClientSettings extends LineageBaseSettings
 
     Builder(SyncLineageProducerClientSettings settings) {
       super(settings);
+      this.writeBehindOptions = settings.writeBehindOptions;
     }
 
     Builder(LineageStubSettings.Builder stubSettings) {
@@ -79,11 +88,82 @@ public final class SyncLineageProducerClientSettings extends LineageBaseSettings
       return new SyncLineageProducerClientSettings(this);
     }
 
+    /**
+     * Sets write-behind mode of {@code processOpenLineageRunEvent} calls. Events are added to an
+     * in-memory buffer and sent by a background thread, so the call returns without waiting for the
+     * response. Closing the client sends the buffered events first, and drops those still buffered
+     * after the drain timeout.
+     *
+     * @param writeBehindOptions write-behind options, disabled by default
+     * @return this builder
+     */
+    public Builder setWriteBehindOptions(WriteBehindOptions writeBehindOptions) {
+      if (writeBehindOptions == null) {
+        throw new IllegalArgumentException("Write-behind options cannot be null");
+      }
+      this.writeBehindOptions = writeBehindOptions;
+      return this;
+    }
+
+    public WriteBehindOptions getWriteBehindOptions() {
+      return writeBehindOptions;
+    }
+
     @Override
     public Builder setApiEnablementCacheSettings(CacheSettings settings) {
       return (Builder) super.setApiEnablementCacheSettings(settings);
     }
 
+    @Override
+    public Builder setEnablementProbingEnabled(boolean enablementProbingEnabled) {
+      return (Builder) super.setEnablementProbingEnabled(enablementProbingEnabled);
+    }
+
+    @Override
+    public Builder setIngestionRetriesEnabled(boolean ingestionRetriesEnabled) {
+      return (Builder) super.setIngestionRetriesEnabled(ingestionRetriesEnabled);
+    }
+
+    @Override
+    public Builder setAdaptiveConcurrencyOptions(AdaptiveConcurrencyOptions options) {
+      return (Builder) super.setAdaptiveConcurrencyOptions(options);
+    }
+
+    @Override
+    public Builder setRateLimitOptions(RateLimitOptions options) {
+      return (Builder) super.setRateLimitOptions(options);
+    }
+
+    @Override
+    public Builder setSharedTransportEnabled(boolean sharedTransportEnabled) {
+      return (Builder) super.setSharedTransportEnabled(sharedTransportEnabled);
+    }
+
+    @Override
+    public Builder setLocationRoutingEnabled(boolean locationRoutingEnabled) {
+      return (Builder) super.setLocationRoutingEnabled(locationRoutingEnabled);
+    }
+
+    @Override
+    public Builder setRegionalEndpointTemplate(String regionalEndpointTemplate) {
+      return (Builder) super.setRegionalEndpointTemplate(regionalEndpointTemplate);
+    }
+
+    @Override
+    public Builder setFailoverOptions(FailoverOptions options) {
+      return (Builder) super.setFailoverOptions(options);
+    }
+
+    @Override
+    public Builder setHedgingOptions(HedgingOptions options) {
+      return (Builder) super.setHedgingOptions(options);
+    }
+
+    @Override
+    public Builder setResponseCacheOptions(ResponseCacheOptions options) {
+      return (Builder) super.setResponseCacheOptions(options);
+    }
+
     @Override
     public AsyncLineageProducerClientSettings.Builder setLineageEnablementCacheSettings(
         CacheSettings settings) {
@@ -0,0 +1,370 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded in-memory buffer of OpenLineage run events that are sent by a background thread.
+ *
+ * <p>Adding an event never blocks. Events that do not fit in the buffer are dropped and passed to
+ * the failure handler with RESOURCE_EXHAUSTED status code, as are events whose call fails. The
+ * sender thread keeps at most `maxInFlight` calls outstanding. A flush puts a marker in the buffer
+ * that completes once every event ahead of it has been sent and its call completed. Markers take
+ * room in the buffer like events, and flushes with no event added in between share one marker.
+ *
+ * <p>This class is thread-safe.
+ */
+@Slf4j
+final class WriteBehindBuffer implements AutoCloseable {
+
+  private final BiFunction<
+          ProcessOpenLineageRunEventRequest,
+          ApiCallContext,
+          ApiFuture<ProcessOpenLineageRunEventResponse>>
+      sender;
+  private final int maxEventCount;
+  private final long maxBytes;
+  private final int maxInFlight;
+  @Nullable private final BiConsumer<ProcessOpenLineageRunEventRequest, Throwable> failureHandler;
+  private final ExecutorService executor;
+  private final ArrayDeque<Entry> buffer = new ArrayDeque<>();
+  private int bufferedCount;
+  private int markerCount;
+  private long bufferedBytes;
+  private int inFlight;
+  private long sentCount;
+  private long failedCount;
+  private long droppedCount;
+  private boolean closed;
+  // Completes once the buffer is drained or dropped, null until the buffer is closed.
+  @Nullable private ApiFuture<Void> drained;
+
+  /**
+   * Creates the buffer and starts its sender thread.
+   *
+   * @param options write-behind options
+   * @param sender function that makes the call, with a {@code null} context if the event was added
+   *     without one
+   */
+  WriteBehindBuffer(
+      WriteBehindOptions options,
+      BiFunction<
+              ProcessOpenLineageRunEventRequest,
+              ApiCallContext,
+              ApiFuture<ProcessOpenLineageRunEventResponse>>
+          sender) {
+    log.debug(
+        "Initializing write-behind buffer with max buffered events: {}, max buffered bytes: {}, "
+            + "max in flight: {}",
+        options.getMaxBufferedEventCount(),
+        options.getMaxBufferedBytes(),
+        options.getMaxInFlight());
+    this.sender = sender;
+    this.maxEventCount = options.getMaxBufferedEventCount();
+    this.maxBytes = options.getMaxBufferedBytes();
+    this.maxInFlight = options.getMaxInFlight();
+    this.failureHandler = options.getFailureHandler();
+    this.executor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("lineage-write-behind-%d")
+                .setDaemon(true)
+                .build());
+    executor.execute(this::sendBuffered);
+  }
+
+  /**
+   * Adds an event to the buffer, or drops it if the buffer is full.
+   *
+   * @param request event to be sent
+   * @param context call context of the event, {@code null} to use the default one
+   * @throws IllegalStateException if the buffer has been closed
+   */
+  void add(ProcessOpenLineageRunEventRequest request, @Nullable ApiCallContext context) {
+    long bytes = request.getSerializedSize();
+    String overflow = null;
+    synchronized (this) {
+      if (closed) {
+        throw new IllegalStateException("Cannot add events to a closed write-behind buffer");
+      }
+      if (bufferedCount + markerCount >= maxEventCount
+          || (bufferedCount > 0 && bufferedBytes + bytes > maxBytes)) {
+        droppedCount++;
+        overflow =
+            "Write-behind buffer is full: "
+                + bufferedCount
+                + " buffered events, "
+                + bufferedBytes
+                + " buffered bytes";
+      } else {
+        buffer.add(new Entry(request, context, bytes, null));
+        bufferedCount++;
+        bufferedBytes += bytes;
+        notifyAll();
+      }
+    }
+    if (overflow != null) {
+      reportFailure(
+          request,
+          ApiExceptionFactory.createException(
+              overflow, null, GrpcHelper.getStatusCodeFromCode(Code.RESOURCE_EXHAUSTED), false));
+    }
+  }
+
+  /**
+   * Returns a future that completes once all events added before this call were sent and their
+   * calls completed, whatever their outcome. Once the buffer is closed, the future completes when
+   * the buffer is drained, or right away after {@link #shutdownNow()}, in which case calls that
+   * were already made may still be in flight.
+   */
+  synchronized ApiFuture<Void> flush() {
+    if (closed) {
+      // Nothing is added anymore, so the events before this call are gone once the buffer is.
+      return drained;
+    }
+    return addFlushMarker();
+  }
+
+  /**
+   * Adds a flush marker to the buffer, or returns the last one if no event was added since, must be
+   * called holding the lock.
+   */
+  private SettableApiFuture<Void> addFlushMarker() {
+    Entry last = buffer.peekLast();
+    if (last != null && last.flushed != null) {
+      return last.flushed;
+    }
+    SettableApiFuture<Void> flushed = SettableApiFuture.create();
+    buffer.add(new Entry(null, null, 0, flushed));
+    markerCount++;
+    notifyAll();
+    return flushed;
+  }
+
+  synchronized WriteBehindStats getStats() {
+    return new WriteBehindStats(
+        bufferedCount, bufferedBytes, inFlight, sentCount, failedCount, droppedCount);
+  }
+
+  /**
+   * Rejects further events and waits until the buffered ones are sent and their calls completed.
+   * Events still buffered after the timeout are dropped as by {@link #shutdownNow()}.
+   *
+   * @param timeout how long to wait for buffered events
+   * @param unit unit of the timeout
+   * @return {@code true} if all events were sent before the timeout
+   * @throws InterruptedException if interrupted while waiting
+   */
+  boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+    ApiFuture<Void> toAwait;
+    synchronized (this) {
+      if (!closed) {
+        closed = true;
+        drained = addFlushMarker();
+      }
+      toAwait = drained;
+    }
+    executor.shutdown();
+    try {
+      toAwait.get(timeout, unit);
+      return true;
+    } catch (TimeoutException e) {
+      log.warn(
+          "Write-behind buffer did not send {} buffered events within {} {}",
+          getStats().getBufferedEventCount(),
+          timeout,
+          unit);
+      shutdownNow();
+      return false;
+    } catch (ExecutionException e) {
+      // Flush markers are only ever completed successfully.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Rejects further events, drops the buffered ones and stops the sender thread. Dropped events are
+   * passed to the failure handler with CANCELLED status code.
+   */
+  void shutdownNow() {
+    List<Entry> dropped;
+    synchronized (this) {
+      if (!closed) {
+        closed = true;
+        drained = ApiFutures.immediateFuture(null);
+      }
+      dropped = new ArrayList<>(buffer);
+      buffer.clear();
+      droppedCount += bufferedCount;
+      bufferedCount = 0;
+      markerCount = 0;
+      bufferedBytes = 0;
+    }
+    executor.shutdownNow();
+    for (Entry entry : dropped) {
+      if (entry.flushed != null) {
+        entry.flushed.set(null);
+      } else {
+        reportFailure(
+            entry.request,
+            ApiExceptionFactory.createException(
+                "Client was shut down before the event was sent",
+                null,
+                GrpcHelper.getStatusCodeFromCode(Code.CANCELLED),
+                false));
+      }
+    }
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    shutdown(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+  }
+
+  /** Loop of the sender thread, which runs until the buffer is closed and empty. */
+  private void sendBuffered() {
+    while (true) {
+      Entry entry;
+      synchronized (this) {
+        try {
+          while (!isReady(buffer.peek())) {
+            if (buffer.isEmpty() && closed) {
+              return;
+            }
+            wait();
+          }
+        } catch (InterruptedException e) {
+          // Interrupted by shutdownNow, which has already dropped the buffered events.
+          return;
+        }
+        entry = buffer.poll();
+        if (entry.flushed == null) {
+          bufferedCount--;
+          bufferedBytes -= entry.bytes;
+          inFlight++;
+        } else {
+          markerCount--;
+        }
+      }
+      if (entry.flushed != null) {
+        entry.flushed.set(null);
+      } else {
+        send(entry);
+      }
+    }
+  }
+
+  /** An event is ready once there is room in flight, a flush marker once nothing is in flight. */
+  private boolean isReady(@Nullable Entry entry) {
+    if (entry == null) {
+      return false;
+    }
+    return entry.flushed != null ? inFlight == 0 : inFlight < maxInFlight;
+  }
+
+  private void send(Entry entry) {
+    ApiFuture<ProcessOpenLineageRunEventResponse> call;
+    try {
+      call = sender.apply(entry.request, entry.context);
+    } catch (RuntimeException e) {
+      complete(entry.request, e);
+      return;
+    }
+    ApiFutures.addCallback(
+        call,
+        new ApiFutureCallback<ProcessOpenLineageRunEventResponse>() {
+          @Override
+          public void onFailure(Throwable t) {
+            complete(entry.request, t);
+          }
+
+          @Override
+          public void onSuccess(ProcessOpenLineageRunEventResponse response) {
+            complete(entry.request, null);
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private void complete(ProcessOpenLineageRunEventRequest request, @Nullable Throwable failure) {
+    synchronized (this) {
+      inFlight--;
+      if (failure == null) {
+        sentCount++;
+      } else {
+        failedCount++;
+      }
+      notifyAll();
+    }
+    if (failure != null) {
+      reportFailure(request, failure);
+    }
+  }
+
+  private void reportFailure(ProcessOpenLineageRunEventRequest request, Throwable failure) {
+    if (failureHandler == null) {
+      log.warn("Failed to send OpenLineage run event for parent {}", request.getParent(), failure);
+      return;
+    }
+    try {
+      failureHandler.accept(request, failure);
+    } catch (RuntimeException e) {
+      log.warn("Write-behind failure handler threw an exception", e);
+    }
+  }
+
+  /** Buffered event, or a flush marker if {@code flushed} is set. */
+  private static final class Entry {
+    private final ProcessOpenLineageRunEventRequest request;
+    @Nullable private final ApiCallContext context;
+    private final long bytes;
+    @Nullable private final SettableApiFuture<Void> flushed;
+
+    private Entry(
+        ProcessOpenLineageRunEventRequest request,
+        @Nullable ApiCallContext context,
+        long bytes,
+        @Nullable SettableApiFuture<Void> flushed) {
+      this.request = request;
+      this.context = context;
+      this.bytes = bytes;
+      this.flushed = flushed;
+    }
+  }
+}
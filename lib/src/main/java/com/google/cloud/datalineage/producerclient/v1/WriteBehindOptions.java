@@ -0,0 +1,178 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import org.threeten.bp.Duration;
+
+/**
+ * Provides an immutable object for configuring the write-behind mode of SyncLineageProducerClient.
+ * WriteBehindOptions object can be created via Builder.
+ *
+ * <p>In write-behind mode {@code processOpenLineageRunEvent} only adds the event to a bounded
+ * in-memory buffer and returns. A background thread sends buffered events with at most
+ * `maxInFlight` calls outstanding at a time. Events that do not fit in the buffer are dropped, and
+ * events that are dropped or fail to be sent are passed to the failure handler.
+ */
+public final class WriteBehindOptions {
+
+  static final int DEFAULT_MAX_BUFFERED_EVENT_COUNT = 10_000;
+  static final long DEFAULT_MAX_BUFFERED_BYTES = 64L * 1024L * 1024L;
+  static final int DEFAULT_MAX_IN_FLIGHT = 100;
+  static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+  /**
+   * Disables write-behind mode.
+   *
+   * @return The requested write-behind options.
+   */
+  public static WriteBehindOptions getDisabledInstance() {
+    return new WriteBehindOptions(false, newBuilder());
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private final boolean enabled;
+  private final int maxBufferedEventCount;
+  private final long maxBufferedBytes;
+  private final int maxInFlight;
+  private final Duration drainTimeout;
+  @Nullable private final BiConsumer<ProcessOpenLineageRunEventRequest, Throwable> failureHandler;
+
+  private WriteBehindOptions(boolean enabled, Builder builder) {
+    this.enabled = enabled;
+    this.maxBufferedEventCount = builder.maxBufferedEventCount;
+    this.maxBufferedBytes = builder.maxBufferedBytes;
+    this.maxInFlight = builder.maxInFlight;
+    this.drainTimeout = builder.drainTimeout;
+    this.failureHandler = builder.failureHandler;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  /** Largest number of events waiting in the buffer. */
+  public int getMaxBufferedEventCount() {
+    return maxBufferedEventCount;
+  }
+
+  /** Largest serialized size of events waiting in the buffer. */
+  public long getMaxBufferedBytes() {
+    return maxBufferedBytes;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /** How long closing the client waits for buffered events to be sent before dropping them. */
+  public Duration getDrainTimeout() {
+    return drainTimeout;
+  }
+
+  /** Handler of dropped and failed events, {@code null} if failures are only logged. */
+  @Nullable
+  public BiConsumer<ProcessOpenLineageRunEventRequest, Throwable> getFailureHandler() {
+    return failureHandler;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * * Builder for WriteBehindOptions.
+   *
+   * <p>Lets setting `maxBufferedEventCount`, `maxBufferedBytes`, `maxInFlight`, `drainTimeout` and
+   * `failureHandler`. Options built with this builder have write-behind mode enabled. A single
+   * event larger than `maxBufferedBytes` is buffered when the buffer is empty.
+   */
+  public static final class Builder {
+
+    private int maxBufferedEventCount = DEFAULT_MAX_BUFFERED_EVENT_COUNT;
+    private long maxBufferedBytes = DEFAULT_MAX_BUFFERED_BYTES;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private Duration drainTimeout = DEFAULT_DRAIN_TIMEOUT;
+    private BiConsumer<ProcessOpenLineageRunEventRequest, Throwable> failureHandler;
+
+    private Builder() {}
+
+    private Builder(WriteBehindOptions options) {
+      maxBufferedEventCount = options.maxBufferedEventCount;
+      maxBufferedBytes = options.maxBufferedBytes;
+      maxInFlight = options.maxInFlight;
+      drainTimeout = options.drainTimeout;
+      failureHandler = options.failureHandler;
+    }
+
+    public Builder setMaxBufferedEventCount(int maxBufferedEventCount) {
+      if (maxBufferedEventCount <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxBufferedEventCount = maxBufferedEventCount;
+      return this;
+    }
+
+    public Builder setMaxBufferedBytes(long maxBufferedBytes) {
+      if (maxBufferedBytes <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxBufferedBytes = maxBufferedBytes;
+      return this;
+    }
+
+    public Builder setMaxInFlight(int maxInFlight) {
+      if (maxInFlight <= 0) {
+        throw new IllegalArgumentException("Limit must be positive");
+      }
+      this.maxInFlight = maxInFlight;
+      return this;
+    }
+
+    public Builder setDrainTimeout(Duration drainTimeout) {
+      if (drainTimeout == null || drainTimeout.isNegative()) {
+        throw new IllegalArgumentException("Duration cannot be negative");
+      }
+      this.drainTimeout = drainTimeout;
+      return this;
+    }
+
+    /**
+     * Sets the handler of events that were dropped because the buffer was full or the client was
+     * shut down, or whose call failed. The handler is called on the thread that completed the call
+     * and should not block.
+     *
+     * @param failureHandler handler that receives the event and the cause of its failure
+     * @return this builder
+     */
+    public Builder setFailureHandler(
+        BiConsumer<ProcessOpenLineageRunEventRequest, Throwable> failureHandler) {
+      if (failureHandler == null) {
+        throw new IllegalArgumentException("Failure handler cannot be null");
+      }
+      this.failureHandler = failureHandler;
+      return this;
+    }
+
+    public WriteBehindOptions build() {
+      return new WriteBehindOptions(true, this);
+    }
+  }
+}
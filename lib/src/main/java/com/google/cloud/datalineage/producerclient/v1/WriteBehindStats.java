@@ -0,0 +1,94 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+/**
+ * Point-in-time snapshot of the write-behind buffer of a client.
+ *
+ * <p>All values are zero when write-behind mode is disabled.
+ */
+public final class WriteBehindStats {
+
+  static final WriteBehindStats EMPTY = new WriteBehindStats(0, 0, 0, 0, 0, 0);
+
+  private final long bufferedEventCount;
+  private final long bufferedBytes;
+  private final long inFlightCount;
+  private final long sentCount;
+  private final long failedCount;
+  private final long droppedCount;
+
+  WriteBehindStats(
+      long bufferedEventCount,
+      long bufferedBytes,
+      long inFlightCount,
+      long sentCount,
+      long failedCount,
+      long droppedCount) {
+    this.bufferedEventCount = bufferedEventCount;
+    this.bufferedBytes = bufferedBytes;
+    this.inFlightCount = inFlightCount;
+    this.sentCount = sentCount;
+    this.failedCount = failedCount;
+    this.droppedCount = droppedCount;
+  }
+
+  /** Number of events waiting in the buffer. */
+  public long getBufferedEventCount() {
+    return bufferedEventCount;
+  }
+
+  /** Serialized size of events waiting in the buffer. */
+  public long getBufferedBytes() {
+    return bufferedBytes;
+  }
+
+  /** Number of events that were sent and have not completed yet. */
+  public long getInFlightCount() {
+    return inFlightCount;
+  }
+
+  /** Number of events that were sent successfully. */
+  public long getSentCount() {
+    return sentCount;
+  }
+
+  /** Number of events whose call failed. */
+  public long getFailedCount() {
+    return failedCount;
+  }
+
+  /** Number of events dropped because the buffer was full or the client was shut down. */
+  public long getDroppedCount() {
+    return droppedCount;
+  }
+
+  @Override
+  public String toString() {
+    return "WriteBehindStats{bufferedEventCount="
+        + bufferedEventCount
+        + ", bufferedBytes="
+        + bufferedBytes
+        + ", inFlightCount="
+        + inFlightCount
+        + ", sentCount="
+        + sentCount
+        + ", failedCount="
+        + failedCount
+        + ", droppedCount="
+        + droppedCount
+        + "}";
+  }
+}
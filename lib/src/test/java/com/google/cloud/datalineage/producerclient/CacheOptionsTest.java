@@ -33,6 +33,7 @@ public class CacheOptionsTest {
     CacheOptions options = CacheOptions.newBuilder().build();
     assertThat(options.getCacheSize()).isEqualTo(1000);
     assertThat(options.getDefaultCacheDisabledStatusTime()).isEqualTo(Duration.ofMinutes(5));
+    assertThat(options.getMaxCacheDisabledStatusTime()).isEqualTo(Duration.ofHours(1));
     assertThat(options.getClock()).isEqualTo(Clock.systemDefaultZone());
   }
 
@@ -70,6 +71,15 @@ public class CacheOptionsTest {
     assertThat(exception).hasMessageThat().contains("Duration cannot be negative");
   }
 
+  @Test
+  public void setMaxCacheDisabledStatusTime_negative_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CacheOptions.newBuilder().setMaxCacheDisabledStatusTime(Duration.ofMinutes(-1)));
+    assertThat(exception).hasMessageThat().contains("Duration cannot be negative");
+  }
+
   @Test
   public void toBuilder_preserveOptions() {
     Duration disabledTime = Duration.ofSeconds(30);
@@ -79,6 +89,7 @@ public class CacheOptionsTest {
     CacheOptions options =
         CacheOptions.newBuilder()
             .setDefaultCacheDisabledStatusTime(disabledTime)
+            .setMaxCacheDisabledStatusTime(Duration.ofHours(6))
             .setCacheSize(size)
             .setClock(clock)
             .build();
@@ -88,5 +99,6 @@ public class CacheOptionsTest {
     assertThat(newOptions.getCacheSize()).isEqualTo(1000);
     assertThat(newOptions.getClock()).isEqualTo(clock);
     assertThat(newOptions.getDefaultCacheDisabledStatusTime()).isEqualTo(disabledTime);
+    assertThat(newOptions.getMaxCacheDisabledStatusTime()).isEqualTo(Duration.ofHours(6));
   }
 }
@@ -110,6 +110,97 @@ public class ProjectStatusCacheTest {
     assertThat(projectsInCache).isEqualTo(cacheSize);
   }
 
+  @Test
+  public void markProjectAsDisabled_overflow_evictsEntryThatExpiresFirst() {
+    cache =
+        new ProjectStatusCache(
+            CacheOptions.newBuilder().setClock(clock).setCacheSize(2).build(), CACHE_NAME);
+
+    cache.markProjectAsDisabled("project1", Duration.ofMinutes(10));
+    cache.markProjectAsDisabled("project2", Duration.ofMinutes(1));
+    cache.markProjectAsDisabled("project3", Duration.ofMinutes(5));
+
+    assertThat(cache.isProjectDisabled("project1")).isTrue();
+    assertThat(cache.isProjectDisabled("project2")).isFalse();
+    assertThat(cache.isProjectDisabled("project3")).isTrue();
+  }
+
+  @Test
+  public void markProjectAsDisabled_overflow_evictsExpiredEntriesFirst() {
+    cache =
+        new ProjectStatusCache(
+            CacheOptions.newBuilder().setClock(clock).setCacheSize(2).build(), CACHE_NAME);
+
+    cache.markProjectAsDisabled("project1", Duration.ofMinutes(10));
+    cache.markProjectAsDisabled("project2", Duration.ofMillis(1));
+    setupTime(BASE_DATE.plus(Duration.ofMillis(2)));
+    cache.markProjectAsDisabled("project3", Duration.ofMillis(5));
+
+    assertThat(cache.isProjectDisabled("project1")).isTrue();
+    assertThat(cache.isProjectDisabled("project3")).isTrue();
+  }
+
+  @Test
+  public void markProjectAsDisabled_veryLongDuration_doesNotOverflow() {
+    cache.markProjectAsDisabled(PROJECT_NAME, Duration.ofSeconds(Long.MAX_VALUE));
+
+    assertThat(cache.isProjectDisabled(PROJECT_NAME)).isTrue();
+  }
+
+  @Test
+  public void markProjectAsDisabled_repeatedly_doublesDurationUpToMax() {
+    cache =
+        new ProjectStatusCache(
+            CacheOptions.newBuilder()
+                .setClock(clock)
+                .setDefaultCacheDisabledStatusTime(Duration.ofMinutes(5))
+                .setMaxCacheDisabledStatusTime(Duration.ofMinutes(15))
+                .build(),
+            CACHE_NAME);
+    LocalDateTime time = BASE_DATE;
+
+    for (Duration expected :
+        ImmutableList.of(
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(15),
+            Duration.ofMinutes(15))) {
+      setupTime(time);
+      cache.markProjectAsDisabled(PROJECT_NAME);
+      assertStateChangedAtTime(PROJECT_NAME, time.plus(expected));
+      time = time.plus(expected).plus(Duration.ofMillis(2));
+    }
+  }
+
+  @Test
+  public void markProjectAsDisabled_whileDisabled_keepsDuration() {
+    cache.markProjectAsDisabled(PROJECT_NAME);
+    setupTime(BASE_DATE.plus(Duration.ofMinutes(1)));
+    cache.markProjectAsDisabled(PROJECT_NAME);
+
+    assertStateChangedAtTime(PROJECT_NAME, BASE_DATE.plus(Duration.ofMinutes(5)));
+  }
+
+  @Test
+  public void markProjectAsDisabled_longAfterExpiry_resetsDuration() {
+    cache.markProjectAsDisabled(PROJECT_NAME);
+    LocalDateTime later = BASE_DATE.plus(Duration.ofHours(1));
+    setupTime(later);
+    cache.markProjectAsDisabled(PROJECT_NAME);
+
+    assertStateChangedAtTime(PROJECT_NAME, later.plus(Duration.ofMinutes(5)));
+  }
+
+  @Test
+  public void markProjectAsDisabled_afterExplicitDuration_doublesIt() {
+    cache.markProjectAsDisabled(PROJECT_NAME, Duration.ofMinutes(20));
+    LocalDateTime afterExpiry = BASE_DATE.plus(Duration.ofMinutes(21));
+    setupTime(afterExpiry);
+    cache.markProjectAsDisabled(PROJECT_NAME);
+
+    assertStateChangedAtTime(PROJECT_NAME, afterExpiry.plus(Duration.ofMinutes(40)));
+  }
+
   /**
    * Asserts that there was no change in state for a project before and after a given point in time.
    */
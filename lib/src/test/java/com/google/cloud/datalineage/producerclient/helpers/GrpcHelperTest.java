@@ -19,8 +19,11 @@ import static org.junit.Assert.assertThrows;
 
 import com.google.protobuf.Any;
 import com.google.rpc.ErrorInfo;
+import com.google.rpc.RetryInfo;
 import com.google.rpc.Status;
 import io.grpc.protobuf.StatusProto;
+import java.time.Duration;
+import java.util.Optional;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -70,4 +73,69 @@ public class GrpcHelperTest {
 
     assertThat(GrpcHelper.getErrorReasons(grpcException)).containsExactly("reason1", "reason2");
   }
+
+  @Test
+  public void getRetryDelay_withRetryInfo_returnsDelay() {
+    RetryInfo retryInfo =
+        RetryInfo.newBuilder()
+            .setRetryDelay(
+                com.google.protobuf.Duration.newBuilder().setSeconds(3600).setNanos(5).build())
+            .build();
+    Throwable grpcException =
+        StatusProto.toStatusRuntimeException(
+            Status.newBuilder().addDetails(Any.pack(retryInfo)).build());
+
+    assertThat(GrpcHelper.getRetryDelay(grpcException))
+        .isEqualTo(Optional.of(Duration.ofHours(1).plusNanos(5)));
+  }
+
+  @Test
+  public void getRetryDelay_withoutRetryInfo_returnsEmpty() {
+    Throwable grpcException =
+        StatusProto.toStatusRuntimeException(
+            Status.newBuilder()
+                .addDetails(Any.pack(ErrorInfo.newBuilder().setReason("reason").build()))
+                .build());
+
+    assertThat(GrpcHelper.getRetryDelay(grpcException)).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  public void getRetryDelay_withNonGrpcException_throws() {
+    Throwable nonGrpcException = new IllegalArgumentException("This is not a gRPC exception");
+
+    assertThrows(
+        IllegalArgumentException.class, () -> GrpcHelper.getRetryDelay(nonGrpcException));
+  }
+
+  @Test
+  public void getErrorInfoMetadata_withMultipleErrorInfo_mergesMetadata() {
+    ErrorInfo errorInfoOne =
+        ErrorInfo.newBuilder()
+            .setReason("SERVICE_DISABLED")
+            .putMetadata("consumer", "projects/123")
+            .putMetadata("service", "datalineage.googleapis.com")
+            .build();
+    ErrorInfo errorInfoTwo =
+        ErrorInfo.newBuilder()
+            .setReason("other")
+            .putMetadata("consumer", "projects/456")
+            .putMetadata("activationUrl", "https://example.com")
+            .build();
+    Throwable grpcException =
+        StatusProto.toStatusRuntimeException(
+            Status.newBuilder()
+                .addDetails(Any.pack(errorInfoOne))
+                .addDetails(Any.pack(errorInfoTwo))
+                .build());
+
+    assertThat(GrpcHelper.getErrorInfoMetadata(grpcException))
+        .containsExactly(
+            "consumer",
+            "projects/123",
+            "service",
+            "datalineage.googleapis.com",
+            "activationUrl",
+            "https://example.com");
+  }
 }
@@ -55,10 +55,51 @@ public class NamesHelperTest {
   @Test
   public void
       getProjectNameWithLocationFromResourceName_throwsErrorWhenProjectNameDoesNotMatchTheFormat(
-          @TestParameter({"a", "1", "project/asd/region/us", "projects//a/locations/us"})
+          @TestParameter({
+                "a",
+                "1",
+                "project/asd/region/us",
+                "projects//a/locations/us",
+                "projects/a/locations/",
+                "projects/a/locations//processes/b",
+                "projects/a/processes/b"
+              })
               String incorrectName) {
     Assert.assertThrows(
         IllegalArgumentException.class,
         () -> NamesHelper.getProjectNameWithLocationFromResourceName(incorrectName));
   }
+
+  @Test
+  public void getProjectNameWithLocationFromResourceName_returnsSameInstanceForSameParent() {
+    String first =
+        NamesHelper.getProjectNameWithLocationFromResourceName(
+            "projects/p/locations/l/processes/first");
+    String second =
+        NamesHelper.getProjectNameWithLocationFromResourceName(
+            new String("projects/p/locations/l/processes/second"));
+
+    Assert.assertSame(first, second);
+    Assert.assertEquals("projects/p/locations/l", first);
+  }
+
+  @Test
+  public void getLocationFromResourceName_returnsLocation(
+      @TestParameter({
+            "projects/p/locations/us",
+            "projects/p/locations/us/processes/a",
+            "projects/p/locations/us/processes/a/runs/b/lineageEvents/c"
+          })
+          String name) {
+    Assert.assertEquals("us", NamesHelper.getLocationFromResourceName(name));
+  }
+
+  @Test
+  public void getLocationFromResourceName_throwsErrorWhenNameDoesNotMatchTheFormat(
+      @TestParameter({"a", "projects/a/locations/", "projects/a/processes/b"})
+          String incorrectName) {
+    Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> NamesHelper.getLocationFromResourceName(incorrectName));
+  }
 }
@@ -21,6 +21,10 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.ListValue;
 import com.google.protobuf.Struct;
 import com.google.protobuf.Value;
+import com.google.protobuf.util.JsonFormat;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -65,4 +69,62 @@ public class OpenLineageHelperTest {
     assertThrows(
         InvalidProtocolBufferException.class, () -> OpenLineageHelper.jsonToStruct(invalidJson));
   }
+
+  @Test
+  public void jsonToStruct_matchesJsonFormat() throws Exception {
+    String[] jsons = {
+      "{}",
+      "{\"a\": null, \"b\": true, \"c\": false, \"d\": -0.5e3, \"e\": 12345678901234567890}",
+      "{\"nested\": {\"list\": [[], [1, \"two\", {\"three\": [null]}]]}}",
+      "{\"unicode\": \"za\\u017c\u00f3\u0142\u0107 \\n\\\"quoted\\\"\"}"
+    };
+    for (String json : jsons) {
+      Struct.Builder expected = Struct.newBuilder();
+      JsonFormat.parser().ignoringUnknownFields().merge(json, expected);
+
+      assertThat(OpenLineageHelper.jsonToStruct(json)).isEqualTo(expected.build());
+    }
+  }
+
+  @Test
+  public void jsonToStruct_fromBytes_convertsValidJson() throws Exception {
+    String json = "{\"name\": \"za\u017c\u00f3\u0142\u0107\", \"list\": [1, 2]}";
+    Struct expected = OpenLineageHelper.jsonToStruct(json);
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+    assertThat(OpenLineageHelper.jsonToStruct(bytes)).isEqualTo(expected);
+    assertThat(OpenLineageHelper.jsonToStruct(new ByteArrayInputStream(bytes)))
+        .isEqualTo(expected);
+  }
+
+  @Test
+  public void jsonToStruct_fromByteBuffer_readsRemainingBytesOnly() throws Exception {
+    String json = "{\"key\": \"value\"}";
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer heap = ByteBuffer.allocate(bytes.length + 4);
+    heap.put(new byte[] {'[', '[', '[', '['}).put(bytes).flip().position(4);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+
+    assertThat(OpenLineageHelper.jsonToStruct(heap))
+        .isEqualTo(OpenLineageHelper.jsonToStruct(json));
+    assertThat(OpenLineageHelper.jsonToStruct(direct))
+        .isEqualTo(OpenLineageHelper.jsonToStruct(json));
+    assertThat(heap.position()).isEqualTo(4);
+    assertThat(direct.position()).isEqualTo(0);
+  }
+
+  @Test
+  public void jsonToStruct_whenNotAnObject_throwsInvalidProtobufException() {
+    for (String json : new String[] {"", "[]", "\"string\"", "{\"a\": ", "{\"a\": 1e400}"}) {
+      assertThrows(
+          InvalidProtocolBufferException.class, () -> OpenLineageHelper.jsonToStruct(json));
+    }
+  }
+
+  @Test
+  public void jsonToStruct_whenNestedTooDeep_throwsInvalidProtobufException() {
+    String json = "{\"a\":" + "[".repeat(200) + "]".repeat(200) + "}";
+    assertThrows(InvalidProtocolBufferException.class, () -> OpenLineageHelper.jsonToStruct(json));
+  }
 }
@@ -0,0 +1,170 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.ResourceExhaustedException;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for AdaptiveConcurrencyLimiter. */
+@RunWith(JUnit4.class)
+public class AdaptiveConcurrencyLimiterTest {
+
+  private long nowNanos;
+
+  @Test
+  public void run_queuesCallsOverLimitAndStartsThemOnCompletion() throws Exception {
+    AdaptiveConcurrencyLimiter limiter = limiter(1, 10, 10);
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    SettableApiFuture<String> second = SettableApiFuture.create();
+    List<String> started = new ArrayList<>();
+
+    limiter.run(
+        () -> {
+          started.add("first");
+          return first;
+        });
+    ApiFuture<String> queued =
+        limiter.run(
+            () -> {
+              started.add("second");
+              return second;
+            });
+
+    assertThat(started).containsExactly("first");
+    assertThat(limiter.getStats().getInFlightCount()).isEqualTo(1);
+    assertThat(limiter.getStats().getQueueDepth()).isEqualTo(1);
+    first.set("done");
+    assertThat(started).containsExactly("first", "second");
+    assertThat(limiter.getStats().getQueueDepth()).isEqualTo(0);
+    second.set("second done");
+    assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("second done");
+    assertThat(limiter.getStats().getInFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void run_queueFull_throwsResourceExhaustedException() {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(
+            AdaptiveConcurrencyOptions.newBuilder()
+                .setInitialLimit(1)
+                .setMaxQueueSize(0)
+                .build(),
+            () -> nowNanos);
+    limiter.run(SettableApiFuture::create);
+
+    assertThrows(ResourceExhaustedException.class, () -> limiter.run(SettableApiFuture::create));
+  }
+
+  @Test
+  public void run_cancelledQueuedCall_isNotStarted() {
+    AdaptiveConcurrencyLimiter limiter = limiter(1, 10, 10);
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    List<String> started = new ArrayList<>();
+    limiter.run(() -> first);
+
+    limiter
+        .run(
+            () -> {
+              started.add("cancelled");
+              return SettableApiFuture.<String>create();
+            })
+        .cancel(false);
+    first.set("done");
+
+    assertThat(started).isEmpty();
+  }
+
+  @Test
+  public void run_growsLimitWhileLatencyIsFlat() {
+    AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+    for (int i = 0; i < 20; i++) {
+      SettableApiFuture<String> one = SettableApiFuture.create();
+      SettableApiFuture<String> two = SettableApiFuture.create();
+      limiter.run(() -> one);
+      limiter.run(() -> two);
+      nowNanos += TimeUnit.MILLISECONDS.toNanos(10);
+      one.set("done");
+      two.set("done");
+    }
+
+    assertThat(limiter.getStats().getLimit()).isGreaterThan(2);
+    assertThat(limiter.getStats().getLimit()).isAtMost(10);
+  }
+
+  @Test
+  public void run_cutsLimitWhenLatencyRises() {
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 10);
+    SettableApiFuture<String> fast = SettableApiFuture.create();
+    limiter.run(() -> fast);
+    nowNanos += TimeUnit.MILLISECONDS.toNanos(10);
+    fast.set("done");
+
+    SettableApiFuture<String> slow = SettableApiFuture.create();
+    limiter.run(() -> slow);
+    nowNanos += TimeUnit.MILLISECONDS.toNanos(100);
+    slow.set("done");
+
+    assertThat(limiter.getStats().getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  public void run_cutsLimitOnResourceExhausted() {
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 10);
+    SettableApiFuture<String> call = SettableApiFuture.create();
+    limiter.run(() -> call);
+
+    call.setException(
+        ApiExceptionFactory.createException(
+            new RuntimeException("quota"),
+            GrpcHelper.getStatusCodeFromCode(Code.RESOURCE_EXHAUSTED),
+            false));
+
+    assertThat(limiter.getStats().getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  public void runNow_countsCallOverLimit() {
+    AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1);
+    limiter.run(SettableApiFuture::create);
+
+    limiter.runNow(SettableApiFuture::create);
+
+    assertThat(limiter.getStats().getInFlightCount()).isEqualTo(2);
+  }
+
+  private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+    return new AdaptiveConcurrencyLimiter(
+        AdaptiveConcurrencyOptions.newBuilder()
+            .setInitialLimit(initialLimit)
+            .setMinLimit(minLimit)
+            .setMaxLimit(maxLimit)
+            .build(),
+        () -> nowNanos);
+  }
+}
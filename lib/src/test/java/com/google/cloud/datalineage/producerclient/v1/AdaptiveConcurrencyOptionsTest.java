@@ -0,0 +1,101 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for AdaptiveConcurrencyOptions. */
+@RunWith(JUnit4.class)
+public class AdaptiveConcurrencyOptionsTest {
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(AdaptiveConcurrencyOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    AdaptiveConcurrencyOptions options = AdaptiveConcurrencyOptions.newBuilder().build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getInitialLimit()).isEqualTo(20);
+    assertThat(options.getMinLimit()).isEqualTo(1);
+    assertThat(options.getMaxLimit()).isEqualTo(500);
+    assertThat(options.getBackoffRatio()).isEqualTo(0.9);
+    assertThat(options.getRttTolerance()).isEqualTo(2.0);
+    assertThat(options.getMaxQueueSize()).isEqualTo(10_000);
+  }
+
+  @Test
+  public void setInitialLimit_notPositive_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> AdaptiveConcurrencyOptions.newBuilder().setInitialLimit(0));
+    assertThat(exception).hasMessageThat().contains("Limit must be positive");
+  }
+
+  @Test
+  public void setBackoffRatio_outOfRange_throwsIllegalArgumentException() {
+    for (double ratio : new double[] {0, 1, Double.NaN}) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> AdaptiveConcurrencyOptions.newBuilder().setBackoffRatio(ratio));
+    }
+  }
+
+  @Test
+  public void setRttTolerance_belowOne_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AdaptiveConcurrencyOptions.newBuilder().setRttTolerance(0.5));
+  }
+
+  @Test
+  public void build_initialLimitOutOfRange_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                AdaptiveConcurrencyOptions.newBuilder().setInitialLimit(10).setMaxLimit(5).build());
+    assertThat(exception).hasMessageThat().contains("Initial limit must be between");
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    AdaptiveConcurrencyOptions options =
+        AdaptiveConcurrencyOptions.newBuilder()
+            .setInitialLimit(5)
+            .setMinLimit(2)
+            .setMaxLimit(50)
+            .setBackoffRatio(0.5)
+            .setRttTolerance(1.5)
+            .setMaxQueueSize(7)
+            .build();
+
+    AdaptiveConcurrencyOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getInitialLimit()).isEqualTo(5);
+    assertThat(copy.getMinLimit()).isEqualTo(2);
+    assertThat(copy.getMaxLimit()).isEqualTo(50);
+    assertThat(copy.getBackoffRatio()).isEqualTo(0.5);
+    assertThat(copy.getRttTolerance()).isEqualTo(1.5);
+    assertThat(copy.getMaxQueueSize()).isEqualTo(7);
+  }
+}
@@ -16,6 +16,7 @@ package com.google.cloud.datalineage.producerclient.v1;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 
 import com.google.api.core.ApiClock;
 import com.google.api.gax.core.CredentialsProvider;
@@ -23,6 +24,7 @@ import com.google.api.gax.core.ExecutorProvider;
 import com.google.api.gax.rpc.HeaderProvider;
 import com.google.api.gax.rpc.TransportChannelProvider;
 import com.google.api.gax.rpc.WatchdogProvider;
+import com.google.cloud.datalineage.producerclient.v1.FlowControlOptions.LimitExceededBehavior;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.threeten.bp.Duration;
@@ -211,4 +213,32 @@ public class AsyncLineageProducerClientSettingsTest {
     assertNotNull(resultBuilder);
     assertEquals(gracefulShutdownDuration, resultBuilder.getGracefulShutdownDuration());
   }
+
+  @Test
+  public void build_dropOldestWithoutFairQueuing_throwsException() {
+    AsyncLineageProducerClientSettings.Builder builder =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setFlowControlOptions(
+                FlowControlOptions.newBuilder()
+                    .setLimitExceededBehavior(LimitExceededBehavior.DROP_OLDEST)
+                    .build());
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  public void build_dropOldestWithFairQueuing_keepsOptions() throws Exception {
+    FlowControlOptions flowControlOptions =
+        FlowControlOptions.newBuilder()
+            .setLimitExceededBehavior(LimitExceededBehavior.DROP_OLDEST)
+            .build();
+
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setFlowControlOptions(flowControlOptions)
+            .setFairQueueOptions(FairQueueOptions.newBuilder().build())
+            .build();
+
+    assertEquals(flowControlOptions, settings.getFlowControlOptions());
+  }
 }
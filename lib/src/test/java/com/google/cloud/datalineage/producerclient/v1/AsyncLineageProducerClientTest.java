@@ -26,33 +26,73 @@ import static org.threeten.bp.Duration.ofSeconds;
 
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.grpc.GrpcCallContext;
+import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.longrunning.OperationFutures;
 import com.google.api.gax.rpc.ApiCallContext;
 import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
 import com.google.api.gax.rpc.InvalidArgumentException;
+import com.google.api.gax.rpc.PermissionDeniedException;
+import com.google.api.gax.rpc.StatusCode;
 import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.datacatalog.lineage.v1.DeleteLineageEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.DeleteRunRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetLineageEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.GetRunRequest;
+import com.google.cloud.datacatalog.lineage.v1.LineageEvent;
+import com.google.cloud.datacatalog.lineage.v1.OperationMetadata;
+import com.google.cloud.datacatalog.lineage.v1.Process;
 import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
 import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.cloud.datalineage.producerclient.CacheOptions;
+import com.google.cloud.datalineage.producerclient.CacheSettings;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.cloud.datalineage.producerclient.v1.FlowControlOptions.LimitExceededBehavior;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Any;
+import com.google.protobuf.Empty;
 import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
 import com.google.rpc.Code;
 import com.google.rpc.ErrorInfo;
+import com.google.rpc.RetryInfo;
 import com.google.rpc.Status;
 import io.grpc.StatusException;
 import io.grpc.protobuf.StatusProto;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.threeten.bp.Duration;
 
 /** Tests for AsyncLineageProducerClient. */
 public class AsyncLineageProducerClientTest {
 
   private static final String PROJECT_NAME_AND_LOCATION = "projects/test/locations/test";
+  private static final String PROCESS_NAME = PROJECT_NAME_AND_LOCATION + "/processes/process";
+  private static final String RUN_NAME = PROCESS_NAME + "/runs/run";
+  private static final String EVENT_NAME = RUN_NAME + "/lineageEvents/event";
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
   private BasicLineageClient basicLineageClient;
   private AsyncLineageProducerClient client;
 
@@ -82,6 +122,230 @@ public class AsyncLineageProducerClientTest {
     assertThat(gotResponse).isEqualTo(response);
   }
 
+  @Test
+  public void deleteProcesses_pollsOperationsUntilDone() throws Exception {
+    String operationName = PROJECT_NAME_AND_LOCATION + "/operations/delete";
+    OperationLineageClient operationClient = mock(OperationLineageClient.class);
+    when(operationClient.deleteProcessCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> com.google.longrunning.Operation.newBuilder().setName(operationName).build()));
+    when(operationClient.getOperationCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> com.google.longrunning.Operation.newBuilder().setDone(true).build()));
+    List<String> names =
+        List.of(
+            PROJECT_NAME_AND_LOCATION + "/processes/first",
+            PROJECT_NAME_AND_LOCATION + "/processes/second");
+    BulkDeleteOptions options =
+        BulkDeleteOptions.newBuilder()
+            .setInitialPollDelay(Duration.ofMillis(10))
+            .setMaxPollDelay(Duration.ofMillis(10))
+            .build();
+
+    BulkDeleteResult result;
+    try (AsyncLineageProducerClient operationProducerClient =
+        AsyncLineageProducerClient.create(operationClient)) {
+      result = operationProducerClient.deleteProcesses(names, options).get(5, TimeUnit.SECONDS);
+    }
+
+    assertThat(result.getDeletedCount()).isEqualTo(2);
+    assertThat(result.getErrors()).isEmpty();
+  }
+
+  @Test
+  public void deleteRuns_customClient_waitsForEachOperation() throws Exception {
+    String failedName = PROJECT_NAME_AND_LOCATION + "/processes/p/runs/second";
+    when(basicLineageClient.deleteRunAsync(any()))
+        .thenAnswer(
+            invocation -> {
+              DeleteRunRequest request = invocation.getArgument(0);
+              if (request.getName().equals(failedName)) {
+                return OperationFutures.immediateFailedOperationFuture(
+                    "operations/second",
+                    ApiExceptionFactory.createException(
+                        "denied",
+                        null,
+                        GrpcHelper.getStatusCodeFromCode(StatusCode.Code.PERMISSION_DENIED),
+                        false));
+              }
+              return OperationFutures.immediateOperationFuture(
+                  "operations/first",
+                  Empty.getDefaultInstance(),
+                  OperationMetadata.getDefaultInstance());
+            });
+    List<String> names = List.of(PROJECT_NAME_AND_LOCATION + "/processes/p/runs/first", failedName);
+
+    BulkDeleteResult result =
+        client.deleteRuns(names, BulkDeleteOptions.newBuilder().build()).get(5, TimeUnit.SECONDS);
+
+    assertThat(result.getDeletedCount()).isEqualTo(1);
+    assertThat(result.getStatusCodes().get(failedName))
+        .isEqualTo(StatusCode.Code.PERMISSION_DENIED);
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withCallContext_passesContextToCall() throws Exception {
+    ProcessOpenLineageRunEventRequest request = createProcessOpenLineageRunEventRequest();
+    ApiCallContext context = GrpcCallContext.createDefault();
+    List<ApiCallContext> contexts = new ArrayList<>();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<ProcessOpenLineageRunEventResponse> futureCall(
+                  ProcessOpenLineageRunEventRequest sentRequest, ApiCallContext callContext) {
+                contexts.add(callContext);
+                return ApiFutures.immediateFuture(
+                    ProcessOpenLineageRunEventResponse.getDefaultInstance());
+              }
+            });
+
+    client.processOpenLineageRunEvent(request, context).get(5, TimeUnit.SECONDS);
+
+    assertThat(contexts).containsExactly(context);
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withFairQueuing_returnsResponse() throws Exception {
+    ProcessOpenLineageRunEventRequest request = createProcessOpenLineageRunEventRequest();
+    ProcessOpenLineageRunEventResponse response =
+        ProcessOpenLineageRunEventResponse.newBuilder().setRun("run").build();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(new UnaryCallableFake<>(r -> response));
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setFairQueueOptions(FairQueueOptions.newBuilder().setMaxInFlight(1).build())
+            .build();
+
+    try (AsyncLineageProducerClient fairClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      assertThat(fairClient.processOpenLineageRunEvent(request).get(5, TimeUnit.SECONDS))
+          .isEqualTo(response);
+      assertThat(fairClient.getFairQueueStats().getInFlightCount()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withSpool_replaysEventsAfterTransientFailure()
+      throws Exception {
+    ProcessOpenLineageRunEventRequest request = createProcessOpenLineageRunEventRequest();
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setSpoolOptions(
+                SpoolOptions.newBuilder().setDirectory(folder.getRoot().toPath()).build())
+            .build();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<ProcessOpenLineageRunEventResponse> futureCall(
+                  ProcessOpenLineageRunEventRequest failedRequest, ApiCallContext context) {
+                return ApiFutures.immediateFailedFuture(
+                    ApiExceptionFactory.createException(
+                        io.grpc.Status.UNAVAILABLE.asException(),
+                        GrpcHelper.getStatusCodeFromCode(StatusCode.Code.UNAVAILABLE),
+                        true));
+              }
+            });
+    try (AsyncLineageProducerClient spoolingClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      assertThrows(
+          ExecutionException.class, () -> spoolingClient.processOpenLineageRunEvent(request).get());
+    }
+
+    List<ProcessOpenLineageRunEventRequest> replayed = new ArrayList<>();
+    BasicLineageClient recoveredClient = mock(BasicLineageClient.class);
+    when(recoveredClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> {
+                  replayed.add(r);
+                  return ProcessOpenLineageRunEventResponse.getDefaultInstance();
+                }));
+    AsyncLineageProducerClient.create(recoveredClient, settings).close();
+    AsyncLineageProducerClient.create(recoveredClient, settings).close();
+
+    assertThat(replayed).containsExactly(request);
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withSpool_replaysEventsUnderFlowControl()
+      throws Exception {
+    SpoolOptions spoolOptions =
+        SpoolOptions.newBuilder().setDirectory(folder.getRoot().toPath()).build();
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(spoolOptions)) {
+      spool.append(createProcessOpenLineageRunEventRequest().toByteArray());
+      spool.append(createProcessOpenLineageRunEventRequest().toByteArray());
+    }
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> call = SettableApiFuture.create();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<ProcessOpenLineageRunEventResponse> futureCall(
+                  ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+                return call;
+              }
+            });
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setSpoolOptions(spoolOptions)
+            .setFlowControlOptions(
+                FlowControlOptions.newBuilder()
+                    .setMaxOutstandingRequestCount(1)
+                    .setLimitExceededBehavior(LimitExceededBehavior.FAIL_FAST)
+                    .build())
+            .build();
+
+    try (AsyncLineageProducerClient replayingClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      assertThat(replayingClient.getFlowControlStats().getOutstandingRequestCount()).isEqualTo(1);
+      assertThat(replayingClient.getFlowControlStats().getLimitExceededCount()).isEqualTo(1);
+      call.set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    }
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_fromJson_sendsEquivalentRequest() throws Exception {
+    List<ProcessOpenLineageRunEventRequest> sent = new ArrayList<>();
+    when(basicLineageClient.processOpenLineageRunEvent(any(), any())).thenCallRealMethod();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> {
+                  sent.add(r);
+                  return ProcessOpenLineageRunEventResponse.getDefaultInstance();
+                }));
+
+    client
+        .processOpenLineageRunEvent(
+            PROJECT_NAME_AND_LOCATION,
+            "{\"eventType\": \"START\"}".getBytes(StandardCharsets.UTF_8))
+        .get();
+
+    assertThat(sent)
+        .containsExactly(
+            ProcessOpenLineageRunEventRequest.newBuilder()
+                .setParent(PROJECT_NAME_AND_LOCATION)
+                .setOpenLineage(
+                    Struct.newBuilder()
+                        .putFields("eventType", Value.newBuilder().setStringValue("START").build()))
+                .build());
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_fromInvalidJson_throwsInvalidArgumentException() {
+    when(basicLineageClient.processOpenLineageRunEvent(any(), any())).thenCallRealMethod();
+
+    assertThrows(
+        InvalidArgumentException.class,
+        () ->
+            client.processOpenLineageRunEvent(
+                PROJECT_NAME_AND_LOCATION, "invalid".getBytes(StandardCharsets.UTF_8)));
+  }
+
   @Test
   public void propagatesException() {
     ProcessOpenLineageRunEventRequest request = createProcessOpenLineageRunEventRequest();
@@ -124,6 +388,417 @@ public class AsyncLineageProducerClientTest {
         .contains("Lineage is not enabled in Lineage Configurations for project");
   }
 
+  @Test
+  public void apiDisabled_withRetryDelayAboveMax_disablesProjectForMaxTime() throws Exception {
+    Clock clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(Instant.EPOCH);
+    RetryInfo retryInfo =
+        RetryInfo.newBuilder()
+            .setRetryDelay(com.google.protobuf.Duration.newBuilder().setSeconds(86400).build())
+            .build();
+    Status status =
+        Status.newBuilder()
+            .setCode(Code.PERMISSION_DENIED.getNumber())
+            .addDetails(Any.pack(ErrorInfo.newBuilder().setReason("SERVICE_DISABLED").build()))
+            .addDetails(Any.pack(retryInfo))
+            .build();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<ProcessOpenLineageRunEventResponse> futureCall(
+                  ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+                return ApiFutures.immediateFailedFuture(StatusProto.toStatusException(status));
+              }
+            });
+    java.time.Duration maxDisabledTime = java.time.Duration.ofHours(1);
+    CacheOptions cacheOptions =
+        CacheOptions.newBuilder()
+            .setClock(clock)
+            .setMaxCacheDisabledStatusTime(maxDisabledTime)
+            .build();
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setApiEnablementCacheSettings(CacheSettings.getStandAloneInstance(cacheOptions))
+            .build();
+    ProcessOpenLineageRunEventRequest request =
+        createProcessOpenLineageRunEventRequest("projects/test-retry-delay/locations/test");
+
+    try (AsyncLineageProducerClient cachingClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      assertThrows(
+          ExecutionException.class, () -> cachingClient.processOpenLineageRunEvent(request).get());
+      assertThrows(
+          PermissionDeniedException.class, () -> cachingClient.processOpenLineageRunEvent(request));
+
+      when(clock.instant()).thenReturn(Instant.EPOCH.plus(maxDisabledTime).plusMillis(1));
+
+      // The call is sent again instead of being rejected for the day the server asked for.
+      assertThrows(
+          ExecutionException.class, () -> cachingClient.processOpenLineageRunEvent(request).get());
+    }
+  }
+
+  @Test
+  public void enablementProbing_whenProbeFindsApiDisabled_failsWaitingCallsWithoutSending()
+      throws Exception {
+    ProcessOpenLineageRunEventRequest request =
+        createProcessOpenLineageRunEventRequest("projects/test-probe-disabled/locations/test");
+    List<SettableApiFuture<ProcessOpenLineageRunEventResponse>> calls =
+        returnPendingCallsFromMocker();
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder().setEnablementProbingEnabled(true).build();
+
+    try (AsyncLineageProducerClient probingClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      ApiFuture<ProcessOpenLineageRunEventResponse> probe =
+          probingClient.processOpenLineageRunEvent(request);
+      ApiFuture<ProcessOpenLineageRunEventResponse> first =
+          probingClient.processOpenLineageRunEvent(request);
+      ApiFuture<ProcessOpenLineageRunEventResponse> second =
+          probingClient.processOpenLineageRunEvent(request);
+      assertThat(calls).hasSize(1);
+
+      calls.get(0).setException(createStatusExceptionWithReasons("SERVICE_DISABLED"));
+
+      assertThrows(ExecutionException.class, probe::get);
+      assertThat(assertThrows(ExecutionException.class, first::get).getCause())
+          .isInstanceOf(PermissionDeniedException.class);
+      assertThat(assertThrows(ExecutionException.class, second::get).getCause())
+          .isInstanceOf(PermissionDeniedException.class);
+      assertThat(calls).hasSize(1);
+    }
+  }
+
+  @Test
+  public void enablementProbing_whenProbeSucceeds_sendsWaitingCalls() throws Exception {
+    ProcessOpenLineageRunEventRequest request =
+        createProcessOpenLineageRunEventRequest("projects/test-probe-enabled/locations/test");
+    ProcessOpenLineageRunEventResponse response =
+        ProcessOpenLineageRunEventResponse.newBuilder().setRun("run").build();
+    List<SettableApiFuture<ProcessOpenLineageRunEventResponse>> calls =
+        returnPendingCallsFromMocker();
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder().setEnablementProbingEnabled(true).build();
+
+    try (AsyncLineageProducerClient probingClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      ApiFuture<ProcessOpenLineageRunEventResponse> probe =
+          probingClient.processOpenLineageRunEvent(request);
+      ApiFuture<ProcessOpenLineageRunEventResponse> waiting =
+          probingClient.processOpenLineageRunEvent(request);
+      assertThat(calls).hasSize(1);
+
+      calls.get(0).set(response);
+      assertThat(calls).hasSize(2);
+      calls.get(1).set(response);
+      // The project is known to be enabled now, so calls are sent right away.
+      probingClient.processOpenLineageRunEvent(request);
+
+      assertThat(probe.get()).isEqualTo(response);
+      assertThat(waiting.get()).isEqualTo(response);
+      assertThat(calls).hasSize(3);
+    }
+  }
+
+  @Test
+  public void enablementProbing_whenProbeFailsWithServerError_sendsWaitingCallsAtOnce()
+      throws Exception {
+    ProcessOpenLineageRunEventRequest request =
+        createProcessOpenLineageRunEventRequest("projects/test-probe-not-found/locations/test");
+    List<SettableApiFuture<ProcessOpenLineageRunEventResponse>> calls =
+        returnPendingCallsFromMocker();
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder().setEnablementProbingEnabled(true).build();
+
+    try (AsyncLineageProducerClient probingClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      ApiFuture<ProcessOpenLineageRunEventResponse> probe =
+          probingClient.processOpenLineageRunEvent(request);
+      probingClient.processOpenLineageRunEvent(request);
+      probingClient.processOpenLineageRunEvent(request);
+      assertThat(calls).hasSize(1);
+
+      Status notFound = Status.newBuilder().setCode(Code.NOT_FOUND.getNumber()).build();
+      calls.get(0).setException(StatusProto.toStatusException(notFound));
+
+      assertThrows(ExecutionException.class, probe::get);
+      // The server answered, so the project is enabled and no call waits for another probe.
+      assertThat(calls).hasSize(3);
+    }
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withIngestionRetries_stampsRequestId() throws Exception {
+    List<ProcessOpenLineageRunEventRequest> sent = new ArrayList<>();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> {
+                  sent.add(r);
+                  return ProcessOpenLineageRunEventResponse.getDefaultInstance();
+                }));
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder().setIngestionRetriesEnabled(true).build();
+
+    try (AsyncLineageProducerClient retryingClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      retryingClient.processOpenLineageRunEvent(createProcessOpenLineageRunEventRequest()).get();
+      retryingClient
+          .processOpenLineageRunEvent(
+              createProcessOpenLineageRunEventRequest().toBuilder().setRequestId("given").build())
+          .get();
+    }
+
+    assertThat(UUID.fromString(sent.get(0).getRequestId()).toString())
+        .isEqualTo(sent.get(0).getRequestId());
+    assertThat(sent.get(1).getRequestId()).isEqualTo("given");
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withoutIngestionRetries_doesNotStampRequestId()
+      throws Exception {
+    List<ProcessOpenLineageRunEventRequest> sent = new ArrayList<>();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> {
+                  sent.add(r);
+                  return ProcessOpenLineageRunEventResponse.getDefaultInstance();
+                }));
+
+    client.processOpenLineageRunEvent(createProcessOpenLineageRunEventRequest()).get();
+
+    assertThat(sent.get(0).getRequestId()).isEmpty();
+    assertThat(client.getIngestionAttemptStats().getAttemptCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void deleteProcess_withResponseCache_invalidatesProcessAndChildren() throws Exception {
+    AtomicInteger reads = countReadsFromMocker();
+    when(basicLineageClient.deleteProcessAsync(any(DeleteProcessRequest.class)))
+        .thenReturn(mock(OperationFuture.class));
+
+    try (AsyncLineageProducerClient cachingClient = createCachingClient()) {
+      readProcessRunAndEvent(cachingClient);
+      readProcessRunAndEvent(cachingClient);
+      assertThat(reads.get()).isEqualTo(3);
+
+      cachingClient.deleteProcess(DeleteProcessRequest.newBuilder().setName(PROCESS_NAME).build());
+      readProcessRunAndEvent(cachingClient);
+
+      assertThat(reads.get()).isEqualTo(6);
+    }
+  }
+
+  @Test
+  public void deleteRun_withResponseCache_invalidatesRunAndChildren() throws Exception {
+    AtomicInteger reads = countReadsFromMocker();
+    when(basicLineageClient.deleteRunAsync(any(DeleteRunRequest.class)))
+        .thenReturn(mock(OperationFuture.class));
+
+    try (AsyncLineageProducerClient cachingClient = createCachingClient()) {
+      readProcessRunAndEvent(cachingClient);
+      readProcessRunAndEvent(cachingClient);
+      assertThat(reads.get()).isEqualTo(3);
+
+      cachingClient.deleteRun(DeleteRunRequest.newBuilder().setName(RUN_NAME).build());
+      readProcessRunAndEvent(cachingClient);
+
+      // The process is still cached.
+      assertThat(reads.get()).isEqualTo(5);
+    }
+  }
+
+  @Test
+  public void deleteLineageEvent_withResponseCache_invalidatesEvent() throws Exception {
+    AtomicInteger reads = countReadsFromMocker();
+    when(basicLineageClient.deleteLineageEventCallable())
+        .thenReturn(new UnaryCallableFake<>(r -> Empty.getDefaultInstance()));
+
+    try (AsyncLineageProducerClient cachingClient = createCachingClient()) {
+      readProcessRunAndEvent(cachingClient);
+      readProcessRunAndEvent(cachingClient);
+      assertThat(reads.get()).isEqualTo(3);
+
+      cachingClient
+          .deleteLineageEvent(DeleteLineageEventRequest.newBuilder().setName(EVENT_NAME).build())
+          .get();
+      readProcessRunAndEvent(cachingClient);
+
+      assertThat(reads.get()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withAdaptiveConcurrency_queuesCallsOverLimit()
+      throws Exception {
+    ProcessOpenLineageRunEventRequest request = createProcessOpenLineageRunEventRequest();
+    ProcessOpenLineageRunEventResponse response =
+        ProcessOpenLineageRunEventResponse.newBuilder().setRun("run").build();
+    List<SettableApiFuture<ProcessOpenLineageRunEventResponse>> calls =
+        returnPendingCallsFromMocker();
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setAdaptiveConcurrencyOptions(singleCallConcurrency())
+            .build();
+
+    try (AsyncLineageProducerClient limitedClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      ApiFuture<ProcessOpenLineageRunEventResponse> first =
+          limitedClient.processOpenLineageRunEvent(request);
+      ApiFuture<ProcessOpenLineageRunEventResponse> second =
+          limitedClient.processOpenLineageRunEvent(request);
+      assertThat(calls).hasSize(1);
+      assertThat(limitedClient.getConcurrencyLimitStats().getQueueDepth()).isEqualTo(1);
+
+      calls.get(0).set(response);
+      assertThat(calls).hasSize(2);
+      calls.get(1).set(response);
+
+      assertThat(first.get()).isEqualTo(response);
+      assertThat(second.get()).isEqualTo(response);
+    }
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withRateLimit_defersCallsPerProject() throws Exception {
+    List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> {
+                  sent.add(r.getParent());
+                  return ProcessOpenLineageRunEventResponse.getDefaultInstance();
+                }));
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setRateLimitOptions(
+                RateLimitOptions.newBuilder().setPermitsPerSecond(1).setBurstSize(1).build())
+            .build();
+    String otherProject = "projects/other/locations/test";
+
+    try (AsyncLineageProducerClient limitedClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      limitedClient.processOpenLineageRunEvent(createProcessOpenLineageRunEventRequest()).get();
+      ApiFuture<ProcessOpenLineageRunEventResponse> deferred =
+          limitedClient.processOpenLineageRunEvent(createProcessOpenLineageRunEventRequest());
+      limitedClient
+          .processOpenLineageRunEvent(createProcessOpenLineageRunEventRequest(otherProject))
+          .get();
+      assertThat(sent).containsExactly(PROJECT_NAME_AND_LOCATION, otherProject).inOrder();
+
+      deferred.get(5, TimeUnit.SECONDS);
+
+      assertThat(sent)
+          .containsExactly(PROJECT_NAME_AND_LOCATION, otherProject, PROJECT_NAME_AND_LOCATION)
+          .inOrder();
+    }
+  }
+
+  @Test
+  public void getProcess_withHedging_sendsSecondAttemptThroughConcurrencyLimit() throws Exception {
+    GetProcessRequest request = GetProcessRequest.newBuilder().setName(PROCESS_NAME).build();
+    Process process = Process.newBuilder().setName(PROCESS_NAME).build();
+    List<SettableApiFuture<Process>> reads = Collections.synchronizedList(new ArrayList<>());
+    when(basicLineageClient.getProcessCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<Process> futureCall(
+                  GetProcessRequest readRequest, ApiCallContext context) {
+                SettableApiFuture<Process> read = SettableApiFuture.create();
+                reads.add(read);
+                return read;
+              }
+            });
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setHedgingOptions(
+                HedgingOptions.newBuilder()
+                    .setMinDelay(Duration.ofMillis(10))
+                    .setBudgetRatio(1)
+                    .build())
+            .setAdaptiveConcurrencyOptions(singleCallConcurrency())
+            .build();
+
+    try (AsyncLineageProducerClient hedgingClient =
+        AsyncLineageProducerClient.create(basicLineageClient, settings)) {
+      for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+        ApiFuture<Process> read = hedgingClient.getProcess(request);
+        reads.get(i).set(process);
+        read.get();
+      }
+      ApiFuture<Process> slowRead = hedgingClient.getProcess(request);
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (hedgingClient.getConcurrencyLimitStats().getQueueDepth() == 0
+          && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      // The second attempt waits for the first one to leave the limit.
+      assertThat(hedgingClient.getHedgingStats().getHedgeCount()).isEqualTo(1);
+      assertThat(hedgingClient.getConcurrencyLimitStats().getQueueDepth()).isEqualTo(1);
+      assertThat(reads).hasSize(RequestHedger.MIN_SAMPLES + 1);
+
+      reads.get(RequestHedger.MIN_SAMPLES).set(process);
+
+      assertThat(slowRead.get()).isEqualTo(process);
+    }
+  }
+
+  @Test
+  public void getProcess_withLocationRouting_callsRegionalEndpoint() throws Exception {
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder().setLocationRoutingEnabled(true).build();
+    GetProcessRequest request =
+        GetProcessRequest.newBuilder()
+            .setName("projects/test/locations/europe-west1/processes/process")
+            .build();
+
+    try (AsyncLineageProducerClient routingClient =
+        AsyncLineageProducerClient.create(
+            endpointSettings -> createEndpointClient(endpointSettings.getEndpoint(), null),
+            settings)) {
+      Process process = routingClient.getProcess(request).get();
+
+      assertThat(process.getDisplayName()).isEqualTo("europe-west1-datalineage.googleapis.com:443");
+    }
+  }
+
+  @Test
+  public void getProcess_withFailover_callsAlternateEndpointAfterFailures() throws Exception {
+    String standby = "datalineage-standby.example.com:443";
+    ApiException unavailable =
+        ApiExceptionFactory.createException(
+            io.grpc.Status.UNAVAILABLE.asException(),
+            GrpcHelper.getStatusCodeFromCode(StatusCode.Code.UNAVAILABLE),
+            true);
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setFailoverOptions(
+                FailoverOptions.newBuilder()
+                    .setAlternateEndpoints(ImmutableList.of(standby))
+                    .setMinimumCalls(1)
+                    .build())
+            .build();
+    GetProcessRequest request = GetProcessRequest.newBuilder().setName(PROCESS_NAME).build();
+
+    try (AsyncLineageProducerClient failoverClient =
+        AsyncLineageProducerClient.create(
+            endpointSettings ->
+                createEndpointClient(
+                    endpointSettings.getEndpoint(),
+                    standby.equals(endpointSettings.getEndpoint()) ? null : unavailable),
+            settings)) {
+      assertThrows(ExecutionException.class, () -> failoverClient.getProcess(request).get());
+
+      Process process = failoverClient.getProcess(request).get();
+
+      assertThat(process.getDisplayName()).isEqualTo(standby);
+    }
+  }
+
   @Test
   public void gracefulShutdown_awaitsTerminationByDefault() throws Exception {
     // objects passed to lambda must be final or effectively final, so we use arrays to store the
@@ -163,6 +838,77 @@ public class AsyncLineageProducerClientTest {
         .build();
   }
 
+  private AsyncLineageProducerClient createCachingClient() throws IOException {
+    AsyncLineageProducerClientSettings settings =
+        AsyncLineageProducerClientSettings.newBuilder()
+            .setResponseCacheOptions(ResponseCacheOptions.newBuilder().build())
+            .build();
+    return AsyncLineageProducerClient.create(basicLineageClient, settings);
+  }
+
+  private static void readProcessRunAndEvent(AsyncLineageProducerClient client) throws Exception {
+    client.getProcess(GetProcessRequest.newBuilder().setName(PROCESS_NAME).build()).get();
+    client.getRun(GetRunRequest.newBuilder().setName(RUN_NAME).build()).get();
+    client.getLineageEvent(GetLineageEventRequest.newBuilder().setName(EVENT_NAME).build()).get();
+  }
+
+  private static AdaptiveConcurrencyOptions singleCallConcurrency() {
+    return AdaptiveConcurrencyOptions.newBuilder()
+        .setInitialLimit(1)
+        .setMinLimit(1)
+        .setMaxLimit(1)
+        .build();
+  }
+
+  /**
+   * Creates a client of an endpoint that answers getProcess with a process named after the
+   * endpoint, or fails it with the given error.
+   */
+  private static BasicLineageClient createEndpointClient(
+      String endpoint, @Nullable ApiException error) {
+    BasicLineageClient endpointClient = mock(BasicLineageClient.class);
+    when(endpointClient.getProcessCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<Process> futureCall(
+                  GetProcessRequest request, ApiCallContext context) {
+                return error != null
+                    ? ApiFutures.immediateFailedFuture(error)
+                    : ApiFutures.immediateFuture(
+                        Process.newBuilder().setDisplayName(endpoint).build());
+              }
+            });
+    return endpointClient;
+  }
+
+  /** Configure the BasicLineageClient mocker to answer reads, counting them. */
+  private AtomicInteger countReadsFromMocker() {
+    AtomicInteger reads = new AtomicInteger();
+    when(basicLineageClient.getProcessCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> {
+                  reads.incrementAndGet();
+                  return Process.newBuilder().setName(r.getName()).build();
+                }));
+    when(basicLineageClient.getRunCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> {
+                  reads.incrementAndGet();
+                  return Run.newBuilder().setName(r.getName()).build();
+                }));
+    when(basicLineageClient.getEventCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(
+                r -> {
+                  reads.incrementAndGet();
+                  return LineageEvent.newBuilder().setName(r.getName()).build();
+                }));
+    return reads;
+  }
+
   /**
    * Configure the BasicLineageClient mocker to return an exception indicating Lineage API
    * disablement.
@@ -200,6 +946,26 @@ public class AsyncLineageProducerClientTest {
             });
   }
 
+  /** Configure the BasicLineageClient mocker to return calls that are completed by the test. */
+  private List<SettableApiFuture<ProcessOpenLineageRunEventResponse>>
+      returnPendingCallsFromMocker() {
+    List<SettableApiFuture<ProcessOpenLineageRunEventResponse>> calls =
+        Collections.synchronizedList(new ArrayList<>());
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<ProcessOpenLineageRunEventResponse> futureCall(
+                  ProcessOpenLineageRunEventRequest request, ApiCallContext context) {
+                SettableApiFuture<ProcessOpenLineageRunEventResponse> call =
+                    SettableApiFuture.create();
+                calls.add(call);
+                return call;
+              }
+            });
+    return calls;
+  }
+
   private StatusException createStatusExceptionWithReasons(String... reasons) {
     Status.Builder statusBuilder = com.google.rpc.Status.newBuilder();
     statusBuilder.setCode(Code.PERMISSION_DENIED.getNumber());
@@ -0,0 +1,74 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for BulkDeleteOptions. */
+@RunWith(JUnit4.class)
+public class BulkDeleteOptionsTest {
+
+  @Test
+  public void getDefaultInstance_setsDefaultValues() {
+    BulkDeleteOptions options = BulkDeleteOptions.getDefaultInstance();
+    assertThat(options.getMaxConcurrentOperations()).isEqualTo(100);
+    assertThat(options.getInitialPollDelay()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(options.getMaxPollDelay()).isEqualTo(Duration.ofSeconds(45));
+    assertThat(options.getTotalTimeout()).isEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  public void setters_notPositive_throwIllegalArgumentException() {
+    BulkDeleteOptions.Builder builder = BulkDeleteOptions.newBuilder();
+    assertThrows(IllegalArgumentException.class, () -> builder.setMaxConcurrentOperations(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.setInitialPollDelay(Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> builder.setMaxPollDelay(null));
+    assertThrows(
+        IllegalArgumentException.class, () -> builder.setTotalTimeout(Duration.ofSeconds(-1)));
+  }
+
+  @Test
+  public void build_initialPollDelayAboveMax_throwsIllegalArgumentException() {
+    BulkDeleteOptions.Builder builder =
+        BulkDeleteOptions.newBuilder()
+            .setInitialPollDelay(Duration.ofSeconds(10))
+            .setMaxPollDelay(Duration.ofSeconds(1));
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    BulkDeleteOptions options =
+        BulkDeleteOptions.newBuilder()
+            .setMaxConcurrentOperations(10)
+            .setInitialPollDelay(Duration.ofSeconds(1))
+            .setMaxPollDelay(Duration.ofSeconds(2))
+            .setTotalTimeout(Duration.ofSeconds(3))
+            .build();
+
+    BulkDeleteOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getMaxConcurrentOperations()).isEqualTo(10);
+    assertThat(copy.getInitialPollDelay()).isEqualTo(Duration.ofSeconds(1));
+    assertThat(copy.getMaxPollDelay()).isEqualTo(Duration.ofSeconds(2));
+    assertThat(copy.getTotalTimeout()).isEqualTo(Duration.ofSeconds(3));
+  }
+}
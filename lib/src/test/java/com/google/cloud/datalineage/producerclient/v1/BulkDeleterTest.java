@@ -0,0 +1,269 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.longrunning.Operation;
+import com.google.rpc.Status;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for BulkDeleter. */
+@RunWith(JUnit4.class)
+public class BulkDeleterTest {
+
+  private static final BulkDeleteOptions OPTIONS =
+      BulkDeleteOptions.newBuilder()
+          .setInitialPollDelay(Duration.ofMillis(10))
+          .setMaxPollDelay(Duration.ofMillis(20))
+          .setTotalTimeout(Duration.ofSeconds(5))
+          .build();
+
+  private final BulkDeleter deleter = new BulkDeleter();
+  // Number of polls each operation needs before it is done.
+  private final Map<String, Integer> remainingPolls = new ConcurrentHashMap<>();
+  private final AtomicInteger pollCount = new AtomicInteger();
+
+  @After
+  public void tearDown() {
+    deleter.close();
+  }
+
+  private ApiFuture<Operation> start(String name) {
+    return ApiFutures.immediateFuture(operation(name, remainingPolls.getOrDefault(name, 0) == 0));
+  }
+
+  private ApiFuture<Operation> poll(String operationName) {
+    pollCount.incrementAndGet();
+    String name = operationName.substring(0, operationName.indexOf("/operation"));
+    int remaining = remainingPolls.merge(name, -1, Integer::sum);
+    return ApiFutures.immediateFuture(operation(name, remaining <= 0));
+  }
+
+  private static Operation operation(String name, boolean done) {
+    return Operation.newBuilder().setName(name + "/operation").setDone(done).build();
+  }
+
+  @Test
+  public void delete_operationsDoneRightAway_areNotPolled() throws Exception {
+    BulkDeleteResult result =
+        deleter
+            .delete(List.of("a", "b"), OPTIONS, this::start, this::poll)
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(result.getStatusCodes()).containsExactly("a", Code.OK, "b", Code.OK).inOrder();
+    assertThat(result.getDeletedCount()).isEqualTo(2);
+    assertThat(pollCount.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void delete_runningOperations_arePolledUntilDone() throws Exception {
+    remainingPolls.put("a", 3);
+    remainingPolls.put("b", 1);
+
+    BulkDeleteResult result =
+        deleter
+            .delete(List.of("a", "b"), OPTIONS, this::start, this::poll)
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(result.getStatusCodes()).containsExactly("a", Code.OK, "b", Code.OK).inOrder();
+    assertThat(pollCount.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void delete_failedOperation_reportsItsStatus() throws Exception {
+    Operation failed =
+        Operation.newBuilder()
+            .setName("a/operation")
+            .setDone(true)
+            .setError(Status.newBuilder().setCode(5).setMessage("not found"))
+            .build();
+
+    BulkDeleteResult result =
+        deleter
+            .delete(
+                List.of("a", "b"),
+                OPTIONS,
+                name -> name.equals("a") ? ApiFutures.immediateFuture(failed) : start(name),
+                this::poll)
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(result.getStatusCodes()).containsExactly("a", Code.NOT_FOUND, "b", Code.OK);
+    assertThat(result.getErrors().keySet()).containsExactly("a");
+    assertThat(result.getFailedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void delete_failedStart_reportsItsStatus() throws Exception {
+    BulkDeleteResult result =
+        deleter
+            .delete(
+                List.of("a"),
+                OPTIONS,
+                name -> {
+                  throw ApiExceptionFactory.createException(
+                      "disabled",
+                      null,
+                      GrpcHelper.getStatusCodeFromCode(Code.PERMISSION_DENIED),
+                      false);
+                },
+                this::poll)
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(result.getStatusCodes()).containsExactly("a", Code.PERMISSION_DENIED);
+  }
+
+  @Test
+  public void delete_retryablePollFailure_pollsAgain() throws Exception {
+    remainingPolls.put("a", 1);
+    AtomicInteger attempts = new AtomicInteger();
+
+    BulkDeleteResult result =
+        deleter
+            .delete(
+                List.of("a"),
+                OPTIONS,
+                this::start,
+                operation ->
+                    attempts.incrementAndGet() == 1
+                        ? ApiFutures.immediateFailedFuture(
+                            ApiExceptionFactory.createException(
+                                "unavailable",
+                                null,
+                                GrpcHelper.getStatusCodeFromCode(Code.UNAVAILABLE),
+                                true))
+                        : poll(operation))
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(result.getStatusCodes()).containsExactly("a", Code.OK);
+    assertThat(attempts.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void delete_operationNotDoneInTime_failsWithDeadlineExceeded() throws Exception {
+    remainingPolls.put("a", Integer.MAX_VALUE);
+    BulkDeleteOptions options = OPTIONS.toBuilder().setTotalTimeout(Duration.ofMillis(50)).build();
+
+    BulkDeleteResult result =
+        deleter.delete(List.of("a"), options, this::start, this::poll).get(5, TimeUnit.SECONDS);
+
+    assertThat(result.getStatusCodes()).containsExactly("a", Code.DEADLINE_EXCEEDED);
+  }
+
+  @Test
+  public void delete_capsConcurrentOperations() throws Exception {
+    List<SettableApiFuture<Operation>> starts = Collections.synchronizedList(new ArrayList<>());
+    BulkDeleteOptions options = OPTIONS.toBuilder().setMaxConcurrentOperations(2).build();
+
+    ApiFuture<BulkDeleteResult> result =
+        deleter.delete(
+            List.of("a", "b", "c"),
+            options,
+            name -> {
+              SettableApiFuture<Operation> start = SettableApiFuture.create();
+              starts.add(start);
+              return start;
+            },
+            this::poll);
+
+    assertThat(starts).hasSize(2);
+    starts.get(0).set(operation("a", true));
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (starts.size() < 3 && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(starts).hasSize(3);
+    starts.get(1).set(operation("b", true));
+    starts.get(2).set(operation("c", true));
+    assertThat(result.get(5, TimeUnit.SECONDS).getDeletedCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void delete_completedStart_startsNextDeleteOnScheduler() throws Exception {
+    SettableApiFuture<Operation> first = SettableApiFuture.create();
+    List<String> startThreads = Collections.synchronizedList(new ArrayList<>());
+    BulkDeleteOptions options = OPTIONS.toBuilder().setMaxConcurrentOperations(1).build();
+
+    ApiFuture<BulkDeleteResult> result =
+        deleter.delete(
+            List.of("a", "b"),
+            options,
+            name -> {
+              startThreads.add(Thread.currentThread().getName());
+              return name.equals("a") ? first : start(name);
+            },
+            this::poll);
+    first.set(operation("a", true));
+
+    assertThat(result.get(5, TimeUnit.SECONDS).getDeletedCount()).isEqualTo(2);
+    assertThat(startThreads.get(0)).isEqualTo(Thread.currentThread().getName());
+    assertThat(startThreads.get(1)).startsWith("lineage-bulk-deleter-");
+  }
+
+  @Test
+  public void delete_operationOverdueByClock_failsWithoutPolling() throws Exception {
+    AtomicLong nowNanos = new AtomicLong();
+    BulkDeleter clockedDeleter =
+        new BulkDeleter(Executors.newSingleThreadScheduledExecutor(), nowNanos::get);
+    remainingPolls.put("a", 1);
+
+    try {
+      BulkDeleteResult result =
+          clockedDeleter
+              .delete(
+                  List.of("a"),
+                  OPTIONS,
+                  name -> {
+                    nowNanos.addAndGet(OPTIONS.getTotalTimeout().toNanos());
+                    return start(name);
+                  },
+                  this::poll)
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getStatusCodes()).containsExactly("a", Code.DEADLINE_EXCEEDED);
+      assertThat(pollCount.get()).isEqualTo(0);
+    } finally {
+      clockedDeleter.close();
+    }
+  }
+
+  @Test
+  public void delete_noNames_completesRightAway() throws Exception {
+    ApiFuture<BulkDeleteResult> result =
+        deleter.delete(List.of(), OPTIONS, this::start, this::poll);
+
+    assertThat(result.isDone()).isTrue();
+    assertThat(result.get().getStatusCodes()).isEmpty();
+  }
+}
@@ -0,0 +1,210 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.datacatalog.lineage.v1.GetProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.common.collect.ImmutableList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for FailoverLineageClient. */
+@RunWith(JUnit4.class)
+public class FailoverLineageClientTest {
+
+  private static final String PRIMARY = "primary:443";
+  private static final String STANDBY = "standby:443";
+
+  private final Map<String, Supplier<ApiFuture<Process>>> responses = new HashMap<>();
+  private final Map<String, LineageBaseSettings> createdSettings = new HashMap<>();
+  private long nowNanos;
+  private FailoverLineageClient client;
+
+  @Before
+  public void setUp() throws Exception {
+    responses.put(PRIMARY, () -> succeeded(PRIMARY));
+    responses.put(STANDBY, () -> succeeded(STANDBY));
+    FailoverOptions options =
+        FailoverOptions.newBuilder()
+            .setAlternateEndpoints(ImmutableList.of(STANDBY))
+            .setMinimumCalls(4)
+            .setSlowCallDuration(Duration.ofSeconds(1))
+            .setOpenDuration(Duration.ofSeconds(30))
+            .build();
+    client =
+        new FailoverLineageClient(
+            LineageBaseSettings.newBuilder()
+                .setEndpoint(PRIMARY)
+                .setFailoverOptions(options)
+                .build(),
+            this::createClient,
+            () -> nowNanos);
+  }
+
+  @Test
+  public void call_healthyPrimary_goesToPrimary() throws Exception {
+    assertThat(getProcess().get().getName()).isEqualTo(PRIMARY);
+    assertThat(client.getActiveEndpoint()).isEqualTo(PRIMARY);
+  }
+
+  @Test
+  public void call_errorRateOverThreshold_shiftsToStandby() throws Exception {
+    responses.put(PRIMARY, () -> failed(Code.UNAVAILABLE));
+
+    for (int i = 0; i < 4; i++) {
+      getProcess();
+    }
+
+    assertThat(client.getActiveEndpoint()).isEqualTo(STANDBY);
+    assertThat(getProcess().get().getName()).isEqualTo(STANDBY);
+  }
+
+  @Test
+  public void call_requestErrors_doNotShiftTraffic() throws Exception {
+    responses.put(PRIMARY, () -> failed(Code.INVALID_ARGUMENT));
+
+    for (int i = 0; i < 10; i++) {
+      getProcess();
+    }
+
+    assertThat(client.getActiveEndpoint()).isEqualTo(PRIMARY);
+  }
+
+  @Test
+  public void call_slowCallRateOverThreshold_shiftsToStandby() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      SettableApiFuture<Process> slow = SettableApiFuture.create();
+      responses.put(PRIMARY, () -> slow);
+      getProcess();
+      nowNanos += TimeUnit.SECONDS.toNanos(2);
+      slow.set(Process.getDefaultInstance());
+    }
+
+    assertThat(client.getActiveEndpoint()).isEqualTo(STANDBY);
+  }
+
+  @Test
+  public void call_errorsSpreadOverWindows_doNotShiftTraffic() throws Exception {
+    responses.put(PRIMARY, () -> failed(Code.UNAVAILABLE));
+
+    for (int i = 0; i < 6; i++) {
+      getProcess();
+      nowNanos += TimeUnit.SECONDS.toNanos(11);
+    }
+
+    assertThat(client.getActiveEndpoint()).isEqualTo(PRIMARY);
+  }
+
+  @Test
+  public void call_afterOpenDuration_shiftsBackWhenTrialSucceeds() throws Exception {
+    responses.put(PRIMARY, () -> failed(Code.UNAVAILABLE));
+    for (int i = 0; i < 4; i++) {
+      getProcess();
+    }
+    SettableApiFuture<Process> trial = SettableApiFuture.create();
+    responses.put(PRIMARY, () -> trial);
+    nowNanos += TimeUnit.SECONDS.toNanos(30);
+
+    ApiFuture<Process> trialCall = getProcess();
+    // Only one trial call at a time, the others stay on the standby.
+    assertThat(getProcess().get().getName()).isEqualTo(STANDBY);
+    trial.set(Process.newBuilder().setName(PRIMARY).build());
+
+    assertThat(trialCall.get().getName()).isEqualTo(PRIMARY);
+    assertThat(client.getActiveEndpoint()).isEqualTo(PRIMARY);
+  }
+
+  @Test
+  public void call_afterOpenDuration_staysOnStandbyWhenTrialFails() throws Exception {
+    responses.put(PRIMARY, () -> failed(Code.UNAVAILABLE));
+    for (int i = 0; i < 4; i++) {
+      getProcess();
+    }
+    nowNanos += TimeUnit.SECONDS.toNanos(30);
+
+    getProcess();
+
+    assertThat(client.getActiveEndpoint()).isEqualTo(STANDBY);
+    assertThat(getProcess().get().getName()).isEqualTo(STANDBY);
+  }
+
+  @Test
+  public void create_keepsStandbyChannelsConnected() {
+    InstantiatingGrpcChannelProvider primary = channelProvider(PRIMARY);
+    InstantiatingGrpcChannelProvider standby = channelProvider(STANDBY);
+
+    assertThat(primary.getKeepAliveWithoutCalls()).isNotEqualTo(Boolean.TRUE);
+    assertThat(standby.getKeepAliveWithoutCalls()).isTrue();
+    assertThat(standby.getKeepAliveTime()).isEqualTo(Duration.ofMinutes(5));
+  }
+
+  private ApiFuture<Process> getProcess() {
+    return client
+        .getProcessCallable()
+        .futureCall(
+            GetProcessRequest.newBuilder().setName("projects/p/locations/l/processes/a").build());
+  }
+
+  private InstantiatingGrpcChannelProvider channelProvider(String endpoint) {
+    return (InstantiatingGrpcChannelProvider)
+        createdSettings.get(endpoint).getTransportChannelProvider();
+  }
+
+  private BasicLineageClient createClient(LineageBaseSettings settings) {
+    BasicLineageClient created = mock(BasicLineageClient.class);
+    String endpoint = settings.getEndpoint();
+    createdSettings.put(endpoint, settings);
+    when(created.getProcessCallable())
+        .thenReturn(
+            new UnaryCallable<GetProcessRequest, Process>() {
+              @Override
+              public ApiFuture<Process> futureCall(
+                  GetProcessRequest request, ApiCallContext context) {
+                return responses.get(endpoint).get();
+              }
+            });
+    return created;
+  }
+
+  private static ApiFuture<Process> succeeded(String endpoint) {
+    return ApiFutures.immediateFuture(Process.newBuilder().setName(endpoint).build());
+  }
+
+  private static ApiFuture<Process> failed(Code code) {
+    return ApiFutures.immediateFailedFuture(
+        ApiExceptionFactory.createException(
+            "Call failed", null, GrpcHelper.getStatusCodeFromCode(code), false));
+  }
+}
@@ -0,0 +1,110 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for FailoverOptions. */
+@RunWith(JUnit4.class)
+public class FailoverOptionsTest {
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(FailoverOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    FailoverOptions options =
+        FailoverOptions.newBuilder().setAlternateEndpoints(ImmutableList.of("b:443")).build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getAlternateEndpoints()).containsExactly("b:443");
+    assertThat(options.getErrorRateThreshold()).isEqualTo(0.5);
+    assertThat(options.getSlowCallDuration()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(options.getSlowCallRateThreshold()).isEqualTo(0.5);
+    assertThat(options.getMinimumCalls()).isEqualTo(20);
+    assertThat(options.getWindow()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(options.getOpenDuration()).isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  public void build_withoutAlternateEndpoints_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> FailoverOptions.newBuilder().build());
+  }
+
+  @Test
+  public void setAlternateEndpoints_withNull_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FailoverOptions.newBuilder().setAlternateEndpoints(Arrays.asList("b:443", null)));
+  }
+
+  @Test
+  public void setThresholds_outOfRange_throwsIllegalArgumentException() {
+    for (double threshold : new double[] {0, 1.5, Double.NaN}) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> FailoverOptions.newBuilder().setErrorRateThreshold(threshold));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> FailoverOptions.newBuilder().setSlowCallRateThreshold(threshold));
+    }
+  }
+
+  @Test
+  public void setDurations_notPositive_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FailoverOptions.newBuilder().setSlowCallDuration(Duration.ZERO));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FailoverOptions.newBuilder().setWindow(Duration.ofSeconds(-1)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FailoverOptions.newBuilder().setOpenDuration(Duration.ZERO));
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    FailoverOptions options =
+        FailoverOptions.newBuilder()
+            .setAlternateEndpoints(ImmutableList.of("b:443", "c:443"))
+            .setErrorRateThreshold(0.2)
+            .setSlowCallDuration(Duration.ofSeconds(1))
+            .setSlowCallRateThreshold(0.8)
+            .setMinimumCalls(5)
+            .setWindow(Duration.ofSeconds(10))
+            .setOpenDuration(Duration.ofSeconds(20))
+            .build();
+
+    FailoverOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getAlternateEndpoints()).containsExactly("b:443", "c:443").inOrder();
+    assertThat(copy.getErrorRateThreshold()).isEqualTo(0.2);
+    assertThat(copy.getSlowCallDuration()).isEqualTo(Duration.ofSeconds(1));
+    assertThat(copy.getSlowCallRateThreshold()).isEqualTo(0.8);
+    assertThat(copy.getMinimumCalls()).isEqualTo(5);
+    assertThat(copy.getWindow()).isEqualTo(Duration.ofSeconds(10));
+    assertThat(copy.getOpenDuration()).isEqualTo(Duration.ofSeconds(20));
+  }
+}
@@ -0,0 +1,87 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for FairQueueOptions. */
+@RunWith(JUnit4.class)
+public class FairQueueOptionsTest {
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(FairQueueOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    FairQueueOptions options = FairQueueOptions.newBuilder().build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getMaxInFlight()).isEqualTo(100);
+    assertThat(options.getDefaultWeight()).isEqualTo(1);
+    assertThat(options.getWeights()).isEmpty();
+    assertThat(options.getMaxQueueSize()).isEqualTo(10_000);
+  }
+
+  @Test
+  public void getWeight_returnsWeightOfParentOrDefault() {
+    FairQueueOptions options =
+        FairQueueOptions.newBuilder()
+            .setDefaultWeight(2)
+            .setWeight("projects/a/locations/us", 5)
+            .build();
+
+    assertThat(options.getWeight("projects/a/locations/us")).isEqualTo(5);
+    assertThat(options.getWeight("projects/b/locations/us")).isEqualTo(2);
+  }
+
+  @Test
+  public void setWeight_notPositive_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> FairQueueOptions.newBuilder().setWeight("projects/a/locations/us", 0));
+    assertThat(exception).hasMessageThat().contains("Weight must be positive");
+  }
+
+  @Test
+  public void setMaxInFlight_notPositive_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> FairQueueOptions.newBuilder().setMaxInFlight(0));
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    FairQueueOptions options =
+        FairQueueOptions.newBuilder()
+            .setMaxInFlight(7)
+            .setDefaultWeight(3)
+            .setWeight("projects/a/locations/us", 4)
+            .setMaxQueueSize(11)
+            .build();
+
+    FairQueueOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getMaxInFlight()).isEqualTo(7);
+    assertThat(copy.getDefaultWeight()).isEqualTo(3);
+    assertThat(copy.getWeights()).containsExactly("projects/a/locations/us", 4);
+    assertThat(copy.getMaxQueueSize()).isEqualTo(11);
+  }
+}
@@ -0,0 +1,282 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.CancelledException;
+import com.google.api.gax.rpc.ResourceExhaustedException;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for FairQueueScheduler. */
+@RunWith(JUnit4.class)
+public class FairQueueSchedulerTest {
+
+  private static final String PARENT_A = "projects/a/locations/us";
+  private static final String PARENT_B = "projects/b/locations/us";
+
+  private final List<String> sent = new ArrayList<>();
+  private final List<SettableApiFuture<ProcessOpenLineageRunEventResponse>> calls =
+      new ArrayList<>();
+  // Starts of calls that the sender defers, by request ID.
+  private final Map<String, Runnable> deferredStarts = new HashMap<>();
+  private final Set<String> deferredIds = new HashSet<>();
+  private Executor executor = MoreExecutors.directExecutor();
+  private long nowNanos;
+
+  @Test
+  public void send_underLimit_sendsRightAway() {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(2));
+
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_A, "a2"));
+
+    assertThat(sent).containsExactly("a1", "a2").inOrder();
+    assertThat(scheduler.getStats().getInFlightCount()).isEqualTo(2);
+    assertThat(scheduler.getStats().getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void send_overLimit_alternatesBetweenParents() {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_A, "a2"));
+    scheduler.send(request(PARENT_A, "a3"));
+    scheduler.send(request(PARENT_A, "a4"));
+    scheduler.send(request(PARENT_B, "b1"));
+    scheduler.send(request(PARENT_B, "b2"));
+
+    completeAll();
+
+    assertThat(sent).containsExactly("a1", "a2", "b1", "a3", "b2", "a4").inOrder();
+  }
+
+  @Test
+  public void send_withWeight_sendsMoreEventsPerTurn() {
+    FairQueueScheduler scheduler =
+        scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1).setWeight(PARENT_A, 2));
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_A, "a2"));
+    scheduler.send(request(PARENT_A, "a3"));
+    scheduler.send(request(PARENT_A, "a4"));
+    scheduler.send(request(PARENT_A, "a5"));
+    scheduler.send(request(PARENT_B, "b1"));
+    scheduler.send(request(PARENT_B, "b2"));
+
+    completeAll();
+
+    assertThat(sent).containsExactly("a1", "a2", "a3", "b1", "a4", "a5", "b2").inOrder();
+  }
+
+  @Test
+  public void send_queuedEventCompletesWithResponse() throws Exception {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    ApiFuture<ProcessOpenLineageRunEventResponse> queued = scheduler.send(request(PARENT_B, "b1"));
+    ProcessOpenLineageRunEventResponse response =
+        ProcessOpenLineageRunEventResponse.newBuilder().setRun("run").build();
+
+    calls.get(0).set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    calls.get(1).set(response);
+
+    assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo(response);
+  }
+
+  @Test
+  public void send_cancelledWhileQueued_isNotSent() {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_B, "b1")).cancel(true);
+    scheduler.send(request(PARENT_B, "b2"));
+
+    completeAll();
+
+    assertThat(sent).containsExactly("a1", "b2").inOrder();
+  }
+
+  @Test
+  public void send_cancelledWhileQueued_leavesQueue() {
+    FairQueueScheduler scheduler =
+        scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1).setMaxQueueSize(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_B, "b1")).cancel(true);
+
+    scheduler.send(request(PARENT_B, "b2"));
+
+    assertThat(scheduler.getStats().getQueuedCount()).isEqualTo(1);
+    completeAll();
+    assertThat(sent).containsExactly("a1", "b2").inOrder();
+  }
+
+  @Test
+  public void drop_queuedEvent_isNotSent() {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    ApiFuture<ProcessOpenLineageRunEventResponse> started = scheduler.send(request(PARENT_A, "a1"));
+    ApiFuture<ProcessOpenLineageRunEventResponse> queued = scheduler.send(request(PARENT_B, "b1"));
+
+    assertThat(scheduler.isUnsent(started)).isFalse();
+    assertThat(scheduler.drop(started)).isFalse();
+    assertThat(scheduler.isUnsent(queued)).isTrue();
+    assertThat(scheduler.drop(queued)).isTrue();
+    scheduler.send(request(PARENT_B, "b2"));
+    completeAll();
+
+    assertThat(sent).containsExactly("a1", "b2").inOrder();
+    assertThat(scheduler.getStats().getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void send_queueFull_throwsResourceExhaustedException() {
+    FairQueueScheduler scheduler =
+        scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1).setMaxQueueSize(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_A, "a2"));
+
+    assertThrows(
+        ResourceExhaustedException.class, () -> scheduler.send(request(PARENT_A, "a3")));
+    scheduler.send(request(PARENT_B, "b1"));
+    assertThat(scheduler.getStats().getQueuedCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void send_deferredBySender_doesNotCountAsInFlight() {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    deferredIds.add("a1");
+
+    scheduler.send(request(PARENT_A, "a1"));
+    assertThat(scheduler.getStats().getInFlightCount()).isEqualTo(0);
+    scheduler.send(request(PARENT_B, "b1"));
+    deferredStarts.get("a1").run();
+
+    assertThat(sent).containsExactly("a1", "b1").inOrder();
+    assertThat(scheduler.getStats().getInFlightCount()).isEqualTo(2);
+    assertThat(scheduler.getStats().getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void complete_sendsQueuedEventsOnExecutor() {
+    List<Runnable> tasks = new ArrayList<>();
+    executor = tasks::add;
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_B, "b1"));
+
+    calls.get(0).set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    assertThat(sent).containsExactly("a1");
+    tasks.forEach(Runnable::run);
+
+    assertThat(sent).containsExactly("a1", "b1").inOrder();
+  }
+
+  @Test
+  public void close_cancelsQueuedEvents() {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    ApiFuture<ProcessOpenLineageRunEventResponse> queued = scheduler.send(request(PARENT_B, "b1"));
+
+    scheduler.close();
+
+    ExecutionException exception = assertThrows(ExecutionException.class, queued::get);
+    assertThat(exception.getCause()).isInstanceOf(CancelledException.class);
+    assertThat(scheduler.getStats().getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void getStats_reportsQueueDepthAndWaitTimes() {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_A, "a2"));
+    scheduler.send(request(PARENT_B, "b1"));
+    nowNanos += TimeUnit.MILLISECONDS.toNanos(10);
+    scheduler.send(request(PARENT_A, "a3"));
+    nowNanos += TimeUnit.MILLISECONDS.toNanos(10);
+
+    calls.get(0).set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    FairQueueStats stats = scheduler.getStats();
+
+    assertThat(stats.getInFlightCount()).isEqualTo(1);
+    assertThat(stats.getQueuedCount()).isEqualTo(2);
+    assertThat(stats.getQueues().keySet()).containsExactly(PARENT_B, PARENT_A).inOrder();
+    FairQueueStats.QueueStats queueA = stats.getQueues().get(PARENT_A);
+    assertThat(queueA.getQueueDepth()).isEqualTo(1);
+    assertThat(queueA.getOldestWaitTime()).isEqualTo(Duration.ofMillis(10));
+    assertThat(queueA.getAverageWaitTime()).isEqualTo(Duration.ofMillis(20));
+    assertThat(queueA.getSentCount()).isEqualTo(1);
+    FairQueueStats.QueueStats queueB = stats.getQueues().get(PARENT_B);
+    assertThat(queueB.getQueueDepth()).isEqualTo(1);
+    assertThat(queueB.getOldestWaitTime()).isEqualTo(Duration.ofMillis(20));
+    assertThat(queueB.getSentCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void awaitQueued_returnsWhenQueuesAreEmpty() throws Exception {
+    FairQueueScheduler scheduler = scheduler(FairQueueOptions.newBuilder().setMaxInFlight(1));
+    scheduler.send(request(PARENT_A, "a1"));
+    scheduler.send(request(PARENT_B, "b1"));
+
+    assertThat(scheduler.awaitQueued(10, TimeUnit.MILLISECONDS)).isFalse();
+    calls.get(0).set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    assertThat(scheduler.awaitQueued(10, TimeUnit.MILLISECONDS)).isTrue();
+  }
+
+  private FairQueueScheduler scheduler(FairQueueOptions.Builder options) {
+    return new FairQueueScheduler(
+        options.build(),
+        (request, onStart) -> {
+          sent.add(request.getRequestId());
+          if (deferredIds.contains(request.getRequestId())) {
+            deferredStarts.put(request.getRequestId(), onStart);
+          } else {
+            onStart.run();
+          }
+          SettableApiFuture<ProcessOpenLineageRunEventResponse> call = SettableApiFuture.create();
+          calls.add(call);
+          return call;
+        },
+        executor,
+        () -> nowNanos);
+  }
+
+  private void completeAll() {
+    for (int i = 0; i < calls.size(); i++) {
+      calls.get(i).set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    }
+  }
+
+  private static ProcessOpenLineageRunEventRequest request(String parent, String id) {
+    return ProcessOpenLineageRunEventRequest.newBuilder()
+        .setParent(parent)
+        .setRequestId(id)
+        .build();
+  }
+}
@@ -0,0 +1,161 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.paging.Page;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for FanOutPageIterator. */
+@RunWith(JUnit4.class)
+public class FanOutPageIteratorTest {
+
+  private static final PrefetchOptions OPTIONS =
+      PrefetchOptions.newBuilder().setPrefetchDepth(1).setMaxPageSize(50).build();
+
+  // Calls per parent, in the order they were made.
+  private final Map<String, List<SettableApiFuture<Page<String>>>> calls = new LinkedHashMap<>();
+  private final List<Integer> sizes = new ArrayList<>();
+  private final Set<String> disabled = new HashSet<>();
+
+  private PageFetcher<String> fetcher(String parent) {
+    return (pageToken, pageSize) -> {
+      SettableApiFuture<Page<String>> call = SettableApiFuture.create();
+      calls.computeIfAbsent(parent, p -> new ArrayList<>()).add(call);
+      sizes.add(pageSize);
+      return call;
+    };
+  }
+
+  private FanOutPageIterator<String> iterator(int concurrency, String... parents) {
+    return new FanOutPageIterator<>(
+        List.of(parents), this::fetcher, disabled::contains, concurrency, OPTIONS);
+  }
+
+  @Test
+  public void constructor_notPositiveConcurrency_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> iterator(0, "a"));
+  }
+
+  @Test
+  public void constructor_listsUpToConcurrencyParents() {
+    iterator(2, "a", "b", "c");
+
+    assertThat(calls.keySet()).containsExactly("a", "b").inOrder();
+    assertThat(sizes).containsExactly(50, 50);
+  }
+
+  @Test
+  public void lastPageOfParent_startsNextParent() {
+    iterator(2, "a", "b", "c");
+
+    calls.get("a").get(0).set(new PageFake<>("", "a1"));
+
+    assertThat(calls.keySet()).containsExactly("a", "b", "c").inOrder();
+  }
+
+  @Test
+  public void iterator_mergesPagesOfAllParents() {
+    FanOutPageIterator<String> iterator = iterator(2, "a", "b", "c");
+    calls.get("b").get(0).set(new PageFake<>("", "b1", "b2"));
+    calls.get("a").get(0).set(new PageFake<>("t", "a1"));
+    calls.get("c").get(0).set(new PageFake<>("", "c1"));
+    List<String> values = new ArrayList<>();
+
+    values.add(iterator.next());
+    calls.get("a").get(1).set(new PageFake<>("", "a2"));
+    iterator.forEachRemaining(values::add);
+
+    assertThat(values).containsExactly("b1", "b2", "a1", "c1", "a2");
+  }
+
+  @Test
+  public void bufferFull_stallsParentUntilPageIsConsumed() {
+    FanOutPageIterator<String> iterator = iterator(1, "a");
+
+    calls.get("a").get(0).set(new PageFake<>("t", "a1"));
+
+    assertThat(calls.get("a")).hasSize(1);
+    assertThat(iterator.next()).isEqualTo("a1");
+    assertThat(calls.get("a")).hasSize(2);
+  }
+
+  @Test
+  public void disabledParent_isSkippedWithoutCall() {
+    disabled.add("a");
+
+    FanOutPageIterator<String> iterator = iterator(1, "a", "b");
+
+    assertThat(calls.keySet()).containsExactly("b");
+    assertThat(iterator.getSkippedParentCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void failedCall_ofParentFoundDisabled_isSkipped() {
+    FanOutPageIterator<String> iterator = iterator(1, "a", "b");
+    disabled.add("a");
+
+    calls.get("a").get(0).setException(permissionDenied());
+    calls.get("b").get(0).set(new PageFake<>("", "b1"));
+
+    assertThat(iterator.next()).isEqualTo("b1");
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(iterator.getSkippedParentCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void failedCall_cancelsOtherCallsAndThrows() {
+    FanOutPageIterator<String> iterator = iterator(2, "a", "b", "c");
+
+    calls.get("a").get(0).setException(permissionDenied());
+
+    assertThat(calls.get("b").get(0).isCancelled()).isTrue();
+    assertThat(calls).doesNotContainKey("c");
+    ApiException e = assertThrows(ApiException.class, iterator::hasNext);
+    assertThat(e.getStatusCode().getCode()).isEqualTo(Code.PERMISSION_DENIED);
+  }
+
+  @Test
+  public void close_cancelsCallsInFlight() {
+    FanOutPageIterator<String> iterator = iterator(2, "a", "b");
+
+    iterator.close();
+
+    assertThat(calls.get("a").get(0).isCancelled()).isTrue();
+    assertThat(calls.get("b").get(0).isCancelled()).isTrue();
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  private static ApiException permissionDenied() {
+    return ApiExceptionFactory.createException(
+        "disabled", null, GrpcHelper.getStatusCodeFromCode(Code.PERMISSION_DENIED), false);
+  }
+}
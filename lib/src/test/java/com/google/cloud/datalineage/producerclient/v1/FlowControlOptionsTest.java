@@ -0,0 +1,86 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.datalineage.producerclient.v1.FlowControlOptions.LimitExceededBehavior;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for FlowControlOptions. */
+@RunWith(JUnit4.class)
+public class FlowControlOptionsTest {
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(FlowControlOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    FlowControlOptions options = FlowControlOptions.newBuilder().build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getMaxOutstandingRequestCount()).isEqualTo(1000);
+    assertThat(options.getMaxOutstandingRequestBytes()).isEqualTo(100L * 1024L * 1024L);
+    assertThat(options.getLimitExceededBehavior()).isEqualTo(LimitExceededBehavior.BLOCK);
+  }
+
+  @Test
+  public void setMaxOutstandingRequestCount_notPositive_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> FlowControlOptions.newBuilder().setMaxOutstandingRequestCount(0));
+    assertThat(exception).hasMessageThat().contains("Limit must be positive");
+  }
+
+  @Test
+  public void setMaxOutstandingRequestBytes_notPositive_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> FlowControlOptions.newBuilder().setMaxOutstandingRequestBytes(-1));
+    assertThat(exception).hasMessageThat().contains("Limit must be positive");
+  }
+
+  @Test
+  public void setLimitExceededBehavior_null_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> FlowControlOptions.newBuilder().setLimitExceededBehavior(null));
+    assertThat(exception).hasMessageThat().contains("Behavior cannot be null");
+  }
+
+  @Test
+  public void toBuilder_preserveOptions() {
+    FlowControlOptions options =
+        FlowControlOptions.newBuilder()
+            .setMaxOutstandingRequestCount(10)
+            .setMaxOutstandingRequestBytes(2048)
+            .setLimitExceededBehavior(LimitExceededBehavior.DROP_OLDEST)
+            .build();
+
+    FlowControlOptions newOptions = options.toBuilder().setMaxOutstandingRequestCount(20).build();
+
+    assertThat(newOptions.getMaxOutstandingRequestCount()).isEqualTo(20);
+    assertThat(newOptions.getMaxOutstandingRequestBytes()).isEqualTo(2048);
+    assertThat(newOptions.getLimitExceededBehavior())
+        .isEqualTo(LimitExceededBehavior.DROP_OLDEST);
+  }
+}
@@ -0,0 +1,82 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for HedgingOptions. */
+@RunWith(JUnit4.class)
+public class HedgingOptionsTest {
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(HedgingOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    HedgingOptions options = HedgingOptions.newBuilder().build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getPercentile()).isEqualTo(95.0);
+    assertThat(options.getMinDelay()).isEqualTo(Duration.ofMillis(10));
+    assertThat(options.getBudgetRatio()).isEqualTo(0.05);
+  }
+
+  @Test
+  public void setPercentile_outOfRange_throwsIllegalArgumentException() {
+    for (double percentile : new double[] {0, 100, Double.NaN}) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> HedgingOptions.newBuilder().setPercentile(percentile));
+    }
+  }
+
+  @Test
+  public void setMinDelay_negative_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> HedgingOptions.newBuilder().setMinDelay(Duration.ofMillis(-1)));
+  }
+
+  @Test
+  public void setBudgetRatio_outOfRange_throwsIllegalArgumentException() {
+    for (double ratio : new double[] {0, 1.5, Double.NaN}) {
+      assertThrows(
+          IllegalArgumentException.class, () -> HedgingOptions.newBuilder().setBudgetRatio(ratio));
+    }
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    HedgingOptions options =
+        HedgingOptions.newBuilder()
+            .setPercentile(99)
+            .setMinDelay(Duration.ofMillis(50))
+            .setBudgetRatio(0.2)
+            .build();
+
+    HedgingOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getPercentile()).isEqualTo(99.0);
+    assertThat(copy.getMinDelay()).isEqualTo(Duration.ofMillis(50));
+    assertThat(copy.getBudgetRatio()).isEqualTo(0.2);
+  }
+}
@@ -0,0 +1,84 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.gax.tracing.ApiTracer;
+import com.google.api.gax.tracing.ApiTracerFactory.OperationType;
+import com.google.api.gax.tracing.BaseApiTracer;
+import com.google.api.gax.tracing.BaseApiTracerFactory;
+import com.google.api.gax.tracing.SpanName;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for IngestionAttemptTracerFactory. */
+@RunWith(JUnit4.class)
+public class IngestionAttemptTracerFactoryTest {
+
+  private final IngestionAttemptTracerFactory factory =
+      new IngestionAttemptTracerFactory(BaseApiTracerFactory.getInstance());
+
+  @Test
+  public void newTracer_countsAttemptsOfRetriedCall() {
+    ApiTracer tracer = newTracer(IngestionAttemptTracerFactory.METHOD_NAME);
+
+    tracer.attemptStarted("request", 0);
+    tracer.attemptFailed(new RuntimeException("unavailable"), Duration.ofMillis(100));
+    tracer.attemptStarted("request", 1);
+    tracer.attemptSucceeded();
+
+    IngestionAttemptStats stats = factory.getStats();
+    assertThat(stats.getAttemptCount()).isEqualTo(2);
+    assertThat(stats.getRetryCount()).isEqualTo(1);
+    assertThat(stats.getFailedAttemptCount()).isEqualTo(1);
+    assertThat(stats.getRetriesExhaustedCount()).isEqualTo(0);
+    assertThat(stats.getPermanentFailureCount()).isEqualTo(0);
+    assertThat(stats.getTotalAttemptLatency()).isAtLeast(Duration.ZERO);
+  }
+
+  @Test
+  public void newTracer_countsFailedCalls() {
+    ApiTracer exhausted = newTracer(IngestionAttemptTracerFactory.METHOD_NAME);
+    exhausted.attemptStarted("request", 0);
+    exhausted.attemptFailedRetriesExhausted(new RuntimeException("unavailable"));
+    ApiTracer rejected = newTracer(IngestionAttemptTracerFactory.METHOD_NAME);
+    rejected.attemptStarted("request", 0);
+    rejected.attemptPermanentFailure(new RuntimeException("invalid"));
+
+    IngestionAttemptStats stats = factory.getStats();
+    assertThat(stats.getAttemptCount()).isEqualTo(2);
+    assertThat(stats.getFailedAttemptCount()).isEqualTo(2);
+    assertThat(stats.getRetriesExhaustedCount()).isEqualTo(1);
+    assertThat(stats.getPermanentFailureCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void newTracer_forOtherMethods_returnsDelegateTracer() {
+    ApiTracer tracer = newTracer("GetProcess");
+
+    tracer.attemptStarted("request", 0);
+
+    assertThat(tracer).isSameInstanceAs(BaseApiTracer.getInstance());
+    assertThat(factory.getStats().getAttemptCount()).isEqualTo(0);
+  }
+
+  private ApiTracer newTracer(String methodName) {
+    return factory.newTracer(
+        BaseApiTracer.getInstance(), SpanName.of("Lineage", methodName), OperationType.Unary);
+  }
+}
@@ -15,11 +15,18 @@
 package com.google.cloud.datalineage.producerclient.v1;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 
+import com.google.api.gax.retrying.RetrySettings;
+import com.google.api.gax.rpc.StatusCode.Code;
 import com.google.cloud.datalineage.producerclient.CacheSettings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
 
 /** * Test suite for LineageBaseSettings */
 @RunWith(JUnit4.class)
@@ -65,6 +72,145 @@ public class LineageBaseSettingsTest {
     assertEquals(newCacheSettings, settings.getLineageEnablementCacheSettings());
   }
 
+  @Test
+  public void setEnablementProbingEnabled_updatesSettingsAndIsCopiedByToBuilder()
+      throws Exception {
+    LineageBaseSettings settings =
+        LineageBaseSettings.newBuilder().setEnablementProbingEnabled(true).build();
+
+    assertEquals(false, LineageBaseSettings.defaultInstance().getEnablementProbingEnabled());
+    assertEquals(true, settings.getEnablementProbingEnabled());
+    assertEquals(true, settings.toBuilder().build().getEnablementProbingEnabled());
+  }
+
+  @Test
+  public void setSharedTransportEnabled_updatesSettingsAndIsCopiedByToBuilder() throws Exception {
+    LineageBaseSettings settings =
+        LineageBaseSettings.newBuilder().setSharedTransportEnabled(true).build();
+
+    assertEquals(false, LineageBaseSettings.defaultInstance().getSharedTransportEnabled());
+    assertEquals(true, settings.getSharedTransportEnabled());
+    assertEquals(true, settings.toBuilder().build().getSharedTransportEnabled());
+  }
+
+  @Test
+  public void setLocationRoutingEnabled_updatesSettingsAndIsCopiedByToBuilder() throws Exception {
+    LineageBaseSettings settings =
+        LineageBaseSettings.newBuilder()
+            .setLocationRoutingEnabled(true)
+            .setRegionalEndpointTemplate("lineage-{location}.example.com:443")
+            .build();
+
+    assertEquals(false, LineageBaseSettings.defaultInstance().getLocationRoutingEnabled());
+    assertEquals(
+        "{location}-datalineage.googleapis.com:443",
+        LineageBaseSettings.defaultInstance().getRegionalEndpointTemplate());
+    assertEquals(true, settings.toBuilder().build().getLocationRoutingEnabled());
+    assertEquals(
+        "lineage-{location}.example.com:443",
+        settings.toBuilder().build().getRegionalEndpointTemplate());
+  }
+
+  @Test
+  public void setRegionalEndpointTemplate_withoutLocation_throwsException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> LineageBaseSettings.newBuilder().setRegionalEndpointTemplate("example.com:443"));
+  }
+
+  @Test
+  public void setFailoverOptions_updatesSettingsAndIsCopiedByToBuilder() throws Exception {
+    FailoverOptions options =
+        FailoverOptions.newBuilder().setAlternateEndpoints(ImmutableList.of("b:443")).build();
+    LineageBaseSettings settings =
+        LineageBaseSettings.newBuilder().setFailoverOptions(options).build();
+
+    assertEquals(false, LineageBaseSettings.defaultInstance().getFailoverOptions().getEnabled());
+    assertEquals(options, settings.getFailoverOptions());
+    assertEquals(options, settings.toBuilder().build().getFailoverOptions());
+  }
+
+  @Test
+  public void build_withFailoverAndLocationRouting_throwsException() {
+    FailoverOptions options =
+        FailoverOptions.newBuilder().setAlternateEndpoints(ImmutableList.of("b:443")).build();
+    LineageBaseSettings.Builder builder =
+        LineageBaseSettings.newBuilder()
+            .setFailoverOptions(options)
+            .setLocationRoutingEnabled(true);
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  public void setHedgingOptions_updatesSettingsAndIsCopiedByToBuilder() throws Exception {
+    HedgingOptions options = HedgingOptions.newBuilder().setPercentile(99).build();
+    LineageBaseSettings settings =
+        LineageBaseSettings.newBuilder().setHedgingOptions(options).build();
+
+    assertEquals(false, LineageBaseSettings.defaultInstance().getHedgingOptions().getEnabled());
+    assertEquals(options, settings.getHedgingOptions());
+    assertEquals(options, settings.toBuilder().build().getHedgingOptions());
+  }
+
+  @Test
+  public void setResponseCacheOptions_updatesSettingsAndIsCopiedByToBuilder() throws Exception {
+    ResponseCacheOptions options = ResponseCacheOptions.newBuilder().setMaxEntries(10).build();
+    LineageBaseSettings settings =
+        LineageBaseSettings.newBuilder().setResponseCacheOptions(options).build();
+
+    assertEquals(
+        false, LineageBaseSettings.defaultInstance().getResponseCacheOptions().getEnabled());
+    assertEquals(options, settings.getResponseCacheOptions());
+    assertEquals(options, settings.toBuilder().build().getResponseCacheOptions());
+  }
+
+  @Test
+  public void setRateLimitOptions_updatesSettingsAndIsCopiedByToBuilder() throws Exception {
+    RateLimitOptions options = RateLimitOptions.newBuilder().setPermitsPerSecond(5).build();
+    LineageBaseSettings settings =
+        LineageBaseSettings.newBuilder().setRateLimitOptions(options).build();
+
+    assertEquals(false, LineageBaseSettings.defaultInstance().getRateLimitOptions().getEnabled());
+    assertEquals(options, settings.getRateLimitOptions());
+    assertEquals(options, settings.toBuilder().build().getRateLimitOptions());
+  }
+
+  @Test
+  public void setIngestionRetriesEnabled_configuresRetries() throws Exception {
+    LineageBaseSettings settings =
+        LineageBaseSettings.newBuilder().setIngestionRetriesEnabled(true).build();
+
+    assertEquals(true, settings.getIngestionRetriesEnabled());
+    assertEquals(
+        ImmutableSet.of(Code.UNAVAILABLE, Code.DEADLINE_EXCEEDED),
+        settings.processOpenLineageRunEventSettings().getRetryableCodes());
+    // The tracer counting attempts is created by each client.
+    assertFalse(
+        settings.getStubSettings().getTracerFactory() instanceof IngestionAttemptTracerFactory);
+    assertEquals(true, settings.toBuilder().build().getIngestionRetriesEnabled());
+  }
+
+  @Test
+  public void setIngestionRetriesEnabled_false_restoresReplacedRetries() throws Exception {
+    RetrySettings retrySettings =
+        RetrySettings.newBuilder().setMaxAttempts(2).setTotalTimeout(Duration.ofSeconds(7)).build();
+    LineageBaseSettings.Builder builder = LineageBaseSettings.newBuilder();
+    builder
+        .processOpenLineageRunEventSettings()
+        .setRetrySettings(retrySettings)
+        .setRetryableCodes(Code.ABORTED);
+    LineageBaseSettings enabled = builder.setIngestionRetriesEnabled(true).build();
+
+    LineageBaseSettings settings = enabled.toBuilder().setIngestionRetriesEnabled(false).build();
+
+    assertEquals(false, settings.getIngestionRetriesEnabled());
+    assertEquals(retrySettings, settings.processOpenLineageRunEventSettings().getRetrySettings());
+    assertEquals(
+        ImmutableSet.of(Code.ABORTED),
+        settings.processOpenLineageRunEventSettings().getRetryableCodes());
+  }
+
   private void assertSettingsAreEqual(LineageBaseSettings expected, LineageBaseSettings actual) {
     assertEquals(
         expected.getApiEnablementCacheSettings().getEnabled(),
@@ -0,0 +1,182 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.paging.Page;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for ListPublisher. */
+@RunWith(JUnit4.class)
+public class ListPublisherTest {
+
+  private final List<String> tokens = new ArrayList<>();
+  private final List<Integer> sizes = new ArrayList<>();
+  private final List<SettableApiFuture<Page<String>>> calls = new ArrayList<>();
+
+  private ApiFuture<Page<String>> fetch(String pageToken, int pageSize) {
+    SettableApiFuture<Page<String>> call = SettableApiFuture.create();
+    tokens.add(pageToken);
+    sizes.add(pageSize);
+    calls.add(call);
+    return call;
+  }
+
+  @Test
+  public void subscribe_withoutDemand_fetchesNothing() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    new ListPublisher<>(this::fetch, "", 0).subscribe(subscriber);
+
+    assertThat(tokens).isEmpty();
+  }
+
+  @Test
+  public void request_fetchesPageSizedToDemand() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ListPublisher<>(this::fetch, "start", 0).subscribe(subscriber);
+
+    subscriber.subscription.request(500);
+
+    assertThat(tokens).containsExactly("start");
+    assertThat(sizes).containsExactly(500);
+  }
+
+  @Test
+  public void request_usesPageSizeOfRequest() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ListPublisher<>(this::fetch, "", 7).subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+
+    assertThat(sizes).containsExactly(7);
+  }
+
+  @Test
+  public void request_deliversOnlyRequestedValues() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ListPublisher<>(this::fetch, "", 0).subscribe(subscriber);
+    subscriber.subscription.request(2);
+
+    calls.get(0).set(new PageFake<>("t1", "a", "b", "c"));
+
+    assertThat(subscriber.values).containsExactly("a", "b").inOrder();
+    // Buffered values cover the demand, so the next page is not requested.
+    subscriber.subscription.request(1);
+    assertThat(subscriber.values).containsExactly("a", "b", "c").inOrder();
+    assertThat(tokens).hasSize(1);
+  }
+
+  @Test
+  public void request_fetchesPagesUntilLastOne() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ListPublisher<>(this::fetch, "", 0).subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    calls.get(0).set(new PageFake<>("t1", "a"));
+    calls.get(1).set(new PageFake<>("", "b"));
+
+    assertThat(tokens).containsExactly("", "t1").inOrder();
+    assertThat(subscriber.values).containsExactly("a", "b").inOrder();
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  public void failedPage_signalsErrorAfterBufferedValues() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ListPublisher<>(this::fetch, "", 0).subscribe(subscriber);
+    subscriber.subscription.request(2);
+    calls.get(0).set(new PageFake<>("t1", "a"));
+    TimeoutException failure = new TimeoutException();
+
+    calls.get(1).setException(failure);
+
+    assertThat(subscriber.values).containsExactly("a");
+    assertThat(subscriber.error).isSameInstanceAs(failure);
+  }
+
+  @Test
+  public void request_notPositive_signalsIllegalArgumentException() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ListPublisher<>(this::fetch, "", 0).subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void cancel_cancelsPageInFlight() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ListPublisher<>(this::fetch, "", 0).subscribe(subscriber);
+    subscriber.subscription.request(1);
+
+    subscriber.subscription.cancel();
+
+    assertThat(calls.get(0).isCancelled()).isTrue();
+    assertThat(subscriber.error).isNull();
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  public void subscribe_twice_listsAgain() {
+    ListPublisher<String> publisher = new ListPublisher<>(this::fetch, "start", 0);
+    RecordingSubscriber first = new RecordingSubscriber();
+    RecordingSubscriber second = new RecordingSubscriber();
+    publisher.subscribe(first);
+    publisher.subscribe(second);
+
+    first.subscription.request(1);
+    second.subscription.request(1);
+
+    assertThat(tokens).containsExactly("start", "start");
+  }
+
+  private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+    private final List<String> values = new ArrayList<>();
+    private Flow.Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(String value) {
+      values.add(value);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.datacatalog.lineage.v1.GetProcessRequest;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for LocationRoutingLineageClient. */
+@RunWith(JUnit4.class)
+public class LocationRoutingLineageClientTest {
+
+  private final List<BasicLineageClient> createdClients = new ArrayList<>();
+  private LocationRoutingLineageClient client;
+
+  @Before
+  public void setUp() throws Exception {
+    client =
+        new LocationRoutingLineageClient(
+            LineageBaseSettings.newBuilder().setEndpoint("default:443").build(),
+            this::createClient);
+  }
+
+  @Test
+  public void call_routesToRegionalEndpoint() throws Exception {
+    assertThat(getProcess("projects/p/locations/us/processes/a"))
+        .isEqualTo("us-datalineage.googleapis.com:443");
+    assertThat(getProcess("projects/p/locations/europe-west1/processes/a"))
+        .isEqualTo("europe-west1-datalineage.googleapis.com:443");
+    assertThat(client.getRegionalClientCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void call_reusesRegionalClient() throws Exception {
+    getProcess("projects/p/locations/us/processes/a");
+    getProcess("projects/q/locations/us/processes/b");
+
+    // The default client and one regional client.
+    assertThat(createdClients).hasSize(2);
+    assertThat(client.getRegionalClientCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void call_globalOrInvalidLocation_usesConfiguredEndpoint() throws Exception {
+    assertThat(getProcess("projects/p/locations/global/processes/a")).isEqualTo("default:443");
+    assertThat(getProcess("projects/p/locations/evil.com#/processes/a")).isEqualTo("default:443");
+    assertThat(getProcess("invalid")).isEqualTo("default:443");
+    assertThat(createdClients).hasSize(1);
+  }
+
+  @Test
+  public void call_customTemplate_usesTemplate() throws Exception {
+    client =
+        new LocationRoutingLineageClient(
+            LineageBaseSettings.newBuilder()
+                .setRegionalEndpointTemplate("lineage-{location}.example.com:443")
+                .build(),
+            this::createClient);
+
+    assertThat(getProcess("projects/p/locations/eu/processes/a"))
+        .isEqualTo("lineage-eu.example.com:443");
+  }
+
+  @Test
+  public void shutdown_shutsDownAllClients() throws Exception {
+    getProcess("projects/p/locations/us/processes/a");
+
+    client.shutdown();
+
+    for (BasicLineageClient created : createdClients) {
+      verify(created).shutdown();
+    }
+  }
+
+  @Test
+  public void awaitTermination_waitsForAllClients() throws Exception {
+    getProcess("projects/p/locations/us/processes/a");
+    for (BasicLineageClient created : createdClients) {
+      when(created.awaitTermination(anyLong(), any())).thenReturn(true);
+    }
+
+    assertThat(client.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    for (BasicLineageClient created : createdClients) {
+      verify(created).awaitTermination(anyLong(), any());
+    }
+  }
+
+  @Test
+  public void call_afterShutdown_doesNotCreateClients() throws Exception {
+    client.shutdown();
+
+    assertThat(getProcess("projects/p/locations/us/processes/a")).isEqualTo("default:443");
+    assertThat(createdClients).hasSize(1);
+  }
+
+  private String getProcess(String name) throws Exception {
+    return client
+        .getProcessCallable()
+        .futureCall(GetProcessRequest.newBuilder().setName(name).build())
+        .get()
+        .getName();
+  }
+
+  /** Creates a client that answers with a process named after its endpoint. */
+  private BasicLineageClient createClient(LineageBaseSettings settings) throws IOException {
+    BasicLineageClient created = mock(BasicLineageClient.class);
+    String endpoint = settings.getEndpoint();
+    when(created.getProcessCallable())
+        .thenReturn(
+            new UnaryCallableFake<>(request -> Process.newBuilder().setName(endpoint).build()));
+    createdClients.add(created);
+    return created;
+  }
+}
@@ -0,0 +1,196 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for OpenLineageEventSpool. */
+@RunWith(JUnit4.class)
+public class OpenLineageEventSpoolTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void open_recoversUnacknowledgedRecordsInOrder() throws IOException {
+    SpoolOptions options = options(1024);
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      spool.append(bytes("first"));
+      spool.acknowledge(spool.append(bytes("second")));
+      spool.append(bytes("third"));
+    }
+
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      assertThat(payloads(spool.takeRecoveredRecords()))
+          .containsExactly("first", "third")
+          .inOrder();
+    }
+  }
+
+  @Test
+  public void acknowledge_recoveredRecord_isNotRecoveredAgain() throws IOException {
+    SpoolOptions options = options(1024);
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      spool.append(bytes("event"));
+    }
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      spool.acknowledge(spool.takeRecoveredRecords().get(0));
+    }
+
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      assertThat(spool.takeRecoveredRecords()).isEmpty();
+    }
+  }
+
+  @Test
+  public void append_rotatesSegmentsAndDeletesAcknowledgedOnes() throws IOException {
+    SpoolOptions options = options(32);
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      for (int i = 0; i < 10; i++) {
+        spool.acknowledge(spool.append(bytes("event-" + i)));
+      }
+      spool.append(bytes("pending"));
+    }
+
+    assertThat(segmentCount()).isEqualTo(1);
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      assertThat(payloads(spool.takeRecoveredRecords())).containsExactly("pending");
+    }
+  }
+
+  @Test
+  public void append_recordLargerThanSegment_isStoredInItsOwnSegment() throws IOException {
+    SpoolOptions options = options(16);
+    String large = "x".repeat(100);
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      spool.append(bytes(large));
+    }
+
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      assertThat(payloads(spool.takeRecoveredRecords())).containsExactly(large);
+    }
+  }
+
+  @Test
+  public void open_corruptedRecord_isDiscardedWithFollowingRecords() throws IOException {
+    SpoolOptions options = options(1024);
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      spool.append(bytes("first"));
+      spool.append(bytes("second"));
+    }
+    Path segment;
+    try (Stream<Path> files = segments()) {
+      segment = files.findFirst().get();
+    }
+    int secondPayloadOffset = 2 * OpenLineageEventSpool.HEADER_BYTES + "first".length();
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(bytes("X")), secondPayloadOffset);
+    }
+
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      assertThat(payloads(spool.takeRecoveredRecords())).containsExactly("first");
+    }
+  }
+
+  @Test
+  public void takeRecoveredRecords_returnsRecordsOnce() throws IOException {
+    SpoolOptions options = options(1024);
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      spool.append(bytes("event"));
+    }
+
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      assertThat(payloads(spool.takeRecoveredRecords())).containsExactly("event");
+      assertThat(spool.takeRecoveredRecords()).isEmpty();
+    }
+  }
+
+  @Test
+  public void open_directoryInUse_throwsIOException() throws IOException {
+    SpoolOptions options = options(1024);
+    try (OpenLineageEventSpool spool = OpenLineageEventSpool.open(options)) {
+      assertThrows(IOException.class, () -> OpenLineageEventSpool.open(options));
+    }
+
+    OpenLineageEventSpool.open(options).close();
+  }
+
+  @Test
+  public void append_afterClose_throwsIllegalStateException() throws IOException {
+    OpenLineageEventSpool spool = OpenLineageEventSpool.open(options(1024));
+    spool.close();
+
+    assertThrows(IllegalStateException.class, () -> spool.append(bytes("event")));
+  }
+
+  @Test
+  public void acknowledge_afterClose_leavesRecordToNextSpool() throws IOException {
+    SpoolOptions options = options(1024);
+    OpenLineageEventSpool spool = OpenLineageEventSpool.open(options);
+    OpenLineageEventSpool.Record record = spool.append(bytes("event"));
+    spool.close();
+
+    try (OpenLineageEventSpool next = OpenLineageEventSpool.open(options)) {
+      spool.acknowledge(record);
+
+      assertThat(payloads(next.takeRecoveredRecords())).containsExactly("event");
+      assertThat(segmentCount()).isEqualTo(1);
+    }
+  }
+
+  private SpoolOptions options(int segmentSizeBytes) {
+    return SpoolOptions.newBuilder()
+        .setDirectory(folder.getRoot().toPath())
+        .setSegmentSizeBytes(segmentSizeBytes)
+        .build();
+  }
+
+  private long segmentCount() throws IOException {
+    try (Stream<Path> files = segments()) {
+      return files.count();
+    }
+  }
+
+  private Stream<Path> segments() throws IOException {
+    return Files.list(folder.getRoot().toPath())
+        .filter(file -> file.getFileName().toString().endsWith(".spool"));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static List<String> payloads(List<OpenLineageEventSpool.Record> records) {
+    return records.stream()
+        .map(record -> new String(record.getPayload(), StandardCharsets.UTF_8))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,196 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for OpenLineageEventSubscriber. */
+@RunWith(JUnit4.class)
+public class OpenLineageEventSubscriberTest {
+
+  private static final ProcessOpenLineageRunEventRequest REQUEST =
+      ProcessOpenLineageRunEventRequest.newBuilder().setParent("projects/p/locations/l").build();
+
+  private final List<SettableApiFuture<ProcessOpenLineageRunEventResponse>> calls =
+      new ArrayList<>();
+  private final SubscriptionFake subscription = new SubscriptionFake();
+
+  private ApiFuture<ProcessOpenLineageRunEventResponse> send(
+      ProcessOpenLineageRunEventRequest request) {
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> call = SettableApiFuture.create();
+    calls.add(call);
+    return call;
+  }
+
+  @Test
+  public void constructor_notPositiveLimit_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new OpenLineageEventSubscriber(this::send, 0));
+  }
+
+  @Test
+  public void onSubscribe_requestsMaxInFlight() {
+    OpenLineageEventSubscriber subscriber = new OpenLineageEventSubscriber(this::send, 3);
+
+    subscriber.onSubscribe(subscription);
+
+    assertThat(subscription.requested).isEqualTo(3);
+  }
+
+  @Test
+  public void onSubscribe_secondSubscription_isCancelled() {
+    OpenLineageEventSubscriber subscriber = new OpenLineageEventSubscriber(this::send, 3);
+    SubscriptionFake second = new SubscriptionFake();
+    subscriber.onSubscribe(subscription);
+
+    subscriber.onSubscribe(second);
+
+    assertThat(second.cancelled).isTrue();
+    assertThat(second.requested).isEqualTo(0);
+  }
+
+  @Test
+  public void completedCall_requestsOneMoreEvent() {
+    OpenLineageEventSubscriber subscriber = new OpenLineageEventSubscriber(this::send, 2);
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(REQUEST);
+    subscriber.onNext(REQUEST);
+    assertThat(subscription.requested).isEqualTo(2);
+
+    calls.get(0).set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+
+    assertThat(subscription.requested).isEqualTo(3);
+    assertThat(subscriber.getSentCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void callsCompletedDuringRequest_areRequestedAfterItReturns() {
+    OpenLineageEventSubscriber subscriber =
+        new OpenLineageEventSubscriber(
+            request ->
+                ApiFutures.immediateFuture(ProcessOpenLineageRunEventResponse.getDefaultInstance()),
+            2);
+    SynchronousSubscription synchronous = new SynchronousSubscription(subscriber, 5);
+
+    subscriber.onSubscribe(synchronous);
+
+    assertThat(synchronous.reentered).isFalse();
+    assertThat(synchronous.requests).containsExactly(2L, 2L, 2L, 1L).inOrder();
+    assertThat(subscriber.getSentCount()).isEqualTo(5);
+  }
+
+  @Test
+  public void onComplete_completesAfterCallsFinish() throws Exception {
+    OpenLineageEventSubscriber subscriber = new OpenLineageEventSubscriber(this::send, 2);
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(REQUEST);
+
+    subscriber.onComplete();
+
+    assertThat(subscriber.getCompletion().isDone()).isFalse();
+    calls.get(0).set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    assertThat(subscriber.getCompletion().isDone()).isTrue();
+    subscriber.getCompletion().get();
+  }
+
+  @Test
+  public void failedCall_failsCompletionAndCancelsSubscription() {
+    OpenLineageEventSubscriber subscriber = new OpenLineageEventSubscriber(this::send, 2);
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(REQUEST);
+    IllegalStateException failure = new IllegalStateException("failed");
+
+    calls.get(0).setException(failure);
+
+    assertThat(subscription.cancelled).isTrue();
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> subscriber.getCompletion().get());
+    assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+  }
+
+  @Test
+  public void onError_failsCompletion() {
+    OpenLineageEventSubscriber subscriber = new OpenLineageEventSubscriber(this::send, 2);
+    subscriber.onSubscribe(subscription);
+    IllegalStateException failure = new IllegalStateException("upstream");
+
+    subscriber.onError(failure);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> subscriber.getCompletion().get());
+    assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+  }
+
+  /** Publishes the requested events from within request, as synchronous publishers do. */
+  private static final class SynchronousSubscription implements Flow.Subscription {
+    private final Flow.Subscriber<ProcessOpenLineageRunEventRequest> subscriber;
+    private final List<Long> requests = new ArrayList<>();
+    private int remaining;
+    private boolean requesting;
+    private boolean reentered;
+
+    private SynchronousSubscription(
+        Flow.Subscriber<ProcessOpenLineageRunEventRequest> subscriber, int events) {
+      this.subscriber = subscriber;
+      this.remaining = events;
+    }
+
+    @Override
+    public void request(long n) {
+      reentered |= requesting;
+      requesting = true;
+      requests.add(n);
+      for (long i = 0; i < n && remaining > 0; i++) {
+        remaining--;
+        subscriber.onNext(REQUEST);
+      }
+      requesting = false;
+    }
+
+    @Override
+    public void cancel() {
+      remaining = 0;
+    }
+  }
+
+  private static final class SubscriptionFake implements Flow.Subscription {
+    private long requested;
+    private boolean cancelled;
+
+    @Override
+    public void request(long n) {
+      requested += n;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.gax.rpc.InvalidArgumentException;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for OpenLineageJsonTranscoder. */
+@RunWith(JUnit4.class)
+public class OpenLineageJsonTranscoderTest {
+
+  private static final String PARENT = "projects/test/locations/test";
+
+  @Test
+  public void toSerializedRequest_matchesRequestMessage() throws Exception {
+    String[] jsons = {
+      "{}",
+      "{\"eventType\": \"START\", \"run\": {\"runId\": \"id\", \"facets\": {}}, \"inputs\": []}",
+      "{\"a\": null, \"b\": true, \"c\": false, \"d\": -0.5e3, \"e\": 12345678901234567890}",
+      "{\"nested\": {\"list\": [[], [1, \"two\", {\"three\": [null, [false]]}]]}}",
+      "{\"unicode\": \"za\\u017c\u00f3\u0142\u0107 \\ud83d\\ude00 \\n\\\"quoted\\\"\"}",
+      "{\"short\": \"" + "x".repeat(120) + "\", \"medium\": \"" + "y".repeat(300) + "\"}",
+      "{\"long\": [\"" + "z".repeat(20000) + "\", {\"inner\": \"" + "w".repeat(200) + "\"}]}"
+    };
+    for (String json : jsons) {
+      byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+      byte[] serialized = OpenLineageJsonTranscoder.toSerializedRequest(PARENT, bytes);
+
+      assertThat(ProcessOpenLineageRunEventRequest.parseFrom(serialized))
+          .isEqualTo(OpenLineageJsonTranscoder.toRequest(PARENT, bytes));
+    }
+  }
+
+  @Test
+  public void toSerializedRequest_withRequestId_setsRequestId() throws Exception {
+    byte[] bytes = "{\"eventType\": \"START\"}".getBytes(StandardCharsets.UTF_8);
+
+    byte[] serialized = OpenLineageJsonTranscoder.toSerializedRequest(PARENT, bytes, "request-id");
+
+    assertThat(ProcessOpenLineageRunEventRequest.parseFrom(serialized))
+        .isEqualTo(
+            OpenLineageJsonTranscoder.toRequest(PARENT, bytes).toBuilder()
+                .setRequestId("request-id")
+                .build());
+  }
+
+  @Test
+  public void toSerializedRequest_invalidJson_throwsInvalidArgumentException() {
+    for (String json : new String[] {"", "[]", "{\"a\": ", "{\"a\": 1e400}", "invalid json"}) {
+      byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+      assertThrows(
+          InvalidArgumentException.class,
+          () -> OpenLineageJsonTranscoder.toSerializedRequest(PARENT, bytes));
+      assertThrows(
+          InvalidArgumentException.class, () -> OpenLineageJsonTranscoder.toRequest(PARENT, bytes));
+    }
+  }
+
+  @Test
+  public void toSerializedRequest_whenNestedTooDeep_throwsInvalidArgumentException() {
+    byte[] json = ("{\"a\":" + "[".repeat(200) + "]".repeat(200) + "}").getBytes();
+    assertThrows(
+        InvalidArgumentException.class,
+        () -> OpenLineageJsonTranscoder.toSerializedRequest(PARENT, json));
+  }
+}
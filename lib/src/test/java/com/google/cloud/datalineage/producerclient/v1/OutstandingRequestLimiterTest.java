@@ -0,0 +1,176 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ResourceExhaustedException;
+import com.google.cloud.datalineage.producerclient.v1.FlowControlOptions.LimitExceededBehavior;
+import com.google.common.collect.ImmutableList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for OutstandingRequestLimiter. */
+@RunWith(JUnit4.class)
+public class OutstandingRequestLimiterTest {
+
+  @Test
+  public void run_tracksOutstandingRequestsUntilCompletion() {
+    OutstandingRequestLimiter limiter = limiter(10, 1000, LimitExceededBehavior.FAIL_FAST);
+    SettableApiFuture<String> call = SettableApiFuture.create();
+
+    limiter.run(100, () -> call);
+
+    assertThat(limiter.getStats().getOutstandingRequestCount()).isEqualTo(1);
+    assertThat(limiter.getStats().getOutstandingRequestBytes()).isEqualTo(100);
+    call.set("done");
+    assertThat(limiter.getStats().getOutstandingRequestCount()).isEqualTo(0);
+    assertThat(limiter.getStats().getOutstandingRequestBytes()).isEqualTo(0);
+  }
+
+  @Test
+  public void run_failFast_throwsWhenCountLimitIsExceeded() {
+    OutstandingRequestLimiter limiter = limiter(1, 1000, LimitExceededBehavior.FAIL_FAST);
+    limiter.run(1, SettableApiFuture::create);
+
+    assertThrows(ResourceExhaustedException.class, () -> limiter.run(1, SettableApiFuture::create));
+    assertThat(limiter.getStats().getLimitExceededCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void run_failFast_throwsWhenBytesLimitIsExceeded() {
+    OutstandingRequestLimiter limiter = limiter(10, 100, LimitExceededBehavior.FAIL_FAST);
+    limiter.run(60, SettableApiFuture::create);
+
+    assertThrows(
+        ResourceExhaustedException.class, () -> limiter.run(60, SettableApiFuture::create));
+  }
+
+  @Test
+  public void run_admitsOversizedRequestWhenNothingIsOutstanding() {
+    OutstandingRequestLimiter limiter = limiter(10, 100, LimitExceededBehavior.FAIL_FAST);
+
+    limiter.run(1000, SettableApiFuture::create);
+
+    assertThat(limiter.getStats().getOutstandingRequestBytes()).isEqualTo(1000);
+  }
+
+  @Test
+  public void run_dropOldest_cancelsOldestUnsentRequest() {
+    SettableApiFuture<String> sent = SettableApiFuture.create();
+    SettableApiFuture<String> oldestUnsent = SettableApiFuture.create();
+    SettableApiFuture<String> newerUnsent = SettableApiFuture.create();
+    Set<ApiFuture<?>> unsent = new HashSet<>(ImmutableList.of(oldestUnsent, newerUnsent));
+    OutstandingRequestLimiter limiter =
+        limiter(3, 1000, LimitExceededBehavior.DROP_OLDEST, unsentRequests(unsent));
+    limiter.run(1, () -> sent);
+    limiter.run(1, () -> oldestUnsent);
+    limiter.run(1, () -> newerUnsent);
+
+    limiter.run(1, SettableApiFuture::create);
+
+    assertThat(sent.isCancelled()).isFalse();
+    assertThat(oldestUnsent.isCancelled()).isTrue();
+    assertThat(newerUnsent.isCancelled()).isFalse();
+    assertThat(unsent).containsExactly(newerUnsent);
+    assertThat(limiter.getStats().getOutstandingRequestCount()).isEqualTo(3);
+    assertThat(limiter.getStats().getDroppedRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void run_dropOldest_withoutUnsentRequests_rejectsNewRequest() {
+    OutstandingRequestLimiter limiter = limiter(1, 1000, LimitExceededBehavior.DROP_OLDEST);
+    SettableApiFuture<String> sent = SettableApiFuture.create();
+    limiter.run(1, () -> sent);
+
+    assertThrows(ResourceExhaustedException.class, () -> limiter.run(1, SettableApiFuture::create));
+    assertThat(sent.isCancelled()).isFalse();
+    assertThat(limiter.getStats().getOutstandingRequestCount()).isEqualTo(1);
+    assertThat(limiter.getStats().getDroppedRequestCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void run_block_waitsUntilOutstandingRequestCompletes() throws Exception {
+    OutstandingRequestLimiter limiter = limiter(1, 1000, LimitExceededBehavior.BLOCK);
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    limiter.run(1, () -> first);
+
+    CompletableFuture<Void> second =
+        CompletableFuture.runAsync(() -> limiter.run(1, SettableApiFuture::create));
+    Thread.sleep(50);
+    assertThat(second.isDone()).isFalse();
+
+    first.set("done");
+    second.get(5, TimeUnit.SECONDS);
+    assertThat(limiter.getStats().getOutstandingRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void run_whenCallThrows_releasesPermit() {
+    OutstandingRequestLimiter limiter = limiter(1, 1000, LimitExceededBehavior.FAIL_FAST);
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            limiter.run(
+                1,
+                () -> {
+                  throw new IllegalStateException("call failed");
+                }));
+
+    assertThat(limiter.getStats().getOutstandingRequestCount()).isEqualTo(0);
+  }
+
+  private static OutstandingRequestLimiter limiter(
+      long maxCount, long maxBytes, LimitExceededBehavior behavior) {
+    return limiter(maxCount, maxBytes, behavior, OutstandingRequestLimiter.UnsentRequests.NONE);
+  }
+
+  private static OutstandingRequestLimiter limiter(
+      long maxCount,
+      long maxBytes,
+      LimitExceededBehavior behavior,
+      OutstandingRequestLimiter.UnsentRequests unsentRequests) {
+    return new OutstandingRequestLimiter(
+        FlowControlOptions.newBuilder()
+            .setMaxOutstandingRequestCount(maxCount)
+            .setMaxOutstandingRequestBytes(maxBytes)
+            .setLimitExceededBehavior(behavior)
+            .build(),
+        unsentRequests);
+  }
+
+  private static OutstandingRequestLimiter.UnsentRequests unsentRequests(Set<ApiFuture<?>> unsent) {
+    return new OutstandingRequestLimiter.UnsentRequests() {
+      @Override
+      public boolean isUnsent(ApiFuture<?> future) {
+        return unsent.contains(future);
+      }
+
+      @Override
+      public boolean drop(ApiFuture<?> future) {
+        return unsent.remove(future);
+      }
+    };
+  }
+}
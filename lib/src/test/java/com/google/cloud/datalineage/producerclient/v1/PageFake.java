@@ -0,0 +1,59 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import com.google.api.gax.paging.Page;
+import java.util.List;
+
+/**
+ * * Page Fake.
+ *
+ * <p>Holds the given values and next page token. An empty token marks the last page.
+ */
+public class PageFake<ResourceT> implements Page<ResourceT> {
+  private final String nextPageToken;
+  private final List<ResourceT> values;
+
+  @SafeVarargs
+  PageFake(String nextPageToken, ResourceT... values) {
+    this.nextPageToken = nextPageToken;
+    this.values = List.of(values);
+  }
+
+  @Override
+  public boolean hasNextPage() {
+    return !nextPageToken.isEmpty();
+  }
+
+  @Override
+  public String getNextPageToken() {
+    return nextPageToken;
+  }
+
+  @Override
+  public Page<ResourceT> getNextPage() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Iterable<ResourceT> iterateAll() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Iterable<ResourceT> getValues() {
+    return values;
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for PrefetchOptions. */
+@RunWith(JUnit4.class)
+public class PrefetchOptionsTest {
+
+  @Test
+  public void getDefaultInstance_setsDefaultValues() {
+    PrefetchOptions options = PrefetchOptions.getDefaultInstance();
+    assertThat(options.getPrefetchDepth()).isEqualTo(2);
+    assertThat(options.getInitialPageSize()).isEqualTo(100);
+    assertThat(options.getMaxPageSize()).isEqualTo(1000);
+  }
+
+  @Test
+  public void setters_notPositive_throwIllegalArgumentException() {
+    PrefetchOptions.Builder builder = PrefetchOptions.newBuilder();
+    assertThrows(IllegalArgumentException.class, () -> builder.setPrefetchDepth(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.setInitialPageSize(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.setMaxPageSize(-1));
+  }
+
+  @Test
+  public void build_initialPageSizeAboveMax_throwsIllegalArgumentException() {
+    PrefetchOptions.Builder builder =
+        PrefetchOptions.newBuilder().setInitialPageSize(500).setMaxPageSize(100);
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    PrefetchOptions options =
+        PrefetchOptions.newBuilder()
+            .setPrefetchDepth(4)
+            .setInitialPageSize(10)
+            .setMaxPageSize(50)
+            .build();
+
+    PrefetchOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getPrefetchDepth()).isEqualTo(4);
+    assertThat(copy.getInitialPageSize()).isEqualTo(10);
+    assertThat(copy.getMaxPageSize()).isEqualTo(50);
+  }
+}
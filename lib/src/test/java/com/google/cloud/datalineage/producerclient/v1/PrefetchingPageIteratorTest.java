@@ -0,0 +1,188 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.paging.Page;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for PrefetchingPageIterator. */
+@RunWith(JUnit4.class)
+public class PrefetchingPageIteratorTest {
+
+  private static final PrefetchOptions OPTIONS =
+      PrefetchOptions.newBuilder()
+          .setPrefetchDepth(2)
+          .setInitialPageSize(2)
+          .setMaxPageSize(8)
+          .build();
+
+  private final List<String> tokens = new ArrayList<>();
+  private final List<Integer> sizes = new ArrayList<>();
+  private final List<SettableApiFuture<Page<String>>> calls = new ArrayList<>();
+
+  private ApiFuture<Page<String>> fetch(String pageToken, int pageSize) {
+    SettableApiFuture<Page<String>> call = SettableApiFuture.create();
+    tokens.add(pageToken);
+    sizes.add(pageSize);
+    calls.add(call);
+    return call;
+  }
+
+  @Test
+  public void constructor_fetchesFirstPage() {
+    new PrefetchingPageIterator<>(this::fetch, "start", 0, OPTIONS);
+
+    assertThat(tokens).containsExactly("start");
+    assertThat(sizes).containsExactly(2);
+  }
+
+  @Test
+  public void constructor_usesPageSizeOfRequest() {
+    new PrefetchingPageIterator<>(this::fetch, "", 5, OPTIONS);
+
+    assertThat(sizes).containsExactly(5);
+  }
+
+  @Test
+  public void pageArrives_fetchesNextPagesUpToDepth() {
+    new PrefetchingPageIterator<>(this::fetch, "", 0, OPTIONS);
+
+    calls.get(0).set(new PageFake<>("t1", "a", "b"));
+
+    assertThat(tokens).containsExactly("", "t1").inOrder();
+    calls.get(1).set(new PageFake<>("t2", "c", "d"));
+    // Two pages wait to be consumed, so the third one is not requested yet.
+    assertThat(tokens).hasSize(2);
+  }
+
+  @Test
+  public void next_consumingPage_fetchesNextPage() {
+    PrefetchingPageIterator<String> iterator =
+        new PrefetchingPageIterator<>(this::fetch, "", 0, OPTIONS);
+    calls.get(0).set(new PageFake<>("t1", "a", "b"));
+    calls.get(1).set(new PageFake<>("t2", "c", "d"));
+
+    assertThat(iterator.next()).isEqualTo("a");
+
+    assertThat(tokens).containsExactly("", "t1", "t2").inOrder();
+  }
+
+  @Test
+  public void iterator_returnsAllValuesInOrder() {
+    PrefetchingPageIterator<String> iterator =
+        new PrefetchingPageIterator<>(this::fetch, "", 0, OPTIONS);
+    calls.get(0).set(new PageFake<>("t1", "a", "b"));
+    calls.get(1).set(new PageFake<>("t2"));
+    List<String> values = new ArrayList<>();
+    values.add(iterator.next());
+    values.add(iterator.next());
+    calls.get(2).set(new PageFake<>("", "c"));
+
+    iterator.forEachRemaining(values::add);
+
+    assertThat(values).containsExactly("a", "b", "c").inOrder();
+    assertThat(iterator.hasNext()).isFalse();
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  public void hasNext_waitingForPage_growsPageSize() {
+    PrefetchingPageIterator<String> iterator =
+        new PrefetchingPageIterator<>(this::fetch, "", 0, OPTIONS);
+    new Thread(() -> awaitAndSet(0, new PageFake<>("", "a", "b"))).start();
+
+    assertThat(iterator.hasNext()).isTrue();
+
+    assertThat(iterator.getPageSize()).isEqualTo(4);
+  }
+
+  @Test
+  public void pageSmallerThanRequested_capsPageSize() {
+    PrefetchingPageIterator<String> iterator =
+        new PrefetchingPageIterator<>(this::fetch, "", 6, OPTIONS);
+
+    calls.get(0).set(new PageFake<>("t1", "a", "b", "c"));
+
+    assertThat(iterator.getPageSize()).isEqualTo(3);
+    assertThat(sizes).containsExactly(6, 3).inOrder();
+  }
+
+  @Test
+  public void fullPageAfterShortPage_letsPageSizeGrowAgain() {
+    PrefetchingPageIterator<String> iterator =
+        new PrefetchingPageIterator<>(this::fetch, "", 6, OPTIONS);
+    calls.get(0).set(new PageFake<>("t1", "a", "b", "c"));
+    calls.get(1).set(new PageFake<>("t2", "d", "e", "f"));
+    for (int i = 0; i < 6; i++) {
+      iterator.next();
+    }
+    new Thread(() -> awaitAndSet(2, new PageFake<>("", "g"))).start();
+
+    assertThat(iterator.hasNext()).isTrue();
+
+    assertThat(iterator.getPageSize()).isEqualTo(6);
+  }
+
+  @Test
+  public void hasNext_failedPage_throwsAfterPreviousValues() {
+    PrefetchingPageIterator<String> iterator =
+        new PrefetchingPageIterator<>(this::fetch, "", 0, OPTIONS);
+    calls.get(0).set(new PageFake<>("t1", "a"));
+    calls
+        .get(1)
+        .setException(
+            ApiExceptionFactory.createException(
+                "unavailable", null, GrpcHelper.getStatusCodeFromCode(Code.UNAVAILABLE), true));
+
+    assertThat(iterator.next()).isEqualTo("a");
+    ApiException e = assertThrows(ApiException.class, iterator::hasNext);
+    assertThat(e.getStatusCode().getCode()).isEqualTo(Code.UNAVAILABLE);
+  }
+
+  @Test
+  public void close_cancelsPendingPages() {
+    PrefetchingPageIterator<String> iterator =
+        new PrefetchingPageIterator<>(this::fetch, "", 0, OPTIONS);
+
+    iterator.close();
+
+    assertThat(calls.get(0).isCancelled()).isTrue();
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  private void awaitAndSet(int index, Page<String> page) {
+    try {
+      // Gives the iterator time to start waiting for the page.
+      Thread.sleep(100);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    calls.get(index).set(page);
+  }
+}
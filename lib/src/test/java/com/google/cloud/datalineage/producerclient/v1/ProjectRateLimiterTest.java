@@ -0,0 +1,254 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.ResourceExhaustedException;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datalineage.producerclient.helpers.GrpcHelper;
+import com.google.cloud.datalineage.producerclient.v1.RateLimitOptions.LimitExceededBehavior;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for ProjectRateLimiter. */
+@RunWith(JUnit4.class)
+public class ProjectRateLimiterTest {
+
+  private static final String PROJECT = "projects/project/locations/us";
+  private static final String OTHER_PROJECT = "projects/other/locations/us";
+
+  private long nowNanos;
+
+  @Test
+  public void run_failBehavior_failsCallsOverBurst() throws Exception {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.FAIL, 1, 2);
+
+    assertThat(limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a")).get()).isEqualTo("a");
+    assertThat(limiter.run(PROJECT, () -> ApiFutures.immediateFuture("b")).get()).isEqualTo("b");
+    ApiFuture<String> third = limiter.run(PROJECT, () -> ApiFutures.immediateFuture("c"));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, third::get);
+    assertThat(exception).hasCauseThat().isInstanceOf(ResourceExhaustedException.class);
+  }
+
+  @Test
+  public void run_failBehavior_refillsOverTime() throws Exception {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.FAIL, 1, 1);
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+
+    nowNanos += TimeUnit.SECONDS.toNanos(1);
+
+    assertThat(limiter.run(PROJECT, () -> ApiFutures.immediateFuture("b")).get()).isEqualTo("b");
+  }
+
+  @Test
+  public void run_limitsProjectsSeparately() throws Exception {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.FAIL, 1, 1);
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+
+    assertThat(limiter.run(OTHER_PROJECT, () -> ApiFutures.immediateFuture("b")).get())
+        .isEqualTo("b");
+  }
+
+  @Test
+  public void run_queueBehavior_defersCallUntilTokenIsAvailable() throws Exception {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.QUEUE, 10, 1);
+    AtomicBoolean started = new AtomicBoolean();
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+
+    ApiFuture<String> queued =
+        limiter.run(
+            PROJECT,
+            () -> {
+              started.set(true);
+              return ApiFutures.immediateFuture("b");
+            });
+
+    assertThat(started.get()).isFalse();
+    assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("b");
+    assertThat(started.get()).isTrue();
+    limiter.close();
+  }
+
+  @Test
+  public void run_queueBehavior_cancelledBeforeStart_skipsCall() throws Exception {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.QUEUE, 10, 1);
+    AtomicBoolean started = new AtomicBoolean();
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+    ApiFuture<String> queued =
+        limiter.run(
+            PROJECT,
+            () -> {
+              started.set(true);
+              return ApiFutures.immediateFuture("b");
+            });
+
+    queued.cancel(true);
+    // The next token comes after the cancelled one.
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("c")).get(1, TimeUnit.SECONDS);
+
+    assertThat(started.get()).isFalse();
+    limiter.close();
+  }
+
+  @Test
+  public void defer_blockBehavior_doesNotWaitOnCallingThread() throws Exception {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.BLOCK, 10, 1);
+    AtomicBoolean started = new AtomicBoolean();
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+
+    ApiFuture<String> deferred =
+        limiter.defer(
+            PROJECT,
+            () -> {
+              started.set(true);
+              return ApiFutures.immediateFuture("b");
+            });
+
+    assertThat(started.get()).isFalse();
+    assertThat(deferred.get(1, TimeUnit.SECONDS)).isEqualTo("b");
+    assertThat(started.get()).isTrue();
+    limiter.close();
+  }
+
+  @Test
+  public void run_waitLongerThanMaxWait_failsCall() {
+    ProjectRateLimiter limiter =
+        new ProjectRateLimiter(
+            RateLimitOptions.newBuilder()
+                .setPermitsPerSecond(1)
+                .setMinPermitsPerSecond(1)
+                .setBurstSize(1)
+                .setMaxWait(Duration.ofMillis(500))
+                .setLimitExceededBehavior(LimitExceededBehavior.QUEUE)
+                .build(),
+            () -> nowNanos);
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+
+    ApiFuture<String> second = limiter.run(PROJECT, () -> ApiFutures.immediateFuture("b"));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+    assertThat(exception).hasCauseThat().isInstanceOf(ResourceExhaustedException.class);
+    limiter.close();
+  }
+
+  @Test
+  public void runNow_failBehavior_throwsResourceExhaustedException() {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.FAIL, 1, 1);
+    limiter.runNow(PROJECT, SettableApiFuture::create);
+
+    assertThrows(
+        ResourceExhaustedException.class,
+        () -> limiter.runNow(PROJECT, SettableApiFuture::create));
+  }
+
+  @Test
+  public void resourceExhausted_lowersRateOncePerInterval() {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.FAIL, 100, 10);
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    SettableApiFuture<String> second = SettableApiFuture.create();
+    limiter.run(PROJECT, () -> first);
+    limiter.run(PROJECT, () -> second);
+
+    first.setException(resourceExhausted());
+    second.setException(resourceExhausted());
+
+    assertThat(limiter.getPermitsPerSecond(PROJECT)).isEqualTo(50.0);
+    assertThat(limiter.getPermitsPerSecond(OTHER_PROJECT)).isEqualTo(100.0);
+
+    nowNanos += ProjectRateLimiter.MIN_BACKOFF_INTERVAL_NANOS;
+    limiter.run(PROJECT, () -> ApiFutures.immediateFailedFuture(resourceExhausted()));
+
+    assertThat(limiter.getPermitsPerSecond(PROJECT)).isEqualTo(25.0);
+  }
+
+  @Test
+  public void resourceExhausted_emptiesBucket() throws Exception {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.FAIL, 1, 10);
+
+    limiter.run(PROJECT, () -> ApiFutures.immediateFailedFuture(resourceExhausted()));
+    ApiFuture<String> next = limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, next::get);
+    assertThat(exception).hasCauseThat().isInstanceOf(ResourceExhaustedException.class);
+  }
+
+  @Test
+  public void success_restoresRateGradually() {
+    ProjectRateLimiter limiter = limiter(LimitExceededBehavior.FAIL, 100, 100);
+    limiter.run(PROJECT, () -> ApiFutures.immediateFailedFuture(resourceExhausted()));
+    nowNanos += TimeUnit.SECONDS.toNanos(10);
+
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+
+    assertThat(limiter.getPermitsPerSecond(PROJECT)).isEqualTo(51.0);
+    for (int i = 0; i < 60; i++) {
+      limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+    }
+    assertThat(limiter.getPermitsPerSecond(PROJECT)).isEqualTo(100.0);
+  }
+
+  @Test
+  public void idleBuckets_areEvicted() {
+    ProjectRateLimiter limiter =
+        new ProjectRateLimiter(
+            RateLimitOptions.newBuilder()
+                .setIdleExpiration(Duration.ofMinutes(1))
+                .setLimitExceededBehavior(LimitExceededBehavior.FAIL)
+                .build(),
+            () -> nowNanos);
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+    limiter.run(OTHER_PROJECT, () -> ApiFutures.immediateFuture("a"));
+    assertThat(limiter.getBucketCount()).isEqualTo(2);
+
+    nowNanos += TimeUnit.SECONDS.toNanos(30);
+    limiter.run(PROJECT, () -> ApiFutures.immediateFuture("a"));
+    nowNanos += TimeUnit.SECONDS.toNanos(31);
+
+    assertThat(limiter.getBucketCount()).isEqualTo(1);
+  }
+
+  private ProjectRateLimiter limiter(
+      LimitExceededBehavior behavior, double permitsPerSecond, int burstSize) {
+    return new ProjectRateLimiter(
+        RateLimitOptions.newBuilder()
+            .setPermitsPerSecond(permitsPerSecond)
+            .setMinPermitsPerSecond(1)
+            .setBurstSize(burstSize)
+            .setLimitExceededBehavior(behavior)
+            .build(),
+        () -> nowNanos);
+  }
+
+  private static ResourceExhaustedException resourceExhausted() {
+    return (ResourceExhaustedException)
+        ApiExceptionFactory.createException(
+            "Quota exceeded",
+            null,
+            GrpcHelper.getStatusCodeFromCode(Code.RESOURCE_EXHAUSTED),
+            false);
+  }
+}
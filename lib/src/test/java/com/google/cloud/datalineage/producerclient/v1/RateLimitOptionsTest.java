@@ -0,0 +1,119 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.datalineage.producerclient.v1.RateLimitOptions.LimitExceededBehavior;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for RateLimitOptions. */
+@RunWith(JUnit4.class)
+public class RateLimitOptionsTest {
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(RateLimitOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    RateLimitOptions options = RateLimitOptions.newBuilder().build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getPermitsPerSecond()).isEqualTo(50.0);
+    assertThat(options.getBurstSize()).isEqualTo(50);
+    assertThat(options.getMinPermitsPerSecond()).isEqualTo(1.0);
+    assertThat(options.getBackoffRatio()).isEqualTo(0.5);
+    assertThat(options.getMaxWait()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(options.getIdleExpiration()).isEqualTo(Duration.ofMinutes(10));
+    assertThat(options.getLimitExceededBehavior()).isEqualTo(LimitExceededBehavior.QUEUE);
+  }
+
+  @Test
+  public void setPermitsPerSecond_notPositive_throwsIllegalArgumentException() {
+    for (double rate : new double[] {0, -1, Double.NaN, Double.POSITIVE_INFINITY}) {
+      IllegalArgumentException exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> RateLimitOptions.newBuilder().setPermitsPerSecond(rate));
+      assertThat(exception).hasMessageThat().contains("Rate must be positive");
+    }
+  }
+
+  @Test
+  public void setBurstSize_notPositive_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> RateLimitOptions.newBuilder().setBurstSize(0));
+  }
+
+  @Test
+  public void setBackoffRatio_outOfRange_throwsIllegalArgumentException() {
+    for (double ratio : new double[] {0, 1.5, Double.NaN}) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> RateLimitOptions.newBuilder().setBackoffRatio(ratio));
+    }
+  }
+
+  @Test
+  public void setMaxWait_negative_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RateLimitOptions.newBuilder().setMaxWait(Duration.ofSeconds(-1)));
+  }
+
+  @Test
+  public void setIdleExpiration_zero_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RateLimitOptions.newBuilder().setIdleExpiration(Duration.ZERO));
+  }
+
+  @Test
+  public void build_minRateAboveRate_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            RateLimitOptions.newBuilder().setPermitsPerSecond(1).setMinPermitsPerSecond(2).build());
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    RateLimitOptions options =
+        RateLimitOptions.newBuilder()
+            .setPermitsPerSecond(10)
+            .setBurstSize(3)
+            .setMinPermitsPerSecond(0.5)
+            .setBackoffRatio(0.8)
+            .setMaxWait(Duration.ofSeconds(5))
+            .setIdleExpiration(Duration.ofMinutes(2))
+            .setLimitExceededBehavior(LimitExceededBehavior.BLOCK)
+            .build();
+
+    RateLimitOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getPermitsPerSecond()).isEqualTo(10.0);
+    assertThat(copy.getBurstSize()).isEqualTo(3);
+    assertThat(copy.getMinPermitsPerSecond()).isEqualTo(0.5);
+    assertThat(copy.getBackoffRatio()).isEqualTo(0.8);
+    assertThat(copy.getMaxWait()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(copy.getIdleExpiration()).isEqualTo(Duration.ofMinutes(2));
+    assertThat(copy.getLimitExceededBehavior()).isEqualTo(LimitExceededBehavior.BLOCK);
+  }
+}
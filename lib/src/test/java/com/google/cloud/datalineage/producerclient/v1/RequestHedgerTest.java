@@ -0,0 +1,207 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for RequestHedger. */
+@RunWith(JUnit4.class)
+public class RequestHedgerTest {
+
+  private RequestHedger hedger;
+
+  @After
+  public void tearDown() {
+    if (hedger != null) {
+      hedger.close();
+    }
+  }
+
+  @Test
+  public void run_withoutEnoughSamples_doesNotHedge() {
+    hedger = hedger(Duration.ZERO, 0.5);
+    SettableApiFuture<String> first = SettableApiFuture.create();
+
+    ApiFuture<String> result = hedger.run(() -> first);
+
+    assertThat(result.isDone()).isFalse();
+    assertThat(hedger.getStats().getHedgeCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void run_slowCall_secondAttemptWinsAndFirstIsCancelled() throws Exception {
+    hedger = hedger(Duration.ZERO, 0.5);
+    warmUp();
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    SettableApiFuture<String> second = SettableApiFuture.create();
+    CountDownLatch hedged = new CountDownLatch(1);
+
+    ApiFuture<String> result = hedger.run(attempts(first, second, hedged));
+    assertThat(hedged.await(5, TimeUnit.SECONDS)).isTrue();
+    second.set("second");
+
+    assertThat(result.get()).isEqualTo("second");
+    assertThat(first.isCancelled()).isTrue();
+    assertThat(hedger.getStats().getHedgeCount()).isEqualTo(1);
+    assertThat(hedger.getStats().getHedgeWinCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void run_firstAttemptWins_secondIsCancelled() throws Exception {
+    hedger = hedger(Duration.ZERO, 0.5);
+    warmUp();
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    SettableApiFuture<String> second = SettableApiFuture.create();
+    CountDownLatch hedged = new CountDownLatch(1);
+
+    ApiFuture<String> result = hedger.run(attempts(first, second, hedged));
+    assertThat(hedged.await(5, TimeUnit.SECONDS)).isTrue();
+    first.set("first");
+
+    assertThat(result.get()).isEqualTo("first");
+    assertThat(second.isCancelled()).isTrue();
+    assertThat(hedger.getStats().getHedgeWinCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void run_firstAttemptFailsWhileSecondIsInFlight_waitsForSecond() throws Exception {
+    hedger = hedger(Duration.ZERO, 0.5);
+    warmUp();
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    SettableApiFuture<String> second = SettableApiFuture.create();
+    CountDownLatch hedged = new CountDownLatch(1);
+
+    ApiFuture<String> result = hedger.run(attempts(first, second, hedged));
+    assertThat(hedged.await(5, TimeUnit.SECONDS)).isTrue();
+    first.setException(new IllegalStateException("first failed"));
+
+    assertThat(result.isDone()).isFalse();
+    second.set("second");
+    assertThat(result.get()).isEqualTo("second");
+  }
+
+  @Test
+  public void run_withHedgeCall_makesSecondAttemptWithIt() throws Exception {
+    hedger = hedger(Duration.ZERO, 0.5);
+    warmUp();
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    SettableApiFuture<String> second = SettableApiFuture.create();
+    CountDownLatch hedged = new CountDownLatch(1);
+
+    ApiFuture<String> result =
+        hedger.run(
+            () -> first,
+            () -> {
+              hedged.countDown();
+              return second;
+            });
+    assertThat(hedged.await(5, TimeUnit.SECONDS)).isTrue();
+    second.set("second");
+
+    assertThat(result.get()).isEqualTo("second");
+    assertThat(first.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void run_failureBeforeDelay_failsWithoutHedging() {
+    hedger = hedger(Duration.ofHours(1), 0.5);
+    warmUp();
+
+    ApiFuture<String> result =
+        hedger.run(() -> ApiFutures.immediateFailedFuture(new IllegalStateException("failed")));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertThat(exception).hasCauseThat().isInstanceOf(IllegalStateException.class);
+    assertThat(hedger.getStats().getHedgeCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void run_budgetExhausted_doesNotHedge() throws Exception {
+    hedger = hedger(Duration.ZERO, 0.01);
+    warmUp();
+    SettableApiFuture<String> first = SettableApiFuture.create();
+
+    hedger.run(() -> first);
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (hedger.getStats().getBudgetExhaustedCount() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(hedger.getStats().getBudgetExhaustedCount()).isEqualTo(1);
+    assertThat(hedger.getStats().getHedgeCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void cancel_cancelsAllAttempts() throws Exception {
+    hedger = hedger(Duration.ZERO, 0.5);
+    warmUp();
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    SettableApiFuture<String> second = SettableApiFuture.create();
+    CountDownLatch hedged = new CountDownLatch(1);
+
+    ApiFuture<String> result = hedger.run(attempts(first, second, hedged));
+    assertThat(hedged.await(5, TimeUnit.SECONDS)).isTrue();
+    result.cancel(true);
+
+    assertThat(first.isCancelled()).isTrue();
+    assertThat(second.isCancelled()).isTrue();
+  }
+
+  /** Uses a clock that never moves, so the hedging delay is the minimum delay. */
+  private static RequestHedger hedger(Duration minDelay, double budgetRatio) {
+    return new RequestHedger(
+        HedgingOptions.newBuilder().setMinDelay(minDelay).setBudgetRatio(budgetRatio).build(),
+        Executors.newSingleThreadScheduledExecutor(),
+        () -> 0L);
+  }
+
+  private void warmUp() {
+    for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+      hedger.run(() -> ApiFutures.immediateFuture("warm-up"));
+    }
+  }
+
+  /** Returns the first future, then the second one, counting down the latch on the second. */
+  private static Supplier<ApiFuture<String>> attempts(
+      ApiFuture<String> first, ApiFuture<String> second, CountDownLatch hedged) {
+    Queue<ApiFuture<String>> attempts = new ArrayDeque<>();
+    attempts.add(first);
+    attempts.add(second);
+    return () -> {
+      ApiFuture<String> attempt = attempts.remove();
+      if (attempt == second) {
+        hedged.countDown();
+      }
+      return attempt;
+    };
+  }
+}
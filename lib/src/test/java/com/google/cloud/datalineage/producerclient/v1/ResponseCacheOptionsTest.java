@@ -0,0 +1,69 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for ResponseCacheOptions. */
+@RunWith(JUnit4.class)
+public class ResponseCacheOptionsTest {
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(ResponseCacheOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    ResponseCacheOptions options = ResponseCacheOptions.newBuilder().build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getMaxEntries()).isEqualTo(1000);
+    assertThat(options.getMaxBytes()).isEqualTo(16L * 1024L * 1024L);
+    assertThat(options.getTimeToLive()).isEqualTo(Duration.ofMinutes(1));
+  }
+
+  @Test
+  public void setLimits_notPositive_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> ResponseCacheOptions.newBuilder().setMaxEntries(0));
+    assertThrows(
+        IllegalArgumentException.class, () -> ResponseCacheOptions.newBuilder().setMaxBytes(-1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ResponseCacheOptions.newBuilder().setTimeToLive(Duration.ZERO));
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    ResponseCacheOptions options =
+        ResponseCacheOptions.newBuilder()
+            .setMaxEntries(10)
+            .setMaxBytes(1024)
+            .setTimeToLive(Duration.ofSeconds(5))
+            .build();
+
+    ResponseCacheOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getMaxEntries()).isEqualTo(10);
+    assertThat(copy.getMaxBytes()).isEqualTo(1024);
+    assertThat(copy.getTimeToLive()).isEqualTo(Duration.ofSeconds(5));
+  }
+}
@@ -0,0 +1,171 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.datacatalog.lineage.v1.Process;
+import com.google.cloud.datacatalog.lineage.v1.Run;
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for ResponseCache. */
+@RunWith(JUnit4.class)
+public class ResponseCacheTest {
+
+  private static final String PROCESS = "projects/p/locations/l/processes/a";
+  private static final String RUN = PROCESS + "/runs/b";
+
+  private final AtomicInteger calls = new AtomicInteger();
+  private long nowNanos;
+
+  @Test
+  public void get_cachedResponse_doesNotCallAgain() throws Exception {
+    ResponseCache cache = cache(ResponseCacheOptions.newBuilder().build());
+
+    cache.get(PROCESS, () -> process(PROCESS));
+    Process cached = cache.get(PROCESS, () -> process(PROCESS)).get();
+
+    assertThat(cached.getName()).isEqualTo(PROCESS);
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+    assertThat(cache.getStats().getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void get_afterTimeToLive_callsAgain() {
+    ResponseCache cache =
+        cache(ResponseCacheOptions.newBuilder().setTimeToLive(Duration.ofSeconds(10)).build());
+    cache.get(PROCESS, () -> process(PROCESS));
+
+    nowNanos += TimeUnit.SECONDS.toNanos(10);
+    cache.get(PROCESS, () -> process(PROCESS));
+
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void get_concurrentMisses_shareOneCall() throws Exception {
+    ResponseCache cache = cache(ResponseCacheOptions.newBuilder().build());
+    SettableApiFuture<Process> call = SettableApiFuture.create();
+
+    ApiFuture<Process> first = cache.get(PROCESS, () -> call);
+    ApiFuture<Process> second = cache.get(PROCESS, () -> process(PROCESS));
+    first.cancel(true);
+    call.set(Process.newBuilder().setName(PROCESS).build());
+
+    assertThat(second.get().getName()).isEqualTo(PROCESS);
+    assertThat(call.isCancelled()).isFalse();
+    assertThat(calls.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void get_failedCall_isNotCached() {
+    ResponseCache cache = cache(ResponseCacheOptions.newBuilder().build());
+
+    cache.get(
+        PROCESS, () -> ApiFutures.immediateFailedFuture(new IllegalStateException("failed")));
+    cache.get(PROCESS, () -> process(PROCESS));
+
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(cache.getStats().getEntryCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void get_overMaxEntries_evictsLeastRecentlyUsed() {
+    ResponseCache cache = cache(ResponseCacheOptions.newBuilder().setMaxEntries(2).build());
+    cache.get("a", () -> process("a"));
+    cache.get("b", () -> process("b"));
+    cache.get("a", () -> process("a"));
+
+    cache.get("c", () -> process("c"));
+    cache.get("a", () -> process("a"));
+    cache.get("b", () -> process("b"));
+
+    // a and b were fetched once before, b was evicted by c and fetched again.
+    assertThat(calls.get()).isEqualTo(4);
+    assertThat(cache.getStats().getEntryCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void get_overMaxBytes_evictsEntries() {
+    long size = Process.newBuilder().setName("a").build().getSerializedSize();
+    ResponseCache cache = cache(ResponseCacheOptions.newBuilder().setMaxBytes(2 * size).build());
+
+    cache.get("a", () -> process("a"));
+    cache.get("b", () -> process("b"));
+    cache.get("c", () -> process("c"));
+
+    assertThat(cache.getStats().getEntryCount()).isEqualTo(2);
+    assertThat(cache.getStats().getBytes()).isEqualTo(2 * size);
+  }
+
+  @Test
+  public void invalidate_dropsEntryAndChildren() {
+    ResponseCache cache = cache(ResponseCacheOptions.newBuilder().build());
+    cache.get(PROCESS, () -> process(PROCESS));
+    cache.get(RUN, () -> ApiFutures.immediateFuture(Run.newBuilder().setName(RUN).build()));
+    cache.get(PROCESS + "b", () -> process(PROCESS + "b"));
+
+    cache.invalidate(PROCESS);
+
+    assertThat(cache.getStats().getEntryCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void invalidateAll_dropsEntriesAndChildrenOfAllNames() {
+    ResponseCache cache = cache(ResponseCacheOptions.newBuilder().build());
+    cache.get(PROCESS, () -> process(PROCESS));
+    cache.get(RUN, () -> ApiFutures.immediateFuture(Run.newBuilder().setName(RUN).build()));
+    cache.get(PROCESS + "b", () -> process(PROCESS + "b"));
+    cache.get(PROCESS + "c", () -> process(PROCESS + "c"));
+
+    cache.invalidateAll(ImmutableList.of(PROCESS, PROCESS + "c"));
+
+    assertThat(cache.getStats().getEntryCount()).isEqualTo(1);
+    cache.get(PROCESS + "b", () -> process(PROCESS + "b"));
+    assertThat(calls.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void invalidate_whileInFlight_discardsResponse() {
+    ResponseCache cache = cache(ResponseCacheOptions.newBuilder().build());
+    SettableApiFuture<Process> call = SettableApiFuture.create();
+    cache.get(PROCESS, () -> call);
+
+    cache.invalidate(PROCESS);
+    call.set(Process.newBuilder().setName(PROCESS).build());
+    cache.get(PROCESS, () -> process(PROCESS));
+
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  private ResponseCache cache(ResponseCacheOptions options) {
+    return new ResponseCache(options, () -> nowNanos);
+  }
+
+  private ApiFuture<Process> process(String name) {
+    calls.incrementAndGet();
+    return ApiFutures.immediateFuture(Process.newBuilder().setName(name).build());
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.rpc.TransportChannelProvider;
+import com.google.cloud.datacatalog.lineage.v1.stub.LineageStubSettings;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for SharedClientContexts. */
+@RunWith(JUnit4.class)
+public class SharedClientContextsTest {
+
+  @Test
+  public void acquire_sameSettings_sharesContext() throws Exception {
+    int contexts = SharedClientContexts.size();
+    SharedClientContexts.Lease first = SharedClientContexts.acquire(settings("localhost:1"));
+    SharedClientContexts.Lease second = SharedClientContexts.acquire(settings("localhost:1"));
+
+    assertThat(second.getClientContext()).isSameInstanceAs(first.getClientContext());
+    assertThat(SharedClientContexts.size()).isEqualTo(contexts + 1);
+    first.shutdown();
+    second.shutdown();
+  }
+
+  @Test
+  public void acquire_differentEndpoints_createsSeparateContexts() throws Exception {
+    SharedClientContexts.Lease first = SharedClientContexts.acquire(settings("localhost:1"));
+    SharedClientContexts.Lease second = SharedClientContexts.acquire(settings("localhost:2"));
+
+    assertThat(second.getClientContext()).isNotSameInstanceAs(first.getClientContext());
+    first.shutdown();
+    second.shutdown();
+  }
+
+  @Test
+  public void shutdown_lastLease_shutsDownContext() throws Exception {
+    int contexts = SharedClientContexts.size();
+    SharedClientContexts.Lease first = SharedClientContexts.acquire(settings("localhost:1"));
+    SharedClientContexts.Lease second = SharedClientContexts.acquire(settings("localhost:1"));
+
+    first.shutdown();
+    // Releasing the same lease again must not release the other one.
+    first.shutdown();
+
+    assertThat(first.isShutdown()).isTrue();
+    assertThat(first.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(second.getClientContext().getExecutor().isShutdown()).isFalse();
+    assertThat(SharedClientContexts.size()).isEqualTo(contexts + 1);
+
+    second.shutdown();
+
+    assertThat(second.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(second.getClientContext().getExecutor().isShutdown()).isTrue();
+    assertThat(SharedClientContexts.size()).isEqualTo(contexts);
+  }
+
+  @Test
+  public void acquire_afterLastLeaseIsReleased_createsNewContext() throws Exception {
+    SharedClientContexts.Lease first = SharedClientContexts.acquire(settings("localhost:1"));
+    first.shutdown();
+
+    SharedClientContexts.Lease second = SharedClientContexts.acquire(settings("localhost:1"));
+
+    assertThat(second.getClientContext()).isNotSameInstanceAs(first.getClientContext());
+    second.shutdown();
+  }
+
+  @Test
+  public void acquire_contextCreationFails_doesNotKeepContext() throws Exception {
+    int contexts = SharedClientContexts.size();
+    TransportChannelProvider channelProvider = mock(TransportChannelProvider.class);
+    when(channelProvider.getTransportChannel()).thenThrow(new IOException("unavailable"));
+    LineageStubSettings settings =
+        LineageStubSettings.newBuilder()
+            .setEndpoint("localhost:3")
+            .setCredentialsProvider(NoCredentialsProvider.create())
+            .setTransportChannelProvider(channelProvider)
+            .build();
+
+    assertThrows(IOException.class, () -> SharedClientContexts.acquire(settings));
+
+    assertThat(SharedClientContexts.size()).isEqualTo(contexts);
+  }
+
+  private static LineageStubSettings settings(String endpoint) throws Exception {
+    return LineageStubSettings.newBuilder()
+        .setEndpoint(endpoint)
+        .setCredentialsProvider(NoCredentialsProvider.create())
+        .build();
+  }
+}
@@ -0,0 +1,70 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for SpoolOptions. */
+@RunWith(JUnit4.class)
+public class SpoolOptionsTest {
+
+  private static final Path DIRECTORY = Paths.get("spool");
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(SpoolOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    SpoolOptions options = SpoolOptions.newBuilder().setDirectory(DIRECTORY).build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getDirectory()).isEqualTo(DIRECTORY);
+    assertThat(options.getSegmentSizeBytes()).isEqualTo(16 * 1024 * 1024);
+  }
+
+  @Test
+  public void build_withoutDirectory_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> SpoolOptions.newBuilder().build());
+    assertThat(exception).hasMessageThat().contains("Directory cannot be null");
+  }
+
+  @Test
+  public void setSegmentSizeBytes_notPositive_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> SpoolOptions.newBuilder().setSegmentSizeBytes(0));
+    assertThat(exception).hasMessageThat().contains("Segment size must be positive");
+  }
+
+  @Test
+  public void toBuilder_preserveOptions() {
+    SpoolOptions options =
+        SpoolOptions.newBuilder().setDirectory(DIRECTORY).setSegmentSizeBytes(1024).build();
+
+    SpoolOptions newOptions = options.toBuilder().setSegmentSizeBytes(2048).build();
+
+    assertThat(newOptions.getDirectory()).isEqualTo(DIRECTORY);
+    assertThat(newOptions.getSegmentSizeBytes()).isEqualTo(2048);
+  }
+}
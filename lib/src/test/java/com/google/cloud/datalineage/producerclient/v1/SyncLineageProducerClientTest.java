@@ -21,6 +21,8 @@ import static org.mockito.Mockito.when;
 
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.grpc.GrpcCallContext;
 import com.google.api.gax.rpc.ApiCallContext;
 import com.google.api.gax.rpc.ApiException;
 import com.google.api.gax.rpc.InvalidArgumentException;
@@ -36,7 +38,10 @@ import com.google.rpc.Status;
 import io.grpc.StatusException;
 import io.grpc.protobuf.StatusProto;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import org.junit.After;
 import org.junit.Before;
@@ -73,6 +78,63 @@ public class SyncLineageProducerClientTest {
     assertThat(gotResponse).isEqualTo(response);
   }
 
+  @Test
+  public void processOpenLineageRunEvent_withCallContext_passesContextToCall() {
+    ProcessOpenLineageRunEventRequest request = createProcessOpenLineageRunEventRequest();
+    ApiCallContext context = GrpcCallContext.createDefault();
+    List<ApiCallContext> contexts = new ArrayList<>();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<ProcessOpenLineageRunEventResponse> futureCall(
+                  ProcessOpenLineageRunEventRequest sentRequest, ApiCallContext callContext) {
+                contexts.add(callContext);
+                return ApiFutures.immediateFuture(
+                    ProcessOpenLineageRunEventResponse.getDefaultInstance());
+              }
+            });
+
+    client.processOpenLineageRunEvent(request, context);
+
+    assertThat(contexts).containsExactly(context);
+  }
+
+  @Test
+  public void processOpenLineageRunEvent_withWriteBehind_returnsBeforeCallCompletes()
+      throws Exception {
+    ProcessOpenLineageRunEventRequest request = createProcessOpenLineageRunEventRequest();
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> call = SettableApiFuture.create();
+    List<ProcessOpenLineageRunEventRequest> sent = new CopyOnWriteArrayList<>();
+    when(basicLineageClient.processOpenLineageRunEventCallable())
+        .thenReturn(
+            new UnaryCallable<>() {
+              @Override
+              public ApiFuture<ProcessOpenLineageRunEventResponse> futureCall(
+                  ProcessOpenLineageRunEventRequest sentRequest, ApiCallContext callContext) {
+                sent.add(sentRequest);
+                return call;
+              }
+            });
+    SyncLineageProducerClient writeBehindClient =
+        SyncLineageProducerClient.create(
+            basicLineageClient,
+            SyncLineageProducerClientSettings.newBuilder()
+                .setWriteBehindOptions(WriteBehindOptions.newBuilder().build())
+                .build());
+
+    ProcessOpenLineageRunEventResponse response =
+        writeBehindClient.processOpenLineageRunEvent(request);
+    call.set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    writeBehindClient.flush();
+
+    assertThat(response).isEqualTo(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    assertThat(sent).hasSize(1);
+    assertThat(sent.get(0).getParent()).isEqualTo(PROJECT_NAME_AND_LOCATION);
+    assertThat(writeBehindClient.getWriteBehindStats().getSentCount()).isEqualTo(1);
+    writeBehindClient.close();
+  }
+
   @Test
   public void propagatesException() {
     ProcessOpenLineageRunEventRequest request = createProcessOpenLineageRunEventRequest();
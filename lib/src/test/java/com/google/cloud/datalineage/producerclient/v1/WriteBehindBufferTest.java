@@ -0,0 +1,243 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventRequest;
+import com.google.cloud.datacatalog.lineage.v1.ProcessOpenLineageRunEventResponse;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Test suite for WriteBehindBuffer. */
+@RunWith(JUnit4.class)
+public class WriteBehindBufferTest {
+
+  private static final String PARENT = "projects/test/locations/test";
+
+  private final BlockingQueue<SettableApiFuture<ProcessOpenLineageRunEventResponse>> calls =
+      new LinkedBlockingQueue<>();
+  private final List<String> sent = new CopyOnWriteArrayList<>();
+  private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+  private WriteBehindBuffer buffer;
+
+  @After
+  public void tearDown() {
+    if (buffer != null) {
+      buffer.shutdownNow();
+    }
+  }
+
+  @Test
+  public void add_returnsBeforeCallCompletes() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder());
+
+    buffer.add(request("first"), null);
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> call = nextCall();
+
+    assertThat(call.isDone()).isFalse();
+    assertThat(sent).containsExactly("first");
+    assertThat(buffer.getStats().getInFlightCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void flush_waitsForCallsOfBufferedEvents() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder());
+    buffer.add(request("first"), null);
+    buffer.add(request("second"), null);
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> first = nextCall();
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> second = nextCall();
+
+    ApiFuture<Void> flushed = buffer.flush();
+    first.set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    Thread.sleep(50);
+
+    assertThat(flushed.isDone()).isFalse();
+    second.set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    flushed.get(5, TimeUnit.SECONDS);
+    assertThat(buffer.getStats().getSentCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void add_overMaxInFlight_waitsInBuffer() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder().setMaxInFlight(1));
+    buffer.add(request("first"), null);
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> first = nextCall();
+
+    buffer.add(request("second"), null);
+
+    assertThat(calls.poll(50, TimeUnit.MILLISECONDS)).isNull();
+    assertThat(buffer.getStats().getBufferedEventCount()).isEqualTo(1);
+    first.set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    nextCall();
+    assertThat(sent).containsExactly("first", "second").inOrder();
+  }
+
+  @Test
+  public void add_whenBufferFull_dropsEventAndReportsFailure() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder().setMaxInFlight(1).setMaxBufferedEventCount(1));
+    buffer.add(request("first"), null);
+    nextCall();
+    buffer.add(request("second"), null);
+
+    buffer.add(request("third"), null);
+
+    assertThat(failures).hasSize(1);
+    assertThat(((ApiException) failures.get(0)).getStatusCode().getCode())
+        .isEqualTo(Code.RESOURCE_EXHAUSTED);
+    assertThat(buffer.getStats().getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void flush_markerTakesRoomOfAnEvent() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder().setMaxInFlight(1).setMaxBufferedEventCount(2));
+    buffer.add(request("first"), null);
+    nextCall();
+    buffer.add(request("second"), null);
+    buffer.flush();
+
+    buffer.add(request("third"), null);
+
+    assertThat(buffer.getStats().getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void flush_withoutEventsInBetween_sharesMarker() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder().setMaxInFlight(1));
+    buffer.add(request("first"), null);
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> first = nextCall();
+    buffer.add(request("second"), null);
+
+    ApiFuture<Void> flushed = buffer.flush();
+
+    assertThat(buffer.flush()).isSameInstanceAs(flushed);
+    first.set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    nextCall().set(ProcessOpenLineageRunEventResponse.getDefaultInstance());
+    flushed.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void failedCall_isReportedToHandler() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder());
+    buffer.add(request("first"), null);
+    RuntimeException failure = new RuntimeException("failed");
+
+    nextCall().setException(failure);
+    buffer.flush().get(5, TimeUnit.SECONDS);
+
+    assertThat(failures).containsExactly(failure);
+    assertThat(buffer.getStats().getFailedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shutdown_sendsBufferedEventsAndRejectsNewOnes() throws Exception {
+    buffer =
+        new WriteBehindBuffer(
+            WriteBehindOptions.newBuilder().setFailureHandler((r, t) -> failures.add(t)).build(),
+            (request, context) -> {
+              sent.add(request.getRequestId());
+              return ApiFutures.immediateFuture(
+                  ProcessOpenLineageRunEventResponse.getDefaultInstance());
+            });
+    buffer.add(request("first"), null);
+    buffer.add(request("second"), null);
+
+    assertThat(buffer.shutdown(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(sent).containsExactly("first", "second").inOrder();
+    assertThrows(IllegalStateException.class, () -> buffer.add(request("third"), null));
+  }
+
+  @Test
+  public void shutdownNow_dropsBufferedEvents() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder().setMaxInFlight(1));
+    buffer.add(request("first"), null);
+    nextCall();
+    buffer.add(request("second"), null);
+
+    buffer.shutdownNow();
+
+    assertThat(failures).hasSize(1);
+    assertThat(((ApiException) failures.get(0)).getStatusCode().getCode())
+        .isEqualTo(Code.CANCELLED);
+    assertThat(buffer.getStats().getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shutdown_afterTimeout_dropsBufferedEvents() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder().setMaxInFlight(1));
+    buffer.add(request("first"), null);
+    nextCall();
+    buffer.add(request("second"), null);
+
+    assertThat(buffer.shutdown(50, TimeUnit.MILLISECONDS)).isFalse();
+
+    assertThat(failures).hasSize(1);
+    assertThat(((ApiException) failures.get(0)).getStatusCode().getCode())
+        .isEqualTo(Code.CANCELLED);
+    assertThat(buffer.getStats().getBufferedEventCount()).isEqualTo(0);
+    assertThat(buffer.getStats().getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void flush_afterShutdownNow_completesRightAway() throws Exception {
+    buffer = buffer(WriteBehindOptions.newBuilder().setMaxInFlight(1));
+    buffer.add(request("first"), null);
+    nextCall();
+    buffer.add(request("second"), null);
+    buffer.shutdownNow();
+
+    ApiFuture<Void> flushed = buffer.flush();
+
+    assertThat(flushed.isDone()).isTrue();
+  }
+
+  private WriteBehindBuffer buffer(WriteBehindOptions.Builder options) {
+    return new WriteBehindBuffer(
+        options.setFailureHandler((request, failure) -> failures.add(failure)).build(),
+        (request, context) -> {
+          SettableApiFuture<ProcessOpenLineageRunEventResponse> call = SettableApiFuture.create();
+          sent.add(request.getRequestId());
+          calls.add(call);
+          return call;
+        });
+  }
+
+  private SettableApiFuture<ProcessOpenLineageRunEventResponse> nextCall() throws Exception {
+    SettableApiFuture<ProcessOpenLineageRunEventResponse> call = calls.poll(5, TimeUnit.SECONDS);
+    assertThat(call).isNotNull();
+    return call;
+  }
+
+  private static ProcessOpenLineageRunEventRequest request(String requestId) {
+    return ProcessOpenLineageRunEventRequest.newBuilder()
+        .setParent(PARENT)
+        .setRequestId(requestId)
+        .build();
+  }
+}
@@ -0,0 +1,87 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.cloud.datalineage.producerclient.v1;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.threeten.bp.Duration;
+
+/** Test suite for WriteBehindOptions. */
+@RunWith(JUnit4.class)
+public class WriteBehindOptionsTest {
+
+  @Test
+  public void getDisabledInstance_isDisabled() {
+    assertThat(WriteBehindOptions.getDisabledInstance().getEnabled()).isFalse();
+  }
+
+  @Test
+  public void newBuilder_setsDefaultValues() {
+    WriteBehindOptions options = WriteBehindOptions.newBuilder().build();
+    assertThat(options.getEnabled()).isTrue();
+    assertThat(options.getMaxBufferedEventCount()).isEqualTo(10_000);
+    assertThat(options.getMaxBufferedBytes()).isEqualTo(64L * 1024L * 1024L);
+    assertThat(options.getMaxInFlight()).isEqualTo(100);
+    assertThat(options.getDrainTimeout()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(options.getFailureHandler()).isNull();
+  }
+
+  @Test
+  public void setMaxBufferedEventCount_notPositive_throwsIllegalArgumentException() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> WriteBehindOptions.newBuilder().setMaxBufferedEventCount(0));
+    assertThat(exception).hasMessageThat().contains("Limit must be positive");
+  }
+
+  @Test
+  public void setDrainTimeout_negative_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> WriteBehindOptions.newBuilder().setDrainTimeout(Duration.ofSeconds(-1)));
+  }
+
+  @Test
+  public void setFailureHandler_null_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> WriteBehindOptions.newBuilder().setFailureHandler(null));
+  }
+
+  @Test
+  public void toBuilder_preservesOptions() {
+    WriteBehindOptions options =
+        WriteBehindOptions.newBuilder()
+            .setMaxBufferedEventCount(7)
+            .setMaxBufferedBytes(11)
+            .setMaxInFlight(3)
+            .setDrainTimeout(Duration.ofSeconds(5))
+            .setFailureHandler((request, failure) -> {})
+            .build();
+
+    WriteBehindOptions copy = options.toBuilder().build();
+
+    assertThat(copy.getMaxBufferedEventCount()).isEqualTo(7);
+    assertThat(copy.getMaxBufferedBytes()).isEqualTo(11);
+    assertThat(copy.getMaxInFlight()).isEqualTo(3);
+    assertThat(copy.getDrainTimeout()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(copy.getFailureHandler()).isSameInstanceAs(options.getFailureHandler());
+  }
+}